@@ -0,0 +1,44 @@
+package com.fullcycle.admin.catalogo.application;
+
+import com.fullcycle.admin.catalogo.domain.validation.handler.Notification;
+import io.vavr.API;
+import io.vavr.control.Either;
+
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.UnaryOperator;
+
+/**
+ * Persists the valid aggregates of a batch create with a single write and returns one result
+ * per validated command, in the same order. When that write fails, the aggregates are
+ * created one at a time, so a failure is only reported on the item that caused it.
+ */
+public final class BatchCreation {
+
+    private BatchCreation() {}
+
+    public static <A, O> List<Either<Notification, O>> create(
+        final List<Either<Notification, A>> validated,
+        final UnaryOperator<List<A>> createAll,
+        final UnaryOperator<A> create,
+        final Function<A, O> toOutput
+    ) {
+        final var aggregates = validated.stream()
+            .filter(Either::isRight)
+            .map(Either::get)
+            .toList();
+
+        if (aggregates.isEmpty() || API.Try(() -> createAll.apply(aggregates)).isSuccess()) {
+            return validated.stream()
+                .map(it -> it.map(toOutput))
+                .toList();
+        }
+
+        return validated.stream()
+            .map(it -> it.flatMap(anAggregate -> API.Try(() -> create.apply(anAggregate))
+                .toEither()
+                .mapLeft(Notification::create)
+                .map(toOutput)))
+            .toList();
+    }
+}
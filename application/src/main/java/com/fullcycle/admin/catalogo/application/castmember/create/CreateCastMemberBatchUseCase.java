@@ -0,0 +1,13 @@
+package com.fullcycle.admin.catalogo.application.castmember.create;
+
+import com.fullcycle.admin.catalogo.application.UseCase;
+import com.fullcycle.admin.catalogo.domain.validation.handler.Notification;
+import io.vavr.control.Either;
+
+import java.util.List;
+
+public sealed abstract class CreateCastMemberBatchUseCase
+    extends UseCase<List<CreateCastMemberCommand>, List<Either<Notification, CreateCastMemberOutput>>>
+    permits DefaultCreateCastMemberBatchUseCase {
+
+}
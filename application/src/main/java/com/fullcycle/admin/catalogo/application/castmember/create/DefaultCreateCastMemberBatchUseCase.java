@@ -0,0 +1,44 @@
+package com.fullcycle.admin.catalogo.application.castmember.create;
+
+import com.fullcycle.admin.catalogo.application.BatchCreation;
+import com.fullcycle.admin.catalogo.domain.castmember.CastMember;
+import com.fullcycle.admin.catalogo.domain.castmember.CastMemberGateway;
+import com.fullcycle.admin.catalogo.domain.validation.handler.Notification;
+import io.vavr.API;
+import io.vavr.control.Either;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Validates every command on its own and persists the valid cast members through {@link BatchCreation}.
+ */
+public non-sealed class DefaultCreateCastMemberBatchUseCase extends CreateCastMemberBatchUseCase {
+
+    private final CastMemberGateway castMemberGateway;
+
+    public DefaultCreateCastMemberBatchUseCase(final CastMemberGateway castMemberGateway) {
+        this.castMemberGateway = Objects.requireNonNull(castMemberGateway);
+    }
+
+    @Override
+    public List<Either<Notification, CreateCastMemberOutput>> execute(final List<CreateCastMemberCommand> anIn) {
+        final var validated = anIn.stream()
+            .map(DefaultCreateCastMemberBatchUseCase::validate)
+            .toList();
+
+        return BatchCreation.create(
+            validated,
+            this.castMemberGateway::createAll,
+            this.castMemberGateway::create,
+            CreateCastMemberOutput::from
+        );
+    }
+
+    private static Either<Notification, CastMember> validate(final CreateCastMemberCommand anIn) {
+        final var notification = Notification.create();
+        final var aMember = notification.validate(() -> CastMember.newMember(anIn.name(), anIn.type()));
+
+        return notification.hasError() ? API.Left(notification) : API.Right(aMember);
+    }
+}
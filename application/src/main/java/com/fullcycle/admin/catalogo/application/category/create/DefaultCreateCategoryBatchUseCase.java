@@ -0,0 +1,45 @@
+package com.fullcycle.admin.catalogo.application.category.create;
+
+import com.fullcycle.admin.catalogo.application.BatchCreation;
+import com.fullcycle.admin.catalogo.domain.category.Category;
+import com.fullcycle.admin.catalogo.domain.category.CategoryGateway;
+import com.fullcycle.admin.catalogo.domain.validation.handler.Notification;
+import io.vavr.API;
+import io.vavr.control.Either;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Validates every command on its own and persists the valid categories through {@link BatchCreation}.
+ */
+public class DefaultCreateCategoryBatchUseCase extends CreateCategoryBatchUseCase {
+
+    private final CategoryGateway categoryGateway;
+
+    public DefaultCreateCategoryBatchUseCase(final CategoryGateway categoryGateway) {
+        this.categoryGateway = Objects.requireNonNull(categoryGateway);
+    }
+
+    @Override
+    public List<Either<Notification, CreateCategoryOutput>> execute(final List<CreateCategoryCommand> anIn) {
+        final var validated = anIn.stream()
+            .map(DefaultCreateCategoryBatchUseCase::validate)
+            .toList();
+
+        return BatchCreation.create(
+            validated,
+            this.categoryGateway::createAll,
+            this.categoryGateway::create,
+            CreateCategoryOutput::from
+        );
+    }
+
+    private static Either<Notification, Category> validate(final CreateCategoryCommand anIn) {
+        final var notification = Notification.create();
+        final var aCategory = Category.newCategory(anIn.name(), anIn.description(), anIn.isActive());
+        aCategory.validate(notification);
+
+        return notification.hasError() ? API.Left(notification) : API.Right(aCategory);
+    }
+}
@@ -0,0 +1,12 @@
+package com.fullcycle.admin.catalogo.application.genre.create;
+
+import com.fullcycle.admin.catalogo.application.UseCase;
+import com.fullcycle.admin.catalogo.domain.validation.handler.Notification;
+import io.vavr.control.Either;
+
+import java.util.List;
+
+public abstract class CreateGenreBatchUseCase
+    extends UseCase<List<CreateGenreCommand>, List<Either<Notification, CreateGenreOutput>>> {
+
+}
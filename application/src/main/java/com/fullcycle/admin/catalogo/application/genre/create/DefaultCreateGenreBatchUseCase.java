@@ -0,0 +1,92 @@
+package com.fullcycle.admin.catalogo.application.genre.create;
+
+import com.fullcycle.admin.catalogo.application.BatchCreation;
+import com.fullcycle.admin.catalogo.domain.category.CategoryGateway;
+import com.fullcycle.admin.catalogo.domain.category.CategoryID;
+import com.fullcycle.admin.catalogo.domain.genre.Genre;
+import com.fullcycle.admin.catalogo.domain.genre.GenreGateway;
+import com.fullcycle.admin.catalogo.domain.validation.Error;
+import com.fullcycle.admin.catalogo.domain.validation.handler.Notification;
+import io.vavr.API;
+import io.vavr.control.Either;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Validates every command on its own and persists the valid genres through
+ * {@link BatchCreation}. The categories referenced by the whole batch are resolved with a
+ * single lookup.
+ */
+public class DefaultCreateGenreBatchUseCase extends CreateGenreBatchUseCase {
+
+    private final CategoryGateway categoryGateway;
+
+    private final GenreGateway genreGateway;
+
+    public DefaultCreateGenreBatchUseCase(final CategoryGateway categoryGateway, final GenreGateway genreGateway) {
+        this.categoryGateway = Objects.requireNonNull(categoryGateway);
+        this.genreGateway = Objects.requireNonNull(genreGateway);
+    }
+
+    @Override
+    public List<Either<Notification, CreateGenreOutput>> execute(final List<CreateGenreCommand> anIn) {
+        final var existingCategories = existingCategories(anIn);
+
+        final var validated = anIn.stream()
+            .map(aCommand -> validate(aCommand, existingCategories))
+            .toList();
+
+        return BatchCreation.create(
+            validated,
+            this.genreGateway::createAll,
+            this.genreGateway::create,
+            CreateGenreOutput::from
+        );
+    }
+
+    private Set<CategoryID> existingCategories(final List<CreateGenreCommand> commands) {
+        final var ids = commands.stream()
+            .flatMap(it -> toCategoriesIDs(it.categories()).stream())
+            .distinct()
+            .toList();
+
+        return ids.isEmpty() ? Set.of() : new HashSet<>(this.categoryGateway.existsByIds(ids));
+    }
+
+    private static Either<Notification, Genre> validate(final CreateGenreCommand anIn, final Set<CategoryID> existingCategories) {
+        final var categories = toCategoriesIDs(anIn.categories());
+
+        final var notification = Notification.create();
+
+        final var missingIdsMessage = categories.stream()
+            .filter(it -> !existingCategories.contains(it))
+            .map(CategoryID::getValue)
+            .collect(Collectors.joining(", "));
+
+        if (!missingIdsMessage.isEmpty()) {
+            notification.append(new Error("Some categories could not be found: %s".formatted(missingIdsMessage)));
+        }
+
+        final var aGenre = notification.validate(() -> Genre.newGenre(anIn.name(), anIn.isActive()));
+
+        if (notification.hasError()) {
+            return API.Left(notification);
+        }
+
+        aGenre.addCategories(categories);
+        return API.Right(aGenre);
+    }
+
+    private static List<CategoryID> toCategoriesIDs(final List<String> categories) {
+        if (categories == null) {
+            return List.of();
+        }
+        return categories.stream()
+            .map(CategoryID::from)
+            .toList();
+    }
+}
@@ -0,0 +1,12 @@
+package com.fullcycle.admin.catalogo.application.video.create;
+
+import com.fullcycle.admin.catalogo.application.UseCase;
+import com.fullcycle.admin.catalogo.domain.validation.handler.Notification;
+import io.vavr.control.Either;
+
+import java.util.List;
+
+public abstract class CreateVideoBatchUseCase
+    extends UseCase<List<CreateVideoCommand>, List<Either<Notification, CreateVideoOutput>>> {
+
+}
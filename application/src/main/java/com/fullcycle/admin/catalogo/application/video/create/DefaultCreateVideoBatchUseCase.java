@@ -0,0 +1,143 @@
+package com.fullcycle.admin.catalogo.application.video.create;
+
+import com.fullcycle.admin.catalogo.application.BatchCreation;
+import com.fullcycle.admin.catalogo.domain.Identifier;
+import com.fullcycle.admin.catalogo.domain.castmember.CastMemberGateway;
+import com.fullcycle.admin.catalogo.domain.castmember.CastMemberID;
+import com.fullcycle.admin.catalogo.domain.category.CategoryGateway;
+import com.fullcycle.admin.catalogo.domain.category.CategoryID;
+import com.fullcycle.admin.catalogo.domain.genre.GenreGateway;
+import com.fullcycle.admin.catalogo.domain.genre.GenreID;
+import com.fullcycle.admin.catalogo.domain.validation.Error;
+import com.fullcycle.admin.catalogo.domain.validation.handler.Notification;
+import com.fullcycle.admin.catalogo.domain.video.Rating;
+import com.fullcycle.admin.catalogo.domain.video.Video;
+import com.fullcycle.admin.catalogo.domain.video.VideoGateway;
+import io.vavr.API;
+import io.vavr.control.Either;
+
+import java.time.Year;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Creates the metadata of many videos at once, as used by imports. The categories, genres and
+ * cast members referenced by the whole batch are checked with one lookup each, and the valid
+ * videos are persisted through {@link BatchCreation}. Media files are not handled here; they
+ * are uploaded afterwards.
+ */
+public class DefaultCreateVideoBatchUseCase extends CreateVideoBatchUseCase {
+
+    private final CategoryGateway categoryGateway;
+    private final GenreGateway genreGateway;
+    private final CastMemberGateway castMemberGateway;
+    private final VideoGateway videoGateway;
+
+    public DefaultCreateVideoBatchUseCase(
+        final CategoryGateway categoryGateway,
+        final GenreGateway genreGateway,
+        final CastMemberGateway castMemberGateway,
+        final VideoGateway videoGateway
+    ) {
+        this.categoryGateway = Objects.requireNonNull(categoryGateway);
+        this.genreGateway = Objects.requireNonNull(genreGateway);
+        this.castMemberGateway = Objects.requireNonNull(castMemberGateway);
+        this.videoGateway = Objects.requireNonNull(videoGateway);
+    }
+
+    @Override
+    public List<Either<Notification, CreateVideoOutput>> execute(final List<CreateVideoCommand> anIn) {
+        final var existingCategories = existing(anIn, CreateVideoCommand::categories, CategoryID::from, this.categoryGateway::existsByIds);
+        final var existingGenres = existing(anIn, CreateVideoCommand::genres, GenreID::from, this.genreGateway::existsByIds);
+        final var existingMembers = existing(anIn, CreateVideoCommand::members, CastMemberID::from, this.castMemberGateway::existsByIds);
+
+        final var validated = anIn.stream()
+            .map(aCommand -> validate(aCommand, existingCategories, existingGenres, existingMembers))
+            .toList();
+
+        return BatchCreation.create(
+            validated,
+            this.videoGateway::createAll,
+            this.videoGateway::create,
+            CreateVideoOutput::from
+        );
+    }
+
+    private static Either<Notification, Video> validate(
+        final CreateVideoCommand anIn,
+        final Set<CategoryID> existingCategories,
+        final Set<GenreID> existingGenres,
+        final Set<CastMemberID> existingMembers
+    ) {
+        final var categories = toIdentifiers(anIn.categories(), CategoryID::from);
+        final var genres = toIdentifiers(anIn.genres(), GenreID::from);
+        final var members = toIdentifiers(anIn.members(), CastMemberID::from);
+
+        final var notification = Notification.create();
+        appendMissing(notification, "categories", categories, existingCategories);
+        appendMissing(notification, "genres", genres, existingGenres);
+        appendMissing(notification, "cast members", members, existingMembers);
+
+        if (anIn.duration() == null) {
+            notification.append(new Error("'duration' should not be null"));
+            return API.Left(notification);
+        }
+
+        final var aVideo = Video.newVideo(
+            anIn.title(),
+            anIn.description(),
+            anIn.launchAt() != null ? Year.of(anIn.launchAt()) : null,
+            anIn.duration(),
+            Rating.of(anIn.rating()).orElse(null),
+            Boolean.TRUE.equals(anIn.opened()),
+            Boolean.TRUE.equals(anIn.published()),
+            categories,
+            genres,
+            members
+        );
+
+        aVideo.validate(notification);
+
+        return notification.hasError() ? API.Left(notification) : API.Right(aVideo);
+    }
+
+    private static <T extends Identifier> Set<T> existing(
+        final List<CreateVideoCommand> commands,
+        final Function<CreateVideoCommand, Set<String>> idsOf,
+        final Function<String, T> mapper,
+        final Function<Iterable<T>, List<T>> existsByIds
+    ) {
+        final var ids = commands.stream()
+            .flatMap(it -> toIdentifiers(idsOf.apply(it), mapper).stream())
+            .collect(Collectors.toSet());
+
+        return ids.isEmpty() ? Set.of() : new HashSet<>(existsByIds.apply(ids));
+    }
+
+    private static <T extends Identifier> void appendMissing(
+        final Notification notification,
+        final String aggregate,
+        final Set<T> ids,
+        final Set<T> existingIds
+    ) {
+        final var missingIdsMessage = ids.stream()
+            .filter(it -> !existingIds.contains(it))
+            .map(Identifier::getValue)
+            .collect(Collectors.joining(", "));
+
+        if (!missingIdsMessage.isEmpty()) {
+            notification.append(new Error("Some %s could not be found: %s".formatted(aggregate, missingIdsMessage)));
+        }
+    }
+
+    private static <T> Set<T> toIdentifiers(final Set<String> ids, final Function<String, T> mapper) {
+        if (ids == null) {
+            return new HashSet<>();
+        }
+        return ids.stream().map(mapper).collect(Collectors.toSet());
+    }
+}
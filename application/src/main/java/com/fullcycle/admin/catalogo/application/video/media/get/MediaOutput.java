@@ -3,12 +3,20 @@ package com.fullcycle.admin.catalogo.application.video.media.get;
 import com.fullcycle.admin.catalogo.domain.resource.Resource;
 
 public record MediaOutput(
-    byte[] content,
+    Resource.Source content,
+    String checksum,
+    long size,
     String contentType,
     String name
 ) {
 
     public static MediaOutput with(Resource aResource) {
-        return new MediaOutput(aResource.content(), aResource.contentType(), aResource.name());
+        return new MediaOutput(
+            aResource.source(),
+            aResource.checksum(),
+            aResource.size(),
+            aResource.contentType(),
+            aResource.name()
+        );
     }
 }
@@ -0,0 +1,38 @@
+package com.fullcycle.admin.catalogo.application.video.media.update;
+
+import com.fullcycle.admin.catalogo.domain.video.MediaStatus;
+import com.fullcycle.admin.catalogo.domain.video.VideoGateway;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Applies many encoder results at once, in the order they arrived and in a single
+ * transaction. Each result only moves its media forward, so a late PROCESSING never undoes a
+ * COMPLETED, and results for videos that no longer exist are ignored, so one deleted video
+ * does not fail the whole batch.
+ */
+public class DefaultUpdateMediaStatusBatchUseCase extends UpdateMediaStatusBatchUseCase {
+
+    private final VideoGateway videoGateway;
+
+    public DefaultUpdateMediaStatusBatchUseCase(final VideoGateway videoGateway) {
+        this.videoGateway = Objects.requireNonNull(videoGateway);
+    }
+
+    @Override
+    public void execute(final List<UpdateMediaStatusCommand> aCmds) {
+        if (aCmds == null || aCmds.isEmpty()) {
+            return;
+        }
+
+        final var updates = aCmds.stream()
+            .filter(aCmd -> MediaStatus.PENDING != aCmd.status())
+            .map(DefaultUpdateMediaStatusUseCase::toUpdate)
+            .toList();
+
+        if (!updates.isEmpty()) {
+            this.videoGateway.updateAllMediaStatus(updates);
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.fullcycle.admin.catalogo.application.video.retrieve.facets;
+
+import com.fullcycle.admin.catalogo.domain.video.VideoFacets;
+
+import java.util.Map;
+
+public record VideoFacetsOutput(
+    Map<String, Long> categories,
+    Map<String, Long> genres,
+    Map<String, Long> castMembers,
+    Map<String, Long> ratings
+) {
+
+    public static VideoFacetsOutput from(final VideoFacets facets) {
+        return new VideoFacetsOutput(
+            facets.categories(),
+            facets.genres(),
+            facets.castMembers(),
+            facets.ratings()
+        );
+    }
+}
@@ -0,0 +1,127 @@
+package com.fullcycle.admin.catalogo.application.genre.create;
+
+import com.fullcycle.admin.catalogo.application.UseCaseTest;
+import com.fullcycle.admin.catalogo.domain.category.CategoryGateway;
+import com.fullcycle.admin.catalogo.domain.category.CategoryID;
+import com.fullcycle.admin.catalogo.domain.genre.GenreGateway;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+import static org.mockito.AdditionalAnswers.returnsFirstArg;
+import static org.mockito.Mockito.any;
+import static org.mockito.Mockito.argThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.when;
+
+public class CreateGenreBatchUseCaseTest extends UseCaseTest {
+
+    @InjectMocks
+    DefaultCreateGenreBatchUseCase useCase;
+
+    @Mock
+    CategoryGateway categoryGateway;
+
+    @Mock
+    GenreGateway genreGateway;
+
+    @Override
+    protected List<Object> getMocks() {
+        return List.of(categoryGateway, genreGateway);
+    }
+
+    @Test
+    public void givenValidAndInvalidCommands_whenCallsCreateGenreBatch_shouldCreateValidOnesAtOnce() {
+        // given
+        final var filmes = CategoryID.from("123");
+        final var series = CategoryID.from("456");
+        final var missing = CategoryID.from("789");
+
+        final var commands = List.of(
+            CreateGenreCommand.with("Ação", true, asString(List.of(filmes, series))),
+            CreateGenreCommand.with(null, true, List.of()),
+            CreateGenreCommand.with("Drama", true, asString(List.of(series, missing))),
+            CreateGenreCommand.with("Terror", false, asString(List.of(filmes)))
+        );
+
+        when(categoryGateway.existsByIds(any())).thenReturn(List.of(filmes, series));
+        when(genreGateway.createAll(any())).thenAnswer(returnsFirstArg());
+
+        // when
+        final var actualOutput = useCase.execute(commands);
+
+        // then
+        Assertions.assertEquals(4, actualOutput.size());
+        Assertions.assertTrue(actualOutput.get(0).isRight());
+        Assertions.assertEquals("'name' should not be null", actualOutput.get(1).getLeft().getErrors().get(0).message());
+        Assertions.assertEquals("Some categories could not be found: 789", actualOutput.get(2).getLeft().getErrors().get(0).message());
+        Assertions.assertTrue(actualOutput.get(3).isRight());
+
+        Mockito.verify(categoryGateway, times(1)).existsByIds(argThat(ids ->
+            Set.copyOf((List<CategoryID>) ids).equals(Set.of(filmes, series, missing))
+        ));
+        Mockito.verify(genreGateway, times(1)).createAll(argThat(genres ->
+            genres.size() == 2
+            && Objects.equals("Ação", genres.get(0).getName())
+            && Objects.equals(List.of(filmes, series), genres.get(0).getCategories())
+            && Objects.equals("Terror", genres.get(1).getName())
+            && !genres.get(1).isActive()
+        ));
+    }
+
+    @Test
+    public void givenCommandsWithoutCategories_whenCallsCreateGenreBatch_shouldNotLookUpCategories() {
+        // given
+        final var commands = List.of(
+            CreateGenreCommand.with("Ação", true, List.of()),
+            CreateGenreCommand.with("Drama", true, List.of())
+        );
+
+        when(genreGateway.createAll(any())).thenAnswer(returnsFirstArg());
+
+        // when
+        final var actualOutput = useCase.execute(commands);
+
+        // then
+        Assertions.assertTrue(actualOutput.stream().allMatch(it -> it.isRight() && it.get().id() != null));
+
+        Mockito.verify(categoryGateway, times(0)).existsByIds(any());
+        Mockito.verify(genreGateway, times(1)).createAll(argThat(genres -> genres.size() == 2));
+    }
+
+    @Test
+    public void givenAGatewayError_whenCallsCreateGenreBatch_shouldCreateOneByOneAndReturnTheErrorOnItsItem() {
+        // given
+        final var expectedErrorMessage = "Gateway error";
+
+        final var commands = List.of(
+            CreateGenreCommand.with("Ação", true, List.of()),
+            CreateGenreCommand.with(" ", true, List.of()),
+            CreateGenreCommand.with("Drama", true, List.of())
+        );
+
+        when(genreGateway.createAll(any())).thenThrow(new IllegalStateException(expectedErrorMessage));
+        when(genreGateway.create(argThat(aGenre -> aGenre != null && "Ação".equals(aGenre.getName()))))
+            .thenThrow(new IllegalStateException(expectedErrorMessage));
+        when(genreGateway.create(argThat(aGenre -> aGenre != null && "Drama".equals(aGenre.getName()))))
+            .thenAnswer(returnsFirstArg());
+
+        // when
+        final var actualOutput = useCase.execute(commands);
+
+        // then
+        Assertions.assertEquals(3, actualOutput.size());
+        Assertions.assertEquals(expectedErrorMessage, actualOutput.get(0).getLeft().getErrors().get(0).message());
+        Assertions.assertEquals("'name' should not be empty", actualOutput.get(1).getLeft().getErrors().get(0).message());
+        Assertions.assertTrue(actualOutput.get(2).isRight());
+
+        Mockito.verify(genreGateway, times(1)).createAll(argThat(genres -> genres.size() == 2));
+        Mockito.verify(genreGateway, times(2)).create(any());
+    }
+}
@@ -0,0 +1,138 @@
+package com.fullcycle.admin.catalogo.application.video.create;
+
+import com.fullcycle.admin.catalogo.application.UseCaseTest;
+import com.fullcycle.admin.catalogo.domain.Fixture;
+import com.fullcycle.admin.catalogo.domain.castmember.CastMemberGateway;
+import com.fullcycle.admin.catalogo.domain.category.CategoryGateway;
+import com.fullcycle.admin.catalogo.domain.genre.GenreGateway;
+import com.fullcycle.admin.catalogo.domain.video.VideoGateway;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+import static org.mockito.AdditionalAnswers.returnsFirstArg;
+import static org.mockito.Mockito.any;
+import static org.mockito.Mockito.argThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class CreateVideoBatchUseCaseTest extends UseCaseTest {
+
+    @InjectMocks
+    private DefaultCreateVideoBatchUseCase useCase;
+
+    @Mock
+    private VideoGateway videoGateway;
+    @Mock
+    private CategoryGateway categoryGateway;
+    @Mock
+    private GenreGateway genreGateway;
+    @Mock
+    private CastMemberGateway castMemberGateway;
+
+    @Override
+    protected List<Object> getMocks() {
+        return List.of(videoGateway, categoryGateway, genreGateway, castMemberGateway);
+    }
+
+    @Test
+    public void givenAChunkOfCommands_whenCallsCreateVideoBatch_shouldLookUpRelationsOnceAndCreateValidOnes() {
+        // given
+        final var filmes = Fixture.Categories.FILMES.getId();
+        final var series = Fixture.Categories.SERIES.getId();
+        final var drama = Fixture.Genres.DRAMA.getId();
+        final var vinDiesel = Fixture.CastMembers.VIN_DIESEL.getId();
+
+        final var commands = List.of(
+            command("Ben Hur", Set.of(filmes.getValue()), Set.of(vinDiesel.getValue()), Set.of(drama.getValue())),
+            command("Lost", Set.of(series.getValue()), Set.of(), Set.of()),
+            command(null, Set.of(filmes.getValue()), Set.of(), Set.of()),
+            command("Titanic", Set.of(filmes.getValue()), Set.of(), Set.of(drama.getValue()))
+        );
+
+        when(categoryGateway.existsByIds(any())).thenReturn(List.of(filmes));
+        when(genreGateway.existsByIds(any())).thenReturn(List.of(drama));
+        when(castMemberGateway.existsByIds(any())).thenReturn(List.of(vinDiesel));
+        when(videoGateway.createAll(any())).thenAnswer(returnsFirstArg());
+
+        // when
+        final var actualOutput = useCase.execute(commands);
+
+        // then
+        Assertions.assertEquals(4, actualOutput.size());
+        Assertions.assertTrue(actualOutput.get(0).isRight());
+        Assertions.assertEquals(
+            "Some categories could not be found: %s".formatted(series.getValue()),
+            actualOutput.get(1).getLeft().getErrors().get(0).message()
+        );
+        Assertions.assertEquals("'title' should not be null", actualOutput.get(2).getLeft().getErrors().get(0).message());
+        Assertions.assertTrue(actualOutput.get(3).isRight());
+
+        verify(categoryGateway, times(1)).existsByIds(any());
+        verify(genreGateway, times(1)).existsByIds(any());
+        verify(castMemberGateway, times(1)).existsByIds(any());
+        verify(videoGateway, times(1)).createAll(argThat(videos ->
+            videos.size() == 2
+                && Objects.equals("Ben Hur", videos.get(0).getTitle())
+                && Objects.equals(Set.of(vinDiesel), videos.get(0).getCastMembers())
+                && Objects.equals("Titanic", videos.get(1).getTitle())
+        ));
+    }
+
+    @Test
+    public void givenAGatewayError_whenCallsCreateVideoBatch_shouldCreateOneByOneAndReturnTheErrorOnItsItem() {
+        // given
+        final var expectedErrorMessage = "Gateway error";
+
+        final var commands = List.of(
+            command("Ben Hur", Set.of(), Set.of(), Set.of()),
+            command(" ", Set.of(), Set.of(), Set.of()),
+            command("Titanic", Set.of(), Set.of(), Set.of())
+        );
+
+        when(videoGateway.createAll(any())).thenThrow(new IllegalStateException(expectedErrorMessage));
+        when(videoGateway.create(argThat(aVideo -> aVideo != null && "Ben Hur".equals(aVideo.getTitle()))))
+            .thenThrow(new IllegalStateException(expectedErrorMessage));
+        when(videoGateway.create(argThat(aVideo -> aVideo != null && "Titanic".equals(aVideo.getTitle()))))
+            .thenAnswer(returnsFirstArg());
+
+        // when
+        final var actualOutput = useCase.execute(commands);
+
+        // then
+        Assertions.assertEquals(3, actualOutput.size());
+        Assertions.assertEquals(expectedErrorMessage, actualOutput.get(0).getLeft().getErrors().get(0).message());
+        Assertions.assertTrue(actualOutput.get(1).isLeft());
+        Assertions.assertTrue(actualOutput.get(2).isRight());
+
+        verify(videoGateway, times(1)).createAll(argThat(videos -> videos.size() == 2));
+        verify(videoGateway, times(2)).create(any());
+        verify(categoryGateway, times(0)).existsByIds(any());
+    }
+
+    private static CreateVideoCommand command(
+        final String title,
+        final Set<String> categories,
+        final Set<String> members,
+        final Set<String> genres
+    ) {
+        return CreateVideoCommand.with(
+            title,
+            Fixture.Videos.description(),
+            Fixture.releaseYear(),
+            Fixture.duration(),
+            Fixture.Videos.rating().getName(),
+            Fixture.bool(),
+            Fixture.bool(),
+            categories,
+            members,
+            genres
+        );
+    }
+}
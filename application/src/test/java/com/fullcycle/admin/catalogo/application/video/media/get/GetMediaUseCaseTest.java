@@ -28,7 +28,7 @@ public class GetMediaUseCaseTest extends UseCaseTest {
     }
 
     @Test
-    public void givenVideoIdAndType_whenIsValidCmd_shouldReturnResources() {
+    public void givenVideoIdAndType_whenIsValidCmd_shouldReturnResources() throws Exception {
         //given
         final var expectedId = VideoID.unique();
         final var expectedType = Fixture.Videos.mediaType();
@@ -44,7 +44,9 @@ public class GetMediaUseCaseTest extends UseCaseTest {
         //then
         Assertions.assertEquals(expectedResource.name(), actualResult.name());
         Assertions.assertEquals(expectedResource.contentType(), actualResult.contentType());
-        Assertions.assertEquals(expectedResource.content(), actualResult.content());
+        Assertions.assertEquals(expectedResource.checksum(), actualResult.checksum());
+        Assertions.assertEquals(expectedResource.size(), actualResult.size());
+        Assertions.assertArrayEquals(expectedResource.content(), actualResult.content().open().readAllBytes());
     }
 
     @Test
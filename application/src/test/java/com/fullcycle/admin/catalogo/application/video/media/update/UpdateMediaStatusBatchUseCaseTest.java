@@ -0,0 +1,89 @@
+package com.fullcycle.admin.catalogo.application.video.media.update;
+
+import com.fullcycle.admin.catalogo.application.UseCaseTest;
+import com.fullcycle.admin.catalogo.domain.Fixture;
+import com.fullcycle.admin.catalogo.domain.utils.IdUtils;
+import com.fullcycle.admin.catalogo.domain.video.MediaStatus;
+import com.fullcycle.admin.catalogo.domain.video.MediaStatusUpdate;
+import com.fullcycle.admin.catalogo.domain.video.VideoGateway;
+import com.fullcycle.admin.catalogo.domain.video.VideoID;
+import com.fullcycle.admin.catalogo.domain.video.VideoMediaType;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.mockito.Mockito.any;
+import static org.mockito.Mockito.anyList;
+import static org.mockito.Mockito.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class UpdateMediaStatusBatchUseCaseTest extends UseCaseTest {
+
+    @InjectMocks
+    private DefaultUpdateMediaStatusBatchUseCase useCase;
+
+    @Mock
+    private VideoGateway videoGateway;
+
+    @Override
+    protected List<Object> getMocks() {
+        return List.of(videoGateway);
+    }
+
+    @Test
+    public void givenCommandsForManyVideos_whenCallsExecute_shouldApplyThemInOrderAtOnce() {
+        // given
+        final var expectedFolder = "encoded_media";
+        final var expectedFilename = "filename.mp4";
+        final var expectedEncodedPath = "encoded_media/filename.mp4";
+        final var videoMedia = Fixture.Videos.audioVideo(VideoMediaType.VIDEO);
+        final var trailerMedia = Fixture.Videos.audioVideo(VideoMediaType.TRAILER);
+
+        final var aVideo = Fixture.Videos.systemDesigner()
+            .updateVideoMedia(videoMedia)
+            .updateTrailerMedia(trailerMedia);
+        final var deletedVideoId = VideoID.unique();
+        final var deletedMediaId = IdUtils.uuid();
+
+        when(videoGateway.updateAllMediaStatus(anyList()))
+            .thenReturn(Set.of(aVideo.getId()));
+
+        final var aCmds = List.of(
+            UpdateMediaStatusCommand.with(MediaStatus.PROCESSING, aVideo.getId().getValue(), videoMedia.id(), null, null),
+            UpdateMediaStatusCommand.with(MediaStatus.COMPLETED, aVideo.getId().getValue(), videoMedia.id(), expectedFolder, expectedFilename),
+            UpdateMediaStatusCommand.with(MediaStatus.PENDING, aVideo.getId().getValue(), trailerMedia.id(), null, null),
+            UpdateMediaStatusCommand.with(MediaStatus.PROCESSING, aVideo.getId().getValue(), trailerMedia.id(), null, null),
+            UpdateMediaStatusCommand.with(MediaStatus.COMPLETED, deletedVideoId.getValue(), deletedMediaId, expectedFolder, expectedFilename)
+        );
+
+        final var expectedUpdates = List.of(
+            new MediaStatusUpdate(aVideo.getId(), videoMedia.id(), MediaStatus.PROCESSING, null),
+            new MediaStatusUpdate(aVideo.getId(), videoMedia.id(), MediaStatus.COMPLETED, expectedEncodedPath),
+            new MediaStatusUpdate(aVideo.getId(), trailerMedia.id(), MediaStatus.PROCESSING, null),
+            new MediaStatusUpdate(deletedVideoId, deletedMediaId, MediaStatus.COMPLETED, expectedEncodedPath)
+        );
+
+        // when
+        this.useCase.execute(aCmds);
+
+        // then
+        verify(videoGateway, times(1)).updateAllMediaStatus(eq(expectedUpdates));
+        verify(videoGateway, never()).findAllById(any());
+        verify(videoGateway, never()).updateAll(anyList());
+    }
+
+    @Test
+    public void givenEmptyCommands_whenCallsExecute_shouldNotTouchTheGateway() {
+        // when
+        this.useCase.execute(List.of());
+
+        // then
+        verify(videoGateway, never()).updateAllMediaStatus(anyList());
+    }
+}
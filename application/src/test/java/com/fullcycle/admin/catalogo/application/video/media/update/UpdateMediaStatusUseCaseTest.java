@@ -2,22 +2,22 @@ package com.fullcycle.admin.catalogo.application.video.media.update;
 
 import com.fullcycle.admin.catalogo.application.UseCaseTest;
 import com.fullcycle.admin.catalogo.domain.Fixture;
+import com.fullcycle.admin.catalogo.domain.exceptions.NotFoundException;
 import com.fullcycle.admin.catalogo.domain.video.MediaStatus;
-import com.fullcycle.admin.catalogo.domain.video.Video;
 import com.fullcycle.admin.catalogo.domain.video.VideoGateway;
+import com.fullcycle.admin.catalogo.domain.video.VideoID;
 import com.fullcycle.admin.catalogo.domain.video.VideoMediaType;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
-import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 
 import java.util.List;
-import java.util.Optional;
 
-import static org.mockito.AdditionalAnswers.returnsFirstArg;
 import static org.mockito.Mockito.any;
 import static org.mockito.Mockito.eq;
+import static org.mockito.Mockito.isNull;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -41,19 +41,16 @@ public class UpdateMediaStatusUseCaseTest extends UseCaseTest {
         final var expectedStatus = MediaStatus.COMPLETED;
         final var expectedFolder = "encoded_media";
         final var expectedFilename = "filename.mp4";
-        final var expectedType = VideoMediaType.VIDEO;
-        final var expectedMedia = Fixture.Videos.audioVideo(expectedType);
+        final var expectedEncodedPath = "encoded_media/filename.mp4";
+        final var expectedMedia = Fixture.Videos.audioVideo(VideoMediaType.VIDEO);
 
         final var aVideo = Fixture.Videos.systemDesigner()
             .updateVideoMedia(expectedMedia);
 
         final var expectedId = aVideo.getId();
 
-        when(videoGateway.findById(any()))
-            .thenReturn(Optional.of(aVideo));
-
-        when(videoGateway.update(any()))
-            .thenAnswer(returnsFirstArg());
+        when(videoGateway.updateMediaStatus(any(), any(), any(), any()))
+            .thenReturn(true);
 
         final var aCmd = UpdateMediaStatusCommand.with(
             expectedStatus,
@@ -67,68 +64,50 @@ public class UpdateMediaStatusUseCaseTest extends UseCaseTest {
         this.mediaStatusUseCase.execute(aCmd);
 
         // then
-        verify(videoGateway, times(1)).findById(eq(expectedId));
-
-        final var captor = ArgumentCaptor.forClass(Video.class);
-        verify(videoGateway, times(1)).update(captor.capture());
-
-        final var actualVideo = captor.getValue();
-        final var actualVideoMedia = actualVideo.getVideo().get();
-
-        Assertions.assertEquals(expectedMedia.id(), actualVideoMedia.id());
-        Assertions.assertEquals(expectedMedia.rawLocation(), actualVideoMedia.rawLocation());
-        Assertions.assertEquals(expectedMedia.checksum(), actualVideoMedia.checksum());
-        Assertions.assertEquals(expectedStatus, actualVideoMedia.status());
-        Assertions.assertEquals(expectedFolder.concat("/").concat(expectedFilename), actualVideoMedia.encodedLocation());
-
+        verify(videoGateway, times(1)).updateMediaStatus(
+            eq(expectedId),
+            eq(expectedMedia.id()),
+            eq(expectedStatus),
+            eq(expectedEncodedPath)
+        );
+        verify(videoGateway, never()).existsById(any());
+        verify(videoGateway, never()).update(any());
     }
 
     @Test
-    public void givenCommandForVideo_whenIsValid_shouldUpdateStatusProcessingAndEncodedLocation() {
+    public void givenCommandForVideo_whenIsValid_shouldUpdateStatusProcessingAndKeepEncodedLocation() {
         // given
         final var expectedStatus = MediaStatus.PROCESSING;
-        final String expectedFolder = null;
-        final String expectedFilename = null;
-        final var expectedType = VideoMediaType.VIDEO;
-        final var expectedMedia = Fixture.Videos.audioVideo(expectedType);
+        final var expectedMedia = Fixture.Videos.audioVideo(VideoMediaType.VIDEO);
 
         final var aVideo = Fixture.Videos.systemDesigner()
             .updateVideoMedia(expectedMedia);
 
         final var expectedId = aVideo.getId();
 
-        when(videoGateway.findById(any()))
-            .thenReturn(Optional.of(aVideo));
-
-        when(videoGateway.update(any()))
-            .thenAnswer(returnsFirstArg());
+        when(videoGateway.updateMediaStatus(any(), any(), any(), any()))
+            .thenReturn(true);
 
         final var aCmd = UpdateMediaStatusCommand.with(
             expectedStatus,
             expectedId.getValue(),
             expectedMedia.id(),
-            expectedFolder,
-            expectedFilename
+            null,
+            null
         );
 
         // when
         this.mediaStatusUseCase.execute(aCmd);
 
         // then
-        verify(videoGateway, times(1)).findById(eq(expectedId));
-
-        final var captor = ArgumentCaptor.forClass(Video.class);
-        verify(videoGateway, times(1)).update(captor.capture());
-
-        final var actualVideo = captor.getValue();
-        final var actualVideoMedia = actualVideo.getVideo().get();
-
-        Assertions.assertEquals(expectedMedia.id(), actualVideoMedia.id());
-        Assertions.assertEquals(expectedMedia.rawLocation(), actualVideoMedia.rawLocation());
-        Assertions.assertEquals(expectedMedia.checksum(), actualVideoMedia.checksum());
-        Assertions.assertEquals(expectedStatus, actualVideoMedia.status());
-        Assertions.assertTrue(actualVideoMedia.encodedLocation().isBlank());
-
+        verify(videoGateway, times(1)).updateMediaStatus(
+            eq(expectedId),
+            eq(expectedMedia.id()),
+            eq(expectedStatus),
+            isNull()
+        );
+        verify(videoGateway, never()).existsById(any());
+        verify(videoGateway, never()).update(any());
     }
 
     @Test
@@ -137,19 +116,16 @@ public class UpdateMediaStatusUseCaseTest extends UseCaseTest {
         final var expectedStatus = MediaStatus.COMPLETED;
         final var expectedFolder = "encoded_media";
         final var expectedFilename = "filename.mp4";
-        final var expectedType = VideoMediaType.TRAILER;
-        final var expectedMedia = Fixture.Videos.audioVideo(expectedType);
+        final var expectedEncodedPath = "encoded_media/filename.mp4";
+        final var expectedMedia = Fixture.Videos.audioVideo(VideoMediaType.TRAILER);
 
         final var aVideo = Fixture.Videos.systemDesigner()
             .updateTrailerMedia(expectedMedia);
 
         final var expectedId = aVideo.getId();
 
-        when(videoGateway.findById(any()))
-            .thenReturn(Optional.of(aVideo));
-
-        when(videoGateway.update(any()))
-            .thenAnswer(returnsFirstArg());
+        when(videoGateway.updateMediaStatus(any(), any(), any(), any()))
+            .thenReturn(true);
 
         final var aCmd = UpdateMediaStatusCommand.with(
             expectedStatus,
@@ -163,46 +139,39 @@ public class UpdateMediaStatusUseCaseTest extends UseCaseTest {
         this.mediaStatusUseCase.execute(aCmd);
 
         // then
-        verify(videoGateway, times(1)).findById(eq(expectedId));
-
-        final var captor = ArgumentCaptor.forClass(Video.class);
-        verify(videoGateway, times(1)).update(captor.capture());
-
-        final var actualVideo = captor.getValue();
-        final var actualVideoMedia = actualVideo.getTrailer().get();
-
-        Assertions.assertEquals(expectedMedia.id(), actualVideoMedia.id());
-        Assertions.assertEquals(expectedMedia.rawLocation(), actualVideoMedia.rawLocation());
-        Assertions.assertEquals(expectedMedia.checksum(), actualVideoMedia.checksum());
-        Assertions.assertEquals(expectedStatus, actualVideoMedia.status());
-        Assertions.assertEquals(expectedFolder.concat("/").concat(expectedFilename), actualVideoMedia.encodedLocation());
-
+        verify(videoGateway, times(1)).updateMediaStatus(
+            eq(expectedId),
+            eq(expectedMedia.id()),
+            eq(expectedStatus),
+            eq(expectedEncodedPath)
+        );
+        verify(videoGateway, never()).existsById(any());
+        verify(videoGateway, never()).update(any());
     }
 
     @Test
-    public void givenCommandForTrailer_whenIsValid_shouldUpdateStatusProcessingAndEncodedLocation() {
+    public void givenCommandForTrailer_whenIsInvalid_shouldDoNothing() {
         // given
-        final var expectedStatus = MediaStatus.PROCESSING;
-        final String expectedFolder = null;
-        final String expectedFilename = null;
-        final var expectedType = VideoMediaType.TRAILER;
-        final var expectedMedia = Fixture.Videos.audioVideo(expectedType);
+        final var expectedStatus = MediaStatus.COMPLETED;
+        final var expectedFolder = "encoded_media";
+        final var expectedFilename = "filename.mp4";
+        final var expectedMedia = Fixture.Videos.audioVideo(VideoMediaType.TRAILER);
 
         final var aVideo = Fixture.Videos.systemDesigner()
             .updateTrailerMedia(expectedMedia);
 
         final var expectedId = aVideo.getId();
 
-        when(videoGateway.findById(any()))
-            .thenReturn(Optional.of(aVideo));
+        when(videoGateway.updateMediaStatus(any(), any(), any(), any()))
+            .thenReturn(false);
 
-        when(videoGateway.update(any()))
-            .thenAnswer(returnsFirstArg());
+        when(videoGateway.existsById(any()))
+            .thenReturn(true);
 
         final var aCmd = UpdateMediaStatusCommand.with(
             expectedStatus,
             expectedId.getValue(),
-            expectedMedia.id(),
+            "randomId",
             expectedFolder,
             expectedFilename
         );
@@ -211,53 +180,66 @@ public class UpdateMediaStatusUseCaseTest extends UseCaseTest {
         this.mediaStatusUseCase.execute(aCmd);
 
         // then
-        verify(videoGateway, times(1)).findById(eq(expectedId));
+        verify(videoGateway, times(1)).updateMediaStatus(eq(expectedId), eq("randomId"), eq(expectedStatus), any());
+        verify(videoGateway, times(1)).existsById(eq(expectedId));
+        verify(videoGateway, never()).findById(any());
+        verify(videoGateway, never()).update(any());
+    }
 
-        final var captor = ArgumentCaptor.forClass(Video.class);
-        verify(videoGateway, times(1)).update(captor.capture());
+    @Test
+    public void givenCommandForUnknownVideo_whenCallsExecute_shouldReturnNotFound() {
+        // given
+        final var expectedId = VideoID.from("123");
+        final var expectedErrorMessage = "Video with ID 123 was not found";
+
+        when(videoGateway.updateMediaStatus(any(), any(), any(), any()))
+            .thenReturn(false);
+
+        when(videoGateway.existsById(any()))
+            .thenReturn(false);
 
-        final var actualVideo = captor.getValue();
-        final var actualVideoMedia = actualVideo.getTrailer().get();
+        final var aCmd = UpdateMediaStatusCommand.with(
+            MediaStatus.COMPLETED,
+            expectedId.getValue(),
+            "randomId",
+            "encoded_media",
+            "filename.mp4"
+        );
 
-        Assertions.assertEquals(expectedMedia.id(), actualVideoMedia.id());
-        Assertions.assertEquals(expectedMedia.rawLocation(), actualVideoMedia.rawLocation());
-        Assertions.assertEquals(expectedMedia.checksum(), actualVideoMedia.checksum());
-        Assertions.assertEquals(expectedStatus, actualVideoMedia.status());
-        Assertions.assertTrue(actualVideoMedia.encodedLocation().isBlank());
+        // when
+        final var actualException = Assertions.assertThrows(
+            NotFoundException.class,
+            () -> this.mediaStatusUseCase.execute(aCmd)
+        );
 
+        // then
+        Assertions.assertEquals(expectedErrorMessage, actualException.getMessage());
+        verify(videoGateway, never()).update(any());
     }
 
     @Test
-    public void givenCommandForTrailer_whenIsInvalid_shouldDoNothing() {
+    public void givenPendingCommand_whenCallsExecute_shouldNotWriteAnything() {
         // given
-        final var expectedStatus = MediaStatus.COMPLETED;
-        final var expectedFolder = "encoded_media";
-        final var expectedFilename = "filename.mp4";
-        final var expectedType = VideoMediaType.TRAILER;
-        final var expectedMedia = Fixture.Videos.audioVideo(expectedType);
-
+        final var expectedMedia = Fixture.Videos.audioVideo(VideoMediaType.VIDEO);
         final var aVideo = Fixture.Videos.systemDesigner()
-            .updateTrailerMedia(expectedMedia);
-
-        final var expectedId = aVideo.getId();
+            .updateVideoMedia(expectedMedia);
 
-        when(videoGateway.findById(any()))
-            .thenReturn(Optional.of(aVideo));
+        when(videoGateway.existsById(any()))
+            .thenReturn(true);
 
         final var aCmd = UpdateMediaStatusCommand.with(
-            expectedStatus,
-            expectedId.getValue(),
-            "randomId",
-            expectedFolder,
-            expectedFilename
+            MediaStatus.PENDING,
+            aVideo.getId().getValue(),
+            expectedMedia.id(),
+            null,
+            null
         );
 
         // when
         this.mediaStatusUseCase.execute(aCmd);
 
         // then
-        verify(videoGateway, times(1)).findById(eq(expectedId));
-        verify(videoGateway, times(0)).update(any());
-
+        verify(videoGateway, never()).updateMediaStatus(any(), any(), any(), any());
+        verify(videoGateway, never()).update(any());
     }
 }
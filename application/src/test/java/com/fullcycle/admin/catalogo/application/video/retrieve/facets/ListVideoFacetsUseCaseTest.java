@@ -0,0 +1,58 @@
+package com.fullcycle.admin.catalogo.application.video.retrieve.facets;
+
+import com.fullcycle.admin.catalogo.application.UseCaseTest;
+import com.fullcycle.admin.catalogo.domain.video.VideoFacets;
+import com.fullcycle.admin.catalogo.domain.video.VideoGateway;
+import com.fullcycle.admin.catalogo.domain.video.VideoSearchQuery;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class ListVideoFacetsUseCaseTest extends UseCaseTest {
+
+    @InjectMocks
+    private DefaultListVideoFacetsUseCase useCase;
+    @Mock
+    private VideoGateway videoGateway;
+
+    @Override
+    protected List<Object> getMocks() {
+        return List.of(videoGateway);
+    }
+
+    @Test
+    public void givenAValidQuery_whenCallsListVideoFacets_shouldReturnTheCounts() {
+        //given
+        final var expectedCategories = Map.of("category1", 2L);
+        final var expectedGenres = Map.of("genre1", 1L, "genre2", 1L);
+        final var expectedCastMembers = Map.of("member1", 2L);
+        final var expectedRatings = Map.of("12", 2L);
+
+        final var aQuery = new VideoSearchQuery(0, 10, "", "title", "asc", Set.of(), Set.of(), Set.of(), null, null, null);
+
+        when(videoGateway.findFacets(any()))
+            .thenReturn(new VideoFacets(expectedCategories, expectedGenres, expectedCastMembers, expectedRatings));
+
+        //when
+        final var actualOutput = useCase.execute(aQuery);
+
+        //then
+        Assertions.assertEquals(expectedCategories, actualOutput.categories());
+        Assertions.assertEquals(expectedGenres, actualOutput.genres());
+        Assertions.assertEquals(expectedCastMembers, actualOutput.castMembers());
+        Assertions.assertEquals(expectedRatings, actualOutput.ratings());
+
+        verify(videoGateway, times(1)).findFacets(eq(aQuery));
+    }
+}
@@ -58,7 +58,10 @@ public class ListVideosUseCaseTest extends UseCaseTest {
             expectedDirection,
             Set.of(),
             Set.of(),
-            Set.of()
+            Set.of(),
+            null,
+            null,
+            null
         );
 
         final var expectedPagination = new Pagination<>(expectedPage, expectedPerPage, expectedTotal, videos);
@@ -98,7 +101,10 @@ public class ListVideosUseCaseTest extends UseCaseTest {
             expectedDirection,
             Set.of(),
             Set.of(),
-            Set.of()
+            Set.of(),
+            null,
+            null,
+            null
         );
 
         final var expectedPagination = new Pagination<>(expectedPage, expectedPerPage, expectedTotal, videos);
@@ -136,7 +142,10 @@ public class ListVideosUseCaseTest extends UseCaseTest {
             expectedDirection,
             Set.of(),
             Set.of(),
-            Set.of()
+            Set.of(),
+            null,
+            null,
+            null
         );
 
         when(videoGateway.findAll(any())).thenThrow(new IllegalStateException(expectedErrorMessage));
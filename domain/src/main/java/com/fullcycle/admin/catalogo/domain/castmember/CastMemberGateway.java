@@ -10,10 +10,14 @@ public interface CastMemberGateway {
 
     CastMember create(CastMember aCastMember);
 
+    List<CastMember> createAll(List<CastMember> castMembers);
+
     CastMember update(CastMember aCastMember);
 
     void deleteById(CastMemberID anID);
 
+    int deleteAllById(Iterable<CastMemberID> ids);
+
     Optional<CastMember> findById(CastMemberID anID);
 
     Pagination<CastMember> findAll(SearchQuery aQuery);
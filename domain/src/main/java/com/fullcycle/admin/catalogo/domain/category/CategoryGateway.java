@@ -10,8 +10,12 @@ public interface CategoryGateway {
 
     Category create(Category category);
 
+    List<Category> createAll(List<Category> categories);
+
     void deleteById(CategoryID id);
 
+    int deleteAllById(Iterable<CategoryID> ids);
+
     Optional<Category> findById(CategoryID id);
 
     Category update(Category category);
@@ -10,10 +10,14 @@ public interface GenreGateway {
 
     Genre create(Genre aGenre);
 
+    List<Genre> createAll(List<Genre> genres);
+
     Genre update(Genre aGenre);
 
     void deleteById(GenreID anID);
 
+    int deleteAllById(Iterable<GenreID> ids);
+
     Optional<Genre> findById(GenreID anID);
 
     Pagination<Genre> findAll(SearchQuery aQuery);
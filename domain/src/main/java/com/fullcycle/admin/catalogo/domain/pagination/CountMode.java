@@ -0,0 +1,30 @@
+package com.fullcycle.admin.catalogo.domain.pagination;
+
+import com.fullcycle.admin.catalogo.domain.exceptions.DomainException;
+import com.fullcycle.admin.catalogo.domain.validation.Error;
+
+import java.util.Arrays;
+
+/**
+ * How a list query computes {@link Pagination#total()}: an exact count, a recently cached
+ * count, or no count at all.
+ */
+public enum CountMode {
+    EXACT,
+    ESTIMATE,
+    NONE;
+
+    /**
+     * Parses the {@code count} parameter of the list endpoints, {@code null} leaves the default
+     * of the query.
+     */
+    public static CountMode of(final String value) {
+        if (value == null) {
+            return null;
+        }
+        return Arrays.stream(values())
+            .filter(it -> it.name().equalsIgnoreCase(value))
+            .findFirst()
+            .orElseThrow(() -> DomainException.with(new Error("Count mode %s is not supported".formatted(value))));
+    }
+}
@@ -7,15 +7,25 @@ public record Pagination<T>(
     int currentPage,
     int perPage,
     long total,
-    List<T> items) {
+    List<T> items,
+    String nextCursor) {
 
+    /**
+     * Total reported when the query did not count the matching rows, e.g. on cursor pages.
+     */
+    public static final long UNKNOWN_TOTAL = -1;
+
+    public Pagination(final int currentPage, final int perPage, final long total, final List<T> items) {
+        this(currentPage, perPage, total, items, null);
+    }
 
     public <R> Pagination<R> map(final Function<T, R> mapper) {
         return new Pagination<>(
             currentPage(),
             perPage(),
             total(),
-            this.items.stream().map(mapper).toList()
+            this.items.stream().map(mapper).toList(),
+            nextCursor()
         );
     }
 
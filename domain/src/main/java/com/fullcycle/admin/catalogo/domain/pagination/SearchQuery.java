@@ -1,11 +1,46 @@
 package com.fullcycle.admin.catalogo.domain.pagination;
 
+/**
+ * A null cursor selects offset paging by {@code page}; any other value (empty for the
+ * first page) selects keyset paging starting after the position it encodes.
+ */
 public record SearchQuery(
     int page,
     int perPage,
     String terms,
     String sort,
-    String direction
+    String direction,
+    String cursor,
+    CountMode count
 ) {
 
+    public SearchQuery(final int page, final int perPage, final String terms, final String sort, final String direction) {
+        this(page, perPage, terms, sort, direction, null, null);
+    }
+
+    public SearchQuery(
+        final int page,
+        final int perPage,
+        final String terms,
+        final String sort,
+        final String direction,
+        final String cursor
+    ) {
+        this(page, perPage, terms, sort, direction, cursor, null);
+    }
+
+    public boolean isKeyset() {
+        return cursor != null;
+    }
+
+    /**
+     * Offset pages are counted exactly and cursor pages are not counted, unless requested otherwise.
+     */
+    public CountMode countMode() {
+        if (count != null) {
+            return count;
+        }
+        return isKeyset() ? CountMode.NONE : CountMode.EXACT;
+    }
+
 }
@@ -2,6 +2,11 @@ package com.fullcycle.admin.catalogo.domain.resource;
 
 import com.fullcycle.admin.catalogo.domain.ValueObject;
 
+import java.io.ByteArrayInputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
 import java.util.Arrays;
 import java.util.Objects;
 
@@ -9,26 +14,83 @@ public class Resource extends ValueObject {
 
     private final String checksum;
     private final byte[] content;
+    private final Source source;
+    private final long size;
     private final String contentType;
     private final String name;
 
-    private Resource(final String checksum, final byte[] content, final String contentType, final String name) {
+    private Resource(
+        final String checksum,
+        final byte[] content,
+        final Source source,
+        final long size,
+        final String contentType,
+        final String name
+    ) {
         this.checksum = Objects.requireNonNull(checksum);
-        this.content = Objects.requireNonNull(content);
+        this.content = content;
+        this.source = Objects.requireNonNull(source);
+        this.size = size;
         this.contentType = Objects.requireNonNull(contentType);
         this.name = Objects.requireNonNull(name);
     }
 
     public static Resource with(final String checksum, final byte[] content, final String contentType, final String name) {
-        return new Resource(checksum, content, contentType, name);
+        Objects.requireNonNull(content);
+        return new Resource(checksum, content, new ByteArraySource(content), content.length, contentType, name);
+    }
+
+    /**
+     * Creates a resource whose bytes are only read when {@link #openStream()} is called,
+     * so large media never needs to be fully loaded into the heap.
+     */
+    public static Resource with(
+        final String checksum,
+        final Source source,
+        final long size,
+        final String contentType,
+        final String name
+    ) {
+        return new Resource(checksum, null, source, size, contentType, name);
     }
 
     public String checksum() {
         return checksum;
     }
 
+    /**
+     * Returns the whole content as a byte array, reading the underlying source when the
+     * resource is streamed. Prefer {@link #openStream()} for large media.
+     */
     public byte[] content() {
-        return content;
+        if (content != null) {
+            return content;
+        }
+        try (final var in = openStream()) {
+            return in.readAllBytes();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public InputStream openStream() throws IOException {
+        return source.open();
+    }
+
+    public InputStream openStream(final long offset, final long length) throws IOException {
+        return source.open(offset, length);
+    }
+
+    public Source source() {
+        return source;
+    }
+
+    public boolean isStreamed() {
+        return content == null;
+    }
+
+    public long size() {
+        return size;
     }
 
     public String contentType() {
@@ -45,14 +107,104 @@ public class Resource extends ValueObject {
             return false;
         }
         Resource resource = (Resource) o;
+        final var sameContent = isStreamed() || resource.isStreamed()
+            ? Objects.equals(source, resource.source)
+            : Arrays.equals(content, resource.content);
         return Objects.equals(checksum, resource.checksum) &&
-               Objects.deepEquals(content, resource.content) &&
+               sameContent &&
+               size == resource.size &&
                Objects.equals(contentType, resource.contentType) &&
                Objects.equals(name, resource.name);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(checksum, Arrays.hashCode(content), contentType, name);
+        return Objects.hash(checksum, size, contentType, name);
+    }
+
+    @FunctionalInterface
+    public interface Source {
+
+        InputStream open() throws IOException;
+
+        /**
+         * Opens only the given byte range. Implementations backed by remote storage should
+         * override it to avoid reading the skipped bytes.
+         */
+        default InputStream open(final long offset, final long length) throws IOException {
+            final var in = open();
+            try {
+                in.skipNBytes(offset);
+            } catch (IOException e) {
+                in.close();
+                throw e;
+            }
+            return new BoundedInputStream(in, length);
+        }
+    }
+
+    private record ByteArraySource(byte[] content) implements Source {
+
+        @Override
+        public InputStream open() {
+            return new ByteArrayInputStream(content);
+        }
+
+        @Override
+        public InputStream open(final long offset, final long length) {
+            final var start = (int) Math.min(offset, content.length);
+            return new ByteArrayInputStream(content, start, (int) Math.min(length, content.length - start));
+        }
+    }
+
+    private static final class BoundedInputStream extends FilterInputStream {
+
+        private long remaining;
+
+        private BoundedInputStream(final InputStream in, final long length) {
+            super(in);
+            this.remaining = length;
+        }
+
+        @Override
+        public int read() throws IOException {
+            if (remaining <= 0) {
+                return -1;
+            }
+            final var b = super.read();
+            if (b != -1) {
+                remaining--;
+            }
+            return b;
+        }
+
+        @Override
+        public int read(final byte[] b, final int off, final int len) throws IOException {
+            if (remaining <= 0) {
+                return -1;
+            }
+            final var read = super.read(b, off, (int) Math.min(len, remaining));
+            if (read != -1) {
+                remaining -= read;
+            }
+            return read;
+        }
+
+        @Override
+        public long skip(final long n) throws IOException {
+            final var skipped = super.skip(Math.min(n, remaining));
+            remaining -= skipped;
+            return skipped;
+        }
+
+        @Override
+        public int available() throws IOException {
+            return (int) Math.min(super.available(), remaining);
+        }
+
+        @Override
+        public boolean markSupported() {
+            return false;
+        }
     }
 }
@@ -1,5 +1,14 @@
 package com.fullcycle.admin.catalogo.domain.video;
 
+import java.util.Arrays;
+import java.util.Optional;
+
 public enum MediaStatus {
     PENDING, PROCESSING, COMPLETED;
+
+    public static Optional<MediaStatus> of(final String value) {
+        return Arrays.stream(values())
+            .filter(it -> it.name().equalsIgnoreCase(value))
+            .findFirst();
+    }
 }
@@ -0,0 +1,21 @@
+package com.fullcycle.admin.catalogo.domain.video;
+
+import java.util.Objects;
+
+/**
+ * Moves the video or trailer media {@code resourceId} of a video to {@code status}. A null
+ * {@code encodedPath} keeps the current one.
+ */
+public record MediaStatusUpdate(
+    VideoID videoId,
+    String resourceId,
+    MediaStatus status,
+    String encodedPath
+) {
+
+    public MediaStatusUpdate {
+        Objects.requireNonNull(videoId);
+        Objects.requireNonNull(resourceId);
+        Objects.requireNonNull(status);
+    }
+}
@@ -0,0 +1,16 @@
+package com.fullcycle.admin.catalogo.domain.video;
+
+import java.util.Map;
+
+/**
+ * Number of videos matching a search per category, genre, cast member and rating, keyed by
+ * their ids and by the rating name. Values without any matching video are left out.
+ */
+public record VideoFacets(
+    Map<String, Long> categories,
+    Map<String, Long> genres,
+    Map<String, Long> castMembers,
+    Map<String, Long> ratings
+) {
+
+}
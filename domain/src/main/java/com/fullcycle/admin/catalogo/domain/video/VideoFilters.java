@@ -0,0 +1,32 @@
+package com.fullcycle.admin.catalogo.domain.video;
+
+import java.time.Year;
+import java.util.Set;
+
+/**
+ * The filters of a {@link VideoSearchQuery} on the video itself. Null or empty filters match
+ * every video. {@code launchedFrom} and {@code launchedTo} are inclusive and
+ * {@code mediaStatus} is the status of the video media, not of the trailer.
+ */
+public record VideoFilters(
+    Boolean published,
+    Set<Rating> ratings,
+    Year launchedFrom,
+    Year launchedTo,
+    MediaStatus mediaStatus
+) {
+
+    private static final VideoFilters NONE = new VideoFilters(null, null, null, null, null);
+
+    public static VideoFilters none() {
+        return NONE;
+    }
+
+    public boolean isEmpty() {
+        return published == null
+            && (ratings == null || ratings.isEmpty())
+            && launchedFrom == null
+            && launchedTo == null
+            && mediaStatus == null;
+    }
+}
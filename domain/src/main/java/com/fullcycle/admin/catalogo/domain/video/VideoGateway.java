@@ -3,18 +3,59 @@ package com.fullcycle.admin.catalogo.domain.video;
 import com.fullcycle.admin.catalogo.domain.pagination.Pagination;
 import com.fullcycle.admin.catalogo.domain.pagination.SearchQuery;
 
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 public interface VideoGateway {
 
     Video create(Video aVideo);
 
+    /**
+     * Creates the videos in a single transaction, publishing the events of each one.
+     */
+    List<Video> createAll(List<Video> videos);
+
     void deleteById(VideoID videoID);
 
+    /**
+     * Deletes the videos without loading them, along with their relations and media rows.
+     *
+     * @return the number of deleted videos
+     */
+    int deleteAllById(Iterable<VideoID> ids);
+
     Optional<Video> findById(VideoID videoID);
 
+    boolean existsById(VideoID videoID);
+
+    List<Video> findAllById(Set<VideoID> ids);
+
     Pagination<VideoPreview> findAll(VideoSearchQuery aQuery);
 
+    /**
+     * Counts the videos matching the filters of the query, ignoring its paging and sorting.
+     */
+    VideoFacets findFacets(VideoSearchQuery aQuery);
+
     Video update(Video aVideo);
 
+    List<Video> updateAll(List<Video> videos);
+
+    /**
+     * Moves the status of the video or trailer media identified by {@code resourceId} forward,
+     * without loading the aggregate. A null {@code encodedPath} keeps the current one.
+     *
+     * @return false when the media does not belong to the video or is already at, or past, the given status
+     */
+    boolean updateMediaStatus(VideoID videoId, String resourceId, MediaStatus status, String encodedPath);
+
+    /**
+     * Applies the updates as {@link #updateMediaStatus} does, in order and in a single
+     * transaction, so later results of the same media never move it back.
+     *
+     * @return the ids of the videos that had at least one media moved forward
+     */
+    Set<VideoID> updateAllMediaStatus(List<MediaStatusUpdate> updates);
+
 }
@@ -3,9 +3,13 @@ package com.fullcycle.admin.catalogo.domain.video;
 import com.fullcycle.admin.catalogo.domain.castmember.CastMemberID;
 import com.fullcycle.admin.catalogo.domain.category.CategoryID;
 import com.fullcycle.admin.catalogo.domain.genre.GenreID;
+import com.fullcycle.admin.catalogo.domain.pagination.CountMode;
 
 import java.util.Set;
 
+/**
+ * Null or empty relation filters match every video, as null {@code filters} do.
+ */
 public record VideoSearchQuery(
     int page,
     int perPage,
@@ -14,7 +18,27 @@ public record VideoSearchQuery(
     String direction,
     Set<CastMemberID> castMembers,
     Set<CategoryID> categories,
-    Set<GenreID> genres
+    Set<GenreID> genres,
+    String cursor,
+    CountMode count,
+    VideoFilters filters
 ) {
 
+    public VideoSearchQuery {
+        if (filters == null) {
+            filters = VideoFilters.none();
+        }
+    }
+
+    public boolean isKeyset() {
+        return cursor != null;
+    }
+
+    public CountMode countMode() {
+        if (count != null) {
+            return count;
+        }
+        return isKeyset() ? CountMode.NONE : CountMode.EXACT;
+    }
+
 }
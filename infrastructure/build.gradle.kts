@@ -35,6 +35,7 @@ dependencies {
 
     implementation("com.google.cloud:google-cloud-storage:2.59.0")
     implementation("com.google.guava:guava:33.5.0-jre")
+    implementation("org.roaringbitmap:RoaringBitmap:1.3.0")
 
     implementation("com.mysql:mysql-connector-j:8.0.33") // <-- Isso é para a sua aplicação
     implementation("org.springdoc:springdoc-openapi-webmvc-core:1.8.0")
@@ -46,6 +47,7 @@ dependencies {
     implementation("org.springframework.boot:spring-boot-starter-undertow")
     implementation("org.springframework.boot:spring-boot-starter-data-jpa")
     implementation("org.springframework.boot:spring-boot-starter-amqp")
+    implementation("org.springframework.boot:spring-boot-starter-actuator")
     implementation("org.springframework.boot:spring-boot-starter-security")
     implementation("org.springframework.boot:spring-boot-starter-oauth2-resource-server")
 
@@ -1,11 +1,14 @@
 package com.fullcycle.admin.catalogo.infrastructure;
 
 import com.fullcycle.admin.catalogo.infrastructure.configuration.WebServerConfig;
+import com.fullcycle.admin.catalogo.infrastructure.configuration.persistence.SliceJpaRepository;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.core.env.AbstractEnvironment;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
 
 @SpringBootApplication
+@EnableJpaRepositories(repositoryBaseClass = SliceJpaRepository.class)
 public class Main {
 
     public static void main(String[] args) {
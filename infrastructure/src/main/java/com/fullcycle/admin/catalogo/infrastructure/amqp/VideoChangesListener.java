@@ -0,0 +1,45 @@
+package com.fullcycle.admin.catalogo.infrastructure.amqp;
+
+import com.fullcycle.admin.catalogo.domain.video.VideoID;
+import com.fullcycle.admin.catalogo.infrastructure.configuration.json.Json;
+import com.fullcycle.admin.catalogo.infrastructure.video.VideoDetailCache;
+import com.fullcycle.admin.catalogo.infrastructure.video.VideoRelationIndexLoader;
+import com.fullcycle.admin.catalogo.infrastructure.video.models.VideoChanged;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.messaging.handler.annotation.Payload;
+import org.springframework.stereotype.Component;
+
+import java.util.Objects;
+
+import static com.fullcycle.admin.catalogo.domain.utils.CollectionUtils.mapTo;
+
+/**
+ * Applies the video writes of every instance, this one included, to the local detail cache and
+ * relation index. Each instance consumes its own queue, so every one of them gets every change.
+ */
+@Component
+@ConditionalOnProperty(name = "amqp.queues.video-changes.enabled", havingValue = "true", matchIfMissing = true)
+public class VideoChangesListener {
+
+    public static final String LISTENER_ID = "videoChangesListener";
+
+    private final VideoDetailCache videoDetailCache;
+    private final VideoRelationIndexLoader videoRelationIndexLoader;
+
+    public VideoChangesListener(
+        final VideoDetailCache videoDetailCache,
+        final VideoRelationIndexLoader videoRelationIndexLoader
+    ) {
+        this.videoDetailCache = Objects.requireNonNull(videoDetailCache);
+        this.videoRelationIndexLoader = Objects.requireNonNull(videoRelationIndexLoader);
+    }
+
+    @RabbitListener(id = LISTENER_ID, queues = "#{@videoChangesQueue.name}")
+    public void onVideoChangedMessage(@Payload final String message) {
+        final var aChange = Json.readValue(message, VideoChanged.class);
+        final var ids = mapTo(aChange.videoIds(), VideoID::from);
+        this.videoDetailCache.invalidate(ids);
+        this.videoRelationIndexLoader.refresh(ids);
+    }
+}
@@ -0,0 +1,43 @@
+package com.fullcycle.admin.catalogo.infrastructure.amqp;
+
+import com.fullcycle.admin.catalogo.application.video.media.update.UpdateMediaStatusBatchUseCase;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.messaging.handler.annotation.Payload;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+@Component
+@ConditionalOnProperty(name = "amqp.queues.video-encoded.batch-enabled", havingValue = "true")
+public class VideoEncoderBatchListener {
+
+    private static final Logger log = LoggerFactory.getLogger(VideoEncoderBatchListener.class);
+
+    public static final String LISTENER_ID = "videoEncoderBatchListener";
+
+    private final UpdateMediaStatusBatchUseCase updateMediaStatusBatchUseCase;
+
+    public VideoEncoderBatchListener(final UpdateMediaStatusBatchUseCase updateMediaStatusBatchUseCase) {
+        this.updateMediaStatusBatchUseCase = Objects.requireNonNull(updateMediaStatusBatchUseCase);
+    }
+
+    @RabbitListener(
+        id = LISTENER_ID,
+        queues = "${amqp.queues.video-encoded.queue}",
+        containerFactory = "videoEncodedListenerContainerFactory"
+    )
+    public void onVideoEncodedMessages(@Payload final List<String> messages) {
+        final var commands = messages.stream()
+            .map(VideoEncoderListener::commandOf)
+            .flatMap(Optional::stream)
+            .toList();
+
+        log.info("[message:video.listener.batch] [status:completed] [messages: {}] [updates: {}]", messages.size(), commands.size());
+        this.updateMediaStatusBatchUseCase.execute(commands);
+    }
+}
@@ -10,12 +10,15 @@ import com.fullcycle.admin.catalogo.infrastructure.video.models.VideoEncoderResu
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.messaging.handler.annotation.Payload;
 import org.springframework.stereotype.Component;
 
 import java.util.Objects;
+import java.util.Optional;
 
 @Component
+@ConditionalOnProperty(name = "amqp.queues.video-encoded.batch-enabled", havingValue = "false", matchIfMissing = true)
 public class VideoEncoderListener {
 
     private static final Logger log = LoggerFactory.getLogger(VideoEncoderListener.class);
@@ -30,23 +33,29 @@ public class VideoEncoderListener {
 
     @RabbitListener(id = LISTENER_ID, queues = "${amqp.queues.video-encoded.queue}")
     public void onVideoEncodedMessage(@Payload final String message) {
+        commandOf(message).ifPresent(this.updateMediaStatusUseCase::execute);
+    }
+
+    /**
+     * Translates an encoder result into a status update, logging and skipping errors.
+     */
+    static Optional<UpdateMediaStatusCommand> commandOf(final String message) {
         log.info("[message:video.listener.income] [status:completed] [payload: {}]", message);
         final var aResult = Json.readValue(message, VideoEncoderResult.class);
 
         if (aResult instanceof VideoEncoderCompleted dto) {
-            final var aCmd = new UpdateMediaStatusCommand(
+            return Optional.of(new UpdateMediaStatusCommand(
                 MediaStatus.COMPLETED,
                 dto.id(),
                 dto.video().resourceId(),
                 dto.video().encodedVideoFolder(),
                 dto.video().filePath()
-            );
-
-            this.updateMediaStatusUseCase.execute(aCmd);
+            ));
         } else if (aResult instanceof VideoEncoderError) {
             log.error("[message:video.listener.income] [status:error] [payload: {}]", message);
         } else {
             log.error("[message:video.listener.income] [status:unknown] [payload: {}]", message);
         }
+        return Optional.empty();
     }
 }
@@ -1,6 +1,7 @@
 package com.fullcycle.admin.catalogo.infrastructure.api;
 
 import com.fullcycle.admin.catalogo.domain.pagination.Pagination;
+import com.fullcycle.admin.catalogo.infrastructure.api.models.BatchItemResponse;
 import com.fullcycle.admin.catalogo.infrastructure.castmember.models.CastMemberListResponse;
 import com.fullcycle.admin.catalogo.infrastructure.castmember.models.CastMemberResponse;
 import com.fullcycle.admin.catalogo.infrastructure.castmember.models.CreateCastMemberRequest;
@@ -20,6 +21,9 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.util.List;
 
 @RequestMapping(value = "cast_members")
 @Tag(name = "Cast Members", description = "Cast members management API")
@@ -38,6 +42,18 @@ public interface CastMemberAPI {
     )
     ResponseEntity<?> create(@RequestBody CreateCastMemberRequest input);
 
+    @PostMapping(
+        value = "bulk",
+        consumes = MediaType.APPLICATION_JSON_VALUE,
+        produces = MediaType.APPLICATION_JSON_VALUE
+    )
+    @Operation(summary = "Create many cast members at once")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Processed, every item reports its id or its errors"),
+        @ApiResponse(responseCode = "500", description = "Internal Server Error")
+    })
+    List<BatchItemResponse> createBatch(@RequestBody List<CreateCastMemberRequest> input);
+
     @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
     @Operation(summary = "List Cast Members")
     @ApiResponses(value = {
@@ -50,7 +66,20 @@ public interface CastMemberAPI {
         @RequestParam(name = "page", required = false, defaultValue = "0") int page,
         @RequestParam(name = "perPage", required = false, defaultValue = "10") int perPage,
         @RequestParam(name = "sort", required = false, defaultValue = "name") String sort,
-        @RequestParam(name = "dir", required = false, defaultValue = "asc") String direction
+        @RequestParam(name = "dir", required = false, defaultValue = "asc") String direction,
+        @RequestParam(name = "cursor", required = false) String cursor,
+        @RequestParam(name = "count", required = false) String count
+    );
+
+    @GetMapping(value = "export")
+    @Operation(summary = "Export all cast members as NDJSON or CSV")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Exported successfully"),
+        @ApiResponse(responseCode = "422", description = "A invalid format was provided"),
+        @ApiResponse(responseCode = "500", description = "Internal Server Error")
+    })
+    ResponseEntity<StreamingResponseBody> exportCastMembers(
+        @RequestParam(name = "format", required = false, defaultValue = "ndjson") String format
     );
 
     @GetMapping(value = "{id}", produces = MediaType.APPLICATION_JSON_VALUE)
@@ -1,6 +1,7 @@
 package com.fullcycle.admin.catalogo.infrastructure.api;
 
 import com.fullcycle.admin.catalogo.domain.pagination.Pagination;
+import com.fullcycle.admin.catalogo.infrastructure.api.models.BatchItemResponse;
 import com.fullcycle.admin.catalogo.infrastructure.category.models.CategoryResponse;
 import com.fullcycle.admin.catalogo.infrastructure.category.models.CreateCategoryRequest;
 import com.fullcycle.admin.catalogo.infrastructure.category.models.UpdateCategoryRequest;
@@ -20,6 +21,9 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.util.List;
 
 @RequestMapping(value = "categories")
 @Tag(name = "Categories", description = "Category management API")
@@ -39,6 +43,18 @@ public interface CategoryAPI {
     )
     ResponseEntity<?> createCategory(@RequestBody CreateCategoryRequest input);
 
+    @PostMapping(
+        value = "bulk",
+        consumes = MediaType.APPLICATION_JSON_VALUE,
+        produces = MediaType.APPLICATION_JSON_VALUE
+    )
+    @Operation(summary = "Create many categories at once")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Processed, every item reports its id or its errors"),
+        @ApiResponse(responseCode = "500", description = "Internal Server Error")
+    })
+    List<BatchItemResponse> createCategories(@RequestBody List<CreateCategoryRequest> input);
+
     @GetMapping(
         produces = MediaType.APPLICATION_JSON_VALUE
     )
@@ -53,7 +69,20 @@ public interface CategoryAPI {
         @RequestParam(name = "page", required = false, defaultValue = "0") int page,
         @RequestParam(name = "perPage", required = false, defaultValue = "10") int perPage,
         @RequestParam(name = "sort", required = false, defaultValue = "name") String sort,
-        @RequestParam(name = "dir", required = false, defaultValue = "asc") String direction
+        @RequestParam(name = "dir", required = false, defaultValue = "asc") String direction,
+        @RequestParam(name = "cursor", required = false) String cursor,
+        @RequestParam(name = "count", required = false) String count
+    );
+
+    @GetMapping(value = "export")
+    @Operation(summary = "Export all categories as NDJSON or CSV")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Exported successfully"),
+        @ApiResponse(responseCode = "422", description = "A invalid format was provided"),
+        @ApiResponse(responseCode = "500", description = "Internal Server Error")
+    })
+    ResponseEntity<StreamingResponseBody> exportCategories(
+        @RequestParam(name = "format", required = false, defaultValue = "ndjson") String format
     );
 
     @GetMapping(value = "{id}",
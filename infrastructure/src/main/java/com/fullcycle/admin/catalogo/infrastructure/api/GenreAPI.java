@@ -1,6 +1,7 @@
 package com.fullcycle.admin.catalogo.infrastructure.api;
 
 import com.fullcycle.admin.catalogo.domain.pagination.Pagination;
+import com.fullcycle.admin.catalogo.infrastructure.api.models.BatchItemResponse;
 import com.fullcycle.admin.catalogo.infrastructure.genre.models.CreateGenreRequest;
 import com.fullcycle.admin.catalogo.infrastructure.genre.models.GenreListResponse;
 import com.fullcycle.admin.catalogo.infrastructure.genre.models.GenreResponse;
@@ -21,6 +22,9 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.util.List;
 
 @RequestMapping(value = "genres")
 @Tag(name = "Genre")
@@ -39,6 +43,18 @@ public interface GenreAPI {
     )
     ResponseEntity<?> create(@RequestBody CreateGenreRequest input);
 
+    @PostMapping(
+        value = "bulk",
+        consumes = MediaType.APPLICATION_JSON_VALUE,
+        produces = MediaType.APPLICATION_JSON_VALUE
+    )
+    @Operation(summary = "Create many genres at once")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Processed, every item reports its id or its errors"),
+        @ApiResponse(responseCode = "500", description = "Internal Server Error")
+    })
+    List<BatchItemResponse> createBatch(@RequestBody List<CreateGenreRequest> input);
+
     @GetMapping(
         produces = MediaType.APPLICATION_JSON_VALUE
     )
@@ -53,7 +69,20 @@ public interface GenreAPI {
         @RequestParam(name = "page", required = false, defaultValue = "0") int page,
         @RequestParam(name = "perPage", required = false, defaultValue = "10") int perPage,
         @RequestParam(name = "sort", required = false, defaultValue = "name") String sort,
-        @RequestParam(name = "dir", required = false, defaultValue = "asc") String direction
+        @RequestParam(name = "dir", required = false, defaultValue = "asc") String direction,
+        @RequestParam(name = "cursor", required = false) String cursor,
+        @RequestParam(name = "count", required = false) String count
+    );
+
+    @GetMapping(value = "export")
+    @Operation(summary = "Export all genres as NDJSON or CSV")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Exported successfully"),
+        @ApiResponse(responseCode = "422", description = "A invalid format was provided"),
+        @ApiResponse(responseCode = "500", description = "Internal Server Error")
+    })
+    ResponseEntity<StreamingResponseBody> exportGenres(
+        @RequestParam(name = "format", required = false, defaultValue = "ndjson") String format
     );
 
     @GetMapping(value = "{id}",
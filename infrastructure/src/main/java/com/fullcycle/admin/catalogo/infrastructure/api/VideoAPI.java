@@ -1,14 +1,18 @@
 package com.fullcycle.admin.catalogo.infrastructure.api;
 
 import com.fullcycle.admin.catalogo.domain.pagination.Pagination;
+import com.fullcycle.admin.catalogo.infrastructure.api.models.BatchItemResponse;
 import com.fullcycle.admin.catalogo.infrastructure.video.models.CreateVideoRequest;
 import com.fullcycle.admin.catalogo.infrastructure.video.models.UpdateVideoRequest;
+import com.fullcycle.admin.catalogo.infrastructure.video.models.VideoFacetsResponse;
 import com.fullcycle.admin.catalogo.infrastructure.video.models.VideoResponse;
 import com.fullcycle.admin.catalogo.infrastructure.video.models.VideosListResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.core.io.InputStreamResource;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -18,11 +22,14 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.InputStream;
 import java.util.Set;
 
 @RequestMapping(value = "videos")
@@ -69,6 +76,18 @@ public interface VideoAPI {
     })
     ResponseEntity<?> createPart(@RequestBody CreateVideoRequest createVideoRequest);
 
+    @PostMapping(
+        value = "import",
+        consumes = MediaType.APPLICATION_NDJSON_VALUE,
+        produces = MediaType.APPLICATION_NDJSON_VALUE
+    )
+    @Operation(summary = "Import videos without medias, one JSON record per line")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Streamed one BatchItemResponse line per record"),
+        @ApiResponse(responseCode = "500", description = "Internal Server Error")
+    })
+    ResponseEntity<StreamingResponseBody> importVideos(InputStream body);
+
     @Operation(summary = "Return video by id")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Return video successfully"),
@@ -121,19 +140,61 @@ public interface VideoAPI {
         @RequestParam(name = "dir", required = false, defaultValue = "asc") String direction,
         @RequestParam(name = "cast_members_ids", required = false, defaultValue = "") Set<String> castMembers,
         @RequestParam(name = "categories_ids", required = false, defaultValue = "") Set<String> categories,
-        @RequestParam(name = "genres_ids", required = false, defaultValue = "") Set<String> genres
+        @RequestParam(name = "genres_ids", required = false, defaultValue = "") Set<String> genres,
+        @RequestParam(name = "cursor", required = false) String cursor,
+        @RequestParam(name = "count", required = false) String count,
+        @RequestParam(name = "published", required = false) Boolean published,
+        @RequestParam(name = "ratings", required = false, defaultValue = "") Set<String> ratings,
+        @RequestParam(name = "year_from", required = false) Integer yearFrom,
+        @RequestParam(name = "year_to", required = false) Integer yearTo,
+        @RequestParam(name = "media_status", required = false) String mediaStatus
+    );
+
+    @GetMapping(value = "facets", produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "Count the videos matching the filters per category, genre, cast member and rating")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Facets counted"),
+        @ApiResponse(responseCode = "422", description = "Invalid query params"),
+        @ApiResponse(responseCode = "500", description = "Internal Server Error")
+    })
+    VideoFacetsResponse listVideoFacets(
+        @RequestParam(name = "search", required = false, defaultValue = "") String search,
+        @RequestParam(name = "cast_members_ids", required = false, defaultValue = "") Set<String> castMembers,
+        @RequestParam(name = "categories_ids", required = false, defaultValue = "") Set<String> categories,
+        @RequestParam(name = "genres_ids", required = false, defaultValue = "") Set<String> genres,
+        @RequestParam(name = "published", required = false) Boolean published,
+        @RequestParam(name = "ratings", required = false, defaultValue = "") Set<String> ratings,
+        @RequestParam(name = "year_from", required = false) Integer yearFrom,
+        @RequestParam(name = "year_to", required = false) Integer yearTo,
+        @RequestParam(name = "media_status", required = false) String mediaStatus
+    );
+
+    @GetMapping(value = "export")
+    @Operation(summary = "Export all videos as NDJSON or CSV")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Exported successfully"),
+        @ApiResponse(responseCode = "422", description = "A invalid format was provided"),
+        @ApiResponse(responseCode = "500", description = "Internal Server Error")
+    })
+    ResponseEntity<StreamingResponseBody> exportVideos(
+        @RequestParam(name = "format", required = false, defaultValue = "ndjson") String format
     );
 
     @GetMapping(value = "{id}/media/{type}")
     @Operation(summary = "Get video by media by it's type")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Media retrieved successfully"),
+        @ApiResponse(responseCode = "206", description = "Requested range of the media retrieved successfully"),
+        @ApiResponse(responseCode = "304", description = "Media was not modified"),
         @ApiResponse(responseCode = "404", description = "Media was not found"),
+        @ApiResponse(responseCode = "416", description = "Requested range not satisfiable"),
         @ApiResponse(responseCode = "500", description = "Internal Server Error")
     })
-    ResponseEntity<byte[]> getMediaByType(
+    ResponseEntity<InputStreamResource> getMediaByType(
         @PathVariable("id") String anId,
-        @PathVariable("type") String type
+        @PathVariable("type") String type,
+        @RequestHeader(name = HttpHeaders.RANGE, required = false) String range,
+        @RequestHeader(name = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch
     );
 
     @PostMapping(value = "{id}/medias/{type}")
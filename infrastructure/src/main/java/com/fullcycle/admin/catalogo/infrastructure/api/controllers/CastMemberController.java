@@ -1,46 +1,61 @@
 package com.fullcycle.admin.catalogo.infrastructure.api.controllers;
 
+import com.fullcycle.admin.catalogo.application.castmember.create.CreateCastMemberBatchUseCase;
 import com.fullcycle.admin.catalogo.application.castmember.create.CreateCastMemberCommand;
+import com.fullcycle.admin.catalogo.application.castmember.create.CreateCastMemberOutput;
 import com.fullcycle.admin.catalogo.application.castmember.create.CreateCastMemberUseCase;
 import com.fullcycle.admin.catalogo.application.castmember.delete.DeleteCastMemberUseCase;
 import com.fullcycle.admin.catalogo.application.castmember.retrieve.get.GetCastMemberByIdUseCase;
 import com.fullcycle.admin.catalogo.application.castmember.retrieve.list.ListCastMembersUseCase;
 import com.fullcycle.admin.catalogo.application.castmember.update.UpdateCastMemberCommand;
 import com.fullcycle.admin.catalogo.application.castmember.update.UpdateCastMemberUseCase;
+import com.fullcycle.admin.catalogo.domain.pagination.CountMode;
 import com.fullcycle.admin.catalogo.domain.pagination.Pagination;
 import com.fullcycle.admin.catalogo.domain.pagination.SearchQuery;
 import com.fullcycle.admin.catalogo.infrastructure.api.CastMemberAPI;
+import com.fullcycle.admin.catalogo.infrastructure.api.models.BatchItemResponse;
 import com.fullcycle.admin.catalogo.infrastructure.castmember.models.CastMemberListResponse;
 import com.fullcycle.admin.catalogo.infrastructure.castmember.models.CastMemberResponse;
 import com.fullcycle.admin.catalogo.infrastructure.castmember.models.CreateCastMemberRequest;
 import com.fullcycle.admin.catalogo.infrastructure.castmember.presenters.CastMemberApiPresenter;
+import com.fullcycle.admin.catalogo.infrastructure.export.CatalogExporter;
+import com.fullcycle.admin.catalogo.infrastructure.export.ExportResponse;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.net.URI;
+import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
 
 @RestController
 public class CastMemberController implements CastMemberAPI {
 
     private final CreateCastMemberUseCase createCastMemberUseCase;
+    private final CreateCastMemberBatchUseCase createCastMemberBatchUseCase;
     private final GetCastMemberByIdUseCase getCastMemberByIdUseCase;
     private final UpdateCastMemberUseCase updateCastMemberUseCase;
     private final DeleteCastMemberUseCase deleteCastMemberUseCase;
     private final ListCastMembersUseCase listCastMembersUseCase;
+    private final CatalogExporter catalogExporter;
 
     public CastMemberController(
         final CreateCastMemberUseCase createCastMemberUseCase,
+        final CreateCastMemberBatchUseCase createCastMemberBatchUseCase,
         final GetCastMemberByIdUseCase getCastMemberByIdUseCase,
         final UpdateCastMemberUseCase updateCastMemberUseCase,
         final DeleteCastMemberUseCase deleteCastMemberUseCase,
-        final ListCastMembersUseCase listCastMembersUseCase
+        final ListCastMembersUseCase listCastMembersUseCase,
+        final CatalogExporter catalogExporter
     ) {
         this.createCastMemberUseCase = Objects.requireNonNull(createCastMemberUseCase);
+        this.createCastMemberBatchUseCase = Objects.requireNonNull(createCastMemberBatchUseCase);
         this.getCastMemberByIdUseCase = Objects.requireNonNull(getCastMemberByIdUseCase);
         this.updateCastMemberUseCase = Objects.requireNonNull(updateCastMemberUseCase);
         this.deleteCastMemberUseCase = Objects.requireNonNull(deleteCastMemberUseCase);
         this.listCastMembersUseCase = Objects.requireNonNull(listCastMembersUseCase);
+        this.catalogExporter = Objects.requireNonNull(catalogExporter);
     }
 
     @Override
@@ -50,19 +65,35 @@ public class CastMemberController implements CastMemberAPI {
         return ResponseEntity.created(URI.create("/cast_members/" + output.id())).body(output);
     }
 
+    @Override
+    public List<BatchItemResponse> createBatch(final List<CreateCastMemberRequest> input) {
+        final var commands = input.stream()
+            .map(it -> CreateCastMemberCommand.with(it.name(), it.type()))
+            .toList();
+        return BatchItemResponse.from(this.createCastMemberBatchUseCase.execute(commands), CreateCastMemberOutput::id);
+    }
+
     @Override
     public Pagination<CastMemberListResponse> list(
         final String search,
         final int page,
         final int perPage,
         final String sort,
-        final String direction
+        final String direction,
+        final String cursor,
+        final String count
     ) {
-        return this.listCastMembersUseCase.execute(new SearchQuery(page, perPage, search, sort, direction)).map(
+        final var aCount = CountMode.of(count);
+        return this.listCastMembersUseCase.execute(new SearchQuery(page, perPage, search, sort, direction, cursor, aCount)).map(
             CastMemberApiPresenter::present
         );
     }
 
+    @Override
+    public ResponseEntity<StreamingResponseBody> exportCastMembers(final String format) {
+        return ExportResponse.of(format, "cast_members", this.catalogExporter::exportCastMembers);
+    }
+
     @Override
     public CastMemberResponse getById(String id) {
         return CastMemberApiPresenter.present(this.getCastMemberByIdUseCase.execute(id));
@@ -1,5 +1,6 @@
 package com.fullcycle.admin.catalogo.infrastructure.api.controllers;
 
+import com.fullcycle.admin.catalogo.application.category.create.CreateCategoryBatchUseCase;
 import com.fullcycle.admin.catalogo.application.category.create.CreateCategoryCommand;
 import com.fullcycle.admin.catalogo.application.category.create.CreateCategoryOutput;
 import com.fullcycle.admin.catalogo.application.category.create.CreateCategoryUseCase;
@@ -9,18 +10,24 @@ import com.fullcycle.admin.catalogo.application.category.retrieve.list.ListCateg
 import com.fullcycle.admin.catalogo.application.category.update.UpdateCategoryCommand;
 import com.fullcycle.admin.catalogo.application.category.update.UpdateCategoryOutput;
 import com.fullcycle.admin.catalogo.application.category.update.UpdateCategoryUseCase;
+import com.fullcycle.admin.catalogo.domain.pagination.CountMode;
 import com.fullcycle.admin.catalogo.domain.pagination.SearchQuery;
 import com.fullcycle.admin.catalogo.domain.pagination.Pagination;
 import com.fullcycle.admin.catalogo.domain.validation.handler.Notification;
 import com.fullcycle.admin.catalogo.infrastructure.api.CategoryAPI;
+import com.fullcycle.admin.catalogo.infrastructure.api.models.BatchItemResponse;
 import com.fullcycle.admin.catalogo.infrastructure.category.models.CategoryResponse;
 import com.fullcycle.admin.catalogo.infrastructure.category.models.CreateCategoryRequest;
 import com.fullcycle.admin.catalogo.infrastructure.category.models.UpdateCategoryRequest;
 import com.fullcycle.admin.catalogo.infrastructure.category.presenters.CategoryApiPresenter;
+import com.fullcycle.admin.catalogo.infrastructure.export.CatalogExporter;
+import com.fullcycle.admin.catalogo.infrastructure.export.ExportResponse;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.net.URI;
+import java.util.List;
 import java.util.Objects;
 import java.util.function.Function;
 
@@ -28,6 +35,7 @@ import java.util.function.Function;
 public class CategoryController implements CategoryAPI {
 
     private final CreateCategoryUseCase createCategoryUseCase;
+    private final CreateCategoryBatchUseCase createCategoryBatchUseCase;
     private final GetCategoryByIdUseCase getCategoryByIdUseCase;
 
     private final UpdateCategoryUseCase updateCategoryUseCase;
@@ -35,19 +43,24 @@ public class CategoryController implements CategoryAPI {
     private final DeleteCategoryUseCase deleteCategoryUseCase;
 
     private final ListCategoriesUseCase listCategoriesUseCase;
+    private final CatalogExporter catalogExporter;
 
     public CategoryController(
         CreateCategoryUseCase createCategoryUseCase,
+        CreateCategoryBatchUseCase createCategoryBatchUseCase,
         GetCategoryByIdUseCase getCategoryByIdUseCase,
         UpdateCategoryUseCase updateCategoryUseCase,
         DeleteCategoryUseCase deleteCategoryUseCase,
-        ListCategoriesUseCase listCategoriesUseCase
+        ListCategoriesUseCase listCategoriesUseCase,
+        CatalogExporter catalogExporter
     ) {
         this.createCategoryUseCase = Objects.requireNonNull(createCategoryUseCase);
+        this.createCategoryBatchUseCase = Objects.requireNonNull(createCategoryBatchUseCase);
         this.getCategoryByIdUseCase = Objects.requireNonNull(getCategoryByIdUseCase);
         this.updateCategoryUseCase = Objects.requireNonNull(updateCategoryUseCase);
         this.deleteCategoryUseCase = Objects.requireNonNull(deleteCategoryUseCase);
         this.listCategoriesUseCase = Objects.requireNonNull(listCategoriesUseCase);
+        this.catalogExporter = Objects.requireNonNull(catalogExporter);
     }
 
     @Override
@@ -68,11 +81,36 @@ public class CategoryController implements CategoryAPI {
     }
 
     @Override
-    public Pagination<?> listCategories(String search, int page, int perPage, String sort, String direction) {
-        return this.listCategoriesUseCase.execute(new SearchQuery(page, perPage, search, sort, direction))
+    public List<BatchItemResponse> createCategories(final List<CreateCategoryRequest> input) {
+        final var commands = input.stream()
+            .map(it -> CreateCategoryCommand.with(it.name(),
+                it.description(),
+                it.active() != null ? it.active() : true))
+            .toList();
+
+        return BatchItemResponse.from(this.createCategoryBatchUseCase.execute(commands), CreateCategoryOutput::id);
+    }
+
+    @Override
+    public Pagination<?> listCategories(
+        String search,
+        int page,
+        int perPage,
+        String sort,
+        String direction,
+        String cursor,
+        String count
+    ) {
+        final var aCount = CountMode.of(count);
+        return this.listCategoriesUseCase.execute(new SearchQuery(page, perPage, search, sort, direction, cursor, aCount))
             .map(CategoryApiPresenter::present);
     }
 
+    @Override
+    public ResponseEntity<StreamingResponseBody> exportCategories(final String format) {
+        return ExportResponse.of(format, "categories", this.catalogExporter::exportCategories);
+    }
+
     @Override
     public CategoryResponse getById(String id) {
         return CategoryApiPresenter.present(this.getCategoryByIdUseCase.execute(id));
@@ -1,15 +1,21 @@
 package com.fullcycle.admin.catalogo.infrastructure.api.controllers;
 
+import com.fullcycle.admin.catalogo.application.genre.create.CreateGenreBatchUseCase;
 import com.fullcycle.admin.catalogo.application.genre.create.CreateGenreCommand;
+import com.fullcycle.admin.catalogo.application.genre.create.CreateGenreOutput;
 import com.fullcycle.admin.catalogo.application.genre.create.CreateGenreUseCase;
 import com.fullcycle.admin.catalogo.application.genre.delete.DeleteGenreUseCase;
 import com.fullcycle.admin.catalogo.application.genre.retrieve.get.GetGenreByIdUseCase;
 import com.fullcycle.admin.catalogo.application.genre.retrieve.list.ListGenreUseCase;
 import com.fullcycle.admin.catalogo.application.genre.update.UpdateGenreCommand;
 import com.fullcycle.admin.catalogo.application.genre.update.UpdateGenreUseCase;
+import com.fullcycle.admin.catalogo.domain.pagination.CountMode;
 import com.fullcycle.admin.catalogo.domain.pagination.Pagination;
 import com.fullcycle.admin.catalogo.domain.pagination.SearchQuery;
 import com.fullcycle.admin.catalogo.infrastructure.api.GenreAPI;
+import com.fullcycle.admin.catalogo.infrastructure.api.models.BatchItemResponse;
+import com.fullcycle.admin.catalogo.infrastructure.export.CatalogExporter;
+import com.fullcycle.admin.catalogo.infrastructure.export.ExportResponse;
 import com.fullcycle.admin.catalogo.infrastructure.genre.models.CreateGenreRequest;
 import com.fullcycle.admin.catalogo.infrastructure.genre.models.GenreListResponse;
 import com.fullcycle.admin.catalogo.infrastructure.genre.models.GenreResponse;
@@ -17,30 +23,39 @@ import com.fullcycle.admin.catalogo.infrastructure.genre.models.UpdateGenreReque
 import com.fullcycle.admin.catalogo.infrastructure.genre.presenters.GenreApiPresenter;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.net.URI;
+import java.util.List;
+import java.util.Optional;
 
 @RestController
 public class GenreController implements GenreAPI {
 
     private final CreateGenreUseCase createGenreUseCase;
+    private final CreateGenreBatchUseCase createGenreBatchUseCase;
     private final GetGenreByIdUseCase getGenreByIdUseCase;
     private final UpdateGenreUseCase updateGenreUseCase;
     private final DeleteGenreUseCase deleteGenreUseCase;
     private final ListGenreUseCase listGenreUseCase;
+    private final CatalogExporter catalogExporter;
 
     public GenreController(
         final CreateGenreUseCase createGenreUseCase,
+        final CreateGenreBatchUseCase createGenreBatchUseCase,
         final GetGenreByIdUseCase getGenreByIdUseCase,
         final UpdateGenreUseCase updateGenreUseCase,
         final DeleteGenreUseCase deleteGenreUseCase,
-        final ListGenreUseCase listGenreUseCase
+        final ListGenreUseCase listGenreUseCase,
+        final CatalogExporter catalogExporter
     ) {
         this.createGenreUseCase = createGenreUseCase;
+        this.createGenreBatchUseCase = createGenreBatchUseCase;
         this.getGenreByIdUseCase = getGenreByIdUseCase;
         this.updateGenreUseCase = updateGenreUseCase;
         this.deleteGenreUseCase = deleteGenreUseCase;
         this.listGenreUseCase = listGenreUseCase;
+        this.catalogExporter = catalogExporter;
     }
 
     @Override
@@ -50,18 +65,35 @@ public class GenreController implements GenreAPI {
         return ResponseEntity.created(URI.create("/genres/" + anOutput.id())).body(anOutput);
     }
 
+    @Override
+    public List<BatchItemResponse> createBatch(final List<CreateGenreRequest> input) {
+        final var commands = input.stream()
+            .map(it -> CreateGenreCommand.with(it.name(), it.isActive(), it.categories()))
+            .toList();
+        return BatchItemResponse.from(this.createGenreBatchUseCase.execute(commands), CreateGenreOutput::id);
+    }
+
     @Override
     public Pagination<GenreListResponse> list(
         final String search,
         final int page,
         final int perPage,
         final String sort,
-        final String direction) {
-        return this.listGenreUseCase.execute(new SearchQuery(page, perPage, search, sort, direction)).map(
+        final String direction,
+        final String cursor,
+        final String count
+    ) {
+        final var aCount = CountMode.of(count);
+        return this.listGenreUseCase.execute(new SearchQuery(page, perPage, search, sort, direction, cursor, aCount)).map(
             GenreApiPresenter::present
         );
     }
 
+    @Override
+    public ResponseEntity<StreamingResponseBody> exportGenres(final String format) {
+        return ExportResponse.of(format, "genres", this.catalogExporter::exportGenres);
+    }
+
     @Override
     public GenreResponse getById(final String id) {
         return GenreApiPresenter.present(this.getGenreByIdUseCase.execute(id));
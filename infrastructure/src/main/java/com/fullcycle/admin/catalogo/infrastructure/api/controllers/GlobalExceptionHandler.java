@@ -3,6 +3,8 @@ package com.fullcycle.admin.catalogo.infrastructure.api.controllers;
 import com.fullcycle.admin.catalogo.domain.exceptions.DomainException;
 import com.fullcycle.admin.catalogo.domain.exceptions.NotFoundException;
 import com.fullcycle.admin.catalogo.domain.validation.Error;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -23,6 +25,25 @@ public class GlobalExceptionHandler {
         return ResponseEntity.unprocessableEntity().body(ApiError.from(ex));
     }
 
+    /**
+     * A write referencing a row deleted meanwhile, e.g. an id another instance still had in
+     * its existence cache, fails on a foreign key. That is the same client error as
+     * referencing an unknown id, so it is not answered as a server error.
+     */
+    @ExceptionHandler(value = DataIntegrityViolationException.class)
+    public ResponseEntity<?> handleDataIntegrityViolationException(DataIntegrityViolationException ex) {
+        if (!isForeignKeyViolation(ex)) {
+            throw ex;
+        }
+        return handleDomainException(DomainException.with(new Error("Some referenced entities could not be found")));
+    }
+
+    private static boolean isForeignKeyViolation(DataIntegrityViolationException ex) {
+        return ex.getCause() instanceof ConstraintViolationException cause
+            && cause.getConstraintName() != null
+            && cause.getConstraintName().toLowerCase().contains("fk_");
+    }
+
     record ApiError(String message, List<Error> errors) {
         static ApiError from(DomainException ex) {
             return new ApiError(ex.getMessage(), ex.getErrors());
@@ -1,72 +1,96 @@
 package com.fullcycle.admin.catalogo.infrastructure.api.controllers;
 
+import com.fullcycle.admin.catalogo.application.video.create.CreateVideoBatchUseCase;
 import com.fullcycle.admin.catalogo.application.video.create.CreateVideoCommand;
+import com.fullcycle.admin.catalogo.application.video.create.CreateVideoOutput;
 import com.fullcycle.admin.catalogo.application.video.create.CreateVideoUseCase;
 import com.fullcycle.admin.catalogo.application.video.delete.DeleteVideoUseCase;
 import com.fullcycle.admin.catalogo.application.video.media.get.GetMediaCommand;
 import com.fullcycle.admin.catalogo.application.video.media.get.GetMediaUseCase;
+import com.fullcycle.admin.catalogo.application.video.media.get.MediaOutput;
 import com.fullcycle.admin.catalogo.application.video.media.upload.UploadMediaCommand;
 import com.fullcycle.admin.catalogo.application.video.media.upload.UploadMediaUseCase;
+import com.fullcycle.admin.catalogo.application.video.retrieve.facets.ListVideoFacetsUseCase;
 import com.fullcycle.admin.catalogo.application.video.retrieve.get.GetVideoByIdUseCase;
 import com.fullcycle.admin.catalogo.application.video.retrieve.list.ListVideosUseCase;
 import com.fullcycle.admin.catalogo.application.video.update.UpdateVideoCommand;
 import com.fullcycle.admin.catalogo.application.video.update.UpdateVideoUseCase;
-import com.fullcycle.admin.catalogo.domain.castmember.CastMemberID;
-import com.fullcycle.admin.catalogo.domain.category.CategoryID;
 import com.fullcycle.admin.catalogo.domain.exceptions.NotificationException;
-import com.fullcycle.admin.catalogo.domain.genre.GenreID;
 import com.fullcycle.admin.catalogo.domain.pagination.Pagination;
 import com.fullcycle.admin.catalogo.domain.resource.Resource;
-import com.fullcycle.admin.catalogo.domain.utils.CollectionUtils;
 import com.fullcycle.admin.catalogo.domain.validation.Error;
-import com.fullcycle.admin.catalogo.domain.validation.handler.Notification;
 import com.fullcycle.admin.catalogo.domain.video.VideoMediaType;
 import com.fullcycle.admin.catalogo.domain.video.VideoResource;
-import com.fullcycle.admin.catalogo.domain.video.VideoSearchQuery;
 import com.fullcycle.admin.catalogo.infrastructure.api.VideoAPI;
+import com.fullcycle.admin.catalogo.infrastructure.api.models.BatchItemResponse;
+import com.fullcycle.admin.catalogo.infrastructure.export.CatalogExporter;
+import com.fullcycle.admin.catalogo.infrastructure.export.ExportResponse;
 import com.fullcycle.admin.catalogo.infrastructure.utils.HashingUtils;
+import com.fullcycle.admin.catalogo.infrastructure.utils.NdjsonUtils;
 import com.fullcycle.admin.catalogo.infrastructure.video.models.CreateVideoRequest;
 import com.fullcycle.admin.catalogo.infrastructure.video.models.UpdateVideoRequest;
+import com.fullcycle.admin.catalogo.infrastructure.video.models.VideoFacetsResponse;
 import com.fullcycle.admin.catalogo.infrastructure.video.models.VideoResponse;
+import com.fullcycle.admin.catalogo.infrastructure.video.models.VideoSearchParams;
 import com.fullcycle.admin.catalogo.infrastructure.video.models.VideosListResponse;
 import com.fullcycle.admin.catalogo.infrastructure.video.presenters.VideoApiPresenter;
+import org.springframework.core.io.InputStreamResource;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
 import java.net.URI;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Objects;
 import java.util.Set;
 
 @RestController
 public class VideoController implements VideoAPI {
 
+    private static final int IMPORT_CHUNK_SIZE = 500;
+
     private final CreateVideoUseCase createVideoUseCase;
+    private final CreateVideoBatchUseCase createVideoBatchUseCase;
     private final GetVideoByIdUseCase getVideoByIdUseCase;
     private final UpdateVideoUseCase updateVideoUseCase;
     private final DeleteVideoUseCase deleteVideoUseCase;
     private final ListVideosUseCase listVideosUseCase;
+    private final ListVideoFacetsUseCase listVideoFacetsUseCase;
     private final GetMediaUseCase getMediaUseCase;
     private final UploadMediaUseCase uploadMediaUseCase;
+    private final CatalogExporter catalogExporter;
 
     public VideoController(
         final CreateVideoUseCase createVideoUseCase,
+        final CreateVideoBatchUseCase createVideoBatchUseCase,
         final GetVideoByIdUseCase getVideoByIdUseCase,
         final UpdateVideoUseCase updateVideoUseCase,
         final DeleteVideoUseCase deleteVideoUseCase,
         final ListVideosUseCase listVideosUseCase,
+        final ListVideoFacetsUseCase listVideoFacetsUseCase,
         final GetMediaUseCase getMediaUseCase,
-        final UploadMediaUseCase uploadMediaUseCase
+        final UploadMediaUseCase uploadMediaUseCase,
+        final CatalogExporter catalogExporter
     ) {
         this.createVideoUseCase = Objects.requireNonNull(createVideoUseCase);
+        this.createVideoBatchUseCase = Objects.requireNonNull(createVideoBatchUseCase);
         this.getVideoByIdUseCase = Objects.requireNonNull(getVideoByIdUseCase);
         this.updateVideoUseCase = Objects.requireNonNull(updateVideoUseCase);
         this.deleteVideoUseCase = Objects.requireNonNull(deleteVideoUseCase);
         this.listVideosUseCase = Objects.requireNonNull(listVideosUseCase);
+        this.listVideoFacetsUseCase = Objects.requireNonNull(listVideoFacetsUseCase);
         this.getMediaUseCase = Objects.requireNonNull(getMediaUseCase);
         this.uploadMediaUseCase = Objects.requireNonNull(uploadMediaUseCase);
+        this.catalogExporter = Objects.requireNonNull(catalogExporter);
     }
 
     @Override
@@ -110,23 +134,59 @@ public class VideoController implements VideoAPI {
 
     @Override
     public ResponseEntity<?> createPart(final CreateVideoRequest createVideoRequest) {
-        final var aCmd = CreateVideoCommand.with(
-            createVideoRequest.title(),
-            createVideoRequest.description(),
-            createVideoRequest.launchYear(),
-            createVideoRequest.duration(),
-            createVideoRequest.rating(),
-            createVideoRequest.opened(),
-            createVideoRequest.published(),
-            createVideoRequest.categoriesId(),
-            createVideoRequest.castMembersId(),
-            createVideoRequest.genresId()
-        );
+        final var aCmd = toCommand(createVideoRequest);
         final var output = this.createVideoUseCase.execute(aCmd);
         return ResponseEntity.created(URI.create("/videos/" + output.id()))
             .body(output);
     }
 
+    /**
+     * Each chunk of records is validated and written in its own transaction, and its results
+     * are flushed before the next chunk is read.
+     */
+    @Override
+    public ResponseEntity<StreamingResponseBody> importVideos(final InputStream body) {
+        final StreamingResponseBody results = out -> NdjsonUtils.readChunks(
+            body,
+            CreateVideoRequest.class,
+            IMPORT_CHUNK_SIZE,
+            lines -> NdjsonUtils.write(out, importChunk(lines))
+        );
+        return ResponseEntity.ok()
+            .contentType(MediaType.APPLICATION_NDJSON)
+            .body(results);
+    }
+
+    private List<BatchItemResponse> importChunk(final List<NdjsonUtils.Line<CreateVideoRequest>> lines) {
+        final var commands = lines.stream()
+            .filter(NdjsonUtils.Line::isValid)
+            .map(it -> toCommand(it.value()))
+            .toList();
+
+        final var created = this.createVideoBatchUseCase.execute(commands).iterator();
+
+        return lines.stream()
+            .map(it -> it.isValid()
+                ? BatchItemResponse.of(it.index(), created.next(), CreateVideoOutput::id)
+                : new BatchItemResponse(it.index(), null, List.of(it.error())))
+            .toList();
+    }
+
+    private static CreateVideoCommand toCommand(final CreateVideoRequest request) {
+        return CreateVideoCommand.with(
+            request.title(),
+            request.description(),
+            request.launchYear(),
+            request.duration(),
+            request.rating(),
+            request.opened(),
+            request.published(),
+            request.categoriesId(),
+            request.castMembersId(),
+            request.genresId()
+        );
+    }
+
     @Override
     public VideoResponse getVideoById(String anId) {
         return VideoApiPresenter.present(this.getVideoByIdUseCase.execute(anId));
@@ -167,24 +227,91 @@ public class VideoController implements VideoAPI {
                                                      final String direction,
                                                      final Set<String> castMembers,
                                                      final Set<String> categories,
-                                                     final Set<String> genres) {
-        final var categoriesIDs = CollectionUtils.mapTo(categories, CategoryID::from);
-        final var genresIDs = CollectionUtils.mapTo(genres, GenreID::from);
-        final var castMembersIDs = CollectionUtils.mapTo(castMembers, CastMemberID::from);
-        final var aQuery = new VideoSearchQuery(page, perPage, search, sort, direction, castMembersIDs, categoriesIDs, genresIDs);
+                                                     final Set<String> genres,
+                                                     final String cursor,
+                                                     final String count,
+                                                     final Boolean published,
+                                                     final Set<String> ratings,
+                                                     final Integer yearFrom,
+                                                     final Integer yearTo,
+                                                     final String mediaStatus) {
+        final var aQuery = new VideoSearchParams(
+            search,
+            castMembers,
+            categories,
+            genres,
+            published,
+            ratings,
+            yearFrom,
+            yearTo,
+            mediaStatus
+        ).toListQuery(page, perPage, sort, direction, cursor, count);
 
         return VideoApiPresenter.present(listVideosUseCase.execute(aQuery));
     }
 
     @Override
-    public ResponseEntity<byte[]> getMediaByType(String anId, String type) {
+    public VideoFacetsResponse listVideoFacets(final String search,
+                                               final Set<String> castMembers,
+                                               final Set<String> categories,
+                                               final Set<String> genres,
+                                               final Boolean published,
+                                               final Set<String> ratings,
+                                               final Integer yearFrom,
+                                               final Integer yearTo,
+                                               final String mediaStatus) {
+        final var aQuery = new VideoSearchParams(
+            search,
+            castMembers,
+            categories,
+            genres,
+            published,
+            ratings,
+            yearFrom,
+            yearTo,
+            mediaStatus
+        ).toFacetsQuery();
+
+        return VideoApiPresenter.present(listVideoFacetsUseCase.execute(aQuery));
+    }
+
+    @Override
+    public ResponseEntity<StreamingResponseBody> exportVideos(final String format) {
+        return ExportResponse.of(format, "videos", this.catalogExporter::exportVideos);
+    }
+
+    @Override
+    public ResponseEntity<InputStreamResource> getMediaByType(
+        final String anId,
+        final String type,
+        final String range,
+        final String ifNoneMatch
+    ) {
         final var aMedia = getMediaUseCase.execute(GetMediaCommand.with(anId, type));
+        final var eTag = "\"%s\"".formatted(aMedia.checksum());
 
-        return ResponseEntity.ok()
-            .contentType(MediaType.valueOf(aMedia.contentType()))
-            .contentLength(aMedia.content().length)
-            .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=%s".formatted(aMedia.name()))
-            .body(aMedia.content());
+        if (matchesETag(ifNoneMatch, eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+        }
+
+        final var size = aMedia.size();
+        if (range == null) {
+            return mediaResponse(aMedia, eTag, HttpStatus.OK, size)
+                .body(streamOf(aMedia, 0, size));
+        }
+
+        final var aRange = byteRangeOf(range, size);
+        if (aRange == null) {
+            return ResponseEntity.status(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE)
+                .header(HttpHeaders.CONTENT_RANGE, "bytes */%d".formatted(size))
+                .build();
+        }
+
+        final var start = aRange[0];
+        final var length = aRange[1] - aRange[0] + 1;
+        return mediaResponse(aMedia, eTag, HttpStatus.PARTIAL_CONTENT, length)
+            .header(HttpHeaders.CONTENT_RANGE, "bytes %d-%d/%d".formatted(aRange[0], aRange[1], size))
+            .body(streamOf(aMedia, start, length));
     }
 
     @Override
@@ -203,8 +330,9 @@ public class VideoController implements VideoAPI {
         }
         try {
             return Resource.with(
-                HashingUtils.checksum(part.getBytes()),
-                part.getBytes(),
+                HashingUtils.checksum(part.getInputStream()),
+                part::getInputStream,
+                part.getSize(),
                 part.getContentType(),
                 part.getOriginalFilename()
             );
@@ -212,4 +340,58 @@ public class VideoController implements VideoAPI {
             throw new RuntimeException(t);
         }
     }
+
+    private ResponseEntity.BodyBuilder mediaResponse(
+        final MediaOutput aMedia,
+        final String eTag,
+        final HttpStatus status,
+        final long length
+    ) {
+        return ResponseEntity.status(status)
+            .contentType(MediaType.valueOf(aMedia.contentType()))
+            .contentLength(length)
+            .eTag(eTag)
+            .header(HttpHeaders.ACCEPT_RANGES, "bytes")
+            .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=%s".formatted(aMedia.name()));
+    }
+
+    private InputStreamResource streamOf(final MediaOutput aMedia, final long offset, final long length) {
+        try {
+            return new InputStreamResource(aMedia.content().open(offset, length));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static boolean matchesETag(final String ifNoneMatch, final String eTag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        return Arrays.stream(ifNoneMatch.split(","))
+            .map(String::trim)
+            .map(it -> it.startsWith("W/") ? it.substring(2) : it)
+            .anyMatch(it -> it.equals("*") || it.equals(eTag));
+    }
+
+    /**
+     * Resolves the Range header into a single inclusive [start, end] pair, coalescing
+     * multiple ranges into the one that covers all of them. Returns null when the
+     * range is malformed or not satisfiable.
+     */
+    private static long[] byteRangeOf(final String range, final long size) {
+        try {
+            final var ranges = HttpRange.parseRanges(range);
+            if (ranges.isEmpty() || size == 0) {
+                return null;
+            }
+            final var start = ranges.stream().mapToLong(it -> it.getRangeStart(size)).min().getAsLong();
+            final var end = ranges.stream().mapToLong(it -> it.getRangeEnd(size)).max().getAsLong();
+            if (start >= size || start > end) {
+                return null;
+            }
+            return new long[]{start, end};
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
 }
@@ -0,0 +1,41 @@
+package com.fullcycle.admin.catalogo.infrastructure.api.models;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fullcycle.admin.catalogo.domain.validation.Error;
+import com.fullcycle.admin.catalogo.domain.validation.handler.Notification;
+import io.vavr.control.Either;
+
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+
+/**
+ * Outcome of one item of a bulk request: the id of the created aggregate or the errors that
+ * kept it from being created. {@code index} is the position of the item in the request body.
+ */
+public record BatchItemResponse(
+    @JsonProperty("index") int index,
+    @JsonProperty("id") String id,
+    @JsonProperty("errors") List<Error> errors
+) {
+
+    public static <T> List<BatchItemResponse> from(
+        final List<Either<Notification, T>> results,
+        final Function<T, String> idOf
+    ) {
+        return IntStream.range(0, results.size())
+            .mapToObj(index -> of(index, results.get(index), idOf))
+            .toList();
+    }
+
+    public static <T> BatchItemResponse of(
+        final int index,
+        final Either<Notification, T> result,
+        final Function<T, String> idOf
+    ) {
+        return result.fold(
+            notification -> new BatchItemResponse(index, null, notification.getErrors()),
+            output -> new BatchItemResponse(index, idOf.apply(output), List.of())
+        );
+    }
+}
@@ -4,15 +4,25 @@ import com.fullcycle.admin.catalogo.domain.castmember.CastMember;
 import com.fullcycle.admin.catalogo.domain.castmember.CastMemberGateway;
 import com.fullcycle.admin.catalogo.domain.castmember.CastMemberID;
 import com.fullcycle.admin.catalogo.domain.genre.GenreID;
+import com.fullcycle.admin.catalogo.domain.pagination.CountMode;
 import com.fullcycle.admin.catalogo.domain.pagination.Pagination;
 import com.fullcycle.admin.catalogo.domain.pagination.SearchQuery;
 import com.fullcycle.admin.catalogo.infrastructure.castmember.persistence.CastMemberJpaEntity;
 import com.fullcycle.admin.catalogo.infrastructure.castmember.persistence.CastMemberRepository;
+import com.fullcycle.admin.catalogo.infrastructure.utils.CountCache;
+import com.fullcycle.admin.catalogo.infrastructure.utils.CursorUtils;
+import com.fullcycle.admin.catalogo.infrastructure.utils.ExistenceCache;
 import com.fullcycle.admin.catalogo.infrastructure.utils.SpecificationUtils;
+import com.fullcycle.admin.catalogo.infrastructure.utils.SqlUtils;
+import com.fullcycle.admin.catalogo.infrastructure.video.VideoRelationChanges;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Objects;
@@ -23,9 +33,24 @@ import java.util.stream.StreamSupport;
 public class CastMemberMySQLGateway implements CastMemberGateway {
 
     private final CastMemberRepository castMemberRepository;
-
-    public CastMemberMySQLGateway(final CastMemberRepository castMemberRepository) {
+    private final CountCache counts = new CountCache();
+    private final ExistenceCache<CastMemberID> existing = new ExistenceCache<>();
+    private final VideoRelationChanges videoRelationChanges;
+    private final boolean fullText;
+
+    public CastMemberMySQLGateway(
+        final CastMemberRepository castMemberRepository,
+        final VideoRelationChanges videoRelationChanges,
+        @Value("${search.full-text:false}") final boolean fullText,
+        final ObjectProvider<MeterRegistry> meterRegistry
+    ) {
         this.castMemberRepository = Objects.requireNonNull(castMemberRepository);
+        this.videoRelationChanges = Objects.requireNonNull(videoRelationChanges);
+        this.fullText = fullText;
+        meterRegistry.ifAvailable(registry -> {
+            this.existing.monitor(registry, "cast_member.existence");
+            this.counts.monitor(registry, "cast_member.count");
+        });
     }
 
     @Override
@@ -34,16 +59,42 @@ public class CastMemberMySQLGateway implements CastMemberGateway {
     }
 
     @Override
+    @Transactional
+    public List<CastMember> createAll(final List<CastMember> castMembers) {
+        return this.castMemberRepository.saveAll(castMembers.stream().map(CastMemberJpaEntity::from).toList()).stream()
+            .map(CastMemberJpaEntity::toAggregate)
+            .toList();
+    }
+
+    @Override
+    @Transactional
     public CastMember update(final CastMember aCastMember) {
-        return save(aCastMember);
+        return this.castMemberRepository.findById(aCastMember.getId().getValue())
+            .map(it -> it.update(aCastMember))
+            .orElseGet(() -> this.castMemberRepository.save(CastMemberJpaEntity.from(aCastMember)))
+            .toAggregate();
     }
 
     @Override
+    @Transactional
     public void deleteById(final CastMemberID anID) {
-        final var castMemberId = anID.getValue();
-        if (this.castMemberRepository.existsById(castMemberId)) {
-            this.castMemberRepository.deleteById(castMemberId);
+        deleteAllById(List.of(anID));
+    }
+
+    @Override
+    @Transactional
+    public int deleteAllById(final Iterable<CastMemberID> castMemberIDs) {
+        final var ids = StreamSupport.stream(castMemberIDs.spliterator(), false)
+            .map(CastMemberID::getValue)
+            .toList();
+        if (ids.isEmpty()) {
+            return 0;
         }
+        final var videoIds = this.videoRelationChanges.ofCastMembers(ids);
+        final var deleted = this.castMemberRepository.deleteAllByIds(ids);
+        this.videoRelationChanges.changed(videoIds);
+        this.existing.invalidate(castMemberIDs);
+        return deleted;
     }
 
     @Override
@@ -52,6 +103,7 @@ public class CastMemberMySQLGateway implements CastMemberGateway {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Pagination<CastMember> findAll(final SearchQuery aQuery) {
 
         final var page = PageRequest.of(
@@ -60,10 +112,33 @@ public class CastMemberMySQLGateway implements CastMemberGateway {
             Sort.by(Sort.Direction.fromString(aQuery.direction()), aQuery.sort())
         );
 
-        final var where = Optional.ofNullable(aQuery.terms())
-            .filter(str -> !str.isBlank())
-            .map(this::assembleSpecification)
-            .orElse(null);
+        final var fullTextTerms = fullTextOf(aQuery);
+        final var where = fullTextTerms != null
+            ? SpecificationUtils.<CastMemberJpaEntity>match(fullTextTerms, "name")
+            : Optional.ofNullable(aQuery.terms())
+                .filter(str -> !str.isBlank())
+                .map(this::assembleSpecification)
+                .orElse(null);
+
+        if (aQuery.isKeyset()) {
+            return findAllAfter(aQuery, where);
+        }
+
+        // full-text matches come ordered by relevance, the page sort only breaks ties
+        if (fullTextTerms != null || aQuery.countMode() != CountMode.EXACT) {
+            final var sliceResults = this.castMemberRepository.findSlice(
+                fullTextTerms != null
+                    ? SpecificationUtils.<CastMemberJpaEntity>byRelevance(fullTextTerms, "name").and(where)
+                    : where,
+                page
+            );
+            return new Pagination<>(
+                sliceResults.getNumber(),
+                sliceResults.getSize(),
+                total(aQuery, where),
+                sliceResults.map(CastMemberJpaEntity::toAggregate).toList()
+            );
+        }
 
         final var pageResults = this.castMemberRepository.findAll(Specification.where(where), page);
         return new Pagination<>(
@@ -76,15 +151,37 @@ public class CastMemberMySQLGateway implements CastMemberGateway {
         );
     }
 
+    private Pagination<CastMember> findAllAfter(final SearchQuery aQuery, final Specification<CastMemberJpaEntity> where) {
+        final var direction = Sort.Direction.fromString(aQuery.direction());
+        final var after = CursorUtils.decode(aQuery.cursor())
+            .map(cursor -> CursorUtils.<CastMemberJpaEntity>after(aQuery.sort(), direction, cursor))
+            .orElse(null);
+
+        final var rows = this.castMemberRepository.findBy(
+            Specification.where(where).and(after),
+            q -> q.sortBy(CursorUtils.sort(aQuery.sort(), direction)).limit(aQuery.perPage() + 1).all()
+        );
+
+        return CursorUtils.page(rows, aQuery.perPage(), total(aQuery, where), aQuery.sort(), CastMemberJpaEntity::getId, CastMemberJpaEntity::toAggregate);
+    }
+
+    private long total(final SearchQuery aQuery, final Specification<CastMemberJpaEntity> where) {
+        return this.counts.total(aQuery.countMode(), termsOf(aQuery), () -> this.castMemberRepository.count(Specification.where(where)));
+    }
+
+    private static String termsOf(final SearchQuery aQuery) {
+        return Optional.ofNullable(aQuery.terms()).filter(str -> !str.isBlank()).orElse(null);
+    }
+
+    private String fullTextOf(final SearchQuery aQuery) {
+        return this.fullText ? SqlUtils.fullText(termsOf(aQuery)) : null;
+    }
+
     @Override
     public List<CastMemberID> existsByIds(Iterable<CastMemberID> castMemberIDS) {
-        final var ids = StreamSupport.stream(castMemberIDS.spliterator(), false)
-                .map(CastMemberID::getValue)
-                .toList();
-        return this.castMemberRepository.existsByIds(ids)
-                .stream()
-                .map(CastMemberID::from)
-                .toList();
+        return this.existing.existsByIds(castMemberIDS, missing -> this.castMemberRepository.existsByIds(
+            missing.stream().map(CastMemberID::getValue).toList()
+        ).stream().map(CastMemberID::from).toList());
     }
 
     private CastMember save(CastMember aCastMember) {
@@ -0,0 +1,25 @@
+package com.fullcycle.admin.catalogo.infrastructure.castmember.models;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fullcycle.admin.catalogo.domain.castmember.CastMemberType;
+import com.fullcycle.admin.catalogo.infrastructure.export.ExportRow;
+
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+
+public record CastMemberExportRow(
+    @JsonProperty("id") String id,
+    @JsonProperty("name") String name,
+    @JsonProperty("type") CastMemberType type,
+    @JsonProperty("created_at") Instant createdAt,
+    @JsonProperty("updated_at") Instant updatedAt
+) implements ExportRow {
+
+    public static final List<String> COLUMNS = List.of("id", "name", "type", "created_at", "updated_at");
+
+    @Override
+    public List<Object> values() {
+        return Arrays.asList(id, name, type, createdAt, updatedAt);
+    }
+}
@@ -11,11 +11,17 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.Id;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
 import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
+import org.hibernate.annotations.DynamicUpdate;
+import org.springframework.data.domain.Persistable;
 
 @Entity(name = "CastMember")
+@DynamicUpdate
 @Table(name = "cast_members")
-public class CastMemberJpaEntity {
+public class CastMemberJpaEntity implements Persistable<String> {
 
     @Id
     private String id;
@@ -28,6 +34,8 @@ public class CastMemberJpaEntity {
     private Instant createdAt;
     @Column(name = "updated_at", nullable = false, columnDefinition = "DATETIME(6)")
     private Instant updatedAt;
+    @Transient
+    private boolean persisted;
 
     public CastMemberJpaEntity() {
     }
@@ -52,6 +60,17 @@ public class CastMemberJpaEntity {
             aMember.getUpdatedAt());
     }
 
+    /**
+     * Copies the aggregate state into this managed entity, letting dirty checking write
+     * only the columns that actually changed.
+     */
+    public CastMemberJpaEntity update(final CastMember aMember) {
+        this.name = aMember.getName();
+        this.type = aMember.getType();
+        this.updatedAt = aMember.getUpdatedAt();
+        return this;
+    }
+
     public CastMember toAggregate() {
         return CastMember.with(
             CastMemberID.from(getId()),
@@ -101,4 +120,15 @@ public class CastMemberJpaEntity {
     public void setUpdatedAt(Instant updatedAt) {
         this.updatedAt = updatedAt;
     }
+
+    @Override
+    public boolean isNew() {
+        return !this.persisted;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markPersisted() {
+        this.persisted = true;
+    }
 }
@@ -1,18 +1,52 @@
 package com.fullcycle.admin.catalogo.infrastructure.castmember.persistence;
 
+import com.fullcycle.admin.catalogo.infrastructure.castmember.models.CastMemberExportRow;
+import com.fullcycle.admin.catalogo.infrastructure.configuration.persistence.SliceSpecificationExecutor;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.beans.PropertyValues;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
-public interface CastMemberRepository extends JpaRepository<CastMemberJpaEntity, String> {
+public interface CastMemberRepository extends JpaRepository<CastMemberJpaEntity, String>, JpaSpecificationExecutor<CastMemberJpaEntity>,
+    SliceSpecificationExecutor<CastMemberJpaEntity> {
 
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
     Page<CastMemberJpaEntity> findAll(Specification<CastMemberJpaEntity> specification, Pageable page);
 
+    @Override
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    Slice<CastMemberJpaEntity> findSlice(Specification<CastMemberJpaEntity> spec, Pageable page);
+
     @Query(value = "select c.id from CastMember c where c.id in :ids")
     List<String> existsByIds(List<String> ids);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from CastMember c where c.id in :ids")
+    int deleteAllByIds(@Param("ids") Collection<String> ids);
+
+    /**
+     * Streams every cast member as an export row, fetching from a server side cursor.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("""
+            select new com.fullcycle.admin.catalogo.infrastructure.castmember.models.CastMemberExportRow(
+                c.id, c.name, c.type, c.createdAt, c.updatedAt
+            )
+            from CastMember c
+            order by c.id
+            """)
+    Stream<CastMemberExportRow> streamAllForExport();
 }
@@ -3,15 +3,25 @@ package com.fullcycle.admin.catalogo.infrastructure.category;
 import com.fullcycle.admin.catalogo.domain.category.Category;
 import com.fullcycle.admin.catalogo.domain.category.CategoryGateway;
 import com.fullcycle.admin.catalogo.domain.category.CategoryID;
+import com.fullcycle.admin.catalogo.domain.pagination.CountMode;
 import com.fullcycle.admin.catalogo.domain.pagination.Pagination;
 import com.fullcycle.admin.catalogo.domain.pagination.SearchQuery;
 import com.fullcycle.admin.catalogo.infrastructure.category.persistence.CategoryJpaEntity;
 import com.fullcycle.admin.catalogo.infrastructure.category.persistence.CategoryRepository;
+import com.fullcycle.admin.catalogo.infrastructure.utils.CountCache;
+import com.fullcycle.admin.catalogo.infrastructure.utils.CursorUtils;
+import com.fullcycle.admin.catalogo.infrastructure.utils.ExistenceCache;
 import com.fullcycle.admin.catalogo.infrastructure.utils.SpecificationUtils;
+import com.fullcycle.admin.catalogo.infrastructure.utils.SqlUtils;
+import com.fullcycle.admin.catalogo.infrastructure.video.VideoRelationChanges;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Collections;
 import java.util.List;
@@ -22,9 +32,24 @@ import java.util.stream.StreamSupport;
 public class CategoryMySQLGateway implements CategoryGateway {
 
     private final CategoryRepository repository;
+    private final CountCache counts = new CountCache();
+    private final ExistenceCache<CategoryID> existing = new ExistenceCache<>();
+    private final VideoRelationChanges videoRelationChanges;
+    private final boolean fullText;
 
-    public CategoryMySQLGateway(CategoryRepository repository) {
+    public CategoryMySQLGateway(
+        CategoryRepository repository,
+        VideoRelationChanges videoRelationChanges,
+        @Value("${search.full-text:false}") boolean fullText,
+        ObjectProvider<MeterRegistry> meterRegistry
+    ) {
         this.repository = repository;
+        this.videoRelationChanges = videoRelationChanges;
+        this.fullText = fullText;
+        meterRegistry.ifAvailable(registry -> {
+            this.existing.monitor(registry, "category.existence");
+            this.counts.monitor(registry, "category.count");
+        });
     }
 
     @Override
@@ -33,11 +58,33 @@ public class CategoryMySQLGateway implements CategoryGateway {
     }
 
     @Override
+    @Transactional
+    public List<Category> createAll(final List<Category> categories) {
+        return this.repository.saveAll(categories.stream().map(CategoryJpaEntity::from).toList()).stream()
+            .map(CategoryJpaEntity::toAggregate)
+            .toList();
+    }
+
+    @Override
+    @Transactional
     public void deleteById(final CategoryID id) {
-        final String idValue = id.getValue();
-        if (repository.existsById(idValue)) {
-            repository.deleteById(idValue);
+        deleteAllById(List.of(id));
+    }
+
+    @Override
+    @Transactional
+    public int deleteAllById(final Iterable<CategoryID> categoryIDs) {
+        final var ids = StreamSupport.stream(categoryIDs.spliterator(), false)
+            .map(CategoryID::getValue)
+            .toList();
+        if (ids.isEmpty()) {
+            return 0;
         }
+        final var videoIds = this.videoRelationChanges.ofCategories(ids);
+        final var deleted = this.repository.deleteAllByIds(ids);
+        this.videoRelationChanges.changed(videoIds);
+        this.existing.invalidate(categoryIDs);
+        return deleted;
     }
 
     @Override
@@ -47,25 +94,52 @@ public class CategoryMySQLGateway implements CategoryGateway {
     }
 
     @Override
+    @Transactional
     public Category update(final Category category) {
-        return save(category);
+        return this.repository.findById(category.getId().getValue())
+            .map(it -> it.update(category))
+            .orElseGet(() -> this.repository.save(CategoryJpaEntity.from(category)))
+            .toAggregate();
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Pagination<Category> findAll(final SearchQuery query) {
         //Paginação
         var page = PageRequest.of(query.page(),
             query.perPage(),
             Sort.by(Sort.Direction.fromString(query.direction()), query.sort()));
         // Busca dinamica pelo nome e descrição
-        final var specifications =
-            Optional.ofNullable(query.terms()).filter(str -> !str.isBlank())
+        final var fullTextTerms = fullTextOf(query);
+        final var specifications = fullTextTerms != null
+            ? SpecificationUtils.<CategoryJpaEntity>match(fullTextTerms, "name", "description")
+            : Optional.ofNullable(query.terms()).filter(str -> !str.isBlank())
                 .map(str -> {
                     return SpecificationUtils
                         .<CategoryJpaEntity>like("name", str)
                         .or(SpecificationUtils.like("description", str));
                 }).orElse(null);
 
+        if (query.isKeyset()) {
+            return findAllAfter(query, specifications);
+        }
+
+        // full-text matches come ordered by relevance, the page sort only breaks ties
+        if (fullTextTerms != null || query.countMode() != CountMode.EXACT) {
+            final var sliceResults = this.repository.findSlice(
+                fullTextTerms != null
+                    ? SpecificationUtils.<CategoryJpaEntity>byRelevance(fullTextTerms, "name", "description").and(specifications)
+                    : specifications,
+                page
+            );
+            return new Pagination<>(
+                sliceResults.getNumber(),
+                sliceResults.getSize(),
+                total(query, specifications),
+                sliceResults.map(CategoryJpaEntity::toAggregate).toList()
+            );
+        }
+
         final var pageResult = this.repository.findAll(Specification.where(specifications), page);
 
         return new Pagination<>(
@@ -76,15 +150,37 @@ public class CategoryMySQLGateway implements CategoryGateway {
         );
     }
 
+    private Pagination<Category> findAllAfter(final SearchQuery query, final Specification<CategoryJpaEntity> where) {
+        final var direction = Sort.Direction.fromString(query.direction());
+        final var after = CursorUtils.decode(query.cursor())
+            .map(cursor -> CursorUtils.<CategoryJpaEntity>after(query.sort(), direction, cursor))
+            .orElse(null);
+
+        final var rows = this.repository.findBy(
+            Specification.where(where).and(after),
+            q -> q.sortBy(CursorUtils.sort(query.sort(), direction)).limit(query.perPage() + 1).all()
+        );
+
+        return CursorUtils.page(rows, query.perPage(), total(query, where), query.sort(), CategoryJpaEntity::getId, CategoryJpaEntity::toAggregate);
+    }
+
+    private long total(final SearchQuery query, final Specification<CategoryJpaEntity> where) {
+        return this.counts.total(query.countMode(), termsOf(query), () -> this.repository.count(Specification.where(where)));
+    }
+
+    private static String termsOf(final SearchQuery query) {
+        return Optional.ofNullable(query.terms()).filter(str -> !str.isBlank()).orElse(null);
+    }
+
+    private String fullTextOf(final SearchQuery query) {
+        return this.fullText ? SqlUtils.fullText(termsOf(query)) : null;
+    }
+
     @Override
     public List<CategoryID> existsByIds(Iterable<CategoryID> categoryIDs) {
-        final var ids = StreamSupport.stream(categoryIDs.spliterator(), false)
-            .map(CategoryID::getValue)
-            .toList();
-        return this.repository.existsByIds(ids)
-            .stream()
-            .map(CategoryID::from)
-            .toList();
+        return this.existing.existsByIds(categoryIDs, missing -> this.repository.existsByIds(
+            missing.stream().map(CategoryID::getValue).toList()
+        ).stream().map(CategoryID::from).toList());
     }
 
     private Category save(final Category category) {
@@ -0,0 +1,27 @@
+package com.fullcycle.admin.catalogo.infrastructure.category.models;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fullcycle.admin.catalogo.infrastructure.export.ExportRow;
+
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+
+public record CategoryExportRow(
+    @JsonProperty("id") String id,
+    @JsonProperty("name") String name,
+    @JsonProperty("description") String description,
+    @JsonProperty("is_active") Boolean active,
+    @JsonProperty("created_at") Instant createdAt,
+    @JsonProperty("updated_at") Instant updatedAt,
+    @JsonProperty("deleted_at") Instant deletedAt
+) implements ExportRow {
+
+    public static final List<String> COLUMNS =
+        List.of("id", "name", "description", "is_active", "created_at", "updated_at", "deleted_at");
+
+    @Override
+    public List<Object> values() {
+        return Arrays.asList(id, name, description, active, createdAt, updatedAt, deletedAt);
+    }
+}
@@ -8,11 +8,17 @@ import java.time.Instant;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Id;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
 import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
+import org.hibernate.annotations.DynamicUpdate;
+import org.springframework.data.domain.Persistable;
 
 @Entity(name = "Category")
+@DynamicUpdate
 @Table(name = "categories")
-public class CategoryJpaEntity {
+public class CategoryJpaEntity implements Persistable<String> {
 
     @Id
     private String id;
@@ -28,6 +34,8 @@ public class CategoryJpaEntity {
     private Instant updatedAt;
     @Column(name = "deleted_at", columnDefinition = "DATETIME(6)")
     private Instant deletedAt;
+    @Transient
+    private boolean persisted;
 
     private CategoryJpaEntity(final String id,
                               final String name,
@@ -59,6 +67,19 @@ public class CategoryJpaEntity {
         );
     }
 
+    /**
+     * Copies the aggregate state into this managed entity, letting dirty checking write
+     * only the columns that actually changed.
+     */
+    public CategoryJpaEntity update(final Category aCategory) {
+        this.name = aCategory.getName();
+        this.description = aCategory.getDescription();
+        this.active = aCategory.isActive();
+        this.updatedAt = aCategory.getUpdatedAt();
+        this.deletedAt = aCategory.getDeletedAt();
+        return this;
+    }
+
     public Category toAggregate() {
         return Category.with(
                 CategoryID.from(getId()),
@@ -126,4 +147,19 @@ public class CategoryJpaEntity {
     public void setDeletedAt(Instant deletedAt) {
         this.deletedAt = deletedAt;
     }
+
+    /**
+     * Ids are assigned by the domain, so a row is only new until it is persisted or loaded.
+     * This lets {@code save} call {@code persist} directly instead of selecting before a merge.
+     */
+    @Override
+    public boolean isNew() {
+        return !this.persisted;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markPersisted() {
+        this.persisted = true;
+    }
 }
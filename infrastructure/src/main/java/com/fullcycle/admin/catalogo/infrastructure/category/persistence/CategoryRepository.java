@@ -1,18 +1,52 @@
 package com.fullcycle.admin.catalogo.infrastructure.category.persistence;
 
 import com.fullcycle.admin.catalogo.domain.category.CategoryID;
+import com.fullcycle.admin.catalogo.infrastructure.category.models.CategoryExportRow;
+import com.fullcycle.admin.catalogo.infrastructure.configuration.persistence.SliceSpecificationExecutor;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
-public interface CategoryRepository extends JpaRepository<CategoryJpaEntity, String> {
+public interface CategoryRepository extends JpaRepository<CategoryJpaEntity, String>, JpaSpecificationExecutor<CategoryJpaEntity>,
+    SliceSpecificationExecutor<CategoryJpaEntity> {
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
     Page<CategoryJpaEntity> findAll(Specification<CategoryJpaEntity> whereClause, Pageable page);
 
+    @Override
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    Slice<CategoryJpaEntity> findSlice(Specification<CategoryJpaEntity> spec, Pageable page);
+
     @Query(value = "select c.id from Category c where c.id in :ids")
     List<String> existsByIds(List<String> ids);
 
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from Category c where c.id in :ids")
+    int deleteAllByIds(@Param("ids") Collection<String> ids);
+
+    /**
+     * Streams every category as an export row, fetching from a server side cursor.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("""
+            select new com.fullcycle.admin.catalogo.infrastructure.category.models.CategoryExportRow(
+                c.id, c.name, c.description, c.active, c.createdAt, c.updatedAt, c.deletedAt
+            )
+            from Category c
+            order by c.id
+            """)
+    Stream<CategoryExportRow> streamAllForExport();
 }
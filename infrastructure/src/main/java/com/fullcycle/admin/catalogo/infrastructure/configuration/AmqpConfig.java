@@ -1,14 +1,23 @@
 package com.fullcycle.admin.catalogo.infrastructure.configuration;
 
+import com.fullcycle.admin.catalogo.infrastructure.configuration.annotations.VideoChangesQueue;
 import com.fullcycle.admin.catalogo.infrastructure.configuration.annotations.VideoCreatedQueue;
 import com.fullcycle.admin.catalogo.infrastructure.configuration.annotations.VideoEncodedQueue;
 import com.fullcycle.admin.catalogo.infrastructure.configuration.annotations.VideoEvents;
 import com.fullcycle.admin.catalogo.infrastructure.configuration.properties.amqp.QueueProperties;
+import org.springframework.amqp.core.AnonymousQueue;
+import org.springframework.amqp.core.Base64UrlNamingStrategy;
 import org.springframework.amqp.core.Binding;
 import org.springframework.amqp.core.BindingBuilder;
 import org.springframework.amqp.core.DirectExchange;
 import org.springframework.amqp.core.Exchange;
+import org.springframework.amqp.core.FanoutExchange;
 import org.springframework.amqp.core.Queue;
+import org.springframework.amqp.rabbit.config.SimpleRabbitListenerContainerFactory;
+import org.springframework.amqp.rabbit.connection.ConnectionFactory;
+import org.springframework.amqp.rabbit.core.RabbitAdmin;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -30,6 +39,82 @@ public class AmqpConfig {
         return new QueueProperties();
     }
 
+    @Bean
+    @ConfigurationProperties("amqp.queues.video-changes")
+    @VideoChangesQueue
+    public QueueProperties videoChangesQueueProperties() {
+        return new QueueProperties();
+    }
+
+    /**
+     * Delivers the video-encoded messages in batches of up to {@code batch-size}; a partial
+     * batch is delivered after {@code batch-receive-timeout} milliseconds without messages.
+     */
+    @Bean
+    @ConditionalOnProperty(name = "amqp.queues.video-encoded.batch-enabled", havingValue = "true")
+    public SimpleRabbitListenerContainerFactory videoEncodedListenerContainerFactory(
+        final ConnectionFactory connectionFactory,
+        @VideoEncodedQueue final QueueProperties props
+    ) {
+        final var factory = new SimpleRabbitListenerContainerFactory();
+        factory.setConnectionFactory(connectionFactory);
+        factory.setBatchListener(true);
+        factory.setConsumerBatchEnabled(true);
+        factory.setBatchSize(props.getBatchSize());
+        factory.setReceiveTimeout(props.getBatchReceiveTimeout());
+        factory.setPrefetchCount(props.getPrefetch());
+        factory.setConcurrentConsumers(props.getConcurrency());
+        return factory;
+    }
+
+    /**
+     * Every instance binds a queue of its own to the video-changes fanout exchange. The queue
+     * only lives as long as the instance, so it cannot be provisioned with the broker like the
+     * other ones: this admin declares it even when {@code amqp.admin.auto-create} is off, and
+     * only then everything else as the default admin would.
+     */
+    @Configuration
+    @ConditionalOnProperty(name = "amqp.queues.video-changes.enabled", havingValue = "true", matchIfMissing = true)
+    static class VideoChanges {
+
+        @Bean
+        RabbitAdmin videoChangesAdmin(
+            final ConnectionFactory connectionFactory,
+            @Value("${spring.rabbitmq.dynamic:true}") final boolean autoCreate
+        ) {
+            final var admin = new RabbitAdmin(connectionFactory);
+            admin.setExplicitDeclarationsOnly(!autoCreate);
+            return admin;
+        }
+
+        @Bean
+        @VideoChangesQueue
+        FanoutExchange videoChangesExchange(@VideoChangesQueue QueueProperties props, RabbitAdmin videoChangesAdmin) {
+            final var exchange = new FanoutExchange(props.getExchange());
+            exchange.setAdminsThatShouldDeclare(videoChangesAdmin);
+            return exchange;
+        }
+
+        @Bean
+        @VideoChangesQueue
+        Queue videoChangesQueue(@VideoChangesQueue QueueProperties props, RabbitAdmin videoChangesAdmin) {
+            final var queue = new AnonymousQueue(new Base64UrlNamingStrategy(props.getQueue() + "."));
+            queue.setAdminsThatShouldDeclare(videoChangesAdmin);
+            return queue;
+        }
+
+        @Bean
+        @VideoChangesQueue
+        Binding videoChangesBinding(
+            @VideoChangesQueue FanoutExchange exchange,
+            @VideoChangesQueue Queue queue,
+            RabbitAdmin videoChangesAdmin) {
+            final var binding = BindingBuilder.bind(queue).to(exchange);
+            binding.setAdminsThatShouldDeclare(videoChangesAdmin);
+            return binding;
+        }
+    }
+
     @Configuration
     static class Admin {
 
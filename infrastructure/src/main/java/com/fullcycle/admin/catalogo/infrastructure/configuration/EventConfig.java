@@ -1,11 +1,13 @@
 package com.fullcycle.admin.catalogo.infrastructure.configuration;
 
+import com.fullcycle.admin.catalogo.infrastructure.configuration.annotations.VideoChangesQueue;
 import com.fullcycle.admin.catalogo.infrastructure.configuration.annotations.VideoCreatedQueue;
 import com.fullcycle.admin.catalogo.infrastructure.configuration.properties.amqp.QueueProperties;
+import com.fullcycle.admin.catalogo.infrastructure.outbox.persistence.OutboxEventRepository;
 import com.fullcycle.admin.catalogo.infrastructure.services.EventService;
-import com.fullcycle.admin.catalogo.infrastructure.services.impl.RabbitEventService;
+import com.fullcycle.admin.catalogo.infrastructure.services.impl.OutboxEventService;
 import com.fullcycle.admin.catalogo.infrastructure.services.local.InMemoryEventService;
-import org.springframework.amqp.rabbit.core.RabbitOperations;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -26,12 +28,32 @@ public class EventConfig {
     @ConditionalOnMissingBean
     public EventService videoCreatedEventService(
         @VideoCreatedQueue final QueueProperties pros,
-        final RabbitOperations ops
+        final OutboxEventRepository repository
     ) {
-        return new RabbitEventService(
+        return new OutboxEventService(
             pros.getExchange(),
             pros.getRoutingKey(),
-            ops
+            repository
+        );
+    }
+
+    /**
+     * Without the consumers nobody declares the fanout exchange, so the changes are only logged.
+     */
+    @Bean
+    @VideoChangesQueue
+    public EventService videoChangesEventService(
+        @Value("${amqp.queues.video-changes.enabled:true}") final boolean enabled,
+        @VideoChangesQueue final QueueProperties props,
+        final OutboxEventRepository repository
+    ) {
+        if (!enabled) {
+            return new InMemoryEventService();
+        }
+        return new OutboxEventService(
+            props.getExchange(),
+            props.getRoutingKey(),
+            repository
         );
     }
 }
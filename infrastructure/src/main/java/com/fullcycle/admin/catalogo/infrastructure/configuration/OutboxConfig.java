@@ -0,0 +1,32 @@
+package com.fullcycle.admin.catalogo.infrastructure.configuration;
+
+import com.fullcycle.admin.catalogo.infrastructure.configuration.properties.outbox.OutboxRelayProperties;
+import com.fullcycle.admin.catalogo.infrastructure.outbox.OutboxRelay;
+import com.fullcycle.admin.catalogo.infrastructure.outbox.persistence.OutboxEventRepository;
+import org.springframework.amqp.rabbit.core.RabbitOperations;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+@Configuration
+@EnableScheduling
+@ConditionalOnProperty(name = "outbox.relay.enabled", havingValue = "true", matchIfMissing = true)
+public class OutboxConfig {
+
+    @Bean
+    @ConfigurationProperties("outbox.relay")
+    public OutboxRelayProperties outboxRelayProperties() {
+        return new OutboxRelayProperties();
+    }
+
+    @Bean
+    public OutboxRelay outboxRelay(
+        final OutboxRelayProperties props,
+        final OutboxEventRepository repository,
+        final RabbitOperations ops
+    ) {
+        return new OutboxRelay(repository, ops, props.getBatchSize(), props.getConfirmTimeout(), props.getLease());
+    }
+}
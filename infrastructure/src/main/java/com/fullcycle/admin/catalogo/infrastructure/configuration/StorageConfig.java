@@ -33,6 +33,6 @@ public class StorageConfig {
         final GoogleStorageProperties properties,
         final Storage storage
         ) {
-        return new GPStorageService(properties.getBucket(), storage);
+        return new GPStorageService(properties.getBucket(), storage, properties.getUploadChunkSize());
     }
 }
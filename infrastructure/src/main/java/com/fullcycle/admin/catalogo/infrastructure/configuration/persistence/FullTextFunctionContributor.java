@@ -0,0 +1,27 @@
+package com.fullcycle.admin.catalogo.infrastructure.configuration.persistence;
+
+import org.hibernate.boot.model.FunctionContributions;
+import org.hibernate.boot.model.FunctionContributor;
+import org.hibernate.type.StandardBasicTypes;
+
+/**
+ * Exposes MySQL's {@code MATCH ... AGAINST} to JPQL and Criteria queries. The result is the
+ * relevance score of the row, zero when it does not match. The column list must be exactly
+ * the one of a FULLTEXT index, hence one function per arity.
+ */
+public class FullTextFunctionContributor implements FunctionContributor {
+
+    public static final String MATCH_AGAINST = "match_against";
+    public static final String MATCH_AGAINST_2 = "match_against2";
+
+    @Override
+    public void contributeFunctions(final FunctionContributions functionContributions) {
+        final var registry = functionContributions.getFunctionRegistry();
+        final var score = functionContributions.getTypeConfiguration()
+            .getBasicTypeRegistry()
+            .resolve(StandardBasicTypes.DOUBLE);
+
+        registry.registerPattern(MATCH_AGAINST, "match(?1) against(?2 in boolean mode)", score);
+        registry.registerPattern(MATCH_AGAINST_2, "match(?1, ?2) against(?3 in boolean mode)", score);
+    }
+}
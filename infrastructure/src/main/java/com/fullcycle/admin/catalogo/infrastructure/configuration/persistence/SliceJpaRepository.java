@@ -0,0 +1,55 @@
+package com.fullcycle.admin.catalogo.infrastructure.configuration.persistence;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.Order;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.jpa.repository.support.JpaEntityInformation;
+import org.springframework.data.jpa.repository.support.SimpleJpaRepository;
+
+import java.util.ArrayList;
+
+/**
+ * Base class of every repository, see {@code Main}, adding {@link SliceSpecificationExecutor}
+ * so the list slices are built from the same specifications as the pages and the counts.
+ */
+public class SliceJpaRepository<T, ID> extends SimpleJpaRepository<T, ID> implements SliceSpecificationExecutor<T> {
+
+    private final EntityManager entityManager;
+
+    public SliceJpaRepository(final JpaEntityInformation<T, ?> entityInformation, final EntityManager entityManager) {
+        super(entityInformation, entityManager);
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    public Slice<T> findSlice(final Specification<T> spec, final Pageable page) {
+        final var cb = this.entityManager.getCriteriaBuilder();
+        final var query = cb.createQuery(getDomainClass());
+        final var root = query.from(getDomainClass());
+
+        if (spec != null) {
+            final var predicate = spec.toPredicate(root, query, cb);
+            if (predicate != null) {
+                query.where(predicate);
+            }
+        }
+
+        final var orders = new ArrayList<Order>(query.getOrderList());
+        orders.addAll(QueryUtils.toOrders(page.getSort(), root, cb));
+        query.select(root).orderBy(orders);
+
+        final var typedQuery = this.entityManager.createQuery(query)
+            .setFirstResult(Math.toIntExact(page.getOffset()))
+            // one extra row tells whether there is a next slice
+            .setMaxResults(page.getPageSize() + 1);
+        getQueryHints().withFetchGraphs(this.entityManager).forEach(typedQuery::setHint);
+
+        final var rows = typedQuery.getResultList();
+        final var hasNext = rows.size() > page.getPageSize();
+        return new SliceImpl<>(hasNext ? rows.subList(0, page.getPageSize()) : rows, page, hasNext);
+    }
+}
@@ -0,0 +1,19 @@
+package com.fullcycle.admin.catalogo.infrastructure.configuration.persistence;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.domain.Specification;
+
+/**
+ * Implemented for every repository by {@link SliceJpaRepository}. Query hints and entity graphs
+ * declared on a repository's own {@code findSlice} are applied.
+ */
+public interface SliceSpecificationExecutor<T> {
+
+    /**
+     * Like {@code findAll(Specification, Pageable)} without the count query, the total is
+     * counted separately by the gateways. Orders added by the specification come before the
+     * page sort.
+     */
+    Slice<T> findSlice(Specification<T> spec, Pageable page);
+}
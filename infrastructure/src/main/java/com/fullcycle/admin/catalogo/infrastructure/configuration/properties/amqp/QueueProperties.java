@@ -9,6 +9,11 @@ public class QueueProperties implements InitializingBean {
     private String exchange;
     private String routingKey;
     private String queue;
+    private boolean batchEnabled;
+    private int batchSize;
+    private long batchReceiveTimeout;
+    private int prefetch;
+    private int concurrency;
 
     private static final Logger log = LoggerFactory.getLogger(QueueProperties.class);
 
@@ -32,6 +37,16 @@ public class QueueProperties implements InitializingBean {
                ", queue='" +
                queue +
                '\'' +
+               ", batchEnabled=" +
+               batchEnabled +
+               ", batchSize=" +
+               batchSize +
+               ", batchReceiveTimeout=" +
+               batchReceiveTimeout +
+               ", prefetch=" +
+               prefetch +
+               ", concurrency=" +
+               concurrency +
                '}';
     }
 
@@ -58,4 +73,44 @@ public class QueueProperties implements InitializingBean {
     public void setQueue(String queue) {
         this.queue = queue;
     }
+
+    public boolean isBatchEnabled() {
+        return batchEnabled;
+    }
+
+    public void setBatchEnabled(boolean batchEnabled) {
+        this.batchEnabled = batchEnabled;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    public long getBatchReceiveTimeout() {
+        return batchReceiveTimeout;
+    }
+
+    public void setBatchReceiveTimeout(long batchReceiveTimeout) {
+        this.batchReceiveTimeout = batchReceiveTimeout;
+    }
+
+    public int getPrefetch() {
+        return prefetch;
+    }
+
+    public void setPrefetch(int prefetch) {
+        this.prefetch = prefetch;
+    }
+
+    public int getConcurrency() {
+        return concurrency;
+    }
+
+    public void setConcurrency(int concurrency) {
+        this.concurrency = concurrency;
+    }
 }
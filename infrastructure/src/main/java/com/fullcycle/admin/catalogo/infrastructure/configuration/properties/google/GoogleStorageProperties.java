@@ -15,6 +15,7 @@ public class GoogleStorageProperties implements InitializingBean {
     private int retryMaxAttempts;
     private int retryMaxDelay;
     private double retryMultiplier;
+    private int uploadChunkSize;
 
     public String getBucket() {
         return bucket;
@@ -72,6 +73,14 @@ public class GoogleStorageProperties implements InitializingBean {
         this.retryMultiplier = retryMultiplier;
     }
 
+    public int getUploadChunkSize() {
+        return uploadChunkSize;
+    }
+
+    public void setUploadChunkSize(int uploadChunkSize) {
+        this.uploadChunkSize = uploadChunkSize;
+    }
+
     @Override
     public void afterPropertiesSet() {
         log.debug(toString());
@@ -87,6 +96,7 @@ public class GoogleStorageProperties implements InitializingBean {
                 ", retryMaxAttempts=" + retryMaxAttempts +
                 ", retryMaxDelay=" + retryMaxDelay +
                 ", retryMultiplier=" + retryMultiplier +
+                ", uploadChunkSize=" + uploadChunkSize +
                 '}';
     }
 }
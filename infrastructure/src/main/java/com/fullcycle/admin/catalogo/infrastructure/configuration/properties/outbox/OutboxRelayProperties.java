@@ -0,0 +1,55 @@
+package com.fullcycle.admin.catalogo.infrastructure.configuration.properties.outbox;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.InitializingBean;
+
+public class OutboxRelayProperties implements InitializingBean {
+
+    private static final Logger log = LoggerFactory.getLogger(OutboxRelayProperties.class);
+
+    private int batchSize;
+    private long confirmTimeout;
+    private long lease;
+
+    public OutboxRelayProperties() {
+    }
+
+    @Override
+    public void afterPropertiesSet() throws Exception {
+        log.debug(toString());
+    }
+
+    @Override
+    public String toString() {
+        return "OutboxRelayProperties{" +
+               "batchSize=" + batchSize +
+               ", confirmTimeout=" + confirmTimeout +
+               ", lease=" + lease +
+               '}';
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    public long getConfirmTimeout() {
+        return confirmTimeout;
+    }
+
+    public void setConfirmTimeout(long confirmTimeout) {
+        this.confirmTimeout = confirmTimeout;
+    }
+
+    public long getLease() {
+        return lease;
+    }
+
+    public void setLease(long lease) {
+        this.lease = lease;
+    }
+}
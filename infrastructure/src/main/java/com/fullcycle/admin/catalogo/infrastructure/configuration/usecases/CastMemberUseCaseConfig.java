@@ -1,6 +1,8 @@
 package com.fullcycle.admin.catalogo.infrastructure.configuration.usecases;
 
+import com.fullcycle.admin.catalogo.application.castmember.create.CreateCastMemberBatchUseCase;
 import com.fullcycle.admin.catalogo.application.castmember.create.CreateCastMemberUseCase;
+import com.fullcycle.admin.catalogo.application.castmember.create.DefaultCreateCastMemberBatchUseCase;
 import com.fullcycle.admin.catalogo.application.castmember.create.DefaultCreateCastMemberUseCase;
 import com.fullcycle.admin.catalogo.application.castmember.delete.DefaultDeleteCastMemberUseCase;
 import com.fullcycle.admin.catalogo.application.castmember.delete.DeleteCastMemberUseCase;
@@ -30,6 +32,11 @@ public class CastMemberUseCaseConfig {
         return new DefaultCreateCastMemberUseCase(castMemberGateway);
     }
 
+    @Bean
+    public CreateCastMemberBatchUseCase createCastMemberBatchUseCase() {
+        return new DefaultCreateCastMemberBatchUseCase(castMemberGateway);
+    }
+
     @Bean
     public DeleteCastMemberUseCase deleteCastMemberUseCase() {
         return new DefaultDeleteCastMemberUseCase(castMemberGateway);
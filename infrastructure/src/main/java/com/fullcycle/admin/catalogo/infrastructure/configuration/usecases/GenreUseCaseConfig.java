@@ -1,6 +1,8 @@
 package com.fullcycle.admin.catalogo.infrastructure.configuration.usecases;
 
+import com.fullcycle.admin.catalogo.application.genre.create.CreateGenreBatchUseCase;
 import com.fullcycle.admin.catalogo.application.genre.create.CreateGenreUseCase;
+import com.fullcycle.admin.catalogo.application.genre.create.DefaultCreateGenreBatchUseCase;
 import com.fullcycle.admin.catalogo.application.genre.create.DefaultCreateGenreUseCase;
 import com.fullcycle.admin.catalogo.application.genre.delete.DefaultDeleteGenreUseCase;
 import com.fullcycle.admin.catalogo.application.genre.delete.DeleteGenreUseCase;
@@ -32,6 +34,11 @@ public class GenreUseCaseConfig {
         return new DefaultCreateGenreUseCase(categoryGateway, genreGateway);
     }
 
+    @Bean
+    public CreateGenreBatchUseCase createGenreBatchUseCase(final GenreGateway genreGateway, final CategoryGateway categoryGateway) {
+        return new DefaultCreateGenreBatchUseCase(categoryGateway, genreGateway);
+    }
+
     @Bean
     public ListGenreUseCase listGenresUseCase(final GenreGateway genreGateway) {
         return new DefaultListGenreUseCase(genreGateway);
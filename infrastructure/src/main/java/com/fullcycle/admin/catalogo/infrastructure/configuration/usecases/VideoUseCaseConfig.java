@@ -1,15 +1,21 @@
 package com.fullcycle.admin.catalogo.infrastructure.configuration.usecases;
 
+import com.fullcycle.admin.catalogo.application.video.create.CreateVideoBatchUseCase;
 import com.fullcycle.admin.catalogo.application.video.create.CreateVideoUseCase;
+import com.fullcycle.admin.catalogo.application.video.create.DefaultCreateVideoBatchUseCase;
 import com.fullcycle.admin.catalogo.application.video.create.DefaultCreateVideoUseCase;
 import com.fullcycle.admin.catalogo.application.video.delete.DefaultDeleteVideoUseCase;
 import com.fullcycle.admin.catalogo.application.video.delete.DeleteVideoUseCase;
 import com.fullcycle.admin.catalogo.application.video.media.get.DefaultGetMediaUseCase;
 import com.fullcycle.admin.catalogo.application.video.media.get.GetMediaUseCase;
+import com.fullcycle.admin.catalogo.application.video.media.update.DefaultUpdateMediaStatusBatchUseCase;
 import com.fullcycle.admin.catalogo.application.video.media.update.DefaultUpdateMediaStatusUseCase;
+import com.fullcycle.admin.catalogo.application.video.media.update.UpdateMediaStatusBatchUseCase;
 import com.fullcycle.admin.catalogo.application.video.media.update.UpdateMediaStatusUseCase;
 import com.fullcycle.admin.catalogo.application.video.media.upload.DefaultUploadMediaUseCase;
 import com.fullcycle.admin.catalogo.application.video.media.upload.UploadMediaUseCase;
+import com.fullcycle.admin.catalogo.application.video.retrieve.facets.DefaultListVideoFacetsUseCase;
+import com.fullcycle.admin.catalogo.application.video.retrieve.facets.ListVideoFacetsUseCase;
 import com.fullcycle.admin.catalogo.application.video.retrieve.get.DefaultGetVideoByIdUseCase;
 import com.fullcycle.admin.catalogo.application.video.retrieve.get.GetVideoByIdUseCase;
 import com.fullcycle.admin.catalogo.application.video.retrieve.list.DefaultListVideosUseCase;
@@ -21,6 +27,8 @@ import com.fullcycle.admin.catalogo.domain.category.CategoryGateway;
 import com.fullcycle.admin.catalogo.domain.genre.GenreGateway;
 import com.fullcycle.admin.catalogo.domain.video.MediaResourceGateway;
 import com.fullcycle.admin.catalogo.domain.video.VideoGateway;
+import com.fullcycle.admin.catalogo.infrastructure.video.CachedGetVideoByIdUseCase;
+import com.fullcycle.admin.catalogo.infrastructure.video.VideoDetailCache;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -54,6 +62,11 @@ public class VideoUseCaseConfig {
         return new DefaultCreateVideoUseCase(categoryGateway, genreGateway, castMemberGateway, videoGateway, mediaResourceGateway);
     }
 
+    @Bean
+    public CreateVideoBatchUseCase createVideoBatchUseCase() {
+        return new DefaultCreateVideoBatchUseCase(categoryGateway, genreGateway, castMemberGateway, videoGateway);
+    }
+
     @Bean
     public DeleteVideoUseCase deleteVideoUseCase() {
         return new DefaultDeleteVideoUseCase(videoGateway, mediaResourceGateway);
@@ -65,8 +78,8 @@ public class VideoUseCaseConfig {
     }
 
     @Bean
-    public GetVideoByIdUseCase getVideoByIdUseCase() {
-        return new DefaultGetVideoByIdUseCase(videoGateway);
+    public GetVideoByIdUseCase getVideoByIdUseCase(final VideoDetailCache videoDetailCache) {
+        return new CachedGetVideoByIdUseCase(new DefaultGetVideoByIdUseCase(videoGateway), videoDetailCache);
     }
 
     @Bean
@@ -74,11 +87,21 @@ public class VideoUseCaseConfig {
         return new DefaultListVideosUseCase(videoGateway);
     }
 
+    @Bean
+    public ListVideoFacetsUseCase listVideoFacetsUseCase() {
+        return new DefaultListVideoFacetsUseCase(videoGateway);
+    }
+
     @Bean
     public UpdateMediaStatusUseCase updateMediaStatusUseCase() {
         return new DefaultUpdateMediaStatusUseCase(videoGateway);
     }
 
+    @Bean
+    public UpdateMediaStatusBatchUseCase updateMediaStatusBatchUseCase() {
+        return new DefaultUpdateMediaStatusBatchUseCase(videoGateway);
+    }
+
     @Bean
     public UploadMediaUseCase uploadMediaUseCase() {
         return new DefaultUploadMediaUseCase(videoGateway, mediaResourceGateway);
@@ -0,0 +1,122 @@
+package com.fullcycle.admin.catalogo.infrastructure.export;
+
+import com.fullcycle.admin.catalogo.infrastructure.castmember.models.CastMemberExportRow;
+import com.fullcycle.admin.catalogo.infrastructure.castmember.persistence.CastMemberRepository;
+import com.fullcycle.admin.catalogo.infrastructure.category.models.CategoryExportRow;
+import com.fullcycle.admin.catalogo.infrastructure.category.persistence.CategoryRepository;
+import com.fullcycle.admin.catalogo.infrastructure.genre.models.GenreExportRow;
+import com.fullcycle.admin.catalogo.infrastructure.genre.persistence.GenreRepository;
+import com.fullcycle.admin.catalogo.infrastructure.video.models.VideoExportRow;
+import com.fullcycle.admin.catalogo.infrastructure.video.persistence.VideoRepository;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Dumps the whole catalogue. Rows are streamed from the database as projections, so they are
+ * never attached to the persistence context, and written as soon as they are read. Relation
+ * ids are loaded for chunks of rows with one query per relation.
+ */
+@Component
+public class CatalogExporter {
+
+    private static final int CHUNK_SIZE = 500;
+
+    private final CategoryRepository categoryRepository;
+    private final GenreRepository genreRepository;
+    private final CastMemberRepository castMemberRepository;
+    private final VideoRepository videoRepository;
+
+    public CatalogExporter(
+        final CategoryRepository categoryRepository,
+        final GenreRepository genreRepository,
+        final CastMemberRepository castMemberRepository,
+        final VideoRepository videoRepository
+    ) {
+        this.categoryRepository = categoryRepository;
+        this.genreRepository = genreRepository;
+        this.castMemberRepository = castMemberRepository;
+        this.videoRepository = videoRepository;
+    }
+
+    @Transactional(readOnly = true)
+    public void exportCategories(final ExportFormat format, final OutputStream out) {
+        final var writer = ExportWriter.of(format, out, CategoryExportRow.COLUMNS);
+        try (final var rows = this.categoryRepository.streamAllForExport()) {
+            rows.forEach(writer::write);
+        }
+        writer.flush();
+    }
+
+    @Transactional(readOnly = true)
+    public void exportCastMembers(final ExportFormat format, final OutputStream out) {
+        final var writer = ExportWriter.of(format, out, CastMemberExportRow.COLUMNS);
+        try (final var rows = this.castMemberRepository.streamAllForExport()) {
+            rows.forEach(writer::write);
+        }
+        writer.flush();
+    }
+
+    @Transactional(readOnly = true)
+    public void exportGenres(final ExportFormat format, final OutputStream out) {
+        final var writer = ExportWriter.of(format, out, GenreExportRow.COLUMNS);
+        try (final var rows = this.genreRepository.streamAllForExport()) {
+            inChunks(rows, chunk -> {
+                final var ids = chunk.stream().map(GenreExportRow::id).toList();
+                final var categories = byOwner(this.genreRepository.findCategoryIds(ids));
+
+                chunk.forEach(it -> writer.write(it.withCategories(categories.getOrDefault(it.id(), List.of()))));
+            });
+        }
+        writer.flush();
+    }
+
+    @Transactional(readOnly = true)
+    public void exportVideos(final ExportFormat format, final OutputStream out) {
+        final var writer = ExportWriter.of(format, out, VideoExportRow.COLUMNS);
+        try (final var rows = this.videoRepository.streamAllForExport()) {
+            inChunks(rows, chunk -> {
+                final var ids = chunk.stream().map(VideoExportRow::id).toList();
+                final var categories = byOwner(this.videoRepository.findCategoryIds(ids));
+                final var genres = byOwner(this.videoRepository.findGenreIds(ids));
+                final var members = byOwner(this.videoRepository.findCastMemberIds(ids));
+
+                chunk.forEach(it -> writer.write(it.withRelations(
+                    categories.getOrDefault(it.id(), List.of()),
+                    genres.getOrDefault(it.id(), List.of()),
+                    members.getOrDefault(it.id(), List.of())
+                )));
+            });
+        }
+        writer.flush();
+    }
+
+    private static <T> void inChunks(final Stream<T> rows, final Consumer<List<T>> onChunk) {
+        final var chunk = new ArrayList<T>(CHUNK_SIZE);
+        final var iterator = rows.iterator();
+        while (iterator.hasNext()) {
+            chunk.add(iterator.next());
+            if (chunk.size() == CHUNK_SIZE) {
+                onChunk.accept(chunk);
+                chunk.clear();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            onChunk.accept(chunk);
+        }
+    }
+
+    private static Map<String, List<String>> byOwner(final List<RelationId> relations) {
+        return relations.stream().collect(Collectors.groupingBy(
+            RelationId::ownerId,
+            Collectors.mapping(RelationId::relatedId, Collectors.toList())
+        ));
+    }
+}
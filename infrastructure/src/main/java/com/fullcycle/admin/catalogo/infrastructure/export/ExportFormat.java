@@ -0,0 +1,33 @@
+package com.fullcycle.admin.catalogo.infrastructure.export;
+
+import org.springframework.http.MediaType;
+
+import java.util.Arrays;
+import java.util.Optional;
+
+public enum ExportFormat {
+    NDJSON("ndjson", MediaType.APPLICATION_NDJSON),
+    CSV("csv", new MediaType("text", "csv"));
+
+    private final String extension;
+    private final MediaType mediaType;
+
+    ExportFormat(final String extension, final MediaType mediaType) {
+        this.extension = extension;
+        this.mediaType = mediaType;
+    }
+
+    public static Optional<ExportFormat> of(final String value) {
+        return Arrays.stream(ExportFormat.values())
+            .filter(it -> it.extension.equalsIgnoreCase(value))
+            .findFirst();
+    }
+
+    public String extension() {
+        return extension;
+    }
+
+    public MediaType mediaType() {
+        return mediaType;
+    }
+}
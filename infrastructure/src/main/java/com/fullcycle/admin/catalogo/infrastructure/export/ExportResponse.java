@@ -0,0 +1,40 @@
+package com.fullcycle.admin.catalogo.infrastructure.export;
+
+import com.fullcycle.admin.catalogo.domain.exceptions.NotificationException;
+import com.fullcycle.admin.catalogo.domain.validation.Error;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.OutputStream;
+import java.util.function.BiConsumer;
+
+public final class ExportResponse {
+
+    private ExportResponse() {}
+
+    /**
+     * Builds a response that runs the export while it is being sent, as a file named after
+     * the exported aggregate.
+     */
+    public static ResponseEntity<StreamingResponseBody> of(
+        final String format,
+        final String name,
+        final BiConsumer<ExportFormat, OutputStream> exporter
+    ) {
+        final var aFormat = ExportFormat.of(format)
+            .orElseThrow(() -> NotificationException.with(new Error("Export format %s is not supported".formatted(format))));
+
+        final var disposition = ContentDisposition.attachment()
+            .filename("%s.%s".formatted(name, aFormat.extension()))
+            .build();
+
+        final StreamingResponseBody body = out -> exporter.accept(aFormat, out);
+
+        return ResponseEntity.ok()
+            .contentType(aFormat.mediaType())
+            .header(HttpHeaders.CONTENT_DISPOSITION, disposition.toString())
+            .body(body);
+    }
+}
@@ -0,0 +1,12 @@
+package com.fullcycle.admin.catalogo.infrastructure.export;
+
+import java.util.List;
+
+/**
+ * A row of an export. NDJSON lines are the JSON of the row itself, CSV lines are its
+ * {@link #values()} in the order of the columns given to the {@link ExportWriter}.
+ */
+public interface ExportRow {
+
+    List<Object> values();
+}
@@ -0,0 +1,86 @@
+package com.fullcycle.admin.catalogo.infrastructure.export;
+
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fullcycle.admin.catalogo.infrastructure.configuration.json.Json;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Writes export rows one by one to a buffered stream, so the response is sent as it is
+ * produced and nothing but the current row is held in memory.
+ */
+public final class ExportWriter {
+
+    private static final ObjectWriter JSON = Json.mapper().writer();
+    private static final String CSV_SEPARATOR = ",";
+    private static final String CSV_LIST_SEPARATOR = "|";
+
+    private final ExportFormat format;
+    private final OutputStream out;
+
+    private ExportWriter(final ExportFormat format, final OutputStream out) {
+        this.format = format;
+        this.out = new BufferedOutputStream(out);
+    }
+
+    public static ExportWriter of(final ExportFormat format, final OutputStream out, final List<String> columns) {
+        final var writer = new ExportWriter(format, out);
+        if (format == ExportFormat.CSV) {
+            writer.writeLine(columns.stream().map(ExportWriter::csv).collect(Collectors.joining(CSV_SEPARATOR)));
+        }
+        return writer;
+    }
+
+    public void write(final ExportRow row) {
+        switch (format) {
+            case NDJSON -> writeLine(json(row));
+            case CSV -> writeLine(row.values().stream().map(ExportWriter::csv).collect(Collectors.joining(CSV_SEPARATOR)));
+        }
+    }
+
+    public void flush() {
+        try {
+            out.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void writeLine(final String line) {
+        try {
+            out.write(line.getBytes(StandardCharsets.UTF_8));
+            out.write('\n');
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static String json(final ExportRow row) {
+        try {
+            return JSON.writeValueAsString(row);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static String csv(final Object value) {
+        if (value == null) {
+            return "";
+        }
+        final var text = value instanceof Collection<?> values
+            ? values.stream().map(String::valueOf).collect(Collectors.joining(CSV_LIST_SEPARATOR))
+            : value.toString();
+
+        if (text.contains(CSV_SEPARATOR) || text.contains("\"") || text.contains("\n") || text.contains("\r")) {
+            return "\"" + text.replace("\"", "\"\"") + "\"";
+        }
+        return text;
+    }
+}
@@ -0,0 +1,7 @@
+package com.fullcycle.admin.catalogo.infrastructure.export;
+
+/**
+ * A row of a join table, used to attach relation ids to a chunk of exported rows.
+ */
+public record RelationId(String ownerId, String relatedId) {
+}
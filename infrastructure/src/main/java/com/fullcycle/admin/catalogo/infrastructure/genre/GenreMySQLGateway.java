@@ -4,28 +4,56 @@ import com.fullcycle.admin.catalogo.domain.category.CategoryID;
 import com.fullcycle.admin.catalogo.domain.genre.Genre;
 import com.fullcycle.admin.catalogo.domain.genre.GenreGateway;
 import com.fullcycle.admin.catalogo.domain.genre.GenreID;
+import com.fullcycle.admin.catalogo.domain.pagination.CountMode;
 import com.fullcycle.admin.catalogo.domain.pagination.Pagination;
 import com.fullcycle.admin.catalogo.domain.pagination.SearchQuery;
+import com.fullcycle.admin.catalogo.infrastructure.export.RelationId;
 import com.fullcycle.admin.catalogo.infrastructure.genre.persistence.GenreJpaEntity;
 import com.fullcycle.admin.catalogo.infrastructure.genre.persistence.GenreRepository;
+import com.fullcycle.admin.catalogo.infrastructure.utils.CountCache;
+import com.fullcycle.admin.catalogo.infrastructure.utils.CursorUtils;
+import com.fullcycle.admin.catalogo.infrastructure.utils.ExistenceCache;
 import com.fullcycle.admin.catalogo.infrastructure.utils.SpecificationUtils;
+import com.fullcycle.admin.catalogo.infrastructure.utils.SqlUtils;
+import com.fullcycle.admin.catalogo.infrastructure.video.VideoRelationChanges;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import java.util.stream.StreamSupport;
 
 @Component
 public class GenreMySQLGateway implements GenreGateway {
 
     private final GenreRepository genreRepository;
-
-    public GenreMySQLGateway(final GenreRepository genreRepository) {
+    private final CountCache counts = new CountCache();
+    private final ExistenceCache<GenreID> existing = new ExistenceCache<>();
+    private final VideoRelationChanges videoRelationChanges;
+    private final boolean fullText;
+
+    public GenreMySQLGateway(
+        final GenreRepository genreRepository,
+        final VideoRelationChanges videoRelationChanges,
+        @Value("${search.full-text:false}") final boolean fullText,
+        final ObjectProvider<MeterRegistry> meterRegistry
+    ) {
         this.genreRepository = Objects.requireNonNull(genreRepository);
+        this.videoRelationChanges = Objects.requireNonNull(videoRelationChanges);
+        this.fullText = fullText;
+        meterRegistry.ifAvailable(registry -> {
+            this.existing.monitor(registry, "genre.existence");
+            this.counts.monitor(registry, "genre.count");
+        });
     }
 
     @Override
@@ -34,16 +62,42 @@ public class GenreMySQLGateway implements GenreGateway {
     }
 
     @Override
+    @Transactional
+    public List<Genre> createAll(final List<Genre> genres) {
+        return this.genreRepository.saveAll(genres.stream().map(GenreJpaEntity::from).toList()).stream()
+            .map(GenreJpaEntity::toAggregate)
+            .toList();
+    }
+
+    @Override
+    @Transactional
     public Genre update(final Genre aGenre) {
-        return save(aGenre);
+        return this.genreRepository.findById(aGenre.getId().getValue())
+            .map(it -> it.update(aGenre))
+            .orElseGet(() -> this.genreRepository.save(GenreJpaEntity.from(aGenre)))
+            .toAggregate();
     }
 
     @Override
+    @Transactional
     public void deleteById(final GenreID anID) {
-        final var genreId = anID.getValue();
-        if (this.genreRepository.existsById(genreId)) {
-            this.genreRepository.deleteById(genreId);
+        deleteAllById(List.of(anID));
+    }
+
+    @Override
+    @Transactional
+    public int deleteAllById(final Iterable<GenreID> genreIDs) {
+        final var ids = StreamSupport.stream(genreIDs.spliterator(), false)
+            .map(GenreID::getValue)
+            .toList();
+        if (ids.isEmpty()) {
+            return 0;
         }
+        final var videoIds = this.videoRelationChanges.ofGenres(ids);
+        final var deleted = this.genreRepository.deleteAllByIds(ids);
+        this.videoRelationChanges.changed(videoIds);
+        this.existing.invalidate(genreIDs);
+        return deleted;
     }
 
     @Override
@@ -52,6 +106,7 @@ public class GenreMySQLGateway implements GenreGateway {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Pagination<Genre> findAll(SearchQuery aQuery) {
 
         final var page = PageRequest.of(
@@ -60,31 +115,98 @@ public class GenreMySQLGateway implements GenreGateway {
             Sort.by(Sort.Direction.fromString(aQuery.direction()), aQuery.sort())
         );
 
-        final var where = Optional.ofNullable(aQuery.terms())
-            .filter(str -> !str.isBlank())
-            .map(this::assembleSpecification)
-            .orElse(null);
+        final var fullTextTerms = fullTextOf(aQuery);
+        final var where = fullTextTerms != null
+            ? SpecificationUtils.<GenreJpaEntity>match(fullTextTerms, "name")
+            : Optional.ofNullable(aQuery.terms())
+                .filter(str -> !str.isBlank())
+                .map(this::assembleSpecification)
+                .orElse(null);
+
+        if (aQuery.isKeyset()) {
+            return findAllAfter(aQuery, where);
+        }
+
+        // full-text matches come ordered by relevance, the page sort only breaks ties
+        if (fullTextTerms != null || aQuery.countMode() != CountMode.EXACT) {
+            final var sliceResults = this.genreRepository.findSlice(
+                fullTextTerms != null
+                    ? SpecificationUtils.<GenreJpaEntity>byRelevance(fullTextTerms, "name").and(where)
+                    : where,
+                page
+            );
+            return new Pagination<>(
+                sliceResults.getNumber(),
+                sliceResults.getSize(),
+                total(aQuery, where),
+                toAggregates(sliceResults.getContent())
+            );
+        }
 
         final var pageResults = this.genreRepository.findAll(Specification.where(where), page);
         return new Pagination<>(
             pageResults.getNumber(),
             pageResults.getSize(),
             pageResults.getTotalElements(),
-            pageResults
-                .map(GenreJpaEntity::toAggregate)
-                .toList()
+            toAggregates(pageResults.getContent())
+        );
+    }
+
+    private Pagination<Genre> findAllAfter(final SearchQuery aQuery, final Specification<GenreJpaEntity> where) {
+        final var direction = Sort.Direction.fromString(aQuery.direction());
+        final var after = CursorUtils.decode(aQuery.cursor())
+            .map(cursor -> CursorUtils.<GenreJpaEntity>after(aQuery.sort(), direction, cursor))
+            .orElse(null);
+
+        // projecting the columns keeps the eager categories out of the select
+        final var rows = this.genreRepository.findBy(
+            Specification.where(where).and(after),
+            q -> q.project("id", "name", "active", "createdAt", "updatedAt", "deletedAt")
+                .sortBy(CursorUtils.sort(aQuery.sort(), direction))
+                .limit(aQuery.perPage() + 1)
+                .all()
         );
+
+        final var page = CursorUtils.page(rows, aQuery.perPage(), total(aQuery, where), aQuery.sort(), GenreJpaEntity::getId, Function.identity());
+        return new Pagination<>(page.currentPage(), page.perPage(), page.total(), toAggregates(page.items()), page.nextCursor());
+    }
+
+    /**
+     * Reads the category ids of a whole page of genres with one query.
+     */
+    private List<Genre> toAggregates(final List<GenreJpaEntity> genres) {
+        if (genres.isEmpty()) {
+            return List.of();
+        }
+
+        final var categories = this.genreRepository.findCategoryIds(genres.stream().map(GenreJpaEntity::getId).toList()).stream()
+            .collect(Collectors.groupingBy(
+                RelationId::ownerId,
+                Collectors.mapping(it -> CategoryID.from(it.relatedId()), Collectors.toList())
+            ));
+
+        return genres.stream()
+            .map(it -> it.toAggregate(categories.getOrDefault(it.getId(), List.of())))
+            .toList();
+    }
+
+    private long total(final SearchQuery aQuery, final Specification<GenreJpaEntity> where) {
+        return this.counts.total(aQuery.countMode(), termsOf(aQuery), () -> this.genreRepository.count(Specification.where(where)));
+    }
+
+    private static String termsOf(final SearchQuery aQuery) {
+        return Optional.ofNullable(aQuery.terms()).filter(str -> !str.isBlank()).orElse(null);
+    }
+
+    private String fullTextOf(final SearchQuery aQuery) {
+        return this.fullText ? SqlUtils.fullText(termsOf(aQuery)) : null;
     }
 
     @Override
     public List<GenreID> existsByIds(Iterable<GenreID> genreIDS) {
-        final var ids = StreamSupport.stream(genreIDS.spliterator(), false)
-                .map(GenreID::getValue)
-                .toList();
-        return this.genreRepository.existsByIds(ids)
-                .stream()
-                .map(GenreID::from)
-                .toList();
+        return this.existing.existsByIds(genreIDS, missing -> this.genreRepository.existsByIds(
+            missing.stream().map(GenreID::getValue).toList()
+        ).stream().map(GenreID::from).toList());
     }
 
     private Specification<GenreJpaEntity> assembleSpecification(final String terms) {
@@ -0,0 +1,45 @@
+package com.fullcycle.admin.catalogo.infrastructure.genre.models;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fullcycle.admin.catalogo.infrastructure.export.ExportRow;
+
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+
+public record GenreExportRow(
+    @JsonProperty("id") String id,
+    @JsonProperty("name") String name,
+    @JsonProperty("is_active") Boolean active,
+    @JsonProperty("categories_id") List<String> categories,
+    @JsonProperty("created_at") Instant createdAt,
+    @JsonProperty("updated_at") Instant updatedAt,
+    @JsonProperty("deleted_at") Instant deletedAt
+) implements ExportRow {
+
+    public static final List<String> COLUMNS =
+        List.of("id", "name", "is_active", "categories_id", "created_at", "updated_at", "deleted_at");
+
+    /**
+     * Used by the export query, the categories are attached afterwards for a whole chunk.
+     */
+    public GenreExportRow(
+        final String id,
+        final String name,
+        final Boolean active,
+        final Instant createdAt,
+        final Instant updatedAt,
+        final Instant deletedAt
+    ) {
+        this(id, name, active, List.of(), createdAt, updatedAt, deletedAt);
+    }
+
+    public GenreExportRow withCategories(final List<String> categories) {
+        return new GenreExportRow(id, name, active, categories, createdAt, updatedAt, deletedAt);
+    }
+
+    @Override
+    public List<Object> values() {
+        return Arrays.asList(id, name, active, categories, createdAt, updatedAt, deletedAt);
+    }
+}
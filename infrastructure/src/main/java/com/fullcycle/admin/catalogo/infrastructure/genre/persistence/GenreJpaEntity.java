@@ -15,12 +15,27 @@ import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.Id;
+import jakarta.persistence.NamedEntityGraph;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
+import org.hibernate.annotations.DynamicUpdate;
+import org.springframework.data.domain.Persistable;
 
 @Entity(name = "Genre")
+@DynamicUpdate
 @Table(name = "genres")
-public class GenreJpaEntity {
+@NamedEntityGraph(name = GenreJpaEntity.WITHOUT_CATEGORIES)
+public class GenreJpaEntity implements Persistable<String> {
+
+    /**
+     * Used as a fetch graph, it leaves the eager categories unloaded so pages of genres take a
+     * single select; their ids are then read for the whole page at once.
+     */
+    public static final String WITHOUT_CATEGORIES = "Genre.withoutCategories";
+
     @Id
     @Column(name = "id", nullable = false)
     private String id;
@@ -36,6 +51,8 @@ public class GenreJpaEntity {
     private Instant updatedAt;
     @Column(name = "deleted_at", columnDefinition = "DATETIME(6)")
     private Instant deletedAt;
+    @Transient
+    private boolean persisted;
 
     public GenreJpaEntity() {}
 
@@ -69,12 +86,37 @@ public class GenreJpaEntity {
         return entity;
     }
 
+    /**
+     * Copies the aggregate state into this managed entity. Only the removed categories are
+     * deleted and only the new ones are inserted, the untouched join rows are kept as they are.
+     */
+    public GenreJpaEntity update(final Genre aGenre) {
+        this.name = aGenre.getName();
+        this.active = aGenre.isActive();
+        this.updatedAt = aGenre.getUpdatedAt();
+        this.deletedAt = aGenre.getDeletedAt();
+
+        final var expected = new HashSet<>(aGenre.getCategories());
+        this.categories.removeIf(it -> !expected.contains(CategoryID.from(it.getId().getCategoryId())));
+        getCategoriesIds().forEach(expected::remove);
+        expected.forEach(this::addCategory);
+        return this;
+    }
+
     public Genre toAggregate() {
+        return toAggregate(getCategoriesIds());
+    }
+
+    /**
+     * Builds the aggregate with category ids loaded elsewhere, without touching the categories
+     * of this entity.
+     */
+    public Genre toAggregate(final List<CategoryID> categories) {
         return Genre.with(
                 GenreID.from(getId()),
                 getName(),
                 isActive(),
-                getCategoriesIds(),
+                categories,
                 getCreatedAt(),
                 getUpdatedAt(),
                 getDeletedAt()
@@ -163,4 +205,15 @@ public class GenreJpaEntity {
     public int hashCode() {
         return Objects.hash(getId());
     }
+
+    @Override
+    public boolean isNew() {
+        return !this.persisted;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markPersisted() {
+        this.persisted = true;
+    }
 }
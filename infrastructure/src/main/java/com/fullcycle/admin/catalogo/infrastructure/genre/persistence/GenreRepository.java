@@ -1,19 +1,64 @@
 package com.fullcycle.admin.catalogo.infrastructure.genre.persistence;
 
+import com.fullcycle.admin.catalogo.infrastructure.configuration.persistence.SliceSpecificationExecutor;
+import com.fullcycle.admin.catalogo.infrastructure.export.RelationId;
+import com.fullcycle.admin.catalogo.infrastructure.genre.models.GenreExportRow;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.beans.PropertyValues;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
-public interface GenreRepository extends JpaRepository<GenreJpaEntity, String> {
+public interface GenreRepository extends JpaRepository<GenreJpaEntity, String>, JpaSpecificationExecutor<GenreJpaEntity>,
+    SliceSpecificationExecutor<GenreJpaEntity> {
 
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    @EntityGraph(value = GenreJpaEntity.WITHOUT_CATEGORIES, type = EntityGraph.EntityGraphType.FETCH)
     Page<GenreJpaEntity> findAll(Specification<GenreJpaEntity> whereClause, Pageable page);
 
+    @Override
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    @EntityGraph(value = GenreJpaEntity.WITHOUT_CATEGORIES, type = EntityGraph.EntityGraphType.FETCH)
+    Slice<GenreJpaEntity> findSlice(Specification<GenreJpaEntity> spec, Pageable page);
+
     @Query(value = "select g.id from Genre g where g.id in :ids")
     List<String> existsByIds(List<String> ids);
 
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from Genre g where g.id in :ids")
+    int deleteAllByIds(@Param("ids") Collection<String> ids);
+
+    /**
+     * Streams every genre as an export row, without its categories, fetching from a server
+     * side cursor.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("""
+            select new com.fullcycle.admin.catalogo.infrastructure.genre.models.GenreExportRow(
+                g.id, g.name, g.active, g.createdAt, g.updatedAt, g.deletedAt
+            )
+            from Genre g
+            order by g.id
+            """)
+    Stream<GenreExportRow> streamAllForExport();
+
+    @Query("""
+            select new com.fullcycle.admin.catalogo.infrastructure.export.RelationId(gc.id.genreId, gc.id.categoryId)
+            from GenreCategoryJpaEntity gc
+            where gc.id.genreId in :ids
+            """)
+    List<RelationId> findCategoryIds(@Param("ids") Collection<String> ids);
 }
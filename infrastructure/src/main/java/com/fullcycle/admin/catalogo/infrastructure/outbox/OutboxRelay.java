@@ -0,0 +1,95 @@
+package com.fullcycle.admin.catalogo.infrastructure.outbox;
+
+import com.fullcycle.admin.catalogo.domain.utils.IdUtils;
+import com.fullcycle.admin.catalogo.domain.utils.InstantUtils;
+import com.fullcycle.admin.catalogo.infrastructure.outbox.persistence.OutboxEventJpaEntity;
+import com.fullcycle.admin.catalogo.infrastructure.outbox.persistence.OutboxEventRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.amqp.AmqpException;
+import org.springframework.amqp.rabbit.core.RabbitOperations;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Publishes the outbox rows to RabbitMQ in batches. A batch is only deleted after the
+ * broker confirmed every message of it, so delivery is at-least-once: a failed or timed out
+ * batch is published again on the next run and consumers must tolerate duplicates.
+ * <p>
+ * Every instance runs a relay, so a batch is leased before it is published and the other
+ * relays skip it until the lease runs out. The lease must outlast the confirm timeout.
+ */
+public class OutboxRelay {
+
+    private static final Logger log = LoggerFactory.getLogger(OutboxRelay.class);
+
+    private final OutboxEventRepository repository;
+    private final RabbitOperations ops;
+    private final int batchSize;
+    private final long confirmTimeout;
+    private final Duration lease;
+
+    public OutboxRelay(
+        final OutboxEventRepository repository,
+        final RabbitOperations ops,
+        final int batchSize,
+        final long confirmTimeout,
+        final long lease
+    ) {
+        this.repository = Objects.requireNonNull(repository);
+        this.ops = Objects.requireNonNull(ops);
+        this.batchSize = batchSize;
+        this.confirmTimeout = confirmTimeout;
+        this.lease = Duration.ofMillis(lease);
+    }
+
+    @Scheduled(fixedDelayString = "${outbox.relay.interval:1000}")
+    public void relay() {
+        try {
+            while (relayBatch() == this.batchSize) {
+                // drains the backlog before waiting for the next run
+            }
+        } catch (AmqpException e) {
+            log.error("[message:outbox.relay] [status:error] [cause: {}]", e.getMessage());
+        }
+    }
+
+    /**
+     * Publishes the oldest batch of events this relay could claim and returns how many were
+     * relayed.
+     */
+    public int relayBatch() {
+        final var events = claimBatch();
+        if (events.isEmpty()) {
+            return 0;
+        }
+
+        this.ops.invoke(operations -> {
+            events.forEach(event -> operations.convertAndSend(event.getExchange(), event.getRoutingKey(), event.getPayload()));
+            operations.waitForConfirmsOrDie(this.confirmTimeout);
+            return null;
+        });
+
+        this.repository.deleteAllByIdInBatch(events.stream().map(OutboxEventJpaEntity::getId).toList());
+        log.debug("[message:outbox.relay] [status:completed] [events: {}]", events.size());
+        return events.size();
+    }
+
+    private List<OutboxEventJpaEntity> claimBatch() {
+        final var now = InstantUtils.now();
+        final var ids = this.repository.findClaimableIds(now, PageRequest.of(0, this.batchSize));
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+
+        final var claimId = IdUtils.uuid();
+        if (this.repository.claim(ids, claimId, now, now.plus(this.lease)) == 0) {
+            return List.of();
+        }
+        return this.repository.findAllByClaimIdOrderByCreatedAtAsc(claimId);
+    }
+}
@@ -0,0 +1,49 @@
+package com.fullcycle.admin.catalogo.infrastructure.outbox.persistence;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+
+public interface OutboxEventRepository extends JpaRepository<OutboxEventJpaEntity, String> {
+
+    /**
+     * Oldest events that no relay holds a lease on.
+     */
+    @Query("""
+            select e.id from OutboxEvent e
+            where e.claimedUntil is null or e.claimedUntil < :now
+            order by e.createdAt
+            """)
+    List<String> findClaimableIds(@Param("now") Instant now, Pageable page);
+
+    /**
+     * Leases the given events to a claim. The condition is checked again on the locked rows, so
+     * of two relays claiming the same events only the first one gets them.
+     */
+    @Transactional
+    @Modifying
+    @Query("""
+            update OutboxEvent e
+            set e.claimId = :claimId, e.claimedUntil = :claimedUntil
+            where
+                e.id in :ids
+            and
+                (e.claimedUntil is null or e.claimedUntil < :now)
+            """)
+    int claim(
+        @Param("ids") Collection<String> ids,
+        @Param("claimId") String claimId,
+        @Param("now") Instant now,
+        @Param("claimedUntil") Instant claimedUntil
+    );
+
+    List<OutboxEventJpaEntity> findAllByClaimIdOrderByCreatedAtAsc(String claimId);
+
+}
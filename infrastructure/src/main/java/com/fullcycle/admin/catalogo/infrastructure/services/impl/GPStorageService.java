@@ -2,10 +2,16 @@ package com.fullcycle.admin.catalogo.infrastructure.services.impl;
 
 import com.fullcycle.admin.catalogo.domain.resource.Resource;
 import com.fullcycle.admin.catalogo.infrastructure.services.StorageService;
+import com.google.cloud.storage.Blob;
 import com.google.cloud.storage.BlobId;
 import com.google.cloud.storage.BlobInfo;
 import com.google.cloud.storage.Storage;
+import com.google.common.io.ByteStreams;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.channels.Channels;
 import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
@@ -13,12 +19,21 @@ import java.util.stream.StreamSupport;
 
 public class GPStorageService implements StorageService {
 
+    // default chunk of the GCS client, must be a multiple of 256 KiB
+    private static final int DEFAULT_CHUNK_SIZE = 16 * 1024 * 1024;
+
     private final String bucket;
     private final Storage storage;
+    private final int chunkSize;
 
     public GPStorageService(final String bucket, final Storage storage) {
+        this(bucket, storage, DEFAULT_CHUNK_SIZE);
+    }
+
+    public GPStorageService(final String bucket, final Storage storage, final int chunkSize) {
         this.bucket = bucket;
         this.storage = storage;
+        this.chunkSize = chunkSize > 0 ? chunkSize : DEFAULT_CHUNK_SIZE;
     }
 
     @Override
@@ -33,8 +48,8 @@ public class GPStorageService implements StorageService {
     @Override
     public Optional<Resource> get(String name) {
         return Optional.ofNullable(this.storage.get(this.bucket, name))
-                .map(blob -> Resource.with(blob.getCrc32cToHexString(), blob.getContent(), blob.getContentType(),
-                    blob.getName()));
+                .map(blob -> Resource.with(blob.getCrc32cToHexString(), new BlobSource(blob), blob.getSize(),
+                    blob.getContentType(), blob.getName()));
     }
 
     @Override
@@ -52,6 +67,35 @@ public class GPStorageService implements StorageService {
                 .setContentType(resource.contentType())
                 .setCrc32cFromHexString(resource.checksum())
                 .build();
-        this.storage.create(blobInfo, resource.content());
+        // resumable upload: each chunk is retried on its own instead of re-sending the whole file
+        try (
+            final var content = Channels.newChannel(resource.openStream());
+            final var writer = this.storage.writer(blobInfo)
+        ) {
+            writer.setChunkSize(this.chunkSize);
+            ByteStreams.copy(content, writer);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Reads the blob lazily through a {@link com.google.cloud.ReadChannel}, seeking to the
+     * requested range so partial reads never download the skipped bytes.
+     */
+    private record BlobSource(Blob blob) implements Resource.Source {
+
+        @Override
+        public InputStream open() {
+            return Channels.newInputStream(blob.reader());
+        }
+
+        @Override
+        public InputStream open(final long offset, final long length) throws IOException {
+            final var reader = blob.reader();
+            reader.seek(offset);
+            reader.limit(offset + length);
+            return Channels.newInputStream(reader);
+        }
     }
 }
@@ -0,0 +1,31 @@
+package com.fullcycle.admin.catalogo.infrastructure.services.impl;
+
+import com.fullcycle.admin.catalogo.infrastructure.configuration.json.Json;
+import com.fullcycle.admin.catalogo.infrastructure.outbox.persistence.OutboxEventJpaEntity;
+import com.fullcycle.admin.catalogo.infrastructure.outbox.persistence.OutboxEventRepository;
+import com.fullcycle.admin.catalogo.infrastructure.services.EventService;
+
+import java.util.Objects;
+
+/**
+ * Stores the event in the outbox table instead of talking to the broker. Called inside the
+ * gateway transaction, the event is committed or rolled back together with the aggregate;
+ * the {@link com.fullcycle.admin.catalogo.infrastructure.outbox.OutboxRelay} publishes it later.
+ */
+public class OutboxEventService implements EventService {
+
+    private final String exchange;
+    private final String routingKey;
+    private final OutboxEventRepository repository;
+
+    public OutboxEventService(String exchange, String routingKey, OutboxEventRepository repository) {
+        this.exchange = Objects.requireNonNull(exchange);
+        this.routingKey = Objects.requireNonNull(routingKey);
+        this.repository = Objects.requireNonNull(repository);
+    }
+
+    @Override
+    public void send(Object event) {
+        this.repository.save(OutboxEventJpaEntity.with(this.exchange, this.routingKey, Json.writeValueAsString(event)));
+    }
+}
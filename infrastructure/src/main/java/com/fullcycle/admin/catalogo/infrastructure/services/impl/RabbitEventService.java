@@ -1,25 +0,0 @@
-package com.fullcycle.admin.catalogo.infrastructure.services.impl;
-
-import com.fullcycle.admin.catalogo.infrastructure.configuration.json.Json;
-import com.fullcycle.admin.catalogo.infrastructure.services.EventService;
-import org.springframework.amqp.rabbit.core.RabbitOperations;
-
-import java.util.Objects;
-
-public class RabbitEventService implements EventService {
-
-    private final String exchange;
-    private final String routingKey;
-    private final RabbitOperations ops;
-
-    public RabbitEventService(String exchange, String routingKey, RabbitOperations ops) {
-        this.exchange = Objects.requireNonNull(exchange);
-        this.routingKey = Objects.requireNonNull(routingKey);
-        this.ops = Objects.requireNonNull(ops);
-    }
-
-    @Override
-    public void send(Object event) {
-        this.ops.convertAndSend(this.exchange, this.routingKey, Json.writeValueAsString(event));
-    }
-}
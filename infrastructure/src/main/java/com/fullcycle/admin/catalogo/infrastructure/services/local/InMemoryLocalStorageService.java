@@ -44,6 +44,11 @@ public class InMemoryLocalStorageService implements StorageService {
 
     @Override
     public void store(String name, Resource resource) {
+        if (resource.isStreamed()) {
+            // streamed sources (e.g. multipart temp files) do not outlive the request
+            this.storage.put(name, Resource.with(resource.checksum(), resource.content(), resource.contentType(), resource.name()));
+            return;
+        }
         this.storage.put(name, resource);
     }
 }
@@ -0,0 +1,76 @@
+package com.fullcycle.admin.catalogo.infrastructure.utils;
+
+import com.fullcycle.admin.catalogo.domain.pagination.CountMode;
+import com.fullcycle.admin.catalogo.domain.pagination.Pagination;
+import com.google.common.base.Ticker;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.GuavaCacheMetrics;
+
+import java.time.Duration;
+import java.util.function.LongSupplier;
+
+/**
+ * Resolves list totals according to the requested {@link CountMode}. Estimated totals are
+ * exact counts reused for a short time per filter, so paging through the same listing
+ * counts once instead of on every page.
+ */
+public class CountCache {
+
+    private static final long MAX_ENTRIES = 1_000;
+    private static final Duration DEFAULT_TTL = Duration.ofSeconds(30);
+    private static final Object UNFILTERED = new Object();
+
+    private final Cache<Object, Long> totals;
+
+    public CountCache() {
+        this(DEFAULT_TTL, Ticker.systemTicker());
+    }
+
+    public CountCache(final Duration ttl, final Ticker ticker) {
+        this.totals = CacheBuilder.newBuilder()
+            .maximumSize(MAX_ENTRIES)
+            .expireAfterWrite(ttl)
+            .ticker(ticker)
+            .recordStats()
+            .build();
+    }
+
+    public long total(final CountMode mode, final Object filterKey, final LongSupplier exactCount) {
+        return switch (mode) {
+            case EXACT -> exactCount.getAsLong();
+            case ESTIMATE -> estimate(filterKey, exactCount);
+            case NONE -> Pagination.UNKNOWN_TOTAL;
+        };
+    }
+
+    /**
+     * Publishes the size, hits, misses and evictions of the cache under {@code cache=name}.
+     */
+    public CountCache monitor(final MeterRegistry registry, final String name) {
+        GuavaCacheMetrics.monitor(registry, this.totals, name);
+        return this;
+    }
+
+    public void clear() {
+        this.totals.invalidateAll();
+    }
+
+    public CacheStats stats() {
+        return this.totals.stats();
+    }
+
+    private long estimate(final Object filterKey, final LongSupplier exactCount) {
+        final var key = filterKey != null ? filterKey : UNFILTERED;
+        final var cached = this.totals.getIfPresent(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        final var total = exactCount.getAsLong();
+        this.totals.put(key, total);
+        return total;
+    }
+}
@@ -0,0 +1,152 @@
+package com.fullcycle.admin.catalogo.infrastructure.utils;
+
+import com.fullcycle.admin.catalogo.domain.exceptions.DomainException;
+import com.fullcycle.admin.catalogo.domain.pagination.Pagination;
+import com.fullcycle.admin.catalogo.domain.validation.Error;
+import com.fullcycle.admin.catalogo.infrastructure.configuration.json.Json;
+import org.springframework.beans.BeanWrapperImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * Keyset (seek) pagination helpers. A cursor is an opaque, url-safe token holding the sort
+ * key and the id of the last row of a page; the next page starts right after that row.
+ */
+public final class CursorUtils {
+
+    private static final String ID = "id";
+
+    private CursorUtils() {}
+
+    public static Optional<Cursor> decode(final String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return Optional.empty();
+        }
+        try {
+            final var json = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            return Optional.of(Json.readValue(json, Cursor.class))
+                .filter(it -> it.id() != null);
+        } catch (RuntimeException e) {
+            throw invalidCursor();
+        }
+    }
+
+    public static String encode(final Object row, final String sortProperty, final String id) {
+        final var value = valueOf(new BeanWrapperImpl(row).getPropertyValue(sortProperty));
+        final var json = Json.writeValueAsString(new Cursor(value, id));
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(json.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Sorts by the requested property and breaks ties by id, so every row has a unique position.
+     */
+    public static Sort sort(final String sortProperty, final Sort.Direction direction) {
+        return Sort.by(direction, sortProperty).and(Sort.by(direction, ID));
+    }
+
+    /**
+     * Matches the rows positioned after the cursor, considering that MySQL sorts nulls
+     * first in ascending order and last in descending order.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public static <T> Specification<T> after(final String sortProperty, final Sort.Direction direction, final Cursor cursor) {
+        return (root, query, cb) -> {
+            final var asc = direction.isAscending();
+            final var path = root.<Comparable>get(sortProperty);
+            final var id = root.<String>get(ID);
+            final var nextId = asc ? cb.greaterThan(id, cursor.id()) : cb.lessThan(id, cursor.id());
+
+            if (cursor.value() == null) {
+                final var sameKey = cb.and(cb.isNull(path), nextId);
+                return asc ? cb.or(sameKey, cb.isNotNull(path)) : sameKey;
+            }
+
+            final var value = convert(path.getJavaType(), cursor.value());
+            final var sameKey = cb.and(cb.equal(path, value), nextId);
+            return asc
+                ? cb.or(cb.greaterThan(path, value), sameKey)
+                : cb.or(cb.lessThan(path, value), sameKey, cb.isNull(path));
+        };
+    }
+
+    /**
+     * Builds a cursor page out of rows fetched with a limit of {@code perPage + 1}; the extra
+     * row only signals that there is a next page.
+     */
+    public static <T, R> Pagination<R> page(
+        final List<T> rows,
+        final int perPage,
+        final long total,
+        final String sortProperty,
+        final Function<T, String> idOf,
+        final Function<T, R> mapper
+    ) {
+        final var hasNext = rows.size() > perPage;
+        final var items = hasNext ? rows.subList(0, perPage) : rows;
+        final var nextCursor = hasNext && !items.isEmpty()
+            ? encode(items.get(items.size() - 1), sortProperty, idOf.apply(items.get(items.size() - 1)))
+            : null;
+
+        return new Pagination<>(
+            0,
+            perPage,
+            total,
+            items.stream().map(mapper).toList(),
+            nextCursor
+        );
+    }
+
+    private static String valueOf(final Object value) {
+        if (value == null) {
+            return null;
+        }
+        if (value instanceof Enum<?> anEnum) {
+            return anEnum.name();
+        }
+        return value.toString();
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static Comparable convert(final Class<?> type, final String value) {
+        try {
+            if (type == String.class) {
+                return value;
+            }
+            if (type == Instant.class) {
+                return Instant.parse(value);
+            }
+            if (type == Integer.class || type == int.class) {
+                return Integer.valueOf(value);
+            }
+            if (type == Long.class || type == long.class) {
+                return Long.valueOf(value);
+            }
+            if (type == Double.class || type == double.class) {
+                return Double.valueOf(value);
+            }
+            if (type == Boolean.class || type == boolean.class) {
+                return Boolean.valueOf(value);
+            }
+            if (type.isEnum()) {
+                return Enum.valueOf((Class) type, value);
+            }
+        } catch (RuntimeException e) {
+            throw invalidCursor();
+        }
+        throw invalidCursor();
+    }
+
+    private static DomainException invalidCursor() {
+        return DomainException.with(new Error("Invalid cursor"));
+    }
+
+    public record Cursor(String value, String id) {
+    }
+}
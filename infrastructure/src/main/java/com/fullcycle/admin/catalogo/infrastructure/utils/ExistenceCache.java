@@ -0,0 +1,107 @@
+package com.fullcycle.admin.catalogo.infrastructure.utils;
+
+import com.google.common.base.Ticker;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.GuavaCacheMetrics;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Remembers for a while which ids are known to exist, so reference checks only query the
+ * ids that were not seen recently. Only existing ids are kept, so a row created by any other
+ * path is found on the next check; deletes must call {@link #invalidate(Iterable)}.
+ * <p>
+ * Other instances only forget a deleted id when it expires, hence the short TTL. A write that
+ * still references it fails on the foreign key, which the API answers like any other unknown
+ * reference.
+ */
+public class ExistenceCache<ID> {
+
+    private static final long MAX_ENTRIES = 10_000;
+    private static final Duration DEFAULT_TTL = Duration.ofSeconds(30);
+
+    private final Cache<ID, Boolean> existing;
+
+    public ExistenceCache() {
+        this(DEFAULT_TTL, Ticker.systemTicker());
+    }
+
+    public ExistenceCache(final Duration ttl, final Ticker ticker) {
+        this.existing = CacheBuilder.newBuilder()
+            .maximumSize(MAX_ENTRIES)
+            .expireAfterWrite(ttl)
+            .ticker(ticker)
+            .recordStats()
+            .build();
+    }
+
+    public List<ID> existsByIds(final Iterable<ID> ids, final Function<List<ID>, List<ID>> loader) {
+        final var unique = new LinkedHashSet<ID>();
+        ids.forEach(unique::add);
+
+        final var found = new ArrayList<ID>();
+        final var missing = new ArrayList<ID>();
+        for (final var id : unique) {
+            if (this.existing.getIfPresent(id) != null) {
+                found.add(id);
+            } else {
+                missing.add(id);
+            }
+        }
+
+        if (!missing.isEmpty()) {
+            final var loaded = loader.apply(missing);
+            loaded.forEach(id -> this.existing.put(id, Boolean.TRUE));
+            found.addAll(loaded);
+        }
+        return found;
+    }
+
+    /**
+     * Forgets the ids right away and again after the current transaction completes, so a check
+     * racing the delete cannot cache them until the next expiry.
+     */
+    public void invalidate(final Iterable<ID> ids) {
+        final var keys = new ArrayList<ID>();
+        ids.forEach(keys::add);
+        this.existing.invalidateAll(keys);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(final int status) {
+                    existing.invalidateAll(keys);
+                }
+            });
+        }
+    }
+
+    /**
+     * Publishes the size, hits, misses and evictions of the cache under {@code cache=name}.
+     */
+    public ExistenceCache<ID> monitor(final MeterRegistry registry, final String name) {
+        GuavaCacheMetrics.monitor(registry, this.existing, name);
+        return this;
+    }
+
+    public void clear() {
+        this.existing.invalidateAll();
+    }
+
+    /**
+     * Hits and misses are counted per id, a check for three ids that were all cached counts
+     * three hits.
+     */
+    public CacheStats stats() {
+        return this.existing.stats();
+    }
+}
@@ -1,7 +1,12 @@
 package com.fullcycle.admin.catalogo.infrastructure.utils;
 
+import com.google.common.hash.Funnels;
 import com.google.common.hash.HashFunction;
 import com.google.common.hash.Hashing;
+import com.google.common.io.ByteStreams;
+
+import java.io.IOException;
+import java.io.InputStream;
 
 public final class HashingUtils {
 
@@ -13,4 +18,12 @@ public final class HashingUtils {
         return CHECKSUM.hashBytes(content).toString();
     }
 
+    public static String checksum(final InputStream content) throws IOException {
+        final var hasher = CHECKSUM.newHasher();
+        try (content) {
+            ByteStreams.copy(content, Funnels.asOutputStream(hasher));
+        }
+        return hasher.hash().toString();
+    }
+
 }
@@ -0,0 +1,94 @@
+package com.fullcycle.admin.catalogo.infrastructure.utils;
+
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fullcycle.admin.catalogo.domain.validation.Error;
+import com.fullcycle.admin.catalogo.infrastructure.configuration.json.Json;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Newline delimited JSON helpers. Records are read and written one line at a time, so a body
+ * of any size is processed without being held in memory.
+ */
+public final class NdjsonUtils {
+
+    private static final ObjectWriter WRITER = Json.mapper().writer();
+
+    private NdjsonUtils() {}
+
+    /**
+     * Hands the records of {@code in} over in chunks of at most {@code chunkSize}. Blank lines
+     * are skipped and a line that cannot be parsed comes as a {@link Line} holding the error.
+     */
+    public static <T> void readChunks(
+        final InputStream in,
+        final Class<T> type,
+        final int chunkSize,
+        final Consumer<List<Line<T>>> onChunk
+    ) throws IOException {
+        final var reader = Json.mapper().readerFor(type);
+        final var chunk = new ArrayList<Line<T>>(chunkSize);
+
+        try (final var lines = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8))) {
+            var index = 0;
+            String line;
+            while ((line = lines.readLine()) != null) {
+                if (line.isBlank()) {
+                    continue;
+                }
+                chunk.add(parse(reader, index++, line));
+                if (chunk.size() == chunkSize) {
+                    onChunk.accept(List.copyOf(chunk));
+                    chunk.clear();
+                }
+            }
+        }
+
+        if (!chunk.isEmpty()) {
+            onChunk.accept(List.copyOf(chunk));
+        }
+    }
+
+    /**
+     * Writes every value as a line and flushes, so the client receives them right away.
+     */
+    public static void write(final OutputStream out, final List<?> values) {
+        try {
+            for (final var value : values) {
+                out.write(WRITER.writeValueAsBytes(value));
+                out.write('\n');
+            }
+            out.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static <T> Line<T> parse(final ObjectReader reader, final int index, final String line) {
+        try {
+            final T value = reader.readValue(line);
+            return value != null
+                ? new Line<>(index, value, null)
+                : new Line<>(index, null, new Error("Malformed record: null"));
+        } catch (IOException e) {
+            return new Line<>(index, null, new Error("Malformed record: %s".formatted(e.getOriginalMessage())));
+        }
+    }
+
+    public record Line<T>(int index, T value, Error error) {
+
+        public boolean isValid() {
+            return error == null;
+        }
+    }
+}
@@ -1,7 +1,13 @@
 package com.fullcycle.admin.catalogo.infrastructure.utils;
 
+import com.fullcycle.admin.catalogo.infrastructure.configuration.persistence.FullTextFunctionContributor;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Root;
 import org.springframework.data.jpa.domain.Specification;
 
+import java.util.ArrayList;
+
 public final class SpecificationUtils {
 
     private SpecificationUtils() {}
@@ -10,4 +16,41 @@ public final class SpecificationUtils {
         return (root, query, cb) -> cb.like(cb.upper(root.get(prop)), SqlUtils.like(term.toUpperCase()));
     }
 
+    /**
+     * Matches the rows whose FULLTEXT index on the given properties matches the boolean mode
+     * expression built by {@link SqlUtils#fullText(String)}.
+     */
+    public static <T> Specification<T> match(final String expression, final String... props) {
+        return (root, query, cb) -> cb.greaterThan(relevance(root, cb, expression, props), 0.0);
+    }
+
+    /**
+     * Orders the rows by the relevance of the same {@link #match}, so the page sort only breaks
+     * ties. Adds no predicate.
+     */
+    public static <T> Specification<T> byRelevance(final String expression, final String... props) {
+        return (root, query, cb) -> {
+            query.orderBy(cb.desc(relevance(root, cb, expression, props)));
+            return null;
+        };
+    }
+
+    private static Expression<Double> relevance(
+        final Root<?> root,
+        final CriteriaBuilder cb,
+        final String expression,
+        final String... props
+    ) {
+        final var arguments = new ArrayList<Expression<?>>();
+        for (final var prop : props) {
+            arguments.add(root.get(prop));
+        }
+        arguments.add(cb.literal(expression));
+
+        final var function = props.length == 1
+            ? FullTextFunctionContributor.MATCH_AGAINST
+            : FullTextFunctionContributor.MATCH_AGAINST_2;
+        return cb.function(function, Double.class, arguments.toArray(Expression[]::new));
+    }
+
 }
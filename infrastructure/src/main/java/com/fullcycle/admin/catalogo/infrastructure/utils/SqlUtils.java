@@ -1,7 +1,15 @@
 package com.fullcycle.admin.catalogo.infrastructure.utils;
 
+import java.util.Arrays;
+import java.util.stream.Collectors;
+
 public final class SqlUtils {
 
+    /**
+     * Default {@code innodb_ft_min_token_size}, shorter words are not in the FULLTEXT index.
+     */
+    private static final int MIN_FULL_TEXT_TOKEN_SIZE = 3;
+
     private SqlUtils() {}
 
     public static String upper(final String term) {
@@ -14,4 +22,21 @@ public final class SqlUtils {
         return "%" + term + "%";
     }
 
+    /**
+     * Builds a boolean mode full-text expression where every word is required as a prefix,
+     * e.g. {@code "lord ring"} becomes {@code "+lord* +ring*"}. Returns null when no word is
+     * long enough to be indexed, so the caller can fall back to {@link #like(String)}.
+     * <p>
+     * Unlike {@link #like(String)}, words only match from their start: {@code "fil"} finds
+     * {@code "Filmes"} but not {@code "Perfil"}.
+     */
+    public static String fullText(final String term) {
+        if (term == null) return null;
+        final var expression = Arrays.stream(term.split("[^\\p{L}\\p{N}]+"))
+            .filter(word -> word.length() >= MIN_FULL_TEXT_TOKEN_SIZE)
+            .map(word -> "+" + word + "*")
+            .collect(Collectors.joining(" "));
+        return expression.isEmpty() ? null : expression;
+    }
+
 }
@@ -0,0 +1,26 @@
+package com.fullcycle.admin.catalogo.infrastructure.video;
+
+import com.fullcycle.admin.catalogo.application.video.retrieve.get.GetVideoByIdUseCase;
+import com.fullcycle.admin.catalogo.application.video.retrieve.get.VideoOutput;
+import com.fullcycle.admin.catalogo.domain.video.VideoID;
+
+import java.util.Objects;
+
+public class CachedGetVideoByIdUseCase extends GetVideoByIdUseCase {
+
+    private final GetVideoByIdUseCase getVideoByIdUseCase;
+    private final VideoDetailCache videoDetailCache;
+
+    public CachedGetVideoByIdUseCase(
+        final GetVideoByIdUseCase getVideoByIdUseCase,
+        final VideoDetailCache videoDetailCache
+    ) {
+        this.getVideoByIdUseCase = Objects.requireNonNull(getVideoByIdUseCase);
+        this.videoDetailCache = Objects.requireNonNull(videoDetailCache);
+    }
+
+    @Override
+    public VideoOutput execute(final String anIn) {
+        return this.videoDetailCache.get(VideoID.from(anIn), () -> this.getVideoByIdUseCase.execute(anIn));
+    }
+}
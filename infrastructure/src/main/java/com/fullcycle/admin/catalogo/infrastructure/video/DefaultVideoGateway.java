@@ -4,26 +4,52 @@ import com.fullcycle.admin.catalogo.domain.Identifier;
 import com.fullcycle.admin.catalogo.domain.castmember.CastMemberID;
 import com.fullcycle.admin.catalogo.domain.pagination.Pagination;
 import com.fullcycle.admin.catalogo.domain.utils.CollectionUtils;
+import com.fullcycle.admin.catalogo.domain.utils.InstantUtils;
+import com.fullcycle.admin.catalogo.domain.video.MediaStatus;
+import com.fullcycle.admin.catalogo.domain.video.MediaStatusUpdate;
 import com.fullcycle.admin.catalogo.domain.video.Video;
+import com.fullcycle.admin.catalogo.domain.video.VideoFacets;
 import com.fullcycle.admin.catalogo.domain.video.VideoGateway;
 import com.fullcycle.admin.catalogo.domain.video.VideoID;
 import com.fullcycle.admin.catalogo.domain.video.VideoPreview;
 import com.fullcycle.admin.catalogo.domain.video.VideoSearchQuery;
+import com.fullcycle.admin.catalogo.infrastructure.configuration.annotations.VideoChangesQueue;
 import com.fullcycle.admin.catalogo.infrastructure.configuration.annotations.VideoCreatedQueue;
 import com.fullcycle.admin.catalogo.infrastructure.services.EventService;
+import com.fullcycle.admin.catalogo.infrastructure.utils.CountCache;
+import com.fullcycle.admin.catalogo.infrastructure.utils.CursorUtils;
+import com.fullcycle.admin.catalogo.infrastructure.utils.SpecificationUtils;
 import com.fullcycle.admin.catalogo.infrastructure.utils.SqlUtils;
+import com.fullcycle.admin.catalogo.infrastructure.video.models.VideoChanged;
+import com.fullcycle.admin.catalogo.infrastructure.video.persistence.VideoCastMemberJpaEntity;
+import com.fullcycle.admin.catalogo.infrastructure.video.persistence.VideoCategoryJpaEntity;
+import com.fullcycle.admin.catalogo.infrastructure.video.persistence.VideoGenreJpaEntity;
 import com.fullcycle.admin.catalogo.infrastructure.video.persistence.VideoJpaEntity;
+import com.fullcycle.admin.catalogo.infrastructure.video.persistence.VideoMediaIds;
+import com.fullcycle.admin.catalogo.infrastructure.video.persistence.VideoRelationIds;
 import com.fullcycle.admin.catalogo.infrastructure.video.persistence.VideoRepository;
+import com.fullcycle.admin.catalogo.infrastructure.video.persistence.VideoSearchJpaEntity;
+import com.fullcycle.admin.catalogo.infrastructure.video.persistence.VideoSearchRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Year;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
 
 import static com.fullcycle.admin.catalogo.domain.utils.CollectionUtils.*;
 
@@ -31,13 +57,31 @@ import static com.fullcycle.admin.catalogo.domain.utils.CollectionUtils.*;
 public class DefaultVideoGateway implements VideoGateway {
 
     private final EventService eventService;
+    private final EventService videoChangesEventService;
     private final VideoRepository videoRepository;
+    private final VideoSearchRepository videoSearchRepository;
+    private final VideoDetailCache videoDetailCache;
+    private final VideoRelationIndex videoRelationIndex;
+    private final CountCache counts = new CountCache();
+    private final boolean fullText;
 
     public DefaultVideoGateway(
         @VideoCreatedQueue final EventService eventService,
-        final VideoRepository videoRepository) {
+        @VideoChangesQueue final EventService videoChangesEventService,
+        final VideoRepository videoRepository,
+        final VideoSearchRepository videoSearchRepository,
+        final VideoDetailCache videoDetailCache,
+        final VideoRelationIndex videoRelationIndex,
+        @Value("${search.full-text:false}") final boolean fullText,
+        final ObjectProvider<MeterRegistry> meterRegistry) {
         this.eventService = Objects.requireNonNull(eventService);
+        this.videoChangesEventService = Objects.requireNonNull(videoChangesEventService);
         this.videoRepository = Objects.requireNonNull(videoRepository);
+        this.videoSearchRepository = Objects.requireNonNull(videoSearchRepository);
+        this.videoDetailCache = Objects.requireNonNull(videoDetailCache);
+        this.videoRelationIndex = Objects.requireNonNull(videoRelationIndex);
+        this.fullText = fullText;
+        meterRegistry.ifAvailable(registry -> this.counts.monitor(registry, "video.count"));
     }
 
     @Override
@@ -47,22 +91,102 @@ public class DefaultVideoGateway implements VideoGateway {
     }
 
     @Override
+    @Transactional
+    public List<Video> createAll(final List<Video> videos) {
+        final var result = this.videoRepository.saveAll(videos.stream().map(VideoJpaEntity::from).toList()).stream()
+            .map(VideoJpaEntity::toAggregate)
+            .toList();
+        this.videoSearchRepository.saveAll(result.stream().map(VideoSearchJpaEntity::from).toList());
+        this.videoRelationIndex.index(result);
+        changed(result.stream().map(Video::getId).toList());
+        videos.forEach(aVideo -> aVideo.publishDomainEvent(this.eventService::send));
+        return result;
+    }
+
+    @Override
+    @Transactional
     public void deleteById(final VideoID videoID) {
-        final var aVideoId = videoID.getValue();
-        if (this.videoRepository.existsById(aVideoId)) {
-            this.videoRepository.deleteById(aVideoId);
+        deleteAllById(List.of(videoID));
+    }
+
+    @Override
+    @Transactional
+    public int deleteAllById(final Iterable<VideoID> videoIDs) {
+        final var ids = StreamSupport.stream(videoIDs.spliterator(), false)
+            .map(VideoID::getValue)
+            .toList();
+
+        if (ids.isEmpty()) {
+            return 0;
         }
+
+        // media rows are referenced by the video, so they can only go after it
+        final var media = this.videoRepository.findMediaIds(ids);
+        final var deleted = this.videoRepository.deleteAllByIds(ids);
+        this.videoSearchRepository.deleteAllByIds(ids);
+        changed(ids.stream().map(VideoID::from).toList());
+        this.videoRelationIndex.remove(videoIDs);
+
+        final var audioVideoIds = media.stream().flatMap(VideoMediaIds::audioVideoIds).toList();
+        if (!audioVideoIds.isEmpty()) {
+            this.videoRepository.deleteAudioVideoMedia(audioVideoIds);
+        }
+
+        final var imageIds = media.stream().flatMap(VideoMediaIds::imageIds).toList();
+        if (!imageIds.isEmpty()) {
+            this.videoRepository.deleteImageMedia(imageIds);
+        }
+        return deleted;
     }
 
     @Override
     @Transactional(readOnly = true)
     public Optional<Video> findById(final VideoID videoID) {
-        return this.videoRepository.findById(videoID.getValue())
-            .map(VideoJpaEntity::toAggregate);
+        return this.videoRepository.findWithMediaById(videoID.getValue())
+            .map(it -> relationsOf(List.of(it)).toAggregate(it));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public boolean existsById(final VideoID videoID) {
+        return this.videoRepository.existsById(videoID.getValue());
     }
 
     @Override
+    @Transactional(readOnly = true)
+    public List<Video> findAllById(final Set<VideoID> ids) {
+        if (ids == null || ids.isEmpty()) {
+            return List.of();
+        }
+        final var entities = this.videoRepository.findAllWithMediaByIdIn(mapTo(ids, Identifier::getValue));
+        if (entities.isEmpty()) {
+            return List.of();
+        }
+        final var relations = relationsOf(entities);
+        return entities.stream()
+            .map(relations::toAggregate)
+            .toList();
+    }
+
+    private VideoRelationIds relationsOf(final List<VideoJpaEntity> entities) {
+        return VideoRelationIds.from(this.videoRepository.findRelationIds(entities.stream().map(VideoJpaEntity::getId).toList()));
+    }
+
+    /**
+     * Lists from the {@code video_search} read model, which holds every column the page, its
+     * sort and the scalar filters read. The category, genre and cast member filters reach the
+     * join tables, as EXISTS subqueries seeking by the related id, unless they are the only
+     * filters and the {@link VideoRelationIndex} resolves them: the page is then read by id
+     * among the matching videos and the total is their count.
+     */
+    @Override
+    @Transactional(readOnly = true)
     public Pagination<VideoPreview> findAll(final VideoSearchQuery aQuery) {
+        final var indexed = indexedIds(aQuery);
+        final var spec = assembleSpecification(aQuery, indexed);
+        if (aQuery.isKeyset()) {
+            return findAllAfter(aQuery, spec, indexed);
+        }
 
         final var page = PageRequest.of(
             aQuery.page(),
@@ -70,31 +194,308 @@ public class DefaultVideoGateway implements VideoGateway {
             Sort.by(Sort.Direction.fromString(aQuery.direction()), aQuery.sort())
         );
 
-        final var actualPage = this.videoRepository.findAll(
-            SqlUtils.like(SqlUtils.upper(aQuery.terms())),
-            nullIfEmpty(mapTo(aQuery.castMembers(),Identifier::getValue)),
-            nullIfEmpty(mapTo(aQuery.categories(),Identifier::getValue)),
-            nullIfEmpty(mapTo(aQuery.genres(),Identifier::getValue)),
+        // full-text matches come ordered by relevance, the page sort only breaks ties
+        final var fullTextTerms = fullTextOf(aQuery);
+        final var actualPage = this.videoSearchRepository.findSlice(
+            fullTextTerms != null
+                ? SpecificationUtils.<VideoSearchJpaEntity>byRelevance(fullTextTerms, "title").and(spec)
+                : spec,
             page
         );
 
         return new Pagination<>(
             actualPage.getNumber(),
             actualPage.getSize(),
-            actualPage.getTotalElements(),
-            actualPage.toList()
+            total(aQuery, spec, indexed),
+            actualPage.map(VideoSearchJpaEntity::toPreview).toList()
+        );
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public VideoFacets findFacets(final VideoSearchQuery aQuery) {
+        return this.videoSearchRepository.countFacets(assembleSpecification(aQuery, indexedIds(aQuery)));
+    }
+
+    private long total(
+        final VideoSearchQuery aQuery,
+        final Specification<VideoSearchJpaEntity> spec,
+        final Set<String> indexed
+    ) {
+        final var terms = SqlUtils.like(SqlUtils.upper(aQuery.terms()));
+        final var castMembers = nullIfEmpty(mapTo(aQuery.castMembers(), Identifier::getValue));
+        final var categories = nullIfEmpty(mapTo(aQuery.categories(), Identifier::getValue));
+        final var genres = nullIfEmpty(mapTo(aQuery.genres(), Identifier::getValue));
+
+        return this.counts.total(
+            aQuery.countMode(),
+            Arrays.asList(
+                terms,
+                castMembers,
+                categories,
+                genres,
+                aQuery.filters()
+            ),
+            () -> indexed != null ? indexed.size() : this.videoSearchRepository.count(spec)
+        );
+    }
+
+    private String fullTextOf(final VideoSearchQuery aQuery) {
+        return this.fullText ? SqlUtils.fullText(aQuery.terms()) : null;
+    }
+
+    private Pagination<VideoPreview> findAllAfter(
+        final VideoSearchQuery aQuery,
+        final Specification<VideoSearchJpaEntity> spec,
+        final Set<String> indexed
+    ) {
+        final var direction = Sort.Direction.fromString(aQuery.direction());
+        final var after = CursorUtils.decode(aQuery.cursor())
+            .map(cursor -> CursorUtils.<VideoSearchJpaEntity>after(aQuery.sort(), direction, cursor))
+            .orElse(null);
+
+        final var rows = this.videoSearchRepository.findBy(
+            spec.and(after),
+            q -> q.sortBy(CursorUtils.sort(aQuery.sort(), direction))
+                .limit(aQuery.perPage() + 1)
+                .all()
         );
+
+        return CursorUtils.page(rows, aQuery.perPage(), total(aQuery, spec, indexed), aQuery.sort(), VideoSearchJpaEntity::getId, VideoSearchJpaEntity::toPreview);
+    }
+
+    /**
+     * Ids of the matching videos when the query only filters by relations and the
+     * {@link VideoRelationIndex} answers, null otherwise. The index is then the only source of those filters,
+     * it is never combined with the join tables: it lags a write until that write commits, or
+     * until the change of another instance arrives.
+     */
+    private Set<String> indexedIds(final VideoSearchQuery aQuery) {
+        final var hasTerms = aQuery.terms() != null && !aQuery.terms().isBlank();
+        if (hasTerms || !aQuery.filters().isEmpty()) {
+            return null;
+        }
+        return this.videoRelationIndex.findVideoIds(
+            mapTo(aQuery.categories(), Identifier::getValue),
+            mapTo(aQuery.genres(), Identifier::getValue),
+            mapTo(aQuery.castMembers(), Identifier::getValue)
+        ).orElse(null);
+    }
+
+    private Specification<VideoSearchJpaEntity> assembleSpecification(
+        final VideoSearchQuery aQuery,
+        final Set<String> indexed
+    ) {
+        if (indexed != null) {
+            return idIn(indexed);
+        }
+
+        final var fullTextTerms = fullTextOf(aQuery);
+        final var terms = fullTextTerms != null
+            ? SpecificationUtils.<VideoSearchJpaEntity>match(fullTextTerms, "title")
+            : Optional.ofNullable(aQuery.terms())
+                .filter(str -> !str.isBlank())
+                .map(str -> SpecificationUtils.<VideoSearchJpaEntity>like("title", str))
+                .orElse(null);
+
+        final var filters = aQuery.filters();
+        final var castMembers = mapTo(aQuery.castMembers(), Identifier::getValue);
+        final var categories = mapTo(aQuery.categories(), Identifier::getValue);
+        final var genres = mapTo(aQuery.genres(), Identifier::getValue);
+
+        return Specification.where(terms)
+            .and(relatedTo(VideoCastMemberJpaEntity.class, "castMemberId", castMembers))
+            .and(relatedTo(VideoCategoryJpaEntity.class, "categoryId", categories))
+            .and(relatedTo(VideoGenreJpaEntity.class, "genreId", genres))
+            .and(equal("published", filters.published()))
+            .and(in("rating", filters.ratings()))
+            .and(between("yearLaunched", yearOf(filters.launchedFrom()), yearOf(filters.launchedTo())))
+            .and(equal("mediaStatus", filters.mediaStatus()));
+    }
+
+    private static Specification<VideoSearchJpaEntity> idIn(final Set<String> ids) {
+        if (ids.isEmpty()) {
+            return (root, query, cb) -> cb.disjunction();
+        }
+        return (root, query, cb) -> root.get("id").in(ids);
+    }
+
+    private static Specification<VideoSearchJpaEntity> equal(final String property, final Object value) {
+        if (value == null) {
+            return null;
+        }
+        return (root, query, cb) -> cb.equal(root.get(property), value);
+    }
+
+    private static Specification<VideoSearchJpaEntity> in(final String property, final Set<?> values) {
+        if (values == null || values.isEmpty()) {
+            return null;
+        }
+        return (root, query, cb) -> root.get(property).in(values);
+    }
+
+    private static Specification<VideoSearchJpaEntity> between(final String property, final Integer from, final Integer to) {
+        if (from == null && to == null) {
+            return null;
+        }
+        return (root, query, cb) -> {
+            final var path = root.<Integer>get(property);
+            if (from == null) {
+                return cb.lessThanOrEqualTo(path, to);
+            }
+            if (to == null) {
+                return cb.greaterThanOrEqualTo(path, from);
+            }
+            return cb.between(path, from, to);
+        };
+    }
+
+    private static Integer yearOf(final Year aYear) {
+        return aYear != null ? aYear.getValue() : null;
+    }
+
+    /**
+     * Matches the videos related to at least one of the given ids, an exists on the join table
+     * that seeks by the related id (see V8).
+     */
+    private static Specification<VideoSearchJpaEntity> relatedTo(
+        final Class<?> relation,
+        final String property,
+        final Set<String> ids
+    ) {
+        if (ids == null || ids.isEmpty()) {
+            return null;
+        }
+        return (root, query, cb) -> {
+            final var subquery = query.subquery(Integer.class);
+            final var relationId = subquery.from(relation).get("id");
+            subquery.select(cb.literal(1)).where(
+                cb.equal(relationId.get("videoId"), root.get("id")),
+                relationId.<String>get(property).in(ids)
+            );
+            return cb.exists(subquery);
+        };
     }
 
     @Override
     @Transactional
     public Video update(final Video aVideo) {
-        return save(aVideo);
+        changed(List.of(aVideo.getId()));
+        final var result = this.videoRepository.findById(aVideo.getId().getValue())
+            .map(it -> it.update(aVideo))
+            .orElseGet(() -> this.videoRepository.save(VideoJpaEntity.from(aVideo)))
+            .toAggregate();
+        saveSearch(List.of(result));
+        this.videoRelationIndex.index(List.of(result));
+        aVideo.publishDomainEvent(this.eventService::send);
+        return result;
+    }
+
+    @Override
+    @Transactional
+    public List<Video> updateAll(final List<Video> videos) {
+        changed(videos.stream().map(Video::getId).toList());
+        final var loaded = this.videoRepository.findAllWithMediaByIdIn(videos.stream().map(it -> it.getId().getValue()).toList()).stream()
+            .collect(Collectors.toMap(VideoJpaEntity::getId, Function.identity()));
+
+        final var results = videos.stream()
+            .map(aVideo -> Optional.ofNullable(loaded.get(aVideo.getId().getValue()))
+                .map(it -> it.update(aVideo))
+                .orElseGet(() -> this.videoRepository.save(VideoJpaEntity.from(aVideo))))
+            .map(VideoJpaEntity::toAggregate)
+            .toList();
+        saveSearch(results);
+        this.videoRelationIndex.index(results);
+        videos.forEach(aVideo -> aVideo.publishDomainEvent(this.eventService::send));
+        return results;
+    }
+
+    @Override
+    @Transactional
+    public boolean updateMediaStatus(
+        final VideoID videoId,
+        final String resourceId,
+        final MediaStatus status,
+        final String encodedPath
+    ) {
+        return !updateAllMediaStatus(List.of(new MediaStatusUpdate(videoId, resourceId, status, encodedPath))).isEmpty();
+    }
+
+    /**
+     * Each update only applies when the media belongs to the video and is behind the new
+     * status, checked by the UPDATE itself, so concurrent or out of order results never move
+     * a media back.
+     */
+    @Override
+    @Transactional
+    public Set<VideoID> updateAllMediaStatus(final List<MediaStatusUpdate> updates) {
+        final var updated = new LinkedHashSet<VideoID>();
+        for (final var anUpdate : updates) {
+            final var previous = Arrays.stream(MediaStatus.values())
+                .filter(it -> it.ordinal() < anUpdate.status().ordinal())
+                .collect(Collectors.toSet());
+
+            if (previous.isEmpty()) {
+                continue;
+            }
+
+            final var videoId = anUpdate.videoId().getValue();
+            final var count = this.videoRepository.updateMediaStatus(
+                videoId,
+                anUpdate.resourceId(),
+                anUpdate.status(),
+                previous,
+                anUpdate.encodedPath()
+            );
+
+            if (count > 0) {
+                this.videoSearchRepository.updateMediaStatus(videoId, anUpdate.resourceId(), anUpdate.status());
+                updated.add(anUpdate.videoId());
+            }
+        }
+
+        if (updated.isEmpty()) {
+            return updated;
+        }
+
+        final var now = InstantUtils.now();
+        updated.forEach(videoId -> {
+            this.videoRepository.touch(videoId.getValue(), now);
+            this.videoSearchRepository.touch(videoId.getValue(), now);
+        });
+        changed(List.copyOf(updated));
+        return updated;
     }
 
     private Video save(final Video aVideo) {
         final var result = this.videoRepository.save(VideoJpaEntity.from(aVideo)).toAggregate();
-        result.publishDomainEvent(this.eventService::send);
+        this.videoSearchRepository.save(VideoSearchJpaEntity.from(result));
+        this.videoRelationIndex.index(List.of(result));
+        changed(List.of(result.getId()));
+        aVideo.publishDomainEvent(this.eventService::send);
         return result;
     }
+
+    /**
+     * Drops the videos from the detail cache of this instance right away and broadcasts them
+     * through the outbox, so every instance drops them as well once the transaction commits.
+     */
+    private void changed(final List<VideoID> ids) {
+        this.videoDetailCache.invalidate(ids);
+        this.videoChangesEventService.send(new VideoChanged(ids.stream().map(VideoID::getValue).collect(Collectors.toSet())));
+    }
+
+    /**
+     * Rewrites the read model rows of updated videos, inserting the ones that are missing.
+     */
+    private void saveSearch(final List<Video> videos) {
+        final var loaded = this.videoSearchRepository.findAllById(videos.stream().map(it -> it.getId().getValue()).toList()).stream()
+            .collect(Collectors.toMap(VideoSearchJpaEntity::getId, Function.identity()));
+
+        this.videoSearchRepository.saveAll(videos.stream()
+            .map(aVideo -> Optional.ofNullable(loaded.get(aVideo.getId().getValue()))
+                .map(it -> it.update(aVideo))
+                .orElseGet(() -> VideoSearchJpaEntity.from(aVideo)))
+            .toList());
+    }
 }
@@ -0,0 +1,88 @@
+package com.fullcycle.admin.catalogo.infrastructure.video;
+
+import com.fullcycle.admin.catalogo.application.video.retrieve.get.VideoOutput;
+import com.fullcycle.admin.catalogo.domain.video.VideoID;
+import com.google.common.base.Ticker;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import com.google.common.util.concurrent.ExecutionError;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Supplier;
+
+/**
+ * Near cache of video details, so polling the same video does not load its media and relations
+ * on every request. Every write in {@link DefaultVideoGateway} invalidates the videos it touched,
+ * once right away and once more after the transaction completes, so a read racing the commit
+ * cannot keep the old version. The other instances invalidate them when the broadcast change
+ * reaches their {@link com.fullcycle.admin.catalogo.infrastructure.amqp.VideoChangesListener}.
+ */
+@Component
+public class VideoDetailCache {
+
+    private static final long MAX_ENTRIES = 10_000;
+    private static final Duration DEFAULT_TTL = Duration.ofMinutes(5);
+
+    private final Cache<VideoID, VideoOutput> details;
+
+    public VideoDetailCache() {
+        this(DEFAULT_TTL, Ticker.systemTicker());
+    }
+
+    public VideoDetailCache(final Duration ttl, final Ticker ticker) {
+        this.details = CacheBuilder.newBuilder()
+            .maximumSize(MAX_ENTRIES)
+            .expireAfterWrite(ttl)
+            .ticker(ticker)
+            .recordStats()
+            .build();
+    }
+
+    /**
+     * Returns the cached details or loads them, exceptions thrown by the loader, such as a
+     * missing video, are rethrown as they are and nothing is cached.
+     */
+    public VideoOutput get(final VideoID id, final Supplier<VideoOutput> loader) {
+        try {
+            return this.details.get(id, loader::get);
+        } catch (ExecutionException | UncheckedExecutionException | ExecutionError e) {
+            if (e.getCause() instanceof RuntimeException ex) {
+                throw ex;
+            }
+            if (e.getCause() instanceof Error err) {
+                throw err;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    public void invalidate(final Iterable<VideoID> ids) {
+        final var keys = new ArrayList<VideoID>();
+        ids.forEach(keys::add);
+        this.details.invalidateAll(keys);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(final int status) {
+                    details.invalidateAll(keys);
+                }
+            });
+        }
+    }
+
+    public void clear() {
+        this.details.invalidateAll();
+    }
+
+    public CacheStats stats() {
+        return this.details.stats();
+    }
+}
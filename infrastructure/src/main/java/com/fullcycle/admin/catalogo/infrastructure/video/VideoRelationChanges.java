@@ -0,0 +1,67 @@
+package com.fullcycle.admin.catalogo.infrastructure.video;
+
+import com.fullcycle.admin.catalogo.domain.video.VideoID;
+import com.fullcycle.admin.catalogo.infrastructure.configuration.annotations.VideoChangesQueue;
+import com.fullcycle.admin.catalogo.infrastructure.services.EventService;
+import com.fullcycle.admin.catalogo.infrastructure.video.models.VideoChanged;
+import com.fullcycle.admin.catalogo.infrastructure.video.persistence.VideoRepository;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Objects;
+import java.util.Set;
+
+import static com.fullcycle.admin.catalogo.domain.utils.CollectionUtils.mapTo;
+
+/**
+ * Deleting a category, genre or cast member removes its join table rows through ON DELETE
+ * CASCADE, without any video write. The deleting gateway looks up the related videos before
+ * the delete and hands them to {@link #changed}, so their cached details and relation ids are
+ * dropped here and, through the broadcast, on every other instance.
+ */
+@Component
+public class VideoRelationChanges {
+
+    private final EventService videoChangesEventService;
+    private final VideoRepository videoRepository;
+    private final VideoDetailCache videoDetailCache;
+    private final VideoRelationIndexLoader videoRelationIndexLoader;
+
+    public VideoRelationChanges(
+        @VideoChangesQueue final EventService videoChangesEventService,
+        final VideoRepository videoRepository,
+        final VideoDetailCache videoDetailCache,
+        final VideoRelationIndexLoader videoRelationIndexLoader
+    ) {
+        this.videoChangesEventService = Objects.requireNonNull(videoChangesEventService);
+        this.videoRepository = Objects.requireNonNull(videoRepository);
+        this.videoDetailCache = Objects.requireNonNull(videoDetailCache);
+        this.videoRelationIndexLoader = Objects.requireNonNull(videoRelationIndexLoader);
+    }
+
+    public Set<VideoID> ofCategories(final Collection<String> categoryIds) {
+        return mapTo(this.videoRepository.findVideoIdsByCategoryIds(categoryIds), VideoID::from);
+    }
+
+    public Set<VideoID> ofGenres(final Collection<String> genreIds) {
+        return mapTo(this.videoRepository.findVideoIdsByGenreIds(genreIds), VideoID::from);
+    }
+
+    public Set<VideoID> ofCastMembers(final Collection<String> castMemberIds) {
+        return mapTo(this.videoRepository.findVideoIdsByCastMemberIds(castMemberIds), VideoID::from);
+    }
+
+    /**
+     * Must run after the delete, inside its transaction, so the relation index re-reads the
+     * join tables without the cascaded rows.
+     */
+    public void changed(final Set<VideoID> videoIds) {
+        if (videoIds.isEmpty()) {
+            return;
+        }
+
+        this.videoDetailCache.invalidate(videoIds);
+        this.videoRelationIndexLoader.refresh(videoIds);
+        this.videoChangesEventService.send(new VideoChanged(mapTo(videoIds, VideoID::getValue)));
+    }
+}
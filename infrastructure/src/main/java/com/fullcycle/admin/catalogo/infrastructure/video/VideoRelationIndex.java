@@ -0,0 +1,330 @@
+package com.fullcycle.admin.catalogo.infrastructure.video;
+
+import com.fullcycle.admin.catalogo.domain.Identifier;
+import com.fullcycle.admin.catalogo.domain.video.Video;
+import com.fullcycle.admin.catalogo.domain.video.VideoID;
+import org.roaringbitmap.FastAggregation;
+import org.roaringbitmap.RoaringBitmap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+
+import static com.fullcycle.admin.catalogo.domain.utils.CollectionUtils.mapTo;
+
+/**
+ * In-process index of the video relations: each category, genre and cast member id maps to a
+ * compressed bitmap of dense video ordinals, so the relation filters of the video list are
+ * resolved by OR-ing the bitmaps of each relation and AND-ing the relations, without touching
+ * the database.
+ * <p>
+ * It is loaded from the join tables at startup by {@link VideoRelationIndexLoader} and every
+ * write of {@link DefaultVideoGateway} is applied after its transaction commits, so a rolled
+ * back write never reaches it. Writes of the other instances arrive on the video changes queue
+ * and are refreshed from the join tables, see {@code VideoChangesListener}; with that queue
+ * disabled the index only sees the writes of its own instance, so it must not be enabled on
+ * more than one. Until the load completes, or when disabled, it answers nothing and the list
+ * falls back to the read model.
+ */
+@Component
+public class VideoRelationIndex {
+
+    private static final Logger log = LoggerFactory.getLogger(VideoRelationIndex.class);
+
+    private static final int LOAD_BATCH_SIZE = 10_000;
+
+    private final boolean enabled;
+    private final int maxIds;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, Integer> ordinals = new HashMap<>();
+    private final List<String> videoIds = new ArrayList<>();
+    // the related ids of each ordinal, so a video is only cleared from its own bitmaps
+    private final List<Relations> related = new ArrayList<>();
+    private final RoaringBitmap freeOrdinals = new RoaringBitmap();
+    private final Map<String, RoaringBitmap> categories = new HashMap<>();
+    private final Map<String, RoaringBitmap> genres = new HashMap<>();
+    private final Map<String, RoaringBitmap> castMembers = new HashMap<>();
+
+    // videos written while the index loads, their rows read by the load may be outdated
+    private final Set<String> written = new HashSet<>();
+    private volatile boolean ready;
+
+    public VideoRelationIndex(
+        @Value("${search.relation-index.enabled:false}") final boolean enabled,
+        @Value("${search.relation-index.max-ids:5000}") final int maxIds
+    ) {
+        this.enabled = enabled;
+        this.maxIds = maxIds;
+    }
+
+    public boolean isEnabled() {
+        return this.enabled;
+    }
+
+    public boolean isReady() {
+        return this.ready;
+    }
+
+    /**
+     * Loads the rows of relation kind, video id and related id, see
+     * {@code VideoRepository#streamAllRelationIds}. Videos written meanwhile keep the relations
+     * of their write.
+     */
+    public void load(final Stream<Object[]> rows) {
+        if (!this.enabled) {
+            return;
+        }
+
+        final var batch = new ArrayList<Object[]>(LOAD_BATCH_SIZE);
+        final Iterator<Object[]> iterator = rows.iterator();
+        while (iterator.hasNext()) {
+            batch.add(iterator.next());
+            if (batch.size() == LOAD_BATCH_SIZE || !iterator.hasNext()) {
+                write(() -> batch.stream()
+                    .filter(row -> !this.written.contains((String) row[1]))
+                    .forEach(this::add));
+                batch.clear();
+            }
+        }
+
+        write(() -> {
+            this.written.clear();
+            this.ready = true;
+            log.info("Video relation index loaded [videos:{}]", this.ordinals.size());
+        });
+    }
+
+    /**
+     * Replaces the relations of the given videos once the current transaction commits.
+     */
+    public void index(final List<Video> videos) {
+        if (!this.enabled || videos.isEmpty()) {
+            return;
+        }
+
+        final var relations = videos.stream()
+            .map(aVideo -> new Relations(
+                aVideo.getId().getValue(),
+                mapTo(aVideo.getCategories(), Identifier::getValue),
+                mapTo(aVideo.getGenres(), Identifier::getValue),
+                mapTo(aVideo.getCastMembers(), Identifier::getValue)
+            ))
+            .toList();
+
+        afterCommit(() -> write(() -> relations.forEach(this::put)));
+    }
+
+    /**
+     * Replaces the relations of the given videos with the rows read from the join tables, as
+     * in {@link #load}. A video without rows is dropped.
+     */
+    public void refresh(final Set<String> videoIds, final List<Object[]> rows) {
+        if (!this.enabled || videoIds.isEmpty()) {
+            return;
+        }
+
+        write(() -> {
+            videoIds.forEach(this::drop);
+            rows.forEach(this::add);
+        });
+    }
+
+    /**
+     * Drops the given videos once the current transaction commits.
+     */
+    public void remove(final Iterable<VideoID> ids) {
+        if (!this.enabled) {
+            return;
+        }
+
+        final var values = new ArrayList<String>();
+        ids.forEach(id -> values.add(id.getValue()));
+
+        afterCommit(() -> write(() -> values.forEach(this::drop)));
+    }
+
+    /**
+     * Ids of the videos holding at least one of the given ids of every non-empty relation.
+     * Empty when the index cannot answer: disabled, still loading, no relation filter, or more
+     * than {@code search.relation-index.max-ids} matches, which are better filtered by the
+     * database.
+     */
+    public Optional<Set<String>> findVideoIds(
+        final Set<String> categoryIds,
+        final Set<String> genreIds,
+        final Set<String> castMemberIds
+    ) {
+        if (!this.ready) {
+            return Optional.empty();
+        }
+
+        final var filters = new ArrayList<RoaringBitmap>(3);
+        this.lock.readLock().lock();
+        try {
+            anyOf(this.categories, categoryIds).ifPresent(filters::add);
+            anyOf(this.genres, genreIds).ifPresent(filters::add);
+            anyOf(this.castMembers, castMemberIds).ifPresent(filters::add);
+
+            if (filters.isEmpty()) {
+                return Optional.empty();
+            }
+
+            final var matches = FastAggregation.and(filters.iterator());
+            if (matches.getLongCardinality() > this.maxIds) {
+                return Optional.empty();
+            }
+
+            final var result = new HashSet<String>(matches.getCardinality());
+            matches.forEach((int ordinal) -> result.add(this.videoIds.get(ordinal)));
+            return Optional.of(result);
+        } finally {
+            this.lock.readLock().unlock();
+        }
+    }
+
+    private static Optional<RoaringBitmap> anyOf(final Map<String, RoaringBitmap> bitmaps, final Set<String> ids) {
+        if (ids == null || ids.isEmpty()) {
+            return Optional.empty();
+        }
+        return Optional.of(FastAggregation.or(ids.stream()
+            .map(id -> bitmaps.getOrDefault(id, new RoaringBitmap()))
+            .iterator()));
+    }
+
+    private void add(final Object[] row) {
+        final var kind = (String) row[0];
+        final var ordinal = ordinalOf((String) row[1]);
+        final var relatedId = (String) row[2];
+        final var relations = this.related.get(ordinal);
+
+        switch (kind) {
+            case "category" -> relate(this.categories, relations.categories(), relatedId, ordinal);
+            case "genre" -> relate(this.genres, relations.genres(), relatedId, ordinal);
+            case "cast_member" -> relate(this.castMembers, relations.castMembers(), relatedId, ordinal);
+            default -> throw new IllegalStateException("Unknown video relation %s".formatted(kind));
+        }
+    }
+
+    private void put(final Relations relations) {
+        drop(relations.videoId());
+        if (relations.isEmpty()) {
+            return;
+        }
+
+        final var ordinal = ordinalOf(relations.videoId());
+        final var indexed = this.related.get(ordinal);
+        relations.categories().forEach(id -> relate(this.categories, indexed.categories(), id, ordinal));
+        relations.genres().forEach(id -> relate(this.genres, indexed.genres(), id, ordinal));
+        relations.castMembers().forEach(id -> relate(this.castMembers, indexed.castMembers(), id, ordinal));
+    }
+
+    private static void relate(
+        final Map<String, RoaringBitmap> bitmaps,
+        final Set<String> relatedIds,
+        final String id,
+        final int ordinal
+    ) {
+        bitmaps.computeIfAbsent(id, it -> new RoaringBitmap()).add(ordinal);
+        relatedIds.add(id);
+    }
+
+    private void drop(final String videoId) {
+        if (!this.ready) {
+            this.written.add(videoId);
+        }
+
+        final var ordinal = this.ordinals.remove(videoId);
+        if (ordinal == null) {
+            return;
+        }
+
+        final var relations = this.related.get(ordinal);
+        clear(this.categories, relations.categories(), ordinal);
+        clear(this.genres, relations.genres(), ordinal);
+        clear(this.castMembers, relations.castMembers(), ordinal);
+        this.videoIds.set(ordinal, null);
+        this.related.set(ordinal, null);
+        this.freeOrdinals.add(ordinal);
+    }
+
+    private static void clear(final Map<String, RoaringBitmap> bitmaps, final Set<String> relatedIds, final int ordinal) {
+        relatedIds.forEach(id -> {
+            final var bitmap = bitmaps.get(id);
+            bitmap.remove(ordinal);
+            if (bitmap.isEmpty()) {
+                bitmaps.remove(id);
+            }
+        });
+    }
+
+    /**
+     * Ordinals of dropped videos are reused, keeping them dense and the bitmaps small.
+     */
+    private int ordinalOf(final String videoId) {
+        return this.ordinals.computeIfAbsent(videoId, id -> {
+            if (!this.freeOrdinals.isEmpty()) {
+                final var ordinal = this.freeOrdinals.first();
+                this.freeOrdinals.remove(ordinal);
+                this.videoIds.set(ordinal, id);
+                this.related.set(ordinal, Relations.empty(id));
+                return ordinal;
+            }
+            this.videoIds.add(id);
+            this.related.add(Relations.empty(id));
+            return this.videoIds.size() - 1;
+        });
+    }
+
+    private void write(final Runnable action) {
+        this.lock.writeLock().lock();
+        try {
+            action.run();
+        } finally {
+            this.lock.writeLock().unlock();
+        }
+    }
+
+    private static void afterCommit(final Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private record Relations(
+        String videoId,
+        Set<String> categories,
+        Set<String> genres,
+        Set<String> castMembers
+    ) {
+        static Relations empty(final String videoId) {
+            return new Relations(videoId, new HashSet<>(), new HashSet<>(), new HashSet<>());
+        }
+
+        boolean isEmpty() {
+            return categories.isEmpty() && genres.isEmpty() && castMembers.isEmpty();
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.fullcycle.admin.catalogo.infrastructure.video;
+
+import com.fullcycle.admin.catalogo.domain.video.VideoID;
+import com.fullcycle.admin.catalogo.infrastructure.video.persistence.VideoRepository;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Objects;
+import java.util.Set;
+
+import static com.fullcycle.admin.catalogo.domain.utils.CollectionUtils.mapTo;
+
+/**
+ * Streams the join tables into the {@link VideoRelationIndex} once the application is up. The
+ * list keeps being filtered by the read model until it is done. Afterwards it re-reads the
+ * videos changed by any instance.
+ */
+@Component
+public class VideoRelationIndexLoader {
+
+    private final VideoRelationIndex videoRelationIndex;
+    private final VideoRepository videoRepository;
+
+    public VideoRelationIndexLoader(
+        final VideoRelationIndex videoRelationIndex,
+        final VideoRepository videoRepository
+    ) {
+        this.videoRelationIndex = Objects.requireNonNull(videoRelationIndex);
+        this.videoRepository = Objects.requireNonNull(videoRepository);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void load() {
+        if (!this.videoRelationIndex.isEnabled()) {
+            return;
+        }
+
+        try (final var rows = this.videoRepository.streamAllRelationIds()) {
+            this.videoRelationIndex.load(rows);
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public void refresh(final Set<VideoID> videoIds) {
+        if (!this.videoRelationIndex.isEnabled() || videoIds.isEmpty()) {
+            return;
+        }
+
+        final var ids = mapTo(videoIds, VideoID::getValue);
+        this.videoRelationIndex.refresh(ids, this.videoRepository.findRelationIds(ids));
+    }
+}
@@ -0,0 +1,15 @@
+package com.fullcycle.admin.catalogo.infrastructure.video.models;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.util.Set;
+
+/**
+ * Broadcast to every instance once videos were created, updated or deleted, or lost a relation
+ * to a deleted category, genre or cast member.
+ */
+public record VideoChanged(
+    @JsonProperty("video_ids") Set<String> videoIds
+) {
+
+}
@@ -0,0 +1,65 @@
+package com.fullcycle.admin.catalogo.infrastructure.video.models;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fullcycle.admin.catalogo.domain.video.Rating;
+import com.fullcycle.admin.catalogo.infrastructure.export.ExportRow;
+
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+
+public record VideoExportRow(
+    @JsonProperty("id") String id,
+    @JsonProperty("title") String title,
+    @JsonProperty("description") String description,
+    @JsonProperty("year_launched") Integer launchedAt,
+    @JsonProperty("duration") Double duration,
+    @JsonProperty("rating") String rating,
+    @JsonProperty("opened") Boolean opened,
+    @JsonProperty("published") Boolean published,
+    @JsonProperty("categories_id") List<String> categories,
+    @JsonProperty("genres_id") List<String> genres,
+    @JsonProperty("cast_member_id") List<String> castMembers,
+    @JsonProperty("created_at") Instant createdAt,
+    @JsonProperty("updated_at") Instant updatedAt
+) implements ExportRow {
+
+    public static final List<String> COLUMNS = List.of(
+        "id", "title", "description", "year_launched", "duration", "rating", "opened", "published",
+        "categories_id", "genres_id", "cast_member_id", "created_at", "updated_at"
+    );
+
+    /**
+     * Used by the export query, the relations are attached afterwards for a whole chunk.
+     */
+    public VideoExportRow(
+        final String id,
+        final String title,
+        final String description,
+        final Integer launchedAt,
+        final Double duration,
+        final Rating rating,
+        final Boolean opened,
+        final Boolean published,
+        final Instant createdAt,
+        final Instant updatedAt
+    ) {
+        this(id, title, description, launchedAt, duration, rating != null ? rating.getName() : null,
+            opened, published, List.of(), List.of(), List.of(), createdAt, updatedAt);
+    }
+
+    public VideoExportRow withRelations(
+        final List<String> categories,
+        final List<String> genres,
+        final List<String> castMembers
+    ) {
+        return new VideoExportRow(id, title, description, launchedAt, duration, rating, opened, published,
+            categories, genres, castMembers, createdAt, updatedAt);
+    }
+
+    @Override
+    public List<Object> values() {
+        return Arrays.asList(id, title, description, launchedAt, duration, rating, opened, published,
+            categories, genres, castMembers, createdAt, updatedAt);
+    }
+}
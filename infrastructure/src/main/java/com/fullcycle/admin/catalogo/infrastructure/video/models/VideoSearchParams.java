@@ -0,0 +1,106 @@
+package com.fullcycle.admin.catalogo.infrastructure.video.models;
+
+import com.fullcycle.admin.catalogo.domain.castmember.CastMemberID;
+import com.fullcycle.admin.catalogo.domain.category.CategoryID;
+import com.fullcycle.admin.catalogo.domain.exceptions.NotificationException;
+import com.fullcycle.admin.catalogo.domain.genre.GenreID;
+import com.fullcycle.admin.catalogo.domain.pagination.CountMode;
+import com.fullcycle.admin.catalogo.domain.utils.CollectionUtils;
+import com.fullcycle.admin.catalogo.domain.validation.Error;
+import com.fullcycle.admin.catalogo.domain.validation.handler.Notification;
+import com.fullcycle.admin.catalogo.domain.video.MediaStatus;
+import com.fullcycle.admin.catalogo.domain.video.Rating;
+import com.fullcycle.admin.catalogo.domain.video.VideoFilters;
+import com.fullcycle.admin.catalogo.domain.video.VideoSearchQuery;
+
+import java.time.Year;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Filter params shared by the video list and the video facets, as received.
+ */
+public record VideoSearchParams(
+    String search,
+    Set<String> castMembers,
+    Set<String> categories,
+    Set<String> genres,
+    Boolean published,
+    Set<String> ratings,
+    Integer yearFrom,
+    Integer yearTo,
+    String mediaStatus
+) {
+
+    public VideoSearchQuery toListQuery(
+        final int page,
+        final int perPage,
+        final String sort,
+        final String direction,
+        final String cursor,
+        final String count
+    ) {
+        return toQuery(page, perPage, sort, direction, cursor, CountMode.of(count));
+    }
+
+    /**
+     * The facets count every matching video, their query is neither paged nor sorted.
+     */
+    public VideoSearchQuery toFacetsQuery() {
+        return toQuery(0, 0, null, null, null, null);
+    }
+
+    private VideoSearchQuery toQuery(
+        final int page,
+        final int perPage,
+        final String sort,
+        final String direction,
+        final String cursor,
+        final CountMode count
+    ) {
+        final var notification = Notification.create();
+        final var aRatings = CollectionUtils.mapTo(ratings, it -> parse(it, Rating::of, "Rating", notification));
+        final var aMediaStatus = Optional.ofNullable(mediaStatus)
+            .map(it -> parse(it, MediaStatus::of, "Media status", notification))
+            .orElse(null);
+        if (yearFrom != null && yearTo != null && yearFrom > yearTo) {
+            notification.append(new Error("'year_from' must be less than or equal to 'year_to'"));
+        }
+        if (notification.hasError()) {
+            throw new NotificationException("Could not list videos", notification);
+        }
+
+        return new VideoSearchQuery(
+            page,
+            perPage,
+            search,
+            sort,
+            direction,
+            CollectionUtils.mapTo(castMembers, CastMemberID::from),
+            CollectionUtils.mapTo(categories, CategoryID::from),
+            CollectionUtils.mapTo(genres, GenreID::from),
+            cursor,
+            count,
+            new VideoFilters(
+                published,
+                aRatings,
+                Optional.ofNullable(yearFrom).map(Year::of).orElse(null),
+                Optional.ofNullable(yearTo).map(Year::of).orElse(null),
+                aMediaStatus
+            )
+        );
+    }
+
+    private static <T> T parse(
+        final String value,
+        final Function<String, Optional<T>> of,
+        final String label,
+        final Notification notification
+    ) {
+        return of.apply(value).orElseGet(() -> {
+            notification.append(new Error("%s %s is not supported".formatted(label, value)));
+            return null;
+        });
+    }
+}
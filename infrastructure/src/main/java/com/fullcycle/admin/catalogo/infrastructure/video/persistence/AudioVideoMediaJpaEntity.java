@@ -6,12 +6,14 @@ import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.Id;
 import jakarta.persistence.Table;
+import org.hibernate.annotations.DynamicUpdate;
 
 import com.fullcycle.admin.catalogo.domain.video.AudioVideoMedia;
 import com.fullcycle.admin.catalogo.domain.video.MediaStatus;
 
 @Table(name = "videos_video_media")
 @Entity(name = "AudioVideoMedia")
+@DynamicUpdate
 public class AudioVideoMediaJpaEntity {
 
     @Id
@@ -55,6 +57,15 @@ public class AudioVideoMediaJpaEntity {
         );
     }
 
+    public AudioVideoMediaJpaEntity update(final AudioVideoMedia media) {
+        this.checksum = media.checksum();
+        this.name = media.name();
+        this.filePath = media.rawLocation();
+        this.encodedPath = media.encodedLocation();
+        this.status = media.status();
+        return this;
+    }
+
     public AudioVideoMedia toDomain() {
         return AudioVideoMedia.with(
             getId(),
@@ -4,11 +4,13 @@ import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Id;
 import jakarta.persistence.Table;
+import org.hibernate.annotations.DynamicUpdate;
 
 import com.fullcycle.admin.catalogo.domain.video.ImageMedia;
 
 @Table(name = "videos_image_media")
 @Entity(name = "ImageMedia")
+@DynamicUpdate
 public class ImageMediaJpaEntity {
     @Id
     private String id;
@@ -42,6 +44,13 @@ public class ImageMediaJpaEntity {
         );
     }
 
+    public ImageMediaJpaEntity update(final ImageMedia media) {
+        this.checksum = media.checksum();
+        this.name = media.name();
+        this.filePath = media.location();
+        return this;
+    }
+
     public ImageMedia toDomain() {
         return ImageMedia.with(
             getId(),
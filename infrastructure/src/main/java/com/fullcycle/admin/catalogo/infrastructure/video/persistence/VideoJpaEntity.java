@@ -5,6 +5,8 @@ import java.time.Year;
 import java.util.HashSet;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import jakarta.persistence.CascadeType;
@@ -13,20 +15,45 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
+import jakarta.persistence.NamedAttributeNode;
+import jakarta.persistence.NamedEntityGraph;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.OneToOne;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
 import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.DynamicUpdate;
+import org.springframework.data.domain.Persistable;
 
+import com.fullcycle.admin.catalogo.domain.Identifier;
 import com.fullcycle.admin.catalogo.domain.castmember.CastMemberID;
 import com.fullcycle.admin.catalogo.domain.category.CategoryID;
 import com.fullcycle.admin.catalogo.domain.genre.GenreID;
 import com.fullcycle.admin.catalogo.domain.utils.CollectionUtils;
+import com.fullcycle.admin.catalogo.domain.video.AudioVideoMedia;
+import com.fullcycle.admin.catalogo.domain.video.ImageMedia;
 import com.fullcycle.admin.catalogo.domain.video.Rating;
 import com.fullcycle.admin.catalogo.domain.video.Video;
 
 @Entity(name = "Video")
+@DynamicUpdate
 @Table(name = "videos")
-public class VideoJpaEntity {
+@NamedEntityGraph(name = VideoJpaEntity.WITH_MEDIA, attributeNodes = {
+    @NamedAttributeNode("video"),
+    @NamedAttributeNode("trailer"),
+    @NamedAttributeNode("banner"),
+    @NamedAttributeNode("thumbnail"),
+    @NamedAttributeNode("thumbnailHalf")
+})
+public class VideoJpaEntity implements Persistable<String> {
+
+    /**
+     * Joins the five media rows into the select of the video itself.
+     */
+    public static final String WITH_MEDIA = "Video.withMedia";
+
     @Id
     @Column(name = "id", nullable = false)
     private String id;
@@ -64,14 +91,18 @@ public class VideoJpaEntity {
     @JoinColumn(name = "thumbnail_half_id")
     private ImageMediaJpaEntity thumbnailHalf;
     @OneToMany(mappedBy = "video", cascade = CascadeType.ALL, orphanRemoval = true)
+    @BatchSize(size = 50)
     private Set<VideoCategoryJpaEntity> categories;
 
     @OneToMany(mappedBy = "video", cascade = CascadeType.ALL, orphanRemoval = true)
+    @BatchSize(size = 50)
     private Set<VideoGenreJpaEntity> genres;
 
     @OneToMany(mappedBy = "video", cascade = CascadeType.ALL, orphanRemoval = true)
+    @BatchSize(size = 50)
     private Set<VideoCastMemberJpaEntity> castMembers;
-
+    @Transient
+    private boolean persisted;
 
     public VideoJpaEntity() {
     }
@@ -139,7 +170,91 @@ public class VideoJpaEntity {
         return entity;
     }
 
+    /**
+     * Copies the aggregate state into this managed entity. Media with the same id are
+     * updated in place, and only the relations that were added or removed become join-row
+     * inserts and deletes, so dirty checking writes nothing but the actual changes.
+     */
+    public VideoJpaEntity update(final Video aVideo) {
+        this.title = aVideo.getTitle();
+        this.description = aVideo.getDescription();
+        this.yearLaunched = aVideo.getLaunchedAt().getValue();
+        this.opened = aVideo.getOpened();
+        this.published = aVideo.getPublished();
+        this.rating = aVideo.getRating();
+        this.duration = aVideo.getDuration();
+        this.updatedAt = aVideo.getUpdatedAt();
+
+        this.video = update(this.video, aVideo.getVideo().orElse(null));
+        this.trailer = update(this.trailer, aVideo.getTrailer().orElse(null));
+        this.banner = update(this.banner, aVideo.getBanner().orElse(null));
+        this.thumbnail = update(this.thumbnail, aVideo.getThumbnail().orElse(null));
+        this.thumbnailHalf = update(this.thumbnailHalf, aVideo.getThumbnailHalf().orElse(null));
+
+        sync(this.categories, aVideo.getCategories(), it -> it.getId().getCategoryId(), this::addCategory);
+        sync(this.genres, aVideo.getGenres(), it -> it.getId().getGenreId(), this::addGenre);
+        sync(this.castMembers, aVideo.getCastMembers(), it -> it.getId().getCastMemberId(), this::addCastMember);
+        return this;
+    }
+
+    private static AudioVideoMediaJpaEntity update(final AudioVideoMediaJpaEntity current, final AudioVideoMedia media) {
+        if (media == null) {
+            return null;
+        }
+        if (current != null && current.getId().equals(media.id())) {
+            return current.update(media);
+        }
+        return AudioVideoMediaJpaEntity.from(media);
+    }
+
+    private static ImageMediaJpaEntity update(final ImageMediaJpaEntity current, final ImageMedia media) {
+        if (media == null) {
+            return null;
+        }
+        if (current != null && current.getId().equals(media.id())) {
+            return current.update(media);
+        }
+        return ImageMediaJpaEntity.from(media);
+    }
+
+    private static <T, ID extends Identifier> void sync(
+        final Set<T> current,
+        final Set<ID> expected,
+        final Function<T, String> idOf,
+        final Consumer<ID> add
+    ) {
+        final var expectedIds = expected.stream().map(Identifier::getValue).collect(Collectors.toSet());
+        current.removeIf(it -> !expectedIds.contains(idOf.apply(it)));
+
+        final var currentIds = current.stream().map(idOf).collect(Collectors.toSet());
+        expected.stream()
+            .filter(it -> !currentIds.contains(it.getValue()))
+            .forEach(add);
+    }
+
     public Video toAggregate() {
+        return toAggregate(
+            getCategories().stream()
+                .map(it -> CategoryID.from(it.getId().getCategoryId()))
+                .collect(Collectors.toSet()),
+            getGenres().stream()
+                .map(it -> GenreID.from(it.getId().getGenreId()))
+                .collect(Collectors.toSet()),
+            getCastMembers().stream()
+                .map(it -> CastMemberID.from(it.getId().getCastMemberId()))
+                .collect(Collectors.toSet())
+        );
+    }
+
+    /**
+     * Builds the aggregate with relation ids loaded elsewhere, leaving the lazy relation
+     * sets of this entity untouched.
+     */
+    public Video toAggregate(
+        final Set<CategoryID> categories,
+        final Set<GenreID> genres,
+        final Set<CastMemberID> castMembers
+    ) {
         return Video.with(
             getId().toString(),
             getTitle(),
@@ -166,15 +281,9 @@ public class VideoJpaEntity {
             Optional.ofNullable(getVideo())
                 .map(AudioVideoMediaJpaEntity::toDomain)
                 .orElse(null),
-            getCategories().stream()
-                .map(it -> CategoryID.from(it.getId().getCategoryId()))
-                .collect(Collectors.toSet()),
-            getGenres().stream()
-                .map(it -> GenreID.from(it.getId().getGenreId()))
-                .collect(Collectors.toSet()),
-            getCastMembers().stream()
-                .map(it -> CastMemberID.from(it.getId().getCastMemberId()))
-                .collect(Collectors.toSet())
+            categories,
+            genres,
+            castMembers
         );
     }
 
@@ -364,4 +473,15 @@ public class VideoJpaEntity {
         this.castMembers = castMembers;
         return this;
     }
+
+    @Override
+    public boolean isNew() {
+        return !this.persisted;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markPersisted() {
+        this.persisted = true;
+    }
 }
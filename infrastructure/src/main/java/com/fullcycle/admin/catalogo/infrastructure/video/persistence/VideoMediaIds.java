@@ -0,0 +1,24 @@
+package com.fullcycle.admin.catalogo.infrastructure.video.persistence;
+
+import java.util.Objects;
+import java.util.stream.Stream;
+
+/**
+ * Ids of the media rows referenced by a video, used to remove them without loading the aggregate.
+ */
+public record VideoMediaIds(
+    String video,
+    String trailer,
+    String banner,
+    String thumbnail,
+    String thumbnailHalf
+) {
+
+    public Stream<String> audioVideoIds() {
+        return Stream.of(video, trailer).filter(Objects::nonNull);
+    }
+
+    public Stream<String> imageIds() {
+        return Stream.of(banner, thumbnail, thumbnailHalf).filter(Objects::nonNull);
+    }
+}
@@ -0,0 +1,65 @@
+package com.fullcycle.admin.catalogo.infrastructure.video.persistence;
+
+import com.fullcycle.admin.catalogo.domain.castmember.CastMemberID;
+import com.fullcycle.admin.catalogo.domain.category.CategoryID;
+import com.fullcycle.admin.catalogo.domain.genre.GenreID;
+import com.fullcycle.admin.catalogo.domain.video.Video;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Category, genre and cast member ids of a set of videos, read from the rows of
+ * {@link VideoRepository#findRelationIds}, so the three relation sets of each entity never
+ * have to be initialized.
+ */
+public final class VideoRelationIds {
+
+    private final Map<String, Set<CategoryID>> categories = new HashMap<>();
+    private final Map<String, Set<GenreID>> genres = new HashMap<>();
+    private final Map<String, Set<CastMemberID>> castMembers = new HashMap<>();
+
+    private VideoRelationIds() {}
+
+    /**
+     * Each row holds the relation kind, the video id and the related id.
+     */
+    public static VideoRelationIds from(final List<Object[]> rows) {
+        final var relations = new VideoRelationIds();
+        for (final var row : rows) {
+            final var kind = (String) row[0];
+            final var videoId = (String) row[1];
+            final var relatedId = (String) row[2];
+
+            switch (kind) {
+                case "category" -> add(relations.categories, videoId, relatedId, CategoryID::from);
+                case "genre" -> add(relations.genres, videoId, relatedId, GenreID::from);
+                case "cast_member" -> add(relations.castMembers, videoId, relatedId, CastMemberID::from);
+                default -> throw new IllegalStateException("Unknown video relation %s".formatted(kind));
+            }
+        }
+        return relations;
+    }
+
+    public Video toAggregate(final VideoJpaEntity anEntity) {
+        final var id = anEntity.getId();
+        return anEntity.toAggregate(
+            this.categories.getOrDefault(id, new HashSet<>()),
+            this.genres.getOrDefault(id, new HashSet<>()),
+            this.castMembers.getOrDefault(id, new HashSet<>())
+        );
+    }
+
+    private static <ID> void add(
+        final Map<String, Set<ID>> relations,
+        final String videoId,
+        final String relatedId,
+        final Function<String, ID> idOf
+    ) {
+        relations.computeIfAbsent(videoId, it -> new HashSet<>()).add(idOf.apply(relatedId));
+    }
+}
@@ -1,42 +1,170 @@
 package com.fullcycle.admin.catalogo.infrastructure.video.persistence;
 
-import com.fullcycle.admin.catalogo.domain.video.VideoPreview;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
+import com.fullcycle.admin.catalogo.domain.video.MediaStatus;
+import com.fullcycle.admin.catalogo.infrastructure.export.RelationId;
+import com.fullcycle.admin.catalogo.infrastructure.video.models.VideoExportRow;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 import java.util.Set;
+import java.util.stream.Stream;
 
-public interface VideoRepository extends JpaRepository<VideoJpaEntity, String> {
+public interface VideoRepository extends JpaRepository<VideoJpaEntity, String>, JpaSpecificationExecutor<VideoJpaEntity> {
 
+    @EntityGraph(VideoJpaEntity.WITH_MEDIA)
+    Optional<VideoJpaEntity> findWithMediaById(String id);
+
+    @EntityGraph(VideoJpaEntity.WITH_MEDIA)
+    List<VideoJpaEntity> findAllWithMediaByIdIn(Collection<String> ids);
+
+    /**
+     * Every relation id of the given videos in one round trip, as rows of relation kind,
+     * video id and related id. See {@link VideoRelationIds}.
+     */
     @Query("""
-            select distinct new com.fullcycle.admin.catalogo.domain.video.VideoPreview(
-                v.id as id,
-                v.title as title,
-                v.description as description,
-                v.createdAt as createdAt,
-                v.updatedAt as updatedAt
-            )
-            from Video v
-                left join v.categories categories
-                left join v.genres genres
-                left join v.castMembers castMembers
+            select 'category', vc.id.videoId, vc.id.categoryId
+            from VideoCategory vc
+            where vc.id.videoId in :ids
+            union all
+            select 'genre', vg.id.videoId, vg.id.genreId
+            from VideoGenre vg
+            where vg.id.videoId in :ids
+            union all
+            select 'cast_member', vcm.id.videoId, vcm.id.castMemberId
+            from VideoCastMember vcm
+            where vcm.id.videoId in :ids
+            """)
+    List<Object[]> findRelationIds(@Param("ids") Collection<String> ids);
+
+    /**
+     * Streams every row of the three join tables, as in {@link #findRelationIds}, fetching from
+     * a server side cursor. Loads the {@code VideoRelationIndex}.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("""
+            select 'category', vc.id.videoId, vc.id.categoryId
+            from VideoCategory vc
+            union all
+            select 'genre', vg.id.videoId, vg.id.genreId
+            from VideoGenre vg
+            union all
+            select 'cast_member', vcm.id.videoId, vcm.id.castMemberId
+            from VideoCastMember vcm
+            """)
+    Stream<Object[]> streamAllRelationIds();
+
+    @Query("select distinct vc.id.videoId from VideoCategory vc where vc.id.categoryId in :ids")
+    Set<String> findVideoIdsByCategoryIds(@Param("ids") Collection<String> ids);
+
+    @Query("select distinct vg.id.videoId from VideoGenre vg where vg.id.genreId in :ids")
+    Set<String> findVideoIdsByGenreIds(@Param("ids") Collection<String> ids);
+
+    @Query("select distinct vcm.id.videoId from VideoCastMember vcm where vcm.id.castMemberId in :ids")
+    Set<String> findVideoIdsByCastMemberIds(@Param("ids") Collection<String> ids);
+
+    /**
+     * Compare-and-set of a video or trailer media status: the row is only touched when it
+     * belongs to the video and its current status is one of {@code previous}.
+     */
+    @Modifying
+    @Query("""
+            update AudioVideoMedia m
+            set m.status = :status, m.encodedPath = coalesce(:encodedPath, m.encodedPath)
             where
-                (:terms is null or UPPER(v.title) like :terms)
+                m.id = :resourceId
             and
-                (:castMembers is null or castMembers.id.castMemberId in :castMembers)
+                m.status in :previous
             and
-                (:categories is null or categories.id.categoryId in :categories)
-            and
-                (:genres is null or genres.id.genreId in :genres)
-            """)
-    Page<VideoPreview> findAll(
-        @Param("terms") String terms,
-        @Param("castMembers") Set<String> castMembers,
-        @Param("categories") Set<String> categories,
-        @Param("genres") Set<String> genres,
-        Pageable page
+                exists (
+                    select 1 from Video v
+                    where v.id = :videoId and (v.video.id = m.id or v.trailer.id = m.id)
+                )
+            """)
+    int updateMediaStatus(
+        @Param("videoId") String videoId,
+        @Param("resourceId") String resourceId,
+        @Param("status") MediaStatus status,
+        @Param("previous") Set<MediaStatus> previous,
+        @Param("encodedPath") String encodedPath
     );
+
+    @Modifying
+    @Query("update Video v set v.updatedAt = :updatedAt where v.id = :videoId")
+    int touch(@Param("videoId") String videoId, @Param("updatedAt") Instant updatedAt);
+
+    @Query("""
+            select new com.fullcycle.admin.catalogo.infrastructure.video.persistence.VideoMediaIds(
+                video.id, trailer.id, banner.id, thumbnail.id, thumbnailHalf.id
+            )
+            from Video v
+                left join v.video video
+                left join v.trailer trailer
+                left join v.banner banner
+                left join v.thumbnail thumbnail
+                left join v.thumbnailHalf thumbnailHalf
+            where v.id in :ids
+            """)
+    List<VideoMediaIds> findMediaIds(@Param("ids") Collection<String> ids);
+
+    /**
+     * Relations are removed by the ON DELETE CASCADE of the join tables.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from Video v where v.id in :ids")
+    int deleteAllByIds(@Param("ids") Collection<String> ids);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from AudioVideoMedia m where m.id in :ids")
+    int deleteAudioVideoMedia(@Param("ids") Collection<String> ids);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from ImageMedia m where m.id in :ids")
+    int deleteImageMedia(@Param("ids") Collection<String> ids);
+
+    /**
+     * Streams every video as an export row, without media or relations, fetching from a
+     * server side cursor.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("""
+            select new com.fullcycle.admin.catalogo.infrastructure.video.models.VideoExportRow(
+                v.id, v.title, v.description, v.yearLaunched, v.duration, v.rating,
+                v.opened, v.published, v.createdAt, v.updatedAt
+            )
+            from Video v
+            order by v.id
+            """)
+    Stream<VideoExportRow> streamAllForExport();
+
+    @Query("""
+            select new com.fullcycle.admin.catalogo.infrastructure.export.RelationId(vc.id.videoId, vc.id.categoryId)
+            from VideoCategory vc
+            where vc.id.videoId in :ids
+            """)
+    List<RelationId> findCategoryIds(@Param("ids") Collection<String> ids);
+
+    @Query("""
+            select new com.fullcycle.admin.catalogo.infrastructure.export.RelationId(vg.id.videoId, vg.id.genreId)
+            from VideoGenre vg
+            where vg.id.videoId in :ids
+            """)
+    List<RelationId> findGenreIds(@Param("ids") Collection<String> ids);
+
+    @Query("""
+            select new com.fullcycle.admin.catalogo.infrastructure.export.RelationId(vcm.id.videoId, vcm.id.castMemberId)
+            from VideoCastMember vcm
+            where vcm.id.videoId in :ids
+            """)
+    List<RelationId> findCastMemberIds(@Param("ids") Collection<String> ids);
 }
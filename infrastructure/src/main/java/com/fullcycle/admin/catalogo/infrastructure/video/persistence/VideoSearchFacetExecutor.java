@@ -0,0 +1,14 @@
+package com.fullcycle.admin.catalogo.infrastructure.video.persistence;
+
+import com.fullcycle.admin.catalogo.domain.video.VideoFacets;
+import org.springframework.data.jpa.domain.Specification;
+
+public interface VideoSearchFacetExecutor {
+
+    /**
+     * Counts the videos matching the specification with one grouped query per facet: the
+     * ratings are grouped on the read model and each relation on its join table, restricted
+     * to the matching video ids.
+     */
+    VideoFacets countFacets(Specification<VideoSearchJpaEntity> spec);
+}
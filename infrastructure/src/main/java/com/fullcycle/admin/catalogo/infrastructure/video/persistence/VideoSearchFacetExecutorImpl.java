@@ -0,0 +1,87 @@
+package com.fullcycle.admin.catalogo.infrastructure.video.persistence;
+
+import com.fullcycle.admin.catalogo.domain.video.Rating;
+import com.fullcycle.admin.catalogo.domain.video.VideoFacets;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+class VideoSearchFacetExecutorImpl implements VideoSearchFacetExecutor {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public VideoFacets countFacets(final Specification<VideoSearchJpaEntity> spec) {
+        return new VideoFacets(
+            countRelations(VideoCategoryJpaEntity.class, "categoryId", spec),
+            countRelations(VideoGenreJpaEntity.class, "genreId", spec),
+            countRelations(VideoCastMemberJpaEntity.class, "castMemberId", spec),
+            countRatings(spec)
+        );
+    }
+
+    private Map<String, Long> countRatings(final Specification<VideoSearchJpaEntity> spec) {
+        final var cb = this.entityManager.getCriteriaBuilder();
+        final var query = cb.createTupleQuery();
+        final var root = query.from(VideoSearchJpaEntity.class);
+        final var rating = root.<Rating>get("rating");
+
+        final var predicate = spec != null ? spec.toPredicate(root, query, cb) : null;
+        if (predicate != null) {
+            query.where(cb.and(predicate, cb.isNotNull(rating)));
+        } else {
+            query.where(cb.isNotNull(rating));
+        }
+
+        return count(query, rating, cb.count(root), cb, Rating::getName);
+    }
+
+    /**
+     * Joins the relation to the read model in the same query, so the specification builds its
+     * predicate, and any subquery of it, against the query that owns the video root.
+     */
+    private Map<String, Long> countRelations(
+        final Class<?> relation,
+        final String property,
+        final Specification<VideoSearchJpaEntity> spec
+    ) {
+        final var cb = this.entityManager.getCriteriaBuilder();
+        final var query = cb.createTupleQuery();
+        final var root = query.from(relation);
+        final var relatedId = root.get("id").<String>get(property);
+
+        if (spec != null) {
+            final var video = query.from(VideoSearchJpaEntity.class);
+            final var sameVideo = cb.equal(root.get("id").get("videoId"), video.get("id"));
+            final var predicate = spec.toPredicate(video, query, cb);
+            query.where(predicate != null ? cb.and(sameVideo, predicate) : sameVideo);
+        }
+
+        return count(query, relatedId, cb.count(root), cb, Function.identity());
+    }
+
+    private <K> Map<String, Long> count(
+        final CriteriaQuery<Tuple> query,
+        final Expression<K> key,
+        final Expression<Long> count,
+        final CriteriaBuilder cb,
+        final Function<K, String> keyOf
+    ) {
+        query.multiselect(key, count).groupBy(key).orderBy(cb.desc(count));
+
+        final var counts = new LinkedHashMap<String, Long>();
+        for (final var row : this.entityManager.createQuery(query).getResultList()) {
+            counts.put(keyOf.apply(row.get(0, key.getJavaType())), row.get(1, Long.class));
+        }
+        return counts;
+    }
+}
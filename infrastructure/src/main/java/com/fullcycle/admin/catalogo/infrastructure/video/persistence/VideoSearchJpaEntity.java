@@ -0,0 +1,148 @@
+package com.fullcycle.admin.catalogo.infrastructure.video.persistence;
+
+import java.time.Instant;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
+import org.hibernate.annotations.DynamicUpdate;
+import org.springframework.data.domain.Persistable;
+
+import com.fullcycle.admin.catalogo.domain.video.AudioVideoMedia;
+import com.fullcycle.admin.catalogo.domain.video.MediaStatus;
+import com.fullcycle.admin.catalogo.domain.video.Rating;
+import com.fullcycle.admin.catalogo.domain.video.Video;
+import com.fullcycle.admin.catalogo.domain.video.VideoPreview;
+
+/**
+ * Denormalized row of the video list, written by {@code DefaultVideoGateway} together with the
+ * video. The category, genre and cast member filters are not copied here, they are matched on
+ * the join tables, which drop the rows of deleted entities.
+ */
+@Entity(name = "VideoSearch")
+@DynamicUpdate
+@Table(name = "video_search")
+public class VideoSearchJpaEntity implements Persistable<String> {
+
+    @Id
+    @Column(name = "id", nullable = false)
+    private String id;
+    @Column(name = "title", nullable = false)
+    private String title;
+    @Column(name = "description", length = 1000)
+    private String description;
+    @Column(name = "year_launched")
+    private int yearLaunched;
+    @Column(name = "opened", nullable = false)
+    private boolean opened;
+    @Column(name = "published", nullable = false)
+    private boolean published;
+    @Column(name = "rating")
+    private Rating rating;
+    @Column(name = "duration", precision = 2)
+    private double duration;
+    @Column(name = "created_at", nullable = false, columnDefinition = "DATETIME(6)")
+    private Instant createdAt;
+    @Column(name = "updated_at", nullable = false, columnDefinition = "DATETIME(6)")
+    private Instant updatedAt;
+    @Column(name = "media_status")
+    @Enumerated(EnumType.STRING)
+    private MediaStatus mediaStatus;
+    @Transient
+    private boolean persisted;
+
+    public VideoSearchJpaEntity() {
+    }
+
+    public static VideoSearchJpaEntity from(final Video aVideo) {
+        final var entity = new VideoSearchJpaEntity();
+        entity.id = aVideo.getId().getValue();
+        entity.createdAt = aVideo.getCreatedAt();
+        return entity.update(aVideo);
+    }
+
+    public VideoSearchJpaEntity update(final Video aVideo) {
+        this.title = aVideo.getTitle();
+        this.description = aVideo.getDescription();
+        this.yearLaunched = aVideo.getLaunchedAt().getValue();
+        this.opened = aVideo.getOpened();
+        this.published = aVideo.getPublished();
+        this.rating = aVideo.getRating();
+        this.duration = aVideo.getDuration();
+        this.updatedAt = aVideo.getUpdatedAt();
+        this.mediaStatus = aVideo.getVideo().map(AudioVideoMedia::status).orElse(null);
+        return this;
+    }
+
+    public VideoPreview toPreview() {
+        return new VideoPreview(
+            getId(),
+            getTitle(),
+            getDescription(),
+            getCreatedAt(),
+            getUpdatedAt()
+        );
+    }
+
+    @Override
+    public String getId() {
+        return id;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public int getYearLaunched() {
+        return yearLaunched;
+    }
+
+    public boolean isOpened() {
+        return opened;
+    }
+
+    public boolean isPublished() {
+        return published;
+    }
+
+    public Rating getRating() {
+        return rating;
+    }
+
+    public double getDuration() {
+        return duration;
+    }
+
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+
+    public Instant getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public MediaStatus getMediaStatus() {
+        return mediaStatus;
+    }
+
+    @Override
+    public boolean isNew() {
+        return !this.persisted;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markPersisted() {
+        this.persisted = true;
+    }
+}
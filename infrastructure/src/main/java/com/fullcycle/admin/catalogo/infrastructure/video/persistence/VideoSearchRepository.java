@@ -0,0 +1,52 @@
+package com.fullcycle.admin.catalogo.infrastructure.video.persistence;
+
+import com.fullcycle.admin.catalogo.domain.video.MediaStatus;
+import com.fullcycle.admin.catalogo.infrastructure.configuration.persistence.SliceSpecificationExecutor;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.time.Instant;
+import java.util.Collection;
+
+public interface VideoSearchRepository extends JpaRepository<VideoSearchJpaEntity, String>,
+    JpaSpecificationExecutor<VideoSearchJpaEntity>, SliceSpecificationExecutor<VideoSearchJpaEntity>, VideoSearchFacetExecutor {
+
+    @Override
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    Slice<VideoSearchJpaEntity> findSlice(Specification<VideoSearchJpaEntity> spec, Pageable page);
+
+    @Modifying
+    @Query("update VideoSearch v set v.updatedAt = :updatedAt where v.id = :videoId")
+    int touch(@Param("videoId") String videoId, @Param("updatedAt") Instant updatedAt);
+
+    /**
+     * Copies the new status when the resource is the video media, trailers are not listed by status.
+     */
+    @Modifying
+    @Query("""
+            update VideoSearch s
+            set s.mediaStatus = :status
+            where
+                s.id = :videoId
+            and
+                exists (select 1 from Video v where v.id = :videoId and v.video.id = :resourceId)
+            """)
+    int updateMediaStatus(
+        @Param("videoId") String videoId,
+        @Param("resourceId") String resourceId,
+        @Param("status") MediaStatus status
+    );
+
+    @Modifying
+    @Query("delete from VideoSearch v where v.id in :ids")
+    int deleteAllByIds(@Param("ids") Collection<String> ids);
+}
@@ -1,6 +1,7 @@
 package com.fullcycle.admin.catalogo.infrastructure.video.presenters;
 
 import com.fullcycle.admin.catalogo.application.video.media.upload.UploadMediaOutput;
+import com.fullcycle.admin.catalogo.application.video.retrieve.facets.VideoFacetsOutput;
 import com.fullcycle.admin.catalogo.application.video.retrieve.get.VideoOutput;
 import com.fullcycle.admin.catalogo.application.video.retrieve.list.VideosListOutput;
 import com.fullcycle.admin.catalogo.application.video.update.UpdateVideoOutput;
@@ -11,6 +12,7 @@ import com.fullcycle.admin.catalogo.infrastructure.video.models.AudioVideoMediaR
 import com.fullcycle.admin.catalogo.infrastructure.video.models.ImageMediaResponse;
 import com.fullcycle.admin.catalogo.infrastructure.video.models.UpdateVideoResponse;
 import com.fullcycle.admin.catalogo.infrastructure.video.models.UploadMediaResponse;
+import com.fullcycle.admin.catalogo.infrastructure.video.models.VideoFacetsResponse;
 import com.fullcycle.admin.catalogo.infrastructure.video.models.VideoResponse;
 import com.fullcycle.admin.catalogo.infrastructure.video.models.VideosListResponse;
 
@@ -90,6 +92,15 @@ public interface VideoApiPresenter {
         return page.map(VideoApiPresenter::present);
     }
 
+    static VideoFacetsResponse present(VideoFacetsOutput output) {
+        return new VideoFacetsResponse(
+            output.categories(),
+            output.genres(),
+            output.castMembers(),
+            output.ratings()
+        );
+    }
+
     static UploadMediaResponse present(UploadMediaOutput output) {
         return new UploadMediaResponse(
             output.videoId(),
@@ -0,0 +1,9 @@
+-- Copies the existing videos into the read model, plain SQL so every vendor runs it.
+INSERT INTO video_search (
+    id, title, description, year_launched, opened, published, rating, duration,
+    created_at, updated_at
+)
+SELECT
+    v.id, v.title, v.description, v.year_launched, v.opened, v.published, v.rating, v.duration,
+    v.created_at, v.updated_at
+FROM videos v;
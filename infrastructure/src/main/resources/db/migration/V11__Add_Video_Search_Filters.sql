@@ -0,0 +1,15 @@
+-- Status of the video media, so pending or processing videos can be listed from the read model.
+ALTER TABLE video_search ADD COLUMN media_status VARCHAR(50) NULL;
+
+UPDATE video_search SET media_status = (
+    SELECT m.media_status
+    FROM videos v
+        INNER JOIN videos_video_media m ON m.id = v.video_id
+    WHERE v.id = video_search.id
+);
+
+-- Each filter seeks on its own column and reads the rows in the default title order.
+CREATE INDEX idx_video_search_published ON video_search (published, title, id);
+CREATE INDEX idx_video_search_rating ON video_search (rating, title, id);
+CREATE INDEX idx_video_search_year_launched ON video_search (year_launched, title, id);
+CREATE INDEX idx_video_search_media_status ON video_search (media_status, title, id);
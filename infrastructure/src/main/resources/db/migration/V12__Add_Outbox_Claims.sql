@@ -0,0 +1,6 @@
+-- Lets several relays share the outbox: a relay leases a batch before publishing it, and a
+-- lease that ran out, for instance because its relay died, makes the batch claimable again.
+ALTER TABLE outbox_events ADD COLUMN claim_id CHAR(32) NULL;
+ALTER TABLE outbox_events ADD COLUMN claimed_until DATETIME(6) NULL;
+
+CREATE INDEX idx_outbox_events_claim_id ON outbox_events (claim_id);
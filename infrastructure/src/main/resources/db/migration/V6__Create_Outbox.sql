@@ -0,0 +1,9 @@
+CREATE TABLE outbox_events (
+    id CHAR(32) NOT NULL PRIMARY KEY,
+    exchange VARCHAR(255) NOT NULL,
+    routing_key VARCHAR(255) NOT NULL,
+    payload TEXT NOT NULL,
+    created_at DATETIME(6) NOT NULL
+);
+
+CREATE INDEX idx_outbox_events_created_at ON outbox_events (created_at);
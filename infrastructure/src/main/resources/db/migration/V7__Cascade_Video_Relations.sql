@@ -0,0 +1,15 @@
+-- Lets a single DELETE on videos, categories, genres or cast_members remove their relation rows.
+ALTER TABLE videos_categories DROP FOREIGN KEY fk_vcs_video_id;
+ALTER TABLE videos_categories DROP FOREIGN KEY fk_vcs_category_id;
+ALTER TABLE videos_categories ADD CONSTRAINT fk_vcs_video_id FOREIGN KEY (video_id) REFERENCES videos (id) ON DELETE CASCADE;
+ALTER TABLE videos_categories ADD CONSTRAINT fk_vcs_category_id FOREIGN KEY (category_id) REFERENCES categories (id) ON DELETE CASCADE;
+
+ALTER TABLE videos_genres DROP FOREIGN KEY fk_vgs_video_id;
+ALTER TABLE videos_genres DROP FOREIGN KEY fk_vgs_genres_id;
+ALTER TABLE videos_genres ADD CONSTRAINT fk_vgs_video_id FOREIGN KEY (video_id) REFERENCES videos (id) ON DELETE CASCADE;
+ALTER TABLE videos_genres ADD CONSTRAINT fk_vgs_genres_id FOREIGN KEY (genre_id) REFERENCES genres (id) ON DELETE CASCADE;
+
+ALTER TABLE videos_cast_members DROP FOREIGN KEY fk_vcms_video_id;
+ALTER TABLE videos_cast_members DROP FOREIGN KEY fk_vcms_cast_members_id;
+ALTER TABLE videos_cast_members ADD CONSTRAINT fk_vcms_video_id FOREIGN KEY (video_id) REFERENCES videos (id) ON DELETE CASCADE;
+ALTER TABLE videos_cast_members ADD CONSTRAINT fk_vcms_cast_members_id FOREIGN KEY (cast_member_id) REFERENCES cast_members (id) ON DELETE CASCADE;
@@ -0,0 +1,18 @@
+-- The unique constraints of the join tables lead with video_id, these let the category,
+-- genre and cast member filters of the video list seek by the related id first.
+CREATE INDEX idx_vcs_category_video ON videos_categories (category_id, video_id);
+
+CREATE INDEX idx_vgs_genre_video ON videos_genres (genre_id, video_id);
+
+CREATE INDEX idx_vcms_cast_member_video ON videos_cast_members (cast_member_id, video_id);
+
+-- Sort columns of the list endpoints, the id breaks ties for keyset pagination. The video
+-- list is sorted on its read model, see V9.
+CREATE INDEX idx_categories_name ON categories (name, id);
+CREATE INDEX idx_categories_created_at ON categories (created_at, id);
+
+CREATE INDEX idx_genres_name ON genres (name, id);
+CREATE INDEX idx_genres_created_at ON genres (created_at, id);
+
+CREATE INDEX idx_cast_members_name ON cast_members (name, id);
+CREATE INDEX idx_cast_members_created_at ON cast_members (created_at, id);
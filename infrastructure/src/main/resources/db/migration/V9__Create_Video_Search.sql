@@ -0,0 +1,17 @@
+-- Read model of the video list, one row per video. The relation filters are not copied here,
+-- they stay on the join tables and their indexes (see V8).
+CREATE TABLE video_search (
+    id CHAR(32) NOT NULL PRIMARY KEY,
+    title VARCHAR(255) NOT NULL,
+    description VARCHAR(1000) NOT NULL,
+    year_launched SMALLINT NOT NULL,
+    opened BOOLEAN NOT NULL DEFAULT FALSE,
+    published BOOLEAN NOT NULL DEFAULT FALSE,
+    rating VARCHAR(5),
+    duration DECIMAL(5,2) NOT NULL,
+    created_at DATETIME(6) NOT NULL,
+    updated_at DATETIME(6) NOT NULL
+);
+
+CREATE INDEX idx_video_search_title ON video_search (title, id);
+CREATE INDEX idx_video_search_created_at ON video_search (created_at, id);
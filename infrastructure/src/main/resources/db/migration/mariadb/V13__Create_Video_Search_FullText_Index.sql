@@ -0,0 +1 @@
+CREATE FULLTEXT INDEX idx_ft_video_search_title ON video_search (title);
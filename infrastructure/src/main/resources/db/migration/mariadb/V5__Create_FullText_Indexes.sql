@@ -0,0 +1,5 @@
+CREATE FULLTEXT INDEX idx_ft_categories_name_description ON categories (name, description);
+
+CREATE FULLTEXT INDEX idx_ft_genres_name ON genres (name);
+
+CREATE FULLTEXT INDEX idx_ft_cast_members_name ON cast_members (name);
@@ -1,8 +1,10 @@
 package com.fullcycle.admin.catalogo;
 
+import com.fullcycle.admin.catalogo.infrastructure.video.VideoRelationChanges;
 import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
 
 import org.springframework.context.annotation.ComponentScan;
 import org.springframework.context.annotation.FilterType;
@@ -26,6 +28,7 @@ import java.lang.annotation.Target;
     }
 )
 @DataJpaTest
+@MockBean(VideoRelationChanges.class) // the slice has no video caches to notify
 @ExtendWith(MySQLCleanUpExtension.class)
 @Tag("integrationTest")
 public @interface MySQLGatewayTest {
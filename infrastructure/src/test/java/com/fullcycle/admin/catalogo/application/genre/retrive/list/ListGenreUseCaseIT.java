@@ -3,12 +3,18 @@ package com.fullcycle.admin.catalogo.application.genre.retrive.list;
 import com.fullcycle.admin.catalogo.IntegrationTest;
 import com.fullcycle.admin.catalogo.application.genre.retrieve.list.DefaultListGenreUseCase;
 import com.fullcycle.admin.catalogo.application.genre.retrieve.list.GenreListOutput;
+import com.fullcycle.admin.catalogo.domain.category.Category;
+import com.fullcycle.admin.catalogo.domain.category.CategoryID;
 import com.fullcycle.admin.catalogo.domain.genre.Genre;
 import com.fullcycle.admin.catalogo.domain.genre.GenreGateway;
 import com.fullcycle.admin.catalogo.domain.pagination.Pagination;
 import com.fullcycle.admin.catalogo.domain.pagination.SearchQuery;
+import com.fullcycle.admin.catalogo.infrastructure.category.persistence.CategoryJpaEntity;
+import com.fullcycle.admin.catalogo.infrastructure.category.persistence.CategoryRepository;
 import com.fullcycle.admin.catalogo.infrastructure.genre.persistence.GenreJpaEntity;
 import com.fullcycle.admin.catalogo.infrastructure.genre.persistence.GenreRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
@@ -16,6 +22,7 @@ import org.mockito.Mock;
 import org.springframework.beans.factory.annotation.Autowired;
 
 import java.util.List;
+import java.util.stream.IntStream;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
@@ -35,6 +42,12 @@ public class ListGenreUseCaseIT {
     @Autowired
     private GenreRepository genreRepository;
 
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
     @Test
     public void givenAValidCommand_whenCallsListGenre_shouldReturnGenres() {
         //given
@@ -100,4 +113,37 @@ public class ListGenreUseCaseIT {
 
     }
 
+    @Test
+    public void givenAFullPageOfGenresWithCategories_whenCallsListGenre_shouldLoadTheirCategoriesWithOneQuery() {
+        //given
+        final var filmes = categoryRepository.saveAndFlush(CategoryJpaEntity.from(Category.newCategory("Filmes", null, true)));
+        final var series = categoryRepository.saveAndFlush(CategoryJpaEntity.from(Category.newCategory("Series", null, true)));
+        final var expectedCategories = List.of(filmes.getId(), series.getId());
+
+        final var expectedPerPage = 100;
+        final var genres = IntStream.range(0, expectedPerPage)
+            .mapToObj(i -> Genre.newGenre("Genre " + i, true)
+                .addCategories(List.of(CategoryID.from(filmes.getId()), CategoryID.from(series.getId()))))
+            .toList();
+
+        genreRepository.saveAllAndFlush(genres.stream().map(GenreJpaEntity::from).toList());
+
+        final var aQuery = new SearchQuery(0, expectedPerPage, "", "name", "asc");
+
+        final var statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        //when
+        final var actualOutput = useCase.execute(aQuery);
+
+        //then
+        // the page, its count and the category ids of the whole page, never a query per genre
+        Assertions.assertEquals(3, statistics.getPrepareStatementCount());
+
+        Assertions.assertEquals(expectedPerPage, actualOutput.items().size());
+        Assertions.assertEquals(expectedPerPage, actualOutput.total());
+        actualOutput.items().forEach(it -> Assertions.assertTrue(
+            it.categories().size() == expectedCategories.size() && it.categories().containsAll(expectedCategories)
+        ));
+    }
 }
@@ -0,0 +1,119 @@
+package com.fullcycle.admin.catalogo.application.video.retrieve.get;
+
+import com.fullcycle.admin.catalogo.IntegrationTest;
+import com.fullcycle.admin.catalogo.domain.Fixture;
+import com.fullcycle.admin.catalogo.domain.castmember.CastMember;
+import com.fullcycle.admin.catalogo.domain.castmember.CastMemberGateway;
+import com.fullcycle.admin.catalogo.domain.castmember.CastMemberType;
+import com.fullcycle.admin.catalogo.domain.category.Category;
+import com.fullcycle.admin.catalogo.domain.category.CategoryGateway;
+import com.fullcycle.admin.catalogo.domain.exceptions.NotFoundException;
+import com.fullcycle.admin.catalogo.domain.genre.Genre;
+import com.fullcycle.admin.catalogo.domain.genre.GenreGateway;
+import com.fullcycle.admin.catalogo.domain.video.Video;
+import com.fullcycle.admin.catalogo.domain.video.VideoGateway;
+import com.fullcycle.admin.catalogo.domain.video.VideoMediaType;
+import com.fullcycle.admin.catalogo.infrastructure.video.VideoDetailCache;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.time.Year;
+import java.util.Set;
+
+@IntegrationTest
+public class GetVideoByIdUseCaseIT {
+
+    @Autowired
+    private GetVideoByIdUseCase useCase;
+
+    @Autowired
+    private VideoGateway videoGateway;
+
+    @Autowired
+    private CategoryGateway categoryGateway;
+
+    @Autowired
+    private GenreGateway genreGateway;
+
+    @Autowired
+    private CastMemberGateway castMemberGateway;
+
+    @Autowired
+    private VideoDetailCache videoDetailCache;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @BeforeEach
+    public void setUp() {
+        videoDetailCache.clear();
+    }
+
+    @Test
+    public void givenAVideoWithAllMediaAndRelations_whenCallsGetVideoById_shouldLoadItInTwoStatements() {
+        // given
+        final var filmes = categoryGateway.create(Category.newCategory("Filmes", null, true));
+        final var series = categoryGateway.create(Category.newCategory("Series", null, true));
+        final var aventura = genreGateway.create(Genre.newGenre("Aventura", true));
+        final var vinDiesel = castMemberGateway.create(CastMember.newMember("Vin Diesel", CastMemberType.ACTOR));
+        final var jasonMomoa = castMemberGateway.create(CastMember.newMember("Jason Momoa", CastMemberType.ACTOR));
+
+        final var expectedCategories = Set.of(filmes.getId().getValue(), series.getId().getValue());
+        final var expectedGenres = Set.of(aventura.getId().getValue());
+        final var expectedMembers = Set.of(vinDiesel.getId().getValue(), jasonMomoa.getId().getValue());
+
+        final var aVideo = videoGateway.create(Video.newVideo(
+                Fixture.title(),
+                Fixture.Videos.description(),
+                Year.of(Fixture.releaseYear()),
+                Fixture.duration(),
+                Fixture.Videos.rating(),
+                Fixture.bool(),
+                Fixture.bool(),
+                Set.of(filmes.getId(), series.getId()),
+                Set.of(aventura.getId()),
+                Set.of(vinDiesel.getId(), jasonMomoa.getId())
+            )
+            .updateVideoMedia(Fixture.Videos.audioVideo(VideoMediaType.VIDEO))
+            .updateTrailerMedia(Fixture.Videos.audioVideo(VideoMediaType.TRAILER))
+            .updateBannerMedia(Fixture.Videos.imageMedia(VideoMediaType.BANNER))
+            .updateThumbnailMedia(Fixture.Videos.imageMedia(VideoMediaType.THUMBNAIL))
+            .updateThumbnailHalfMedia(Fixture.Videos.imageMedia(VideoMediaType.THUMBNAIL_HALF)));
+
+        final var statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        // when
+        final var actualOutput = useCase.execute(aVideo.getId().getValue());
+
+        // then
+        // one select for the video joined with its media and one for every relation id
+        Assertions.assertEquals(2, statistics.getPrepareStatementCount());
+
+        Assertions.assertEquals(aVideo.getId().getValue(), actualOutput.id());
+        Assertions.assertEquals(expectedCategories, actualOutput.categories());
+        Assertions.assertEquals(expectedGenres, actualOutput.genres());
+        Assertions.assertEquals(expectedMembers, actualOutput.castMembers());
+        Assertions.assertEquals(aVideo.getVideo().get().id(), actualOutput.video().id());
+        Assertions.assertEquals(aVideo.getTrailer().get().id(), actualOutput.trailer().id());
+        Assertions.assertEquals(aVideo.getBanner().get().id(), actualOutput.banner().id());
+        Assertions.assertEquals(aVideo.getThumbnail().get().id(), actualOutput.thumbnail().id());
+        Assertions.assertEquals(aVideo.getThumbnailHalf().get().id(), actualOutput.thumbnailHalf().id());
+    }
+
+    @Test
+    public void givenAnInvalidId_whenCallsGetVideoById_shouldReturnNotFoundException() {
+        // given
+        final var expectedErrorMessage = "Video with ID 123 was not found";
+
+        // when
+        final var actualException = Assertions.assertThrows(NotFoundException.class, () -> useCase.execute("123"));
+
+        // then
+        Assertions.assertEquals(expectedErrorMessage, actualException.getMessage());
+    }
+}
@@ -0,0 +1,84 @@
+package com.fullcycle.admin.catalogo.e2e;
+
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import org.junit.jupiter.api.Test;
+import org.testcontainers.containers.MariaDBContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import com.fullcycle.admin.catalogo.E2ETest;
+import com.fullcycle.admin.catalogo.domain.castmember.CastMemberType;
+
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasSize;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Runs the term searches on the FULLTEXT indexes of {@code V5__Create_FullText_Indexes.sql},
+ * where words only match from their start.
+ */
+@E2ETest
+@Testcontainers
+@TestPropertySource(properties = "search.full-text=true")
+public class FullTextSearchE2ETest implements MockDsl {
+
+    @Container
+    @ServiceConnection
+    private static final MariaDBContainer<?> MYSQL_CONTAINER =
+            new MariaDBContainer<>("mariadb:11")
+                    .withDatabaseName("adm_videos")
+                    .withUsername("test")
+                    .withPassword("test")
+                    .withStartupTimeout(Duration.ofMinutes(5))
+                    .withReuse(true);
+
+    @DynamicPropertySource
+    static void registerDatasourceProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", MYSQL_CONTAINER::getJdbcUrl);
+        registry.add("spring.datasource.username", MYSQL_CONTAINER::getUsername);
+        registry.add("spring.datasource.password", MYSQL_CONTAINER::getPassword);
+    }
+
+    @Autowired
+    private MockMvc mvc;
+
+    @Override
+    public MockMvc mvc() {
+        return this.mvc;
+    }
+
+    @Test
+    public void givenFullTextSearch_whenListsCategoriesByTerm_shouldMatchWordPrefixesOnly() throws Exception {
+        givenCategory("Filmes", "Longas e curtas", true);
+        givenCategory("Perfil", "Entrevistas", true);
+        givenCategory("Series", "Episódios de filmagens", true);
+
+        listCategories(0, 10, "fil")
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.total", equalTo(2)))
+            .andExpect(jsonPath("$.items", hasSize(2)))
+            .andExpect(jsonPath("$.items[*].name", containsInAnyOrder("Filmes", "Series")));
+    }
+
+    @Test
+    public void givenFullTextSearch_whenListsCastMembersByTerm_shouldMatchWordPrefixes() throws Exception {
+        givenCastMember("Vin Diesel", CastMemberType.ACTOR);
+        givenCastMember("Kevin Bacon", CastMemberType.ACTOR);
+
+        listCastMembers(0, 10, "vin")
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.total", equalTo(1)))
+            .andExpect(jsonPath("$.items", hasSize(1)))
+            .andExpect(jsonPath("$.items[0].name", equalTo("Vin Diesel")));
+    }
+}
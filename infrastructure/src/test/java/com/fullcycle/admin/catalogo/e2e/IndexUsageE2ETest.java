@@ -0,0 +1,228 @@
+package com.fullcycle.admin.catalogo.e2e;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.TestPropertySource;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.testcontainers.containers.MariaDBContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import com.fullcycle.admin.catalogo.E2ETest;
+import com.fullcycle.admin.catalogo.domain.castmember.CastMemberGateway;
+import com.fullcycle.admin.catalogo.domain.castmember.CastMemberID;
+import com.fullcycle.admin.catalogo.domain.category.CategoryGateway;
+import com.fullcycle.admin.catalogo.domain.category.CategoryID;
+import com.fullcycle.admin.catalogo.domain.genre.GenreGateway;
+import com.fullcycle.admin.catalogo.domain.genre.GenreID;
+import com.fullcycle.admin.catalogo.domain.pagination.SearchQuery;
+import com.fullcycle.admin.catalogo.domain.utils.IdUtils;
+import com.fullcycle.admin.catalogo.domain.video.VideoGateway;
+import com.fullcycle.admin.catalogo.domain.video.VideoSearchQuery;
+
+/**
+ * Guards the indexes of {@code V8__Create_Relation_And_Sort_Indexes.sql} and of the video read
+ * model: the SQL the gateways generate for each list must keep being planned on its index
+ * instead of a full scan plus filesort.
+ */
+@E2ETest
+@Testcontainers
+@TestPropertySource(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector=com.fullcycle.admin.catalogo.e2e.IndexUsageE2ETest$CapturedStatements")
+public class IndexUsageE2ETest {
+
+    private static final int ROWS = 200;
+    private static final int PER_PAGE = 10;
+
+    @Container
+    @ServiceConnection
+    private static final MariaDBContainer<?> MYSQL_CONTAINER =
+            new MariaDBContainer<>("mariadb:11")
+                    .withDatabaseName("adm_videos")
+                    .withUsername("test")
+                    .withPassword("test")
+                    .withStartupTimeout(Duration.ofMinutes(5))
+                    .withReuse(true);
+
+    @DynamicPropertySource
+    static void registerDatasourceProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", MYSQL_CONTAINER::getJdbcUrl);
+        registry.add("spring.datasource.username", MYSQL_CONTAINER::getUsername);
+        registry.add("spring.datasource.password", MYSQL_CONTAINER::getPassword);
+    }
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private VideoGateway videoGateway;
+
+    @Autowired
+    private CategoryGateway categoryGateway;
+
+    @Autowired
+    private GenreGateway genreGateway;
+
+    @Autowired
+    private CastMemberGateway castMemberGateway;
+
+    private final List<String> categoryIds = new ArrayList<>();
+    private final List<String> genreIds = new ArrayList<>();
+    private final List<String> castMemberIds = new ArrayList<>();
+
+    @BeforeEach
+    void seed() {
+        final var now = Timestamp.from(Instant.now());
+        final var videos = new ArrayList<Object[]>();
+        final var categories = new ArrayList<Object[]>();
+        final var genres = new ArrayList<Object[]>();
+        final var castMembers = new ArrayList<Object[]>();
+        final var videosCategories = new ArrayList<Object[]>();
+        final var videosGenres = new ArrayList<Object[]>();
+        final var videosCastMembers = new ArrayList<Object[]>();
+
+        for (int i = 0; i < ROWS; i++) {
+            final var videoId = IdUtils.uuid();
+            final var categoryId = IdUtils.uuid();
+            final var genreId = IdUtils.uuid();
+            final var castMemberId = IdUtils.uuid();
+
+            videos.add(new Object[]{videoId, "Video " + i, "Description " + i, 2022, 120.0, now, now});
+            categories.add(new Object[]{categoryId, "Category " + i, now, now});
+            genres.add(new Object[]{genreId, "Genre " + i, now, now});
+            castMembers.add(new Object[]{castMemberId, "Member " + i, "ACTOR", now, now});
+            videosCategories.add(new Object[]{videoId, categoryId});
+            videosGenres.add(new Object[]{videoId, genreId});
+            videosCastMembers.add(new Object[]{videoId, castMemberId});
+
+            categoryIds.add(categoryId);
+            genreIds.add(genreId);
+            castMemberIds.add(castMemberId);
+        }
+
+        jdbcTemplate.batchUpdate("INSERT INTO videos (id, title, description, year_launched, duration, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?)", videos);
+        jdbcTemplate.batchUpdate("INSERT INTO video_search (id, title, description, year_launched, duration, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?)", videos);
+        jdbcTemplate.batchUpdate("INSERT INTO categories (id, name, created_at, updated_at) VALUES (?, ?, ?, ?)", categories);
+        jdbcTemplate.batchUpdate("INSERT INTO genres (id, name, created_at, updated_at) VALUES (?, ?, ?, ?)", genres);
+        jdbcTemplate.batchUpdate("INSERT INTO cast_members (id, name, type, created_at, updated_at) VALUES (?, ?, ?, ?, ?)", castMembers);
+        jdbcTemplate.batchUpdate("INSERT INTO videos_categories (video_id, category_id) VALUES (?, ?)", videosCategories);
+        jdbcTemplate.batchUpdate("INSERT INTO videos_genres (video_id, genre_id) VALUES (?, ?)", videosGenres);
+        jdbcTemplate.batchUpdate("INSERT INTO videos_cast_members (video_id, cast_member_id) VALUES (?, ?)", videosCastMembers);
+
+        jdbcTemplate.queryForList("ANALYZE TABLE videos, video_search, categories, genres, cast_members, videos_categories, videos_genres, videos_cast_members");
+    }
+
+    @Test
+    public void givenACategoryFilter_whenCallsFindAll_shouldSeekByCategoryFirst() {
+        final var aQuery = videosOf(Set.of(), Set.of(CategoryID.from(categoryIds.get(0))), Set.of());
+
+        assertReadsIndex("idx_vcs_category_video", () -> videoGateway.findAll(aQuery), categoryIds.get(0));
+    }
+
+    @Test
+    public void givenAGenreFilter_whenCallsFindAll_shouldSeekByGenreFirst() {
+        final var aQuery = videosOf(Set.of(), Set.of(), Set.of(GenreID.from(genreIds.get(0))));
+
+        assertReadsIndex("idx_vgs_genre_video", () -> videoGateway.findAll(aQuery), genreIds.get(0));
+    }
+
+    @Test
+    public void givenACastMemberFilter_whenCallsFindAll_shouldSeekByCastMemberFirst() {
+        final var aQuery = videosOf(Set.of(CastMemberID.from(castMemberIds.get(0))), Set.of(), Set.of());
+
+        assertReadsIndex("idx_vcms_cast_member_video", () -> videoGateway.findAll(aQuery), castMemberIds.get(0));
+    }
+
+    @Test
+    public void givenTheListSorts_whenCallsFindAll_shouldReadTheSortIndexes() {
+        assertReadsIndex("idx_video_search_title", () -> videoGateway.findAll(new VideoSearchQuery(0, PER_PAGE, "", "title", "asc", Set.of(), Set.of(), Set.of(), null, null, null)));
+        assertReadsIndex("idx_video_search_created_at", () -> videoGateway.findAll(new VideoSearchQuery(0, PER_PAGE, "", "createdAt", "desc", Set.of(), Set.of(), Set.of(), null, null, null)));
+        assertReadsIndex("idx_categories_name", () -> categoryGateway.findAll(sortedBy("name")));
+        assertReadsIndex("idx_categories_created_at", () -> categoryGateway.findAll(sortedBy("createdAt")));
+        assertReadsIndex("idx_genres_name", () -> genreGateway.findAll(sortedBy("name")));
+        assertReadsIndex("idx_genres_created_at", () -> genreGateway.findAll(sortedBy("createdAt")));
+        assertReadsIndex("idx_cast_members_name", () -> castMemberGateway.findAll(sortedBy("name")));
+        assertReadsIndex("idx_cast_members_created_at", () -> castMemberGateway.findAll(sortedBy("createdAt")));
+    }
+
+    private static VideoSearchQuery videosOf(
+        final Set<CastMemberID> castMembers,
+        final Set<CategoryID> categories,
+        final Set<GenreID> genres
+    ) {
+        return new VideoSearchQuery(0, PER_PAGE, "", "title", "asc", castMembers, categories, genres, null, null, null);
+    }
+
+    private static SearchQuery sortedBy(final String sort) {
+        return new SearchQuery(0, PER_PAGE, "", sort, "asc");
+    }
+
+    /**
+     * Explains every select the call sent: one of them must read the expected index and none
+     * of them may scan a whole table. The placeholders are bound to {@code values} in order,
+     * those of the limit clause to the page size.
+     */
+    private void assertReadsIndex(final String expectedIndex, final Runnable call, final Object... values) {
+        CapturedStatements.clear();
+        call.run();
+
+        final var statements = CapturedStatements.selects();
+        Assertions.assertFalse(statements.isEmpty(), "No statement captured");
+
+        final var plans = statements.stream().flatMap(sql -> explain(sql, values).stream()).toList();
+        final var message = "Unexpected plan for " + statements + ": " + plans;
+
+        Assertions.assertTrue(plans.stream().anyMatch(row -> expectedIndex.equals(row.get("key"))), message);
+        Assertions.assertTrue(plans.stream().noneMatch(row -> "ALL".equals(row.get("type"))), message);
+    }
+
+    private List<Map<String, Object>> explain(final String sql, final Object... values) {
+        final var limit = sql.lastIndexOf(" limit ");
+        final var remaining = Arrays.asList(values).iterator();
+        final var args = new ArrayList<Object>();
+        for (int i = sql.indexOf('?'); i >= 0; i = sql.indexOf('?', i + 1)) {
+            args.add(limit >= 0 && i > limit ? PER_PAGE : remaining.next());
+        }
+        return jdbcTemplate.queryForList("EXPLAIN " + sql, args.toArray());
+    }
+
+    /**
+     * Records the SQL Hibernate generates, registered through
+     * {@code hibernate.session_factory.statement_inspector}.
+     */
+    public static class CapturedStatements implements StatementInspector {
+
+        private static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+        static void clear() {
+            STATEMENTS.clear();
+        }
+
+        static List<String> selects() {
+            return STATEMENTS.stream().filter(sql -> sql.startsWith("select")).toList();
+        }
+
+        @Override
+        public String inspect(final String sql) {
+            STATEMENTS.add(sql);
+            return sql;
+        }
+    }
+}
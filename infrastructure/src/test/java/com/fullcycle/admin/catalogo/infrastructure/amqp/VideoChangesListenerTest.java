@@ -0,0 +1,52 @@
+package com.fullcycle.admin.catalogo.infrastructure.amqp;
+
+import com.fullcycle.admin.catalogo.application.video.retrieve.get.VideoOutput;
+import com.fullcycle.admin.catalogo.domain.Fixture;
+import com.fullcycle.admin.catalogo.domain.video.VideoID;
+import com.fullcycle.admin.catalogo.infrastructure.configuration.json.Json;
+import com.fullcycle.admin.catalogo.infrastructure.video.VideoDetailCache;
+import com.fullcycle.admin.catalogo.infrastructure.video.VideoRelationIndexLoader;
+import com.fullcycle.admin.catalogo.infrastructure.video.models.VideoChanged;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class VideoChangesListenerTest {
+
+    @Test
+    public void givenAVideoChangedByAnotherInstance_whenCallsListener_shouldDropItFromTheLocalCaches() {
+        // given
+        final var aVideo = Fixture.Videos.systemDesigner();
+        final var otherVideo = Fixture.Videos.systemDesigner();
+        final var cache = new VideoDetailCache();
+        final var loads = new AtomicInteger();
+
+        cache.get(aVideo.getId(), () -> {
+            loads.incrementAndGet();
+            return VideoOutput.from(aVideo);
+        });
+        cache.get(otherVideo.getId(), () -> VideoOutput.from(otherVideo));
+
+        final var loader = Mockito.mock(VideoRelationIndexLoader.class);
+        final var listener = new VideoChangesListener(cache, loader);
+        final var expectedMessage = Json.writeValueAsString(new VideoChanged(Set.of(aVideo.getId().getValue())));
+
+        // when
+        listener.onVideoChangedMessage(expectedMessage);
+
+        // then
+        cache.get(aVideo.getId(), () -> {
+            loads.incrementAndGet();
+            return VideoOutput.from(aVideo);
+        });
+        cache.get(otherVideo.getId(), () -> {
+            throw new IllegalStateException("Should not reload an unchanged video");
+        });
+
+        Assertions.assertEquals(2, loads.get());
+        Mockito.verify(loader).refresh(Set.of(aVideo.getId()));
+    }
+}
@@ -0,0 +1,70 @@
+package com.fullcycle.admin.catalogo.infrastructure.amqp;
+
+import com.fullcycle.admin.catalogo.application.video.media.update.UpdateMediaStatusBatchUseCase;
+import com.fullcycle.admin.catalogo.application.video.media.update.UpdateMediaStatusCommand;
+import com.fullcycle.admin.catalogo.domain.utils.IdUtils;
+import com.fullcycle.admin.catalogo.domain.video.MediaStatus;
+import com.fullcycle.admin.catalogo.infrastructure.configuration.json.Json;
+import com.fullcycle.admin.catalogo.infrastructure.video.models.VideoEncoderCompleted;
+import com.fullcycle.admin.catalogo.infrastructure.video.models.VideoEncoderError;
+import com.fullcycle.admin.catalogo.infrastructure.video.models.VideoMessage;
+import com.fullcycle.admin.catalogo.infrastructure.video.models.VideoMetadata;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+public class VideoEncoderBatchListenerTest {
+
+    @InjectMocks
+    private VideoEncoderBatchListener listener;
+
+    @Mock
+    private UpdateMediaStatusBatchUseCase updateMediaStatusBatchUseCase;
+
+    @Test
+    public void givenMixedResults_whenCallsListener_shouldCallUseCaseOnceWithCompletedResults() {
+        // given
+        final var expectedId = IdUtils.uuid();
+        final var expectedEncodedVideoFolder = "encoded-folder";
+        final var expectedResourceId = IdUtils.uuid();
+        final var expectedFilePath = "/path/to/video.mp4";
+
+        final var aCompleted = Json.writeValueAsString(new VideoEncoderCompleted(
+            expectedId,
+            "output-bucket",
+            new VideoMetadata(expectedEncodedVideoFolder, expectedResourceId, expectedFilePath)
+        ));
+        final var anError = Json.writeValueAsString(new VideoEncoderError(
+            new VideoMessage("123", "abc"),
+            "Video not found"
+        ));
+
+        // when
+        this.listener.onVideoEncodedMessages(List.of(anError, aCompleted));
+
+        // then
+        @SuppressWarnings("unchecked")
+        final ArgumentCaptor<List<UpdateMediaStatusCommand>> captor = ArgumentCaptor.forClass(List.class);
+        verify(updateMediaStatusBatchUseCase, times(1)).execute(captor.capture());
+
+        final var actualCommands = captor.getValue();
+        Assertions.assertEquals(1, actualCommands.size());
+
+        final var actualCommand = actualCommands.get(0);
+        Assertions.assertEquals(MediaStatus.COMPLETED, actualCommand.status());
+        Assertions.assertEquals(expectedId, actualCommand.videoId());
+        Assertions.assertEquals(expectedResourceId, actualCommand.resourceId());
+        Assertions.assertEquals(expectedEncodedVideoFolder, actualCommand.folder());
+        Assertions.assertEquals(expectedFilePath, actualCommand.filename());
+    }
+}
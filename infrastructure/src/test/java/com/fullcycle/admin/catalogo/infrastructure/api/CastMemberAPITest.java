@@ -4,6 +4,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fullcycle.admin.catalogo.ApiTest;
 import com.fullcycle.admin.catalogo.ControllerTest;
 import com.fullcycle.admin.catalogo.application.castmember.create.CreateCastMemberOutput;
+import com.fullcycle.admin.catalogo.application.castmember.create.DefaultCreateCastMemberBatchUseCase;
 import com.fullcycle.admin.catalogo.application.castmember.create.DefaultCreateCastMemberUseCase;
 import com.fullcycle.admin.catalogo.application.castmember.delete.DefaultDeleteCastMemberUseCase;
 import com.fullcycle.admin.catalogo.application.castmember.retrieve.get.DefaultGetCastMemberByIdUseCase;
@@ -22,6 +23,7 @@ import com.fullcycle.admin.catalogo.domain.pagination.Pagination;
 import com.fullcycle.admin.catalogo.domain.validation.Error;
 import com.fullcycle.admin.catalogo.infrastructure.castmember.models.CreateCastMemberRequest;
 import com.fullcycle.admin.catalogo.infrastructure.castmember.models.UpdateCastMemberRequest;
+import com.fullcycle.admin.catalogo.infrastructure.export.CatalogExporter;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.mock.mockito.MockBean;
@@ -59,6 +61,8 @@ public class CastMemberAPITest {
     @MockBean
     private DefaultCreateCastMemberUseCase createCastMemberUseCase;
     @MockBean
+    private DefaultCreateCastMemberBatchUseCase createCastMemberBatchUseCase;
+    @MockBean
     private DefaultDeleteCastMemberUseCase deleteCastMemberUseCase;
     @MockBean
     private DefaultGetCastMemberByIdUseCase getCastMemberByIdUseCase;
@@ -67,6 +71,9 @@ public class CastMemberAPITest {
     @MockBean
     private DefaultUpdateCastMemberUseCase updateCastMemberUseCase;
 
+    @MockBean
+    private CatalogExporter catalogExporter;
+
     @Test
     public void givenAValidCommand_whenCallsCreateCastMember_shouldReturnCastMemberID() throws Exception {
         // given
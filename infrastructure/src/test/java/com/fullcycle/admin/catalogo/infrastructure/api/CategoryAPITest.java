@@ -3,6 +3,7 @@ package com.fullcycle.admin.catalogo.infrastructure.api;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fullcycle.admin.catalogo.ApiTest;
 import com.fullcycle.admin.catalogo.ControllerTest;
+import com.fullcycle.admin.catalogo.application.category.create.CreateCategoryBatchUseCase;
 import com.fullcycle.admin.catalogo.application.category.create.CreateCategoryOutput;
 import com.fullcycle.admin.catalogo.application.category.create.CreateCategoryUseCase;
 import com.fullcycle.admin.catalogo.application.category.delete.DeleteCategoryUseCase;
@@ -16,13 +17,17 @@ import com.fullcycle.admin.catalogo.domain.category.Category;
 import com.fullcycle.admin.catalogo.domain.category.CategoryID;
 import com.fullcycle.admin.catalogo.domain.exceptions.DomainException;
 import com.fullcycle.admin.catalogo.domain.exceptions.NotFoundException;
+import com.fullcycle.admin.catalogo.domain.pagination.CountMode;
 import com.fullcycle.admin.catalogo.domain.pagination.Pagination;
 import com.fullcycle.admin.catalogo.domain.validation.Error;
 import com.fullcycle.admin.catalogo.domain.validation.handler.Notification;
 import com.fullcycle.admin.catalogo.infrastructure.category.models.CreateCategoryRequest;
 import com.fullcycle.admin.catalogo.infrastructure.category.models.UpdateCategoryRequest;
+import com.fullcycle.admin.catalogo.infrastructure.export.CatalogExporter;
+import com.fullcycle.admin.catalogo.infrastructure.export.ExportFormat;
 import io.vavr.API;
 import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.mock.mockito.MockBean;
@@ -31,6 +36,7 @@ import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
 import org.springframework.test.web.servlet.result.StatusResultMatchers;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.Objects;
 
@@ -44,6 +50,7 @@ import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
@@ -51,6 +58,7 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @ControllerTest(controllers = CategoryAPI.class)
@@ -65,6 +73,9 @@ public class CategoryAPITest {
     @MockBean
     CreateCategoryUseCase createCategoryUseCase;
 
+    @MockBean
+    CreateCategoryBatchUseCase createCategoryBatchUseCase;
+
     @MockBean
     UpdateCategoryUseCase updateCategoryUseCase;
 
@@ -77,6 +88,9 @@ public class CategoryAPITest {
     @MockBean
     ListCategoriesUseCase listCategoriesUseCase;
 
+    @MockBean
+    CatalogExporter catalogExporter;
+
     @Test
     public void givenAValidCommand_whenCallsCreateCategory_shouldReturnCategoryId() throws Exception {
         final var expectedName = "Filmes";
@@ -107,6 +121,44 @@ public class CategoryAPITest {
         ));
     }
 
+    @Test
+    public void givenValidAndInvalidCommands_whenCallsCreateCategories_shouldReturnOneResultPerItem() throws Exception {
+        final var expectedErrorMessage = "'name' should not be null";
+
+        final var anInput = List.of(
+            new CreateCategoryRequest("Filmes", "A categoria mais assistida", true),
+            new CreateCategoryRequest(null, "A categoria mais assistida", true)
+        );
+
+        when(createCategoryBatchUseCase.execute(any()))
+                .thenReturn(List.of(
+                        Right(CreateCategoryOutput.from("123")),
+                        API.Left(Notification.create(new Error(expectedErrorMessage)))
+                ));
+
+        final var request = post("/categories/bulk")
+                .with(ApiTest.CATEGORIES_JWT)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(mapper.writeValueAsString(anInput));
+
+        mock.perform(request)
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(2)))
+                .andExpect(jsonPath("$[0].index", equalTo(0)))
+                .andExpect(jsonPath("$[0].id", equalTo("123")))
+                .andExpect(jsonPath("$[0].errors", hasSize(0)))
+                .andExpect(jsonPath("$[1].index", equalTo(1)))
+                .andExpect(jsonPath("$[1].id", Matchers.nullValue()))
+                .andExpect(jsonPath("$[1].errors[0].message", equalTo(expectedErrorMessage)));
+
+        verify(createCategoryBatchUseCase, times(1)).execute(argThat(cmds ->
+                cmds.size() == 2 &&
+                        Objects.equals("Filmes", cmds.get(0).name()) &&
+                        cmds.get(1).name() == null
+        ));
+    }
+
     @Test
     public void givenAInvalidName_whenCallsCreateCategory_thenShouldReturnNotification() throws Exception {
         final String expectedName = null;
@@ -389,4 +441,120 @@ public class CategoryAPITest {
                         Objects.equals(expectedDirection, query.direction())
         ));
     }
+
+    @Test
+    public void givenACursor_whenCallsListCategories_shouldReturnNextCursor() throws Exception {
+        final var aCategory = Category.newCategory(
+                "Filmes",
+                "A categoria mais assistida",
+                true
+        );
+
+        final var expectedPerPage = 10;
+        final var expectedCursor = "eyJ2YWx1ZSI6IkZpbG1lcyIsImlkIjoiMTIzIn0";
+        final var expectedNextCursor = "eyJ2YWx1ZSI6IlNlcmllcyIsImlkIjoiNDU2In0";
+
+        when(listCategoriesUseCase.execute(any()))
+                .thenReturn(new Pagination<CategoryListOutput>(
+                        0,
+                        expectedPerPage,
+                        Pagination.UNKNOWN_TOTAL,
+                        List.of(CategoryListOutput.from(aCategory)),
+                        expectedNextCursor
+                ));
+
+        MockHttpServletRequestBuilder request = get("/categories")
+                .with(ApiTest.CATEGORIES_JWT)
+                .param("perPage", String.valueOf(expectedPerPage))
+                .param("cursor", expectedCursor)
+                .accept(MediaType.APPLICATION_JSON)
+                .contentType(MediaType.APPLICATION_JSON);
+
+        mock.perform(request)
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.total", equalTo((int) Pagination.UNKNOWN_TOTAL)))
+                .andExpect(jsonPath("$.items", hasSize(1)))
+                .andExpect(jsonPath("$.next_cursor", equalTo(expectedNextCursor)));
+
+        verify(listCategoriesUseCase, times(1)).execute(argThat(query ->
+                Objects.equals(expectedPerPage, query.perPage()) &&
+                        Objects.equals(expectedCursor, query.cursor())
+        ));
+    }
+
+    @Test
+    public void givenACountMode_whenCallsListCategories_shouldPassItToTheQuery() throws Exception {
+        final var expectedCount = CountMode.NONE;
+
+        when(listCategoriesUseCase.execute(any()))
+                .thenReturn(new Pagination<>(0, 10, Pagination.UNKNOWN_TOTAL, List.of()));
+
+        MockHttpServletRequestBuilder request = get("/categories")
+                .with(ApiTest.CATEGORIES_JWT)
+                .param("count", "none")
+                .accept(MediaType.APPLICATION_JSON);
+
+        mock.perform(request)
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.total", equalTo((int) Pagination.UNKNOWN_TOTAL)));
+
+        verify(listCategoriesUseCase, times(1)).execute(argThat(query ->
+                Objects.equals(expectedCount, query.count())
+        ));
+    }
+
+    @Test
+    public void givenAnInvalidCountMode_whenCallsListCategories_shouldReturnUnprocessableEntity() throws Exception {
+        final var expectedErrorMessage = "Count mode approximate is not supported";
+
+        MockHttpServletRequestBuilder request = get("/categories")
+                .with(ApiTest.CATEGORIES_JWT)
+                .param("count", "approximate")
+                .accept(MediaType.APPLICATION_JSON);
+
+        mock.perform(request)
+                .andDo(print())
+                .andExpect(status().isUnprocessableEntity())
+                .andExpect(jsonPath("$.errors", hasSize(1)))
+                .andExpect(jsonPath("$.errors[0].message", equalTo(expectedErrorMessage)));
+
+        verify(listCategoriesUseCase, times(0)).execute(any());
+    }
+
+    @Test
+    public void givenAnInvalidFormat_whenCallsExportCategories_shouldReturnUnprocessableEntity() throws Exception {
+        final var expectedErrorMessage = "Export format xml is not supported";
+
+        MockHttpServletRequestBuilder request = get("/categories/export")
+                .with(ApiTest.CATEGORIES_JWT)
+                .param("format", "xml");
+
+        mock.perform(request)
+                .andDo(print())
+                .andExpect(status().isUnprocessableEntity())
+                .andExpect(jsonPath("$.errors", hasSize(1)))
+                .andExpect(jsonPath("$.errors[0].message", equalTo(expectedErrorMessage)));
+
+        verify(catalogExporter, times(0)).exportCategories(any(), any());
+    }
+
+    @Test
+    public void givenAValidFormat_whenCallsExportCategories_shouldStreamTheExportWithoutTheDefaultAsyncTimeout() throws Exception {
+        MockHttpServletRequestBuilder request = get("/categories/export")
+                .with(ApiTest.CATEGORIES_JWT)
+                .param("format", "csv");
+
+        final var aResult = mock.perform(request)
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mock.perform(asyncDispatch(aResult))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Disposition", "attachment; filename=\"categories.csv\""));
+
+        Assertions.assertEquals(Duration.ofHours(12).toMillis(), aResult.getRequest().getAsyncContext().getTimeout());
+        verify(catalogExporter, times(1)).exportCategories(eq(ExportFormat.CSV), any());
+    }
 }
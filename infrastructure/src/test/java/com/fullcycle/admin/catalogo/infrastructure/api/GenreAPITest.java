@@ -3,6 +3,7 @@ package com.fullcycle.admin.catalogo.infrastructure.api;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fullcycle.admin.catalogo.ApiTest;
 import com.fullcycle.admin.catalogo.ControllerTest;
+import com.fullcycle.admin.catalogo.application.genre.create.CreateGenreBatchUseCase;
 import com.fullcycle.admin.catalogo.application.genre.create.CreateGenreOutput;
 import com.fullcycle.admin.catalogo.application.genre.create.CreateGenreUseCase;
 import com.fullcycle.admin.catalogo.application.genre.delete.DeleteGenreUseCase;
@@ -20,18 +21,22 @@ import com.fullcycle.admin.catalogo.domain.genre.GenreID;
 import com.fullcycle.admin.catalogo.domain.pagination.Pagination;
 import com.fullcycle.admin.catalogo.domain.validation.Error;
 import com.fullcycle.admin.catalogo.domain.validation.handler.Notification;
+import com.fullcycle.admin.catalogo.infrastructure.export.CatalogExporter;
 import com.fullcycle.admin.catalogo.infrastructure.genre.models.CreateGenreRequest;
 import com.fullcycle.admin.catalogo.infrastructure.genre.models.UpdateGenreRequest;
 import org.hamcrest.Matchers;
+import org.hibernate.exception.ConstraintViolationException;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentMatchers;
 import org.mockito.Mockito;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 
+import java.sql.SQLException;
 import java.util.List;
 import java.util.Objects;
 
@@ -56,6 +61,9 @@ public class GenreAPITest {
     @MockBean
     private CreateGenreUseCase createGenreUseCase;
 
+    @MockBean
+    private CreateGenreBatchUseCase createGenreBatchUseCase;
+
     @MockBean
     private GetGenreByIdUseCase getGenreByIdUseCase;
 
@@ -68,6 +76,9 @@ public class GenreAPITest {
     @MockBean
     private ListGenreUseCase listGenreUseCase;
 
+    @MockBean
+    private CatalogExporter catalogExporter;
+
     @Test
     public void givenAValidCommand_whenCallsCreateGenre_shouldReturnGenreID() throws Exception {
         //given
@@ -141,6 +152,36 @@ public class GenreAPITest {
         ));
     }
 
+    @Test
+    public void givenACategoryDeletedMeanwhile_whenCallsCreateGenre_shouldReturnUnprocessableEntity() throws Exception {
+        //given
+        final var expectedErrorMessage = "Some referenced entities could not be found";
+
+        final var aCommand = new CreateGenreRequest("Ação", List.of("123"), true);
+
+        Mockito.when(createGenreUseCase.execute(Mockito.any()))
+                .thenThrow(new DataIntegrityViolationException("could not execute statement", new ConstraintViolationException(
+                        "could not execute statement",
+                        new SQLException("Cannot add or update a child row: a foreign key constraint fails", "23000", 1452),
+                        "fk_category_id"
+                )));
+
+        //when
+        final var aRequest = MockMvcRequestBuilders.post("/genres")
+                .with(ApiTest.GENRES_JWT)
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .content(mapper.writeValueAsString(aCommand));
+
+        final var response = mock.perform(aRequest)
+                .andDo(print());
+
+        //then
+        response.andExpect(status().isUnprocessableEntity())
+                .andExpect(jsonPath("$.message", equalTo(expectedErrorMessage)))
+                .andExpect(jsonPath("$.errors", hasSize(1)))
+                .andExpect(jsonPath("$.errors[0].message", equalTo(expectedErrorMessage)));
+    }
+
     @Test
     public void givenAValidId_whenCallsGetGenreById_shouldReturnGenre() throws Exception {
         //given
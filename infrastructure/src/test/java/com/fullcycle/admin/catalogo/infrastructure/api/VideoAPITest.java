@@ -1,8 +1,10 @@
 package com.fullcycle.admin.catalogo.infrastructure.api;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fullcycle.admin.catalogo.ApiTest;
 import com.fullcycle.admin.catalogo.ControllerTest;
+import com.fullcycle.admin.catalogo.application.video.create.CreateVideoBatchUseCase;
 import com.fullcycle.admin.catalogo.application.video.create.CreateVideoCommand;
 import com.fullcycle.admin.catalogo.application.video.create.CreateVideoOutput;
 import com.fullcycle.admin.catalogo.application.video.create.CreateVideoUseCase;
@@ -13,6 +15,8 @@ import com.fullcycle.admin.catalogo.application.video.media.get.MediaOutput;
 import com.fullcycle.admin.catalogo.application.video.media.upload.UploadMediaCommand;
 import com.fullcycle.admin.catalogo.application.video.media.upload.UploadMediaOutput;
 import com.fullcycle.admin.catalogo.application.video.media.upload.UploadMediaUseCase;
+import com.fullcycle.admin.catalogo.application.video.retrieve.facets.ListVideoFacetsUseCase;
+import com.fullcycle.admin.catalogo.application.video.retrieve.facets.VideoFacetsOutput;
 import com.fullcycle.admin.catalogo.application.video.retrieve.get.GetVideoByIdUseCase;
 import com.fullcycle.admin.catalogo.application.video.retrieve.get.VideoOutput;
 import com.fullcycle.admin.catalogo.application.video.retrieve.list.ListVideosUseCase;
@@ -27,13 +31,18 @@ import com.fullcycle.admin.catalogo.domain.exceptions.NotificationException;
 import com.fullcycle.admin.catalogo.domain.genre.GenreID;
 import com.fullcycle.admin.catalogo.domain.pagination.Pagination;
 import com.fullcycle.admin.catalogo.domain.validation.Error;
+import com.fullcycle.admin.catalogo.domain.validation.handler.Notification;
+import com.fullcycle.admin.catalogo.domain.video.MediaStatus;
+import com.fullcycle.admin.catalogo.domain.video.Rating;
 import com.fullcycle.admin.catalogo.domain.video.Video;
 import com.fullcycle.admin.catalogo.domain.video.VideoID;
 import com.fullcycle.admin.catalogo.domain.video.VideoMediaType;
 import com.fullcycle.admin.catalogo.domain.video.VideoPreview;
 import com.fullcycle.admin.catalogo.domain.video.VideoSearchQuery;
+import com.fullcycle.admin.catalogo.infrastructure.export.CatalogExporter;
 import com.fullcycle.admin.catalogo.infrastructure.video.models.CreateVideoRequest;
 import com.fullcycle.admin.catalogo.infrastructure.video.models.UpdateVideoRequest;
+import io.vavr.API;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
@@ -44,9 +53,12 @@ import org.springframework.http.MediaType;
 import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.time.Duration;
 import java.time.Year;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import static com.fullcycle.admin.catalogo.domain.utils.CollectionUtils.mapTo;
@@ -54,8 +66,10 @@ import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.hasSize;
 import static org.mockito.Mockito.any;
 import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.multipart;
@@ -64,6 +78,7 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @ControllerTest(controllers = VideoAPI.class)
@@ -78,6 +93,9 @@ public class VideoAPITest {
     @MockBean
     private CreateVideoUseCase createVideoUseCase;
 
+    @MockBean
+    private CreateVideoBatchUseCase createVideoBatchUseCase;
+
     @MockBean
     private GetVideoByIdUseCase getVideoByIdUseCase;
 
@@ -90,12 +108,18 @@ public class VideoAPITest {
     @MockBean
     private ListVideosUseCase listVideosUseCase;
 
+    @MockBean
+    private ListVideoFacetsUseCase listVideoFacetsUseCase;
+
     @MockBean
     private GetMediaUseCase getMediaUseCase;
 
     @MockBean
     private UploadMediaUseCase uploadMediaUseCase;
 
+    @MockBean
+    private CatalogExporter catalogExporter;
+
     @Test
     public void givenAValidCommand_whenCallsCreateVideo_shouldReturnVideoId() throws Exception {
         // given
@@ -262,6 +286,67 @@ public class VideoAPITest {
         Assertions.assertTrue(actualCmd.getThumbnailHalf().isEmpty());
     }
 
+    @Test
+    public void givenNdjsonRecords_whenCallsImportVideos_shouldStreamOneResultPerRecord() throws Exception {
+        // given
+        final var expectedId = VideoID.unique();
+        final var expectedErrorMessage = "'title' should not be null";
+
+        final var aBody = """
+                {"title":"Ben Hur","duration":120.0,"year_launched":1959,"rating":"L","categories":["123"]}
+                not a json record
+
+                {"duration":90.0}
+                """;
+
+        when(createVideoBatchUseCase.execute(any())).thenReturn(List.of(
+                API.Right(CreateVideoOutput.from(expectedId.getValue())),
+                API.Left(Notification.create(new Error(expectedErrorMessage)))
+        ));
+
+        // when
+        final var aRequest = post("/videos/import")
+                .with(ApiTest.VIDEOS_JWT)
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .content(aBody);
+
+        final var aResult = this.mvc.perform(aRequest)
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        this.mvc.perform(asyncDispatch(aResult))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Type", MediaType.APPLICATION_NDJSON_VALUE));
+
+        Assertions.assertEquals(Duration.ofHours(12).toMillis(), aResult.getRequest().getAsyncContext().getTimeout());
+
+        // then
+        final var actualLines = new ArrayList<JsonNode>();
+        for (final var line : aResult.getResponse().getContentAsString().lines().toList()) {
+            actualLines.add(this.objectMapper.readTree(line));
+        }
+
+        Assertions.assertEquals(3, actualLines.size());
+        Assertions.assertEquals(0, actualLines.get(0).get("index").asInt());
+        Assertions.assertEquals(expectedId.getValue(), actualLines.get(0).get("id").asText());
+        Assertions.assertEquals(1, actualLines.get(1).get("index").asInt());
+        Assertions.assertTrue(actualLines.get(1).get("errors").get(0).get("message").asText().startsWith("Malformed record"));
+        Assertions.assertEquals(2, actualLines.get(2).get("index").asInt());
+        Assertions.assertEquals(expectedErrorMessage, actualLines.get(2).get("errors").get(0).get("message").asText());
+
+        @SuppressWarnings("unchecked")
+        final ArgumentCaptor<List<CreateVideoCommand>> cmdCaptor = ArgumentCaptor.forClass(List.class);
+
+        verify(createVideoBatchUseCase).execute(cmdCaptor.capture());
+
+        final var actualCmds = cmdCaptor.getValue();
+
+        Assertions.assertEquals(2, actualCmds.size());
+        Assertions.assertEquals("Ben Hur", actualCmds.get(0).title());
+        Assertions.assertEquals(Set.of("123"), actualCmds.get(0).categories());
+        Assertions.assertNull(actualCmds.get(1).title());
+    }
+
     @Test
     public void givenAInvalidCommand_whenCallsCreatePartial_shouldError() throws Exception {
         // given
@@ -645,6 +730,123 @@ public class VideoAPITest {
         Assertions.assertTrue(actualQuery.genres().isEmpty());
     }
 
+    @Test
+    public void givenFilterParams_whenCallsListVideos_shouldPassThemToTheQuery() throws Exception {
+        // given
+        when(listVideosUseCase.execute(any()))
+                .thenReturn(new Pagination<>(0, 25, 0, List.of()));
+
+        // when
+        final var aRequest = get("/videos")
+                .with(ApiTest.VIDEOS_JWT)
+                .queryParam("published", "true")
+                .queryParam("ratings", "12", "L")
+                .queryParam("year_from", "2000")
+                .queryParam("year_to", "2010")
+                .queryParam("media_status", "pending")
+                .accept(MediaType.APPLICATION_JSON);
+
+        final var response = this.mvc.perform(aRequest);
+
+        // then
+        response.andExpect(status().isOk());
+
+        final var aCaptor = ArgumentCaptor.forClass(VideoSearchQuery.class);
+
+        verify(listVideosUseCase).execute(aCaptor.capture());
+
+        final var actualQuery = aCaptor.getValue();
+        Assertions.assertEquals(Boolean.TRUE, actualQuery.filters().published());
+        Assertions.assertEquals(Set.of(Rating.AGE_12, Rating.L), actualQuery.filters().ratings());
+        Assertions.assertEquals(Year.of(2000), actualQuery.filters().launchedFrom());
+        Assertions.assertEquals(Year.of(2010), actualQuery.filters().launchedTo());
+        Assertions.assertEquals(MediaStatus.PENDING, actualQuery.filters().mediaStatus());
+    }
+
+    @Test
+    public void givenAnInvalidRating_whenCallsListVideos_shouldReturnUnprocessableEntity() throws Exception {
+        // given
+        final var expectedErrorMessage = "Rating 21 is not supported";
+
+        // when
+        final var aRequest = get("/videos")
+                .with(ApiTest.VIDEOS_JWT)
+                .queryParam("ratings", "21")
+                .accept(MediaType.APPLICATION_JSON);
+
+        final var response = this.mvc.perform(aRequest);
+
+        // then
+        response.andExpect(status().isUnprocessableEntity())
+                .andExpect(jsonPath("$.errors", hasSize(1)))
+                .andExpect(jsonPath("$.errors[0].message", equalTo(expectedErrorMessage)));
+
+        verify(listVideosUseCase, never()).execute(any());
+    }
+
+    @Test
+    public void givenYearFromAfterYearToAndAnInvalidMediaStatus_whenCallsListVideos_shouldReturnEveryError() throws Exception {
+        // given
+        final var expectedErrorMessage = "Could not list videos";
+        final var expectedMediaStatusError = "Media status encoded is not supported";
+        final var expectedYearError = "'year_from' must be less than or equal to 'year_to'";
+
+        // when
+        final var aRequest = get("/videos")
+                .with(ApiTest.VIDEOS_JWT)
+                .queryParam("year_from", "2010")
+                .queryParam("year_to", "2000")
+                .queryParam("media_status", "encoded")
+                .accept(MediaType.APPLICATION_JSON);
+
+        final var response = this.mvc.perform(aRequest);
+
+        // then
+        response.andExpect(status().isUnprocessableEntity())
+                .andExpect(jsonPath("$.message", equalTo(expectedErrorMessage)))
+                .andExpect(jsonPath("$.errors", hasSize(2)))
+                .andExpect(jsonPath("$.errors[0].message", equalTo(expectedMediaStatusError)))
+                .andExpect(jsonPath("$.errors[1].message", equalTo(expectedYearError)));
+
+        verify(listVideosUseCase, never()).execute(any());
+    }
+
+    @Test
+    public void givenFilterParams_whenCallsListVideoFacets_shouldReturnTheCounts() throws Exception {
+        // given
+        final var expectedCategories = Map.of("category1", 2L);
+        final var expectedGenres = Map.of("genre1", 1L);
+        final var expectedCastMembers = Map.of("member1", 2L);
+        final var expectedRatings = Map.of("12", 2L);
+
+        when(listVideoFacetsUseCase.execute(any()))
+                .thenReturn(new VideoFacetsOutput(expectedCategories, expectedGenres, expectedCastMembers, expectedRatings));
+
+        // when
+        final var aRequest = get("/videos/facets")
+                .with(ApiTest.VIDEOS_JWT)
+                .queryParam("categories_ids", "category1")
+                .queryParam("published", "true")
+                .accept(MediaType.APPLICATION_JSON);
+
+        final var response = this.mvc.perform(aRequest);
+
+        // then
+        response.andExpect(status().isOk())
+                .andExpect(jsonPath("$.categories.category1", equalTo(2)))
+                .andExpect(jsonPath("$.genres.genre1", equalTo(1)))
+                .andExpect(jsonPath("$.cast_members.member1", equalTo(2)))
+                .andExpect(jsonPath("$.ratings['12']", equalTo(2)));
+
+        final var aCaptor = ArgumentCaptor.forClass(VideoSearchQuery.class);
+
+        verify(listVideoFacetsUseCase).execute(aCaptor.capture());
+
+        final var actualQuery = aCaptor.getValue();
+        Assertions.assertEquals(Set.of(CategoryID.from("category1")), actualQuery.categories());
+        Assertions.assertEquals(Boolean.TRUE, actualQuery.filters().published());
+    }
+
     @Test
     public void givenAValidVideoIdAndFiletype_whenCallGetMediaById_shouldReturnContent() throws Exception {
         // given
@@ -652,7 +854,7 @@ public class VideoAPITest {
         final var expectedMediaType = VideoMediaType.VIDEO;
         final var expectedResource = Fixture.Videos.resource(expectedMediaType);
 
-        final var expectedMedia = new MediaOutput(expectedResource.content(), expectedResource.contentType(), expectedResource.name());
+        final var expectedMedia = MediaOutput.with(expectedResource);
 
         when(getMediaUseCase.execute(any()))
                 .thenReturn(expectedMedia);
@@ -666,9 +868,11 @@ public class VideoAPITest {
         // then
         response.andExpect(status().isOk())
                 .andExpect(header().string(HttpHeaders.CONTENT_TYPE, expectedMedia.contentType()))
-                .andExpect(header().string(HttpHeaders.CONTENT_LENGTH, String.valueOf(expectedMedia.content().length)))
+                .andExpect(header().string(HttpHeaders.CONTENT_LENGTH, String.valueOf(expectedResource.content().length)))
                 .andExpect(header().string(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=%s".formatted(expectedMedia.name())))
-                .andExpect(content().bytes(expectedMedia.content()));
+                .andExpect(header().string(HttpHeaders.ETAG, "\"%s\"".formatted(expectedMedia.checksum())))
+                .andExpect(header().string(HttpHeaders.ACCEPT_RANGES, "bytes"))
+                .andExpect(content().bytes(expectedResource.content()));
 
         final var aCaptor = ArgumentCaptor.forClass(GetMediaCommand.class);
         verify(getMediaUseCase).execute(aCaptor.capture());
@@ -678,6 +882,79 @@ public class VideoAPITest {
         Assertions.assertEquals(expectedMediaType.name(), actualCmd.mediaType());
     }
 
+    @Test
+    public void givenARangeHeader_whenCallGetMediaById_shouldReturnPartialContent() throws Exception {
+        // given
+        final var expectedId = VideoID.unique();
+        final var expectedMediaType = VideoMediaType.TRAILER;
+        final var expectedResource = Fixture.Videos.resource(expectedMediaType);
+        final var expectedSize = expectedResource.content().length;
+        final var expectedContent = Arrays.copyOfRange(expectedResource.content(), 2, 5);
+
+        when(getMediaUseCase.execute(any()))
+                .thenReturn(MediaOutput.with(expectedResource));
+
+        // when
+        final var aRequest = get("/videos/{id}/media/{type}", expectedId.getValue(), expectedMediaType.name())
+                .header(HttpHeaders.RANGE, "bytes=2-4")
+                .with(ApiTest.VIDEOS_JWT);
+
+        final var response = this.mvc.perform(aRequest);
+
+        // then
+        response.andExpect(status().isPartialContent())
+                .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes 2-4/%d".formatted(expectedSize)))
+                .andExpect(header().string(HttpHeaders.CONTENT_LENGTH, "3"))
+                .andExpect(content().bytes(expectedContent));
+    }
+
+    @Test
+    public void givenAnUnsatisfiableRange_whenCallGetMediaById_shouldReturnRangeNotSatisfiable() throws Exception {
+        // given
+        final var expectedId = VideoID.unique();
+        final var expectedMediaType = VideoMediaType.TRAILER;
+        final var expectedResource = Fixture.Videos.resource(expectedMediaType);
+        final var expectedSize = expectedResource.content().length;
+
+        when(getMediaUseCase.execute(any()))
+                .thenReturn(MediaOutput.with(expectedResource));
+
+        // when
+        final var aRequest = get("/videos/{id}/media/{type}", expectedId.getValue(), expectedMediaType.name())
+                .header(HttpHeaders.RANGE, "bytes=%d-".formatted(expectedSize))
+                .with(ApiTest.VIDEOS_JWT);
+
+        final var response = this.mvc.perform(aRequest);
+
+        // then
+        response.andExpect(status().isRequestedRangeNotSatisfiable())
+                .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes */%d".formatted(expectedSize)));
+    }
+
+    @Test
+    public void givenAMatchingIfNoneMatch_whenCallGetMediaById_shouldReturnNotModified() throws Exception {
+        // given
+        final var expectedId = VideoID.unique();
+        final var expectedMediaType = VideoMediaType.VIDEO;
+        final var expectedResource = Fixture.Videos.resource(expectedMediaType);
+        final var expectedETag = "\"%s\"".formatted(expectedResource.checksum());
+
+        when(getMediaUseCase.execute(any()))
+                .thenReturn(MediaOutput.with(expectedResource));
+
+        // when
+        final var aRequest = get("/videos/{id}/media/{type}", expectedId.getValue(), expectedMediaType.name())
+                .header(HttpHeaders.IF_NONE_MATCH, expectedETag)
+                .with(ApiTest.VIDEOS_JWT);
+
+        final var response = this.mvc.perform(aRequest);
+
+        // then
+        response.andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, expectedETag))
+                .andExpect(content().bytes(new byte[0]));
+    }
+
     @Test
     public void givenAValidVideoIdAndFile_whenCallsUploadMedia_shouldStoreIt() throws Exception {
         // given
@@ -714,7 +991,7 @@ public class VideoAPITest {
         Assertions.assertEquals(expectedType, actualCmd.videoResource().type());
         Assertions.assertEquals(expectedResource.name(), actualCmd.videoResource().resource().name());
         Assertions.assertEquals(expectedResource.contentType(), actualCmd.videoResource().resource().contentType());
-        Assertions.assertEquals(expectedResource.content(), actualCmd.videoResource().resource().content());
+        Assertions.assertArrayEquals(expectedResource.content(), actualCmd.videoResource().resource().content());
     }
 
     @Test
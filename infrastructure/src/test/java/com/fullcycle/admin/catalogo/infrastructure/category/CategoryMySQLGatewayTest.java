@@ -2,14 +2,22 @@ package com.fullcycle.admin.catalogo.infrastructure.category;
 
 import com.fullcycle.admin.catalogo.domain.category.Category;
 import com.fullcycle.admin.catalogo.domain.category.CategoryID;
+import com.fullcycle.admin.catalogo.domain.exceptions.DomainException;
+import com.fullcycle.admin.catalogo.domain.pagination.CountMode;
+import com.fullcycle.admin.catalogo.domain.pagination.Pagination;
 import com.fullcycle.admin.catalogo.domain.pagination.SearchQuery;
 import com.fullcycle.admin.catalogo.MySQLGatewayTest;
 import com.fullcycle.admin.catalogo.infrastructure.category.persistence.CategoryJpaEntity;
 import com.fullcycle.admin.catalogo.infrastructure.category.persistence.CategoryRepository;
+import org.hibernate.Session;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.jpa.domain.Specification;
 
+import java.util.ArrayList;
 import java.util.List;
 
 
@@ -22,6 +30,9 @@ public class CategoryMySQLGatewayTest {
     @Autowired
     private CategoryRepository repository;
 
+    @Autowired
+    private TestEntityManager entityManager;
+
 
 
     @Test
@@ -58,6 +69,29 @@ public class CategoryMySQLGatewayTest {
 
     }
 
+    @Test
+    public void givenValidCategories_whenCallsCreateAll_shouldPersistAllOfThem() {
+        final var filmes = Category.newCategory("Filmes", "A categoria mais assistida", true);
+        final var series = Category.newCategory("Séries", null, true);
+        final var documentarios = Category.newCategory("Documentários", null, false);
+
+        Assertions.assertEquals(0, repository.count());
+
+        final var actualCategories = categoryGateway.createAll(List.of(filmes, series, documentarios));
+
+        Assertions.assertEquals(3, repository.count());
+        Assertions.assertEquals(
+            List.of(filmes.getId(), series.getId(), documentarios.getId()),
+            actualCategories.stream().map(Category::getId).toList()
+        );
+
+        final var actualEntity = repository.findById(documentarios.getId().getValue()).get();
+
+        Assertions.assertEquals("Documentários", actualEntity.getName());
+        Assertions.assertFalse(actualEntity.isActive());
+        Assertions.assertNotNull(actualEntity.getDeletedAt());
+    }
+
     @Test
     public void givenAValidCategory_whenCallsUpdate_shouldReturnACategoryUpdated() {
         final var expectedName = "Filmes";
@@ -124,6 +158,28 @@ public class CategoryMySQLGatewayTest {
         Assertions.assertEquals(0, repository.count());
     }
 
+    @Test
+    public void givenPrePersistedCategories_whenCallsDeleteAllById_shouldDeleteThemAndReturnTheAffectedRows() {
+        final var filmes = Category.newCategory("Filmes", null, true);
+        final var series = Category.newCategory("Séries", null, true);
+        final var documentarios = Category.newCategory("Documentários", null, true);
+
+        repository.saveAllAndFlush(List.of(
+            CategoryJpaEntity.from(filmes),
+            CategoryJpaEntity.from(series),
+            CategoryJpaEntity.from(documentarios)
+        ));
+        Assertions.assertEquals(3, repository.count());
+
+        final var actualDeleted = categoryGateway.deleteAllById(
+            List.of(filmes.getId(), series.getId(), CategoryID.from("invalid"))
+        );
+
+        Assertions.assertEquals(2, actualDeleted);
+        Assertions.assertEquals(1, repository.count());
+        Assertions.assertTrue(repository.existsById(documentarios.getId().getValue()));
+    }
+
     @Test
     public void givenAPrePersistedCategoryAndValidCategoryId_whenCallsTryToFindByIdIt_shouldReturnACategory() {
         final var expectedName = "Filmes";
@@ -310,6 +366,133 @@ public class CategoryMySQLGatewayTest {
 
     }
 
+    @Test
+    public void givenPrePersistedCategories_whenCallsFindAllFollowingCursor_shouldWalkAllPages() {
+        final var expectedPerPage = 2;
+
+        final var filmes = Category.newCategory("Filmes", "A categoria mais assistida", true);
+        final var series = Category.newCategory("Series", "A categoria assistida", true);
+        final var documentarios = Category.newCategory("Documentários", "A categoria menos assistida", true);
+
+        repository.saveAll(List.of(CategoryJpaEntity.from(filmes), CategoryJpaEntity.from(series), CategoryJpaEntity.from(documentarios)));
+
+        // Page 0
+        var query = new SearchQuery(0, expectedPerPage, "", "name", "asc", "");
+        var actualResult = categoryGateway.findAll(query);
+
+        Assertions.assertEquals(Pagination.UNKNOWN_TOTAL, actualResult.total());
+        Assertions.assertEquals(expectedPerPage, actualResult.items().size());
+        Assertions.assertEquals(documentarios.getId(), actualResult.items().get(0).getId());
+        Assertions.assertEquals(filmes.getId(), actualResult.items().get(1).getId());
+        Assertions.assertNotNull(actualResult.nextCursor());
+
+        // Page 1
+        query = new SearchQuery(0, expectedPerPage, "", "name", "asc", actualResult.nextCursor());
+        actualResult = categoryGateway.findAll(query);
+
+        Assertions.assertEquals(1, actualResult.items().size());
+        Assertions.assertEquals(series.getId(), actualResult.items().get(0).getId());
+        Assertions.assertNull(actualResult.nextCursor());
+    }
+
+    @Test
+    public void givenPrePersistedCategories_whenCallsFindAllFollowingCursorDescending_shouldWalkAllPages() {
+        final var filmes = Category.newCategory("Filmes", "A categoria mais assistida", true);
+        final var series = Category.newCategory("Series", "A categoria assistida", true);
+        final var documentarios = Category.newCategory("Documentários", "A categoria menos assistida", true);
+
+        repository.saveAll(List.of(CategoryJpaEntity.from(filmes), CategoryJpaEntity.from(series), CategoryJpaEntity.from(documentarios)));
+
+        var query = new SearchQuery(0, 1, "", "createdAt", "desc", "");
+        var actualResult = categoryGateway.findAll(query);
+        final var actualIds = new ArrayList<CategoryID>(actualResult.items().stream().map(Category::getId).toList());
+
+        while (actualResult.nextCursor() != null) {
+            query = new SearchQuery(0, 1, "", "createdAt", "desc", actualResult.nextCursor());
+            actualResult = categoryGateway.findAll(query);
+            actualResult.items().forEach(it -> actualIds.add(it.getId()));
+        }
+
+        Assertions.assertEquals(3, actualIds.size());
+        Assertions.assertTrue(actualIds.containsAll(List.of(documentarios.getId(), series.getId(), filmes.getId())));
+    }
+
+    @Test
+    public void givenAnInvalidCursor_whenCallsFindAll_shouldThrowDomainException() {
+        final var expectedErrorMessage = "Invalid cursor";
+
+        final var query = new SearchQuery(0, 1, "", "name", "asc", "not-a-cursor");
+
+        final var actualException = Assertions.assertThrows(DomainException.class, () -> categoryGateway.findAll(query));
+
+        Assertions.assertEquals(expectedErrorMessage, actualException.getErrors().get(0).message());
+    }
+
+    @Test
+    public void givenPrePersistedCategories_whenCallsFindAllWithoutCount_shouldReturnUnknownTotal() {
+        final var expectedPage = 0;
+        final var expectedPerPage = 2;
+        final var expectedTotal = Pagination.UNKNOWN_TOTAL;
+
+        final var filmes = Category.newCategory("Filmes", "A categoria mais assistida", true);
+        final var series = Category.newCategory("Series", "A categoria assistida", true);
+        final var documentarios = Category.newCategory("Documentários", "A categoria menos assistida", true);
+
+        repository.saveAll(List.of(CategoryJpaEntity.from(filmes), CategoryJpaEntity.from(series), CategoryJpaEntity.from(documentarios)));
+
+        final var query = new SearchQuery(expectedPage, expectedPerPage, "", "name", "asc", null, CountMode.NONE);
+        final var actualResult = categoryGateway.findAll(query);
+
+        Assertions.assertEquals(expectedPage, actualResult.currentPage());
+        Assertions.assertEquals(expectedPerPage, actualResult.perPage());
+        Assertions.assertEquals(expectedTotal, actualResult.total());
+        Assertions.assertEquals(expectedPerPage, actualResult.items().size());
+        Assertions.assertEquals(documentarios.getId(), actualResult.items().get(0).getId());
+        Assertions.assertEquals(filmes.getId(), actualResult.items().get(1).getId());
+    }
+
+    @Test
+    public void givenATerm_whenCallsFindAllWithoutCount_shouldFilterLikeTheExactPage() {
+        final var filmes = Category.newCategory("Filmes", "A categoria mais assistida", true);
+        final var series = Category.newCategory("Series", "Uma categoria assistida", true);
+        final var documentarios = Category.newCategory("Documentários", "Filmes sobre fatos", true);
+
+        repository.saveAll(List.of(CategoryJpaEntity.from(filmes), CategoryJpaEntity.from(series), CategoryJpaEntity.from(documentarios)));
+
+        final var slice = categoryGateway.findAll(new SearchQuery(0, 10, "fil", "name", "asc", null, CountMode.NONE));
+        final var exactPage = categoryGateway.findAll(new SearchQuery(0, 10, "fil", "name", "asc", null, CountMode.EXACT));
+
+        Assertions.assertEquals(2, exactPage.total());
+        Assertions.assertEquals(
+            exactPage.items().stream().map(Category::getId).toList(),
+            slice.items().stream().map(Category::getId).toList()
+        );
+        Assertions.assertEquals(documentarios.getId(), slice.items().get(0).getId());
+    }
+
+    @Test
+    public void givenPrePersistedCategories_whenCallsFindAllWithEstimatedCount_shouldReuseTheCountBetweenPages() {
+        final var expectedTotal = 2;
+
+        final var filmes = Category.newCategory("Filmes", "A categoria mais assistida", true);
+        final var series = Category.newCategory("Series", "A categoria assistida", true);
+        final var documentarios = Category.newCategory("Documentários", "A categoria menos assistida", true);
+
+        repository.saveAll(List.of(CategoryJpaEntity.from(filmes), CategoryJpaEntity.from(series)));
+
+        final var firstPage = categoryGateway.findAll(new SearchQuery(0, 1, "", "name", "asc", null, CountMode.ESTIMATE));
+
+        repository.save(CategoryJpaEntity.from(documentarios));
+
+        final var secondPage = categoryGateway.findAll(new SearchQuery(1, 1, "", "name", "asc", null, CountMode.ESTIMATE));
+        final var exactPage = categoryGateway.findAll(new SearchQuery(1, 1, "", "name", "asc", null, CountMode.EXACT));
+
+        Assertions.assertEquals(expectedTotal, firstPage.total());
+        Assertions.assertEquals(expectedTotal, secondPage.total());
+        Assertions.assertEquals(3, exactPage.total());
+        Assertions.assertEquals(filmes.getId(), secondPage.items().get(0).getId());
+    }
+
     @Test
     public void givenPrePersistedCategories_whenCallsExistsByIds_shouldReturnIds() {
         final var expectedPage = 0;
@@ -335,4 +518,35 @@ public class CategoryMySQLGatewayTest {
 
 
     }
+
+    @Test
+    public void givenACheckedCategory_whenCallsDeleteById_shouldNoLongerReportItAsExisting() {
+        final var filmes = categoryGateway.create(Category.newCategory("Filmes", null, true));
+        final var series = categoryGateway.create(Category.newCategory("Series", null, true));
+        final var ids = List.of(filmes.getId(), series.getId());
+
+        Assertions.assertEquals(2, categoryGateway.existsByIds(ids).size());
+
+        categoryGateway.deleteById(filmes.getId());
+
+        Assertions.assertEquals(List.of(series.getId()), categoryGateway.existsByIds(ids));
+    }
+
+    @Test
+    public void givenPrePersistedCategories_whenCallsListQueries_shouldLoadReadOnlyEntities() {
+        final var filmes = Category.newCategory("Filmes", null, true);
+        final var series = Category.newCategory("Series", null, true);
+
+        repository.saveAllAndFlush(List.of(CategoryJpaEntity.from(filmes), CategoryJpaEntity.from(series)));
+        entityManager.clear();
+
+        final var session = entityManager.getEntityManager().unwrap(Session.class);
+        final var page = repository.findAll(Specification.where(null), PageRequest.of(0, 10));
+        final var slice = repository.findSlice(null, PageRequest.of(0, 10));
+
+        Assertions.assertEquals(2, page.getNumberOfElements());
+        Assertions.assertEquals(2, slice.getNumberOfElements());
+        page.forEach(it -> Assertions.assertTrue(session.isReadOnly(it)));
+        slice.forEach(it -> Assertions.assertTrue(session.isReadOnly(it)));
+    }
 }
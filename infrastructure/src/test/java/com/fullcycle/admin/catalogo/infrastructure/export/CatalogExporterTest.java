@@ -0,0 +1,160 @@
+package com.fullcycle.admin.catalogo.infrastructure.export;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fullcycle.admin.catalogo.IntegrationTest;
+import com.fullcycle.admin.catalogo.domain.Fixture;
+import com.fullcycle.admin.catalogo.domain.castmember.CastMember;
+import com.fullcycle.admin.catalogo.domain.castmember.CastMemberGateway;
+import com.fullcycle.admin.catalogo.domain.castmember.CastMemberType;
+import com.fullcycle.admin.catalogo.domain.category.Category;
+import com.fullcycle.admin.catalogo.domain.category.CategoryGateway;
+import com.fullcycle.admin.catalogo.domain.genre.Genre;
+import com.fullcycle.admin.catalogo.domain.genre.GenreGateway;
+import com.fullcycle.admin.catalogo.domain.video.Rating;
+import com.fullcycle.admin.catalogo.domain.video.Video;
+import com.fullcycle.admin.catalogo.domain.video.VideoGateway;
+import com.fullcycle.admin.catalogo.infrastructure.category.models.CategoryExportRow;
+import com.fullcycle.admin.catalogo.infrastructure.configuration.json.Json;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Year;
+import java.util.List;
+import java.util.Set;
+
+@IntegrationTest
+public class CatalogExporterTest {
+
+    @Autowired
+    private CatalogExporter catalogExporter;
+
+    @Autowired
+    private CategoryGateway categoryGateway;
+
+    @Autowired
+    private GenreGateway genreGateway;
+
+    @Autowired
+    private CastMemberGateway castMemberGateway;
+
+    @Autowired
+    private VideoGateway videoGateway;
+
+    @Test
+    public void givenPersistedCategories_whenCallsExportCategoriesAsCsv_shouldWriteHeaderAndEscapedRows() {
+        // given
+        final var filmes = categoryGateway.create(Category.newCategory("Filmes", "Filmes, os mais assistidos", true));
+        final var series = categoryGateway.create(Category.newCategory("Series", null, false));
+
+        final var out = new ByteArrayOutputStream();
+
+        // when
+        catalogExporter.exportCategories(ExportFormat.CSV, out);
+
+        // then
+        final var actualLines = lines(out);
+
+        Assertions.assertEquals(3, actualLines.size());
+        Assertions.assertEquals(String.join(",", CategoryExportRow.COLUMNS), actualLines.get(0));
+        Assertions.assertTrue(actualLines.stream().anyMatch(it ->
+            it.startsWith(filmes.getId().getValue() + ",Filmes,\"Filmes, os mais assistidos\",true,")));
+        Assertions.assertTrue(actualLines.stream().anyMatch(it ->
+            it.startsWith(series.getId().getValue() + ",Series,,false,")));
+    }
+
+    @Test
+    public void givenVideosWithRelations_whenCallsExportVideosAsNdjson_shouldWriteOneLinePerVideoWithRelationIds() throws Exception {
+        // given
+        final var filmes = categoryGateway.create(Category.newCategory("Filmes", null, true));
+        final var aventura = genreGateway.create(Genre.newGenre("Aventura", true).addCategory(filmes.getId()));
+        final var vinDiesel = castMemberGateway.create(CastMember.newMember("Vin Diesel", CastMemberType.ACTOR));
+
+        final var expectedTitle = Fixture.title();
+        final var aVideo = videoGateway.create(Video.newVideo(
+            expectedTitle,
+            Fixture.Videos.description(),
+            Year.of(2022),
+            Fixture.duration(),
+            Rating.L,
+            true,
+            false,
+            Set.of(filmes.getId()),
+            Set.of(aventura.getId()),
+            Set.of(vinDiesel.getId())
+        ));
+        final var withoutRelations = videoGateway.create(Video.newVideo(
+            Fixture.title(),
+            Fixture.Videos.description(),
+            Year.of(2021),
+            Fixture.duration(),
+            Rating.AGE_10,
+            false,
+            false,
+            Set.of(),
+            Set.of(),
+            Set.of()
+        ));
+
+        final var out = new ByteArrayOutputStream();
+
+        // when
+        catalogExporter.exportVideos(ExportFormat.NDJSON, out);
+
+        // then
+        final var actualLines = lines(out);
+        Assertions.assertEquals(2, actualLines.size());
+
+        JsonNode actualVideo = null;
+        JsonNode actualWithoutRelations = null;
+        for (final var line : actualLines) {
+            final var node = Json.mapper().readTree(line);
+            if (aVideo.getId().getValue().equals(node.get("id").asText())) {
+                actualVideo = node;
+            } else if (withoutRelations.getId().getValue().equals(node.get("id").asText())) {
+                actualWithoutRelations = node;
+            }
+        }
+
+        Assertions.assertNotNull(actualVideo);
+        Assertions.assertEquals(expectedTitle, actualVideo.get("title").asText());
+        Assertions.assertEquals(2022, actualVideo.get("year_launched").asInt());
+        Assertions.assertEquals(Rating.L.getName(), actualVideo.get("rating").asText());
+        Assertions.assertEquals(filmes.getId().getValue(), actualVideo.get("categories_id").get(0).asText());
+        Assertions.assertEquals(aventura.getId().getValue(), actualVideo.get("genres_id").get(0).asText());
+        Assertions.assertEquals(vinDiesel.getId().getValue(), actualVideo.get("cast_member_id").get(0).asText());
+
+        Assertions.assertNotNull(actualWithoutRelations);
+        Assertions.assertTrue(actualWithoutRelations.get("categories_id").isEmpty());
+        Assertions.assertTrue(actualWithoutRelations.get("genres_id").isEmpty());
+        Assertions.assertTrue(actualWithoutRelations.get("cast_member_id").isEmpty());
+    }
+
+    @Test
+    public void givenAGenreWithCategories_whenCallsExportGenresAsNdjson_shouldWriteCategoryIds() throws Exception {
+        // given
+        final var filmes = categoryGateway.create(Category.newCategory("Filmes", null, true));
+        final var series = categoryGateway.create(Category.newCategory("Series", null, true));
+        final var aGenre = genreGateway.create(Genre.newGenre("Acao", true)
+            .addCategories(List.of(filmes.getId(), series.getId())));
+
+        final var out = new ByteArrayOutputStream();
+
+        // when
+        catalogExporter.exportGenres(ExportFormat.NDJSON, out);
+
+        // then
+        final var actualLines = lines(out);
+        Assertions.assertEquals(1, actualLines.size());
+
+        final var actualGenre = Json.mapper().readTree(actualLines.get(0));
+        Assertions.assertEquals(aGenre.getId().getValue(), actualGenre.get("id").asText());
+        Assertions.assertEquals(2, actualGenre.get("categories_id").size());
+    }
+
+    private static List<String> lines(final ByteArrayOutputStream out) {
+        return out.toString(StandardCharsets.UTF_8).lines().toList();
+    }
+}
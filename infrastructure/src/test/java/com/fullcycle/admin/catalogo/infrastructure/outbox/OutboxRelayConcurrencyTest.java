@@ -0,0 +1,92 @@
+package com.fullcycle.admin.catalogo.infrastructure.outbox;
+
+import com.fullcycle.admin.catalogo.IntegrationTest;
+import com.fullcycle.admin.catalogo.infrastructure.outbox.persistence.OutboxEventJpaEntity;
+import com.fullcycle.admin.catalogo.infrastructure.outbox.persistence.OutboxEventRepository;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.amqp.rabbit.core.RabbitOperations;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.stream.IntStream;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+
+@IntegrationTest
+public class OutboxRelayConcurrencyTest {
+
+    private static final int BATCH_SIZE = 10;
+    private static final long CONFIRM_TIMEOUT = 5000;
+    private static final long LEASE = 30000;
+
+    @Autowired
+    private OutboxEventRepository repository;
+
+    @Test
+    public void givenTwoRelays_whenBothRelayTheSameOutbox_shouldPublishEveryEventOnce() throws Exception {
+        // given
+        final var expectedPayloads = IntStream.range(0, 100)
+            .mapToObj("{\"id\":%d}"::formatted)
+            .toList();
+
+        repository.saveAllAndFlush(expectedPayloads.stream()
+            .map(payload -> OutboxEventJpaEntity.with("video.events", "video.created", payload))
+            .toList());
+
+        final var published = new ConcurrentLinkedQueue<String>();
+        final var start = new CountDownLatch(1);
+
+        final var relays = List.of(aRelay(published), aRelay(published));
+
+        // when
+        final var executor = Executors.newFixedThreadPool(relays.size());
+        try {
+            final var tasks = new ArrayList<Callable<Object>>();
+            // a relay that lost a claim stops its run, so each one runs until the outbox drained
+            relays.forEach(relay -> tasks.add(() -> {
+                start.await();
+                while (repository.count() > 0) {
+                    relay.relayBatch();
+                }
+                return null;
+            }));
+
+            final var futures = tasks.stream().map(executor::submit).toList();
+            start.countDown();
+            for (final var future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // then
+        Assertions.assertEquals(expectedPayloads.size(), published.size());
+        Assertions.assertEquals(
+            expectedPayloads.stream().sorted().toList(),
+            published.stream().sorted().toList()
+        );
+        Assertions.assertEquals(0, repository.count());
+    }
+
+    private OutboxRelay aRelay(final Collection<String> published) {
+        final var ops = Mockito.mock(RabbitOperations.class);
+
+        doAnswer(invocation -> invocation.<RabbitOperations.OperationsCallback<?>>getArgument(0).doInRabbit(ops))
+            .when(ops).invoke(any());
+        doAnswer(invocation -> published.add(invocation.getArgument(2)))
+            .when(ops).convertAndSend(anyString(), anyString(), any(Object.class));
+
+        return new OutboxRelay(repository, ops, BATCH_SIZE, CONFIRM_TIMEOUT, LEASE);
+    }
+}
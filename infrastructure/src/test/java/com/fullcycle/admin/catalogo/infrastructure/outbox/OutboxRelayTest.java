@@ -0,0 +1,124 @@
+package com.fullcycle.admin.catalogo.infrastructure.outbox;
+
+import com.fullcycle.admin.catalogo.infrastructure.outbox.persistence.OutboxEventJpaEntity;
+import com.fullcycle.admin.catalogo.infrastructure.outbox.persistence.OutboxEventRepository;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.amqp.AmqpTimeoutException;
+import org.springframework.amqp.rabbit.core.RabbitOperations;
+import org.springframework.data.domain.Pageable;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class OutboxRelayTest {
+
+    private static final int BATCH_SIZE = 2;
+    private static final long CONFIRM_TIMEOUT = 5000;
+    private static final long LEASE = 30000;
+
+    private OutboxRelay target;
+
+    private OutboxEventRepository repository;
+
+    private RabbitOperations ops;
+
+    @BeforeEach
+    public void setUp() {
+        this.repository = Mockito.mock(OutboxEventRepository.class);
+        this.ops = Mockito.mock(RabbitOperations.class);
+        this.target = new OutboxRelay(this.repository, this.ops, BATCH_SIZE, CONFIRM_TIMEOUT, LEASE);
+
+        // runs the callback against the same mock, as a dedicated channel would
+        doAnswer(invocation -> invocation.<RabbitOperations.OperationsCallback<?>>getArgument(0).doInRabbit(this.ops))
+            .when(this.ops).invoke(any());
+    }
+
+    @Test
+    public void givenPendingEvents_whenCallsRelayBatch_shouldPublishAndDeleteThemAfterConfirm() {
+        // given
+        final var first = OutboxEventJpaEntity.with("video.events", "video.created", "{\"id\":1}");
+        final var second = OutboxEventJpaEntity.with("video.events", "video.created", "{\"id\":2}");
+
+        givenClaimed(first, second);
+
+        // when
+        final var actualRelayed = this.target.relayBatch();
+
+        // then
+        Assertions.assertEquals(2, actualRelayed);
+
+        final var inOrder = Mockito.inOrder(ops, repository);
+        inOrder.verify(ops).convertAndSend("video.events", "video.created", "{\"id\":1}");
+        inOrder.verify(ops).convertAndSend("video.events", "video.created", "{\"id\":2}");
+        inOrder.verify(ops).waitForConfirmsOrDie(eq(CONFIRM_TIMEOUT));
+        inOrder.verify(repository).deleteAllByIdInBatch(eq(List.of(first.getId(), second.getId())));
+    }
+
+    @Test
+    public void givenEmptyOutbox_whenCallsRelayBatch_shouldNotTouchTheBroker() {
+        // given
+        when(repository.findClaimableIds(any(), any(Pageable.class))).thenReturn(List.of());
+
+        // when
+        final var actualRelayed = this.target.relayBatch();
+
+        // then
+        Assertions.assertEquals(0, actualRelayed);
+        verify(repository, never()).claim(any(), any(), any(), any());
+        verify(ops, never()).invoke(any());
+        verify(repository, never()).deleteAllByIdInBatch(anyList());
+    }
+
+    @Test
+    public void givenEventsClaimedByAnotherRelay_whenCallsRelayBatch_shouldSkipThem() {
+        // given
+        final var anEvent = OutboxEventJpaEntity.with("video.events", "video.created", "{\"id\":1}");
+
+        when(repository.findClaimableIds(any(), any(Pageable.class))).thenReturn(List.of(anEvent.getId()));
+        when(repository.claim(any(), any(), any(), any())).thenReturn(0);
+
+        // when
+        final var actualRelayed = this.target.relayBatch();
+
+        // then
+        Assertions.assertEquals(0, actualRelayed);
+        verify(repository, never()).findAllByClaimIdOrderByCreatedAtAsc(any());
+        verify(ops, never()).invoke(any());
+    }
+
+    @Test
+    public void givenUnconfirmedBatch_whenCallsRelay_shouldKeepTheEventsForTheNextRun() {
+        // given
+        final var anEvent = OutboxEventJpaEntity.with("video.events", "video.created", "{\"id\":1}");
+
+        givenClaimed(anEvent);
+        doThrow(new AmqpTimeoutException("timed out")).when(ops).waitForConfirmsOrDie(eq(CONFIRM_TIMEOUT));
+
+        // when
+        this.target.relay();
+
+        // then
+        verify(ops, times(1)).convertAndSend("video.events", "video.created", "{\"id\":1}");
+        verify(repository, never()).deleteAllByIdInBatch(anyList());
+    }
+
+    private void givenClaimed(final OutboxEventJpaEntity... events) {
+        final var ids = Arrays.stream(events).map(OutboxEventJpaEntity::getId).toList();
+        when(repository.findClaimableIds(any(), any(Pageable.class))).thenReturn(ids);
+        when(repository.claim(eq(ids), any(), any(), any())).thenReturn(ids.size());
+        when(repository.findAllByClaimIdOrderByCreatedAtAsc(any())).thenReturn(List.of(events));
+    }
+}
@@ -5,6 +5,8 @@ import com.fullcycle.admin.catalogo.domain.resource.Resource;
 import com.fullcycle.admin.catalogo.domain.utils.IdUtils;
 import com.fullcycle.admin.catalogo.domain.video.VideoMediaType;
 import com.google.api.gax.paging.Page;
+import com.google.cloud.ReadChannel;
+import com.google.cloud.WriteChannel;
 import com.google.cloud.storage.Blob;
 import com.google.cloud.storage.BlobId;
 import com.google.cloud.storage.BlobInfo;
@@ -15,13 +17,20 @@ import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
 
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
 
 import static com.google.cloud.storage.Storage.BlobListOption.prefix;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -41,13 +50,14 @@ class GPStorageServiceTest {
     }
 
     @Test
-    public void givenAValidResource_whenCallsStorage_shouldStorageIt() {
+    public void givenAValidResource_whenCallsStorage_shouldStorageIt() throws Exception {
         //given
         final var expectedName = IdUtils.uuid();
         final var expectedResource = Fixture.Videos.resource(VideoMediaType.VIDEO);
 
-        final var blob = mockBlob(expectedName, expectedResource);
-        doReturn(blob).when(storage).create(any(Blob.class), any());
+        final var written = new ByteArrayOutputStream();
+        final var writer = mockWriter(written);
+        doReturn(writer).when(storage).writer(any(BlobInfo.class));
 
         //when
         this.target.store(expectedName, expectedResource);
@@ -55,7 +65,10 @@ class GPStorageServiceTest {
         //then
         final var captor = ArgumentCaptor.forClass(BlobInfo.class);
 
-        verify(storage, times(1)).create(captor.capture(), eq(expectedResource.content()));
+        verify(storage, times(1)).writer(captor.capture());
+        verify(writer, times(1)).setChunkSize(eq(16 * 1024 * 1024));
+        verify(writer, times(1)).close();
+        Assertions.assertArrayEquals(expectedResource.content(), written.toByteArray());
 
         final var actualBlob = captor.getValue();
         Assertions.assertEquals(this.bucket, actualBlob.getBlobId().getBucket());
@@ -66,7 +79,28 @@ class GPStorageServiceTest {
     }
 
     @Test
-    public void givenAValidResource_whenCallsGet_shouldRetrievedIt() {
+    public void givenACustomChunkSize_whenCallsStorage_shouldUploadInChunksOfThatSize() throws Exception {
+        //given
+        final var expectedChunkSize = 256 * 1024;
+        final var expectedName = IdUtils.uuid();
+        final var expectedResource = Fixture.Videos.resource(VideoMediaType.VIDEO);
+
+        final var written = new ByteArrayOutputStream();
+        final var writer = mockWriter(written);
+        doReturn(writer).when(storage).writer(any(BlobInfo.class));
+
+        this.target = new GPStorageService(this.bucket, this.storage, expectedChunkSize);
+
+        //when
+        this.target.store(expectedName, expectedResource);
+
+        //then
+        verify(writer, times(1)).setChunkSize(eq(expectedChunkSize));
+        Assertions.assertArrayEquals(expectedResource.content(), written.toByteArray());
+    }
+
+    @Test
+    public void givenAValidResource_whenCallsGet_shouldRetrievedIt() throws Exception {
         //given
         final var expectedName = IdUtils.uuid();
         final var expectedResource = Fixture.Videos.resource(VideoMediaType.VIDEO);
@@ -80,8 +114,33 @@ class GPStorageServiceTest {
         //then
 
         verify(storage, times(1)).get(eq(this.bucket), eq(expectedName));
+        verify(blob, never()).getContent();
+
+        Assertions.assertEquals(expectedResource.checksum(), actualResource.checksum());
+        Assertions.assertEquals(expectedResource.size(), actualResource.size());
+        Assertions.assertEquals(expectedResource.contentType(), actualResource.contentType());
+        Assertions.assertEquals(expectedResource.name(), actualResource.name());
+        Assertions.assertArrayEquals(expectedResource.content(), actualResource.content());
+    }
 
-        Assertions.assertEquals(expectedResource, actualResource);
+    @Test
+    public void givenAValidResource_whenCallsGetAndOpensARange_shouldReadOnlyThatRange() throws Exception {
+        //given
+        final var expectedName = IdUtils.uuid();
+        final var expectedResource = Fixture.Videos.resource(VideoMediaType.VIDEO);
+        final var expectedOffset = 2;
+        final var expectedLength = 3;
+        final var expectedContent = Arrays.copyOfRange(expectedResource.content(), expectedOffset, expectedOffset + expectedLength);
+
+        final var blob = mockBlob(expectedName, expectedResource);
+        doReturn(blob).when(storage).get(anyString(), anyString());
+
+        //when
+        final var actualResource = this.target.get(expectedName).get();
+        final var actualContent = actualResource.openStream(expectedOffset, expectedLength).readAllBytes();
+
+        //then
+        Assertions.assertArrayEquals(expectedContent, actualContent);
     }
 
     @Test
@@ -154,12 +213,51 @@ class GPStorageServiceTest {
                               actualResources.containsAll(expectedResources));
     }
 
+    private WriteChannel mockWriter(final ByteArrayOutputStream written) throws Exception {
+        final var writer = Mockito.mock(WriteChannel.class);
+        when(writer.write(any(ByteBuffer.class))).thenAnswer(invocation -> {
+            final ByteBuffer buffer = invocation.getArgument(0);
+            final var bytes = new byte[buffer.remaining()];
+            buffer.get(bytes);
+            written.write(bytes);
+            return bytes.length;
+        });
+        return writer;
+    }
+
+    private ReadChannel mockReader(final byte[] content) throws Exception {
+        final var reader = Mockito.mock(ReadChannel.class);
+        final var position = new AtomicLong();
+        final var limit = new AtomicLong(content.length);
+        when(reader.isOpen()).thenReturn(true);
+        doAnswer(invocation -> {
+            position.set(invocation.getArgument(0));
+            return null;
+        }).when(reader).seek(anyLong());
+        when(reader.limit(anyLong())).thenAnswer(invocation -> {
+            limit.set(Math.min(invocation.<Long>getArgument(0), content.length));
+            return reader;
+        });
+        when(reader.read(any(ByteBuffer.class))).thenAnswer(invocation -> {
+            final ByteBuffer buffer = invocation.getArgument(0);
+            if (position.get() >= limit.get()) {
+                return -1;
+            }
+            final var length = (int) Math.min(buffer.remaining(), limit.get() - position.get());
+            buffer.put(content, (int) position.get(), length);
+            position.addAndGet(length);
+            return length;
+        });
+        return reader;
+    }
+
     private Blob mockBlob(String name, Resource resource) {
         final var blob = Mockito.mock(Blob.class);
         when(blob.getBlobId()).thenReturn(BlobId.of(this.bucket, name));
         when(blob.getCrc32cToHexString()).thenReturn(resource.checksum());
-        when(blob.getContent()).thenReturn(resource.content());
+        when(blob.getSize()).thenReturn(resource.size());
         when(blob.getContentType()).thenReturn(resource.contentType());
+        when(blob.reader()).thenAnswer(invocation -> mockReader(resource.content()));
         when(blob.getName()).thenReturn(resource.name());
 
         return blob;
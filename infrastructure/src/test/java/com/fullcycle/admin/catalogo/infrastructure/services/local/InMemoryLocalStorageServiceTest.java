@@ -1,12 +1,14 @@
 package com.fullcycle.admin.catalogo.infrastructure.services.local;
 
 import com.fullcycle.admin.catalogo.domain.Fixture;
+import com.fullcycle.admin.catalogo.domain.resource.Resource;
 import com.fullcycle.admin.catalogo.domain.utils.IdUtils;
 import com.fullcycle.admin.catalogo.domain.video.VideoMediaType;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.io.ByteArrayInputStream;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -32,6 +34,30 @@ class InMemoryLocalStorageServiceTest {
         Assertions.assertEquals(expectedResource, target.storage().get(expectedName));
     }
 
+    @Test
+    public void givenAStreamedResource_whenCallsStorage_shouldStorageItsContent() {
+        //given
+        final var expectedName = IdUtils.uuid();
+        final var expectedContent = "Conteudo".getBytes();
+        final var aResource = Resource.with(
+            IdUtils.uuid(),
+            () -> new ByteArrayInputStream(expectedContent),
+            expectedContent.length,
+            "video/mp4",
+            "video.mp4"
+        );
+
+        //when
+        target.store(expectedName, aResource);
+
+        //then
+        final var actualResource = target.storage().get(expectedName);
+        Assertions.assertFalse(actualResource.isStreamed());
+        Assertions.assertArrayEquals(expectedContent, actualResource.content());
+        Assertions.assertEquals(aResource.checksum(), actualResource.checksum());
+        Assertions.assertEquals(aResource.size(), actualResource.size());
+    }
+
     @Test
     public void givenAValidResource_whenCallsGet_shouldRetrievedIt() {
         //given
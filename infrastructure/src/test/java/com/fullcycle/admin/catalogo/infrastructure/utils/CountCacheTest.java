@@ -0,0 +1,62 @@
+package com.fullcycle.admin.catalogo.infrastructure.utils;
+
+import com.fullcycle.admin.catalogo.domain.pagination.CountMode;
+import com.fullcycle.admin.catalogo.domain.pagination.Pagination;
+import com.google.common.base.Ticker;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class CountCacheTest {
+
+    private final AtomicLong nanos = new AtomicLong();
+
+    private final Ticker ticker = new Ticker() {
+        @Override
+        public long read() {
+            return nanos.get();
+        }
+    };
+
+    @Test
+    public void givenAnEstimatedTotal_whenCallsTotalAgain_shouldReuseItUntilItExpires() {
+        final var cache = new CountCache(Duration.ofSeconds(30), ticker);
+        final var counts = new AtomicLong();
+
+        Assertions.assertEquals(1, cache.total(CountMode.ESTIMATE, List.of("a"), counts::incrementAndGet));
+        Assertions.assertEquals(1, cache.total(CountMode.ESTIMATE, List.of("a"), counts::incrementAndGet));
+        Assertions.assertEquals(2, cache.total(CountMode.ESTIMATE, List.of("b"), counts::incrementAndGet));
+
+        nanos.addAndGet(TimeUnit.SECONDS.toNanos(31));
+
+        Assertions.assertEquals(3, cache.total(CountMode.ESTIMATE, List.of("a"), counts::incrementAndGet));
+    }
+
+    @Test
+    public void givenExactOrNoCount_whenCallsTotal_shouldNotCache() {
+        final var cache = new CountCache(Duration.ofSeconds(30), ticker);
+        final var counts = new AtomicLong();
+
+        Assertions.assertEquals(1, cache.total(CountMode.EXACT, null, counts::incrementAndGet));
+        Assertions.assertEquals(2, cache.total(CountMode.EXACT, null, counts::incrementAndGet));
+        Assertions.assertEquals(Pagination.UNKNOWN_TOTAL, cache.total(CountMode.NONE, null, counts::incrementAndGet));
+        Assertions.assertEquals(0, cache.stats().requestCount());
+    }
+
+    @Test
+    public void givenAMonitoredCache_whenCallsTotal_shouldPublishHitsAndMisses() {
+        final var registry = new SimpleMeterRegistry();
+        final var cache = new CountCache(Duration.ofSeconds(30), ticker).monitor(registry, "video.count");
+
+        cache.total(CountMode.ESTIMATE, null, () -> 10);
+        cache.total(CountMode.ESTIMATE, null, () -> 10);
+
+        Assertions.assertEquals(1, registry.get("cache.gets").tags("cache", "video.count", "result", "hit").functionCounter().count());
+        Assertions.assertEquals(1, registry.get("cache.gets").tags("cache", "video.count", "result", "miss").functionCounter().count());
+    }
+}
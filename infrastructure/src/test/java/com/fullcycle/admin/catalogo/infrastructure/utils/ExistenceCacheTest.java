@@ -0,0 +1,133 @@
+package com.fullcycle.admin.catalogo.infrastructure.utils;
+
+import com.google.common.base.Ticker;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class ExistenceCacheTest {
+
+    private final AtomicLong nanos = new AtomicLong();
+
+    private final Ticker ticker = new Ticker() {
+        @Override
+        public long read() {
+            return nanos.get();
+        }
+    };
+
+    @Test
+    public void givenCachedIds_whenCallsExistsByIds_shouldOnlyLoadTheMissingOnes() {
+        final var cache = new ExistenceCache<String>(Duration.ofMinutes(5), ticker);
+        final var loaded = new ArrayList<List<String>>();
+
+        cache.existsByIds(List.of("a", "b"), ids -> {
+            loaded.add(ids);
+            return ids;
+        });
+        final var actualIds = cache.existsByIds(List.of("a", "b", "c"), ids -> {
+            loaded.add(ids);
+            return List.of();
+        });
+
+        Assertions.assertEquals(List.of("a", "b"), actualIds);
+        Assertions.assertEquals(List.of(List.of("a", "b"), List.of("c")), loaded);
+        Assertions.assertEquals(2, cache.stats().hitCount());
+        Assertions.assertEquals(3, cache.stats().missCount());
+    }
+
+    @Test
+    public void givenAMissingId_whenCallsExistsByIdsAgain_shouldLoadItAgain() {
+        final var cache = new ExistenceCache<String>(Duration.ofMinutes(5), ticker);
+        final var loaded = new ArrayList<List<String>>();
+
+        cache.existsByIds(List.of("a"), ids -> {
+            loaded.add(ids);
+            return List.of();
+        });
+        final var actualIds = cache.existsByIds(List.of("a"), ids -> {
+            loaded.add(ids);
+            return ids;
+        });
+
+        Assertions.assertEquals(List.of("a"), actualIds);
+        Assertions.assertEquals(2, loaded.size());
+    }
+
+    @Test
+    public void givenAnInvalidatedId_whenCallsExistsByIds_shouldLoadItAgain() {
+        final var cache = new ExistenceCache<String>(Duration.ofMinutes(5), ticker);
+        cache.existsByIds(List.of("a", "b"), ids -> ids);
+
+        cache.invalidate(List.of("a"));
+        final var actualIds = cache.existsByIds(List.of("a", "b"), ids -> List.of());
+
+        Assertions.assertEquals(List.of("b"), actualIds);
+    }
+
+    @Test
+    public void givenACheckRacingTheDelete_whenTheTransactionCompletes_shouldForgetTheIdAgain() {
+        final var cache = new ExistenceCache<String>(Duration.ofMinutes(5), ticker);
+        cache.existsByIds(List.of("a"), ids -> ids);
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            cache.invalidate(List.of("a"));
+
+            // another request still sees the uncommitted row
+            cache.existsByIds(List.of("a"), ids -> ids);
+
+            TransactionSynchronizationManager.getSynchronizations()
+                .forEach(it -> it.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        final var actualIds = cache.existsByIds(List.of("a"), ids -> List.of());
+
+        Assertions.assertTrue(actualIds.isEmpty());
+    }
+
+    @Test
+    public void givenAnExpiredId_whenCallsExistsByIds_shouldLoadItAgain() {
+        final var cache = new ExistenceCache<String>(Duration.ofMinutes(5), ticker);
+        cache.existsByIds(List.of("a"), ids -> ids);
+
+        nanos.addAndGet(TimeUnit.MINUTES.toNanos(6));
+        final var actualIds = cache.existsByIds(List.of("a"), ids -> List.of());
+
+        Assertions.assertTrue(actualIds.isEmpty());
+    }
+
+    @Test
+    public void givenAMonitoredCache_whenCallsExistsByIds_shouldPublishItsHitsAndMisses() {
+        final var registry = new SimpleMeterRegistry();
+        final var cache = new ExistenceCache<String>(Duration.ofMinutes(5), ticker).monitor(registry, "category.existence");
+
+        cache.existsByIds(List.of("a"), ids -> ids);
+        cache.existsByIds(List.of("a", "b"), ids -> List.of());
+
+        Assertions.assertEquals(1, registry.get("cache.gets").tags("cache", "category.existence", "result", "hit").functionCounter().count());
+        Assertions.assertEquals(2, registry.get("cache.gets").tags("cache", "category.existence", "result", "miss").functionCounter().count());
+    }
+
+    @Test
+    public void givenOnlyCachedIds_whenCallsExistsByIds_shouldNotCallTheLoader() {
+        final var cache = new ExistenceCache<String>(Duration.ofMinutes(5), ticker);
+        cache.existsByIds(List.of("a"), ids -> ids);
+
+        final var actualIds = cache.existsByIds(List.of("a", "a"), ids -> {
+            throw new IllegalStateException("Should not load cached ids");
+        });
+
+        Assertions.assertEquals(List.of("a"), actualIds);
+    }
+}
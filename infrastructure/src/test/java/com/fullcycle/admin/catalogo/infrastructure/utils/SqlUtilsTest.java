@@ -0,0 +1,32 @@
+package com.fullcycle.admin.catalogo.infrastructure.utils;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class SqlUtilsTest {
+
+    @Test
+    public void givenTerms_whenCallsFullText_shouldRequireEveryWordAsPrefix() {
+        final var expectedExpression = "+Lord* +the* +Rings*";
+
+        final var actualExpression = SqlUtils.fullText("Lord of the Rings");
+
+        Assertions.assertEquals(expectedExpression, actualExpression);
+    }
+
+    @Test
+    public void givenTermsWithOperators_whenCallsFullText_shouldStripThem() {
+        final var expectedExpression = "+Documentários* +drama*";
+
+        final var actualExpression = SqlUtils.fullText("-Documentários \"drama\" @2");
+
+        Assertions.assertEquals(expectedExpression, actualExpression);
+    }
+
+    @Test
+    public void givenOnlyShortWords_whenCallsFullText_shouldReturnNull() {
+        Assertions.assertNull(SqlUtils.fullText("of a"));
+        Assertions.assertNull(SqlUtils.fullText("  "));
+        Assertions.assertNull(SqlUtils.fullText(null));
+    }
+}
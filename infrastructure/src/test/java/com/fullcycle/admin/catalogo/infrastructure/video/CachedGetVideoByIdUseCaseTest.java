@@ -0,0 +1,208 @@
+package com.fullcycle.admin.catalogo.infrastructure.video;
+
+import com.fullcycle.admin.catalogo.IntegrationTest;
+import com.fullcycle.admin.catalogo.application.video.retrieve.get.GetVideoByIdUseCase;
+import com.fullcycle.admin.catalogo.domain.Fixture;
+import com.fullcycle.admin.catalogo.domain.castmember.CastMember;
+import com.fullcycle.admin.catalogo.domain.castmember.CastMemberGateway;
+import com.fullcycle.admin.catalogo.domain.castmember.CastMemberID;
+import com.fullcycle.admin.catalogo.domain.castmember.CastMemberType;
+import com.fullcycle.admin.catalogo.domain.category.Category;
+import com.fullcycle.admin.catalogo.domain.category.CategoryGateway;
+import com.fullcycle.admin.catalogo.domain.category.CategoryID;
+import com.fullcycle.admin.catalogo.domain.exceptions.NotFoundException;
+import com.fullcycle.admin.catalogo.domain.genre.Genre;
+import com.fullcycle.admin.catalogo.domain.genre.GenreGateway;
+import com.fullcycle.admin.catalogo.domain.genre.GenreID;
+import com.fullcycle.admin.catalogo.domain.video.MediaStatus;
+import com.fullcycle.admin.catalogo.domain.video.Video;
+import com.fullcycle.admin.catalogo.domain.video.VideoGateway;
+import com.fullcycle.admin.catalogo.domain.video.VideoMediaType;
+import com.fullcycle.admin.catalogo.infrastructure.configuration.annotations.VideoChangesQueue;
+import com.fullcycle.admin.catalogo.infrastructure.services.EventService;
+import com.fullcycle.admin.catalogo.infrastructure.video.models.VideoChanged;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.MockBean;
+
+import java.time.Year;
+import java.util.Set;
+
+@IntegrationTest
+public class CachedGetVideoByIdUseCaseTest {
+
+    @Autowired
+    private GetVideoByIdUseCase getVideoByIdUseCase;
+
+    @Autowired
+    private VideoGateway videoGateway;
+
+    @Autowired
+    private VideoDetailCache videoDetailCache;
+
+    @Autowired
+    private CategoryGateway categoryGateway;
+
+    @Autowired
+    private GenreGateway genreGateway;
+
+    @Autowired
+    private CastMemberGateway castMemberGateway;
+
+    @MockBean
+    @VideoChangesQueue
+    private EventService videoChangesEventService;
+
+    @BeforeEach
+    public void setUp() {
+        videoDetailCache.clear();
+    }
+
+    @Test
+    public void givenAVideo_whenCallsGetByIdTwice_shouldLoadItOnce() {
+        // given
+        final var aVideo = videoGateway.create(newVideo());
+        final var previous = videoDetailCache.stats();
+
+        // when
+        final var first = getVideoByIdUseCase.execute(aVideo.getId().getValue());
+        final var second = getVideoByIdUseCase.execute(aVideo.getId().getValue());
+
+        // then
+        final var actualStats = videoDetailCache.stats().minus(previous);
+        Assertions.assertEquals(first, second);
+        Assertions.assertEquals(1, actualStats.missCount());
+        Assertions.assertEquals(1, actualStats.hitCount());
+    }
+
+    @Test
+    public void givenACachedVideo_whenCallsUpdate_shouldReturnTheUpdatedVideo() {
+        // given
+        final var aVideo = videoGateway.create(newVideo());
+        final var expectedTitle = "System Design Interviews";
+        getVideoByIdUseCase.execute(aVideo.getId().getValue());
+
+        // when
+        final var toUpdate = videoGateway.findById(aVideo.getId()).get();
+        videoGateway.update(toUpdate.update(
+            expectedTitle,
+            toUpdate.getDescription(),
+            toUpdate.getLaunchedAt(),
+            toUpdate.getDuration(),
+            toUpdate.getRating(),
+            toUpdate.getOpened(),
+            toUpdate.getPublished(),
+            toUpdate.getCategories(),
+            toUpdate.getGenres(),
+            toUpdate.getCastMembers()
+        ));
+
+        // then
+        Assertions.assertEquals(expectedTitle, getVideoByIdUseCase.execute(aVideo.getId().getValue()).title());
+    }
+
+    @Test
+    public void givenACachedVideo_whenCallsUpdateMediaStatus_shouldReturnTheNewStatus() {
+        // given
+        final var expectedMedia = Fixture.Videos.audioVideo(VideoMediaType.VIDEO);
+        final var expectedEncodedPath = "encoded_media/filename.mp4";
+        final var aVideo = videoGateway.create(newVideo().updateVideoMedia(expectedMedia));
+        getVideoByIdUseCase.execute(aVideo.getId().getValue());
+
+        // when
+        videoGateway.updateMediaStatus(aVideo.getId(), expectedMedia.id(), MediaStatus.COMPLETED, expectedEncodedPath);
+
+        // then
+        final var actualMedia = getVideoByIdUseCase.execute(aVideo.getId().getValue()).video();
+        Assertions.assertEquals(MediaStatus.COMPLETED, actualMedia.status());
+        Assertions.assertEquals(expectedEncodedPath, actualMedia.encodedLocation());
+    }
+
+    @Test
+    public void givenACachedVideo_whenCallsDeleteById_shouldThrowNotFound() {
+        // given
+        final var aVideo = videoGateway.create(newVideo());
+        getVideoByIdUseCase.execute(aVideo.getId().getValue());
+
+        // when
+        videoGateway.deleteById(aVideo.getId());
+
+        // then
+        Assertions.assertThrows(
+            NotFoundException.class,
+            () -> getVideoByIdUseCase.execute(aVideo.getId().getValue())
+        );
+    }
+
+    @Test
+    public void givenAVideo_whenCallsUpdate_shouldBroadcastTheChangeToTheOtherInstances() {
+        // given
+        final var aVideo = videoGateway.create(newVideo());
+        Mockito.reset(videoChangesEventService);
+
+        // when
+        videoGateway.update(videoGateway.findById(aVideo.getId()).get());
+
+        // then
+        Mockito.verify(videoChangesEventService).send(new VideoChanged(Set.of(aVideo.getId().getValue())));
+    }
+
+    @Test
+    public void givenACachedVideo_whenCallsDeleteItsCategory_shouldReturnItWithoutTheCategory() {
+        // given
+        final var aCategory = categoryGateway.create(Category.newCategory("Filmes", null, true));
+        final var aVideo = videoGateway.create(newVideo(Set.of(aCategory.getId()), Set.of(), Set.of()));
+        Assertions.assertEquals(
+            Set.of(aCategory.getId().getValue()),
+            getVideoByIdUseCase.execute(aVideo.getId().getValue()).categories()
+        );
+
+        // when
+        categoryGateway.deleteById(aCategory.getId());
+
+        // then
+        Assertions.assertEquals(Set.of(), getVideoByIdUseCase.execute(aVideo.getId().getValue()).categories());
+    }
+
+    @Test
+    public void givenAVideo_whenCallsDeleteItsGenreAndCastMember_shouldBroadcastTheChangeToTheOtherInstances() {
+        // given
+        final var aGenre = genreGateway.create(Genre.newGenre("Ação", true));
+        final var aMember = castMemberGateway.create(CastMember.newMember("Vin Diesel", CastMemberType.ACTOR));
+        final var aVideo = videoGateway.create(newVideo(Set.of(), Set.of(aGenre.getId()), Set.of(aMember.getId())));
+        Mockito.reset(videoChangesEventService);
+
+        // when
+        genreGateway.deleteById(aGenre.getId());
+        castMemberGateway.deleteById(aMember.getId());
+
+        // then
+        Mockito.verify(videoChangesEventService, Mockito.times(2)).send(new VideoChanged(Set.of(aVideo.getId().getValue())));
+    }
+
+    private static Video newVideo() {
+        return newVideo(Set.of(), Set.of(), Set.of());
+    }
+
+    private static Video newVideo(
+        final Set<CategoryID> categories,
+        final Set<GenreID> genres,
+        final Set<CastMemberID> castMembers
+    ) {
+        return Video.newVideo(
+            Fixture.title(),
+            Fixture.Videos.description(),
+            Year.of(Fixture.releaseYear()),
+            Fixture.duration(),
+            Fixture.Videos.rating(),
+            Fixture.bool(),
+            Fixture.bool(),
+            categories,
+            genres,
+            castMembers
+        );
+    }
+}
@@ -0,0 +1,177 @@
+package com.fullcycle.admin.catalogo.infrastructure.video;
+
+import com.fullcycle.admin.catalogo.IntegrationTest;
+import com.fullcycle.admin.catalogo.domain.Fixture;
+import com.fullcycle.admin.catalogo.domain.category.Category;
+import com.fullcycle.admin.catalogo.domain.category.CategoryGateway;
+import com.fullcycle.admin.catalogo.domain.category.CategoryID;
+import com.fullcycle.admin.catalogo.domain.genre.Genre;
+import com.fullcycle.admin.catalogo.domain.genre.GenreGateway;
+import com.fullcycle.admin.catalogo.domain.genre.GenreID;
+import com.fullcycle.admin.catalogo.domain.video.Video;
+import com.fullcycle.admin.catalogo.domain.video.VideoPreview;
+import com.fullcycle.admin.catalogo.domain.video.VideoSearchQuery;
+import com.fullcycle.admin.catalogo.infrastructure.video.persistence.VideoJpaEntity;
+import com.fullcycle.admin.catalogo.infrastructure.video.persistence.VideoRepository;
+import com.fullcycle.admin.catalogo.infrastructure.video.persistence.VideoSearchJpaEntity;
+import com.fullcycle.admin.catalogo.infrastructure.video.persistence.VideoSearchRepository;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.Year;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+@IntegrationTest
+@TestPropertySource(properties = "search.relation-index.enabled=true")
+public class DefaultVideoGatewayRelationIndexTest {
+
+    @Autowired
+    private DefaultVideoGateway videoGateway;
+
+    @Autowired
+    private CategoryGateway categoryGateway;
+
+    @Autowired
+    private GenreGateway genreGateway;
+
+    @Autowired
+    private VideoRelationIndex videoRelationIndex;
+
+    @Autowired
+    private VideoRelationIndexLoader videoRelationIndexLoader;
+
+    @Autowired
+    private VideoRepository videoRepository;
+
+    @Autowired
+    private VideoSearchRepository videoSearchRepository;
+
+    private Category filmes;
+    private Category series;
+    private Genre aventura;
+
+    @BeforeEach
+    public void setUp() {
+        filmes = categoryGateway.create(Category.newCategory(Fixture.Categories.FILMES.getName(), "", true));
+        series = categoryGateway.create(Category.newCategory(Fixture.Categories.SERIES.getName(), "", true));
+        aventura = genreGateway.create(Genre.newGenre(Fixture.Genres.AVENTURA.getName(), true));
+    }
+
+    @Test
+    public void givenAnIndexLoadedAtStartup_whenCallsCreate_shouldIndexTheCommittedRelations() {
+        final var aVideo = videoGateway.create(newVideo("Aquaman", Set.of(filmes.getId()), Set.of(aventura.getId())));
+
+        Assertions.assertTrue(videoRelationIndex.isReady());
+        Assertions.assertEquals(
+            Optional.of(Set.of(aVideo.getId().getValue())),
+            videoRelationIndex.findVideoIds(Set.of(filmes.getId().getValue()), Set.of(aventura.getId().getValue()), null)
+        );
+    }
+
+    @Test
+    public void givenIndexedVideos_whenCallsFindAllByRelations_shouldReturnTheMatchingPage() {
+        videoGateway.create(newVideo("Aquaman", Set.of(filmes.getId()), Set.of(aventura.getId())));
+        videoGateway.create(newVideo("Arcane", Set.of(series.getId()), Set.of(aventura.getId())));
+        videoGateway.create(newVideo("Duna", Set.of(filmes.getId()), Set.of()));
+
+        final var actualResult = videoGateway.findAll(query(Set.of(filmes.getId()), Set.of()));
+
+        Assertions.assertEquals(2, actualResult.total());
+        Assertions.assertEquals(List.of("Aquaman", "Duna"), titlesOf(actualResult.items()));
+
+        final var actualFiltered = videoGateway.findAll(query(Set.of(filmes.getId(), series.getId()), Set.of(aventura.getId())));
+
+        Assertions.assertEquals(2, actualFiltered.total());
+        Assertions.assertEquals(List.of("Aquaman", "Arcane"), titlesOf(actualFiltered.items()));
+    }
+
+    @Test
+    public void givenAnIndexedVideo_whenCallsUpdateAndDelete_shouldFollowTheWrites() {
+        final var aVideo = videoGateway.create(newVideo("Aquaman", Set.of(filmes.getId()), Set.of()));
+        final var other = videoGateway.create(newVideo("Duna", Set.of(filmes.getId()), Set.of()));
+
+        videoGateway.update(aVideo.update(
+            aVideo.getTitle(),
+            aVideo.getDescription(),
+            aVideo.getLaunchedAt(),
+            aVideo.getDuration(),
+            aVideo.getRating(),
+            aVideo.getOpened(),
+            aVideo.getPublished(),
+            Set.of(series.getId()),
+            Set.of(),
+            Set.of()
+        ));
+        videoGateway.deleteById(other.getId());
+
+        Assertions.assertEquals(0, videoGateway.findAll(query(Set.of(filmes.getId()), Set.of())).total());
+        Assertions.assertEquals(List.of("Aquaman"), titlesOf(videoGateway.findAll(query(Set.of(series.getId()), Set.of())).items()));
+    }
+
+    @Test
+    public void givenAVideoWrittenByAnotherInstance_whenItsChangeArrives_shouldRefreshTheIndex() {
+        videoGateway.create(newVideo("Duna", Set.of(filmes.getId()), Set.of()));
+
+        // another instance writes the tables, the local index never sees it
+        final var aVideo = newVideo("Aquaman", Set.of(filmes.getId()), Set.of(aventura.getId()));
+        videoRepository.saveAndFlush(VideoJpaEntity.from(aVideo));
+        videoSearchRepository.saveAndFlush(VideoSearchJpaEntity.from(aVideo));
+
+        Assertions.assertEquals(List.of("Duna"), titlesOf(videoGateway.findAll(query(Set.of(filmes.getId()), Set.of())).items()));
+
+        videoRelationIndexLoader.refresh(Set.of(aVideo.getId()));
+
+        final var actualResult = videoGateway.findAll(query(Set.of(filmes.getId()), Set.of()));
+
+        Assertions.assertEquals(2, actualResult.total());
+        Assertions.assertEquals(List.of("Aquaman", "Duna"), titlesOf(actualResult.items()));
+        Assertions.assertEquals(
+            List.of("Aquaman"),
+            titlesOf(videoGateway.findAll(query(Set.of(), Set.of(aventura.getId()))).items())
+        );
+    }
+
+    @Test
+    public void givenOtherFiltersThanRelations_whenCallsFindAll_shouldFilterTheRelationsInTheDatabase() {
+        // another instance writes the tables, the local index never sees it
+        final var aVideo = newVideo("Aquaman", Set.of(filmes.getId()), Set.of());
+        videoRepository.saveAndFlush(VideoJpaEntity.from(aVideo));
+        videoSearchRepository.saveAndFlush(VideoSearchJpaEntity.from(aVideo));
+
+        final var aQuery = new VideoSearchQuery(
+            0, 10, "Aqua", "title", "asc", Set.of(), Set.of(filmes.getId()), Set.of(), null, null, null
+        );
+        final var actualResult = videoGateway.findAll(aQuery);
+
+        Assertions.assertEquals(1, actualResult.total());
+        Assertions.assertEquals(List.of("Aquaman"), titlesOf(actualResult.items()));
+    }
+
+    private static VideoSearchQuery query(final Set<CategoryID> categories, final Set<GenreID> genres) {
+        return new VideoSearchQuery(0, 10, "", "title", "asc", Set.of(), categories, genres, null, null, null);
+    }
+
+    private static List<String> titlesOf(final List<VideoPreview> items) {
+        return items.stream().map(VideoPreview::title).toList();
+    }
+
+    private static Video newVideo(final String title, final Set<CategoryID> categories, final Set<GenreID> genres) {
+        return Video.newVideo(
+            title,
+            Fixture.Videos.description(),
+            Year.of(Fixture.releaseYear()),
+            Fixture.duration(),
+            Fixture.Videos.rating(),
+            Fixture.bool(),
+            Fixture.bool(),
+            categories,
+            genres,
+            Set.of()
+        );
+    }
+}
@@ -12,9 +12,15 @@ import com.fullcycle.admin.catalogo.domain.category.CategoryID;
 import com.fullcycle.admin.catalogo.domain.genre.Genre;
 import com.fullcycle.admin.catalogo.domain.genre.GenreGateway;
 import com.fullcycle.admin.catalogo.domain.genre.GenreID;
+import com.fullcycle.admin.catalogo.domain.pagination.CountMode;
+import com.fullcycle.admin.catalogo.domain.pagination.Pagination;
 import com.fullcycle.admin.catalogo.domain.utils.IdUtils;
 import com.fullcycle.admin.catalogo.domain.video.*;
+import com.fullcycle.admin.catalogo.infrastructure.configuration.json.Json;
+import com.fullcycle.admin.catalogo.infrastructure.outbox.persistence.OutboxEventRepository;
 import com.fullcycle.admin.catalogo.infrastructure.video.persistence.VideoRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -24,6 +30,8 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Year;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.assertNotNull;
@@ -46,6 +54,12 @@ public class DefaultVideoGatewayTest {
     @Autowired
     private VideoRepository videoRepository;
 
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
     private Category anime;
     private Category filmes;
     private Genre aventura;
@@ -160,6 +174,57 @@ public class DefaultVideoGatewayTest {
 
     }
 
+    @Test
+    @Transactional
+    public void givenValidVideos_whenCallsCreateAll_shouldPersistAllOfThem() {
+        // given
+        final var benHur = Video.newVideo(
+            "Ben Hur",
+            Fixture.Videos.description(),
+            Year.of(1959),
+            Fixture.duration(),
+            Fixture.Videos.rating(),
+            Fixture.bool(),
+            Fixture.bool(),
+            Set.of(filmes.getId()),
+            Set.of(aventura.getId()),
+            Set.of(vinDiesel.getId(), jasonMomoa.getId())
+        );
+        final var akira = Video.newVideo(
+            "Akira",
+            Fixture.Videos.description(),
+            Year.of(1988),
+            Fixture.duration(),
+            Fixture.Videos.rating(),
+            Fixture.bool(),
+            Fixture.bool(),
+            Set.of(anime.getId()),
+            Set.of(ficcao.getId()),
+            Set.of()
+        );
+
+        Assertions.assertEquals(0, videoRepository.count());
+
+        // when
+        final var actualOutput = videoGateway.createAll(List.of(benHur, akira));
+
+        // then
+        Assertions.assertEquals(2, actualOutput.size());
+        Assertions.assertEquals(2, videoRepository.count());
+
+        final var persistedBenHur = videoRepository.findById(benHur.getId().getValue()).get();
+
+        Assertions.assertEquals("Ben Hur", persistedBenHur.getTitle());
+        Assertions.assertEquals(Set.of(filmes.getId()), persistedBenHur.getCategoriesID());
+        Assertions.assertEquals(Set.of(aventura.getId()), persistedBenHur.getGenresID());
+        Assertions.assertEquals(Set.of(vinDiesel.getId(), jasonMomoa.getId()), persistedBenHur.getCastMembersID());
+
+        final var persistedAkira = videoRepository.findById(akira.getId().getValue()).get();
+
+        Assertions.assertEquals("Akira", persistedAkira.getTitle());
+        Assertions.assertEquals(Set.of(anime.getId()), persistedAkira.getCategoriesID());
+    }
+
     @Test
     @Transactional
     public void givenValidVideoWithoutRelations_whenCallsCreateVideo_shouldPersistVideo() {
@@ -329,6 +394,247 @@ public class DefaultVideoGatewayTest {
 
     }
 
+    @Test
+    public void givenChangedVideo_whenCallsUpdateVideo_shouldOnlyWriteTheChanges() {
+        // given
+        final var aVideo = videoGateway.create(Video.newVideo(
+                Fixture.title(),
+                Fixture.Videos.description(),
+                Year.of(Fixture.releaseYear()),
+                Fixture.duration(),
+                Fixture.Videos.rating(),
+                Fixture.bool(),
+                Fixture.bool(),
+                Set.of(anime.getId(), filmes.getId()),
+                Set.of(aventura.getId()),
+                Set.of(vinDiesel.getId())
+        ).updateVideoMedia(Fixture.Videos.audioVideo(VideoMediaType.VIDEO)));
+
+        final var expectedTitle = Fixture.title();
+        final var expectedCategories = Set.of(filmes.getId());
+        final var expectedCastMembers = Set.of(vinDiesel.getId(), jasonMomoa.getId());
+
+        final var statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        // when
+        final var actualVideo = videoGateway.update(aVideo.update(
+                expectedTitle,
+                aVideo.getDescription(),
+                aVideo.getLaunchedAt(),
+                aVideo.getDuration(),
+                aVideo.getRating(),
+                aVideo.getOpened(),
+                aVideo.getPublished(),
+                expectedCategories,
+                aVideo.getGenres(),
+                expectedCastMembers
+        ));
+
+        // then
+        // the video and its video_search row
+        Assertions.assertEquals(2, statistics.getEntityUpdateCount());
+        Assertions.assertEquals(1, statistics.getEntityInsertCount());
+        Assertions.assertEquals(1, statistics.getEntityDeleteCount());
+        // one select for the video and its media, one per relation set, one for the
+        // video_search row and the four writes
+        Assertions.assertTrue(statistics.getPrepareStatementCount() <= 9);
+
+        Assertions.assertEquals(expectedTitle, actualVideo.getTitle());
+        Assertions.assertEquals(expectedCategories, actualVideo.getCategories());
+        Assertions.assertEquals(expectedCastMembers, actualVideo.getCastMembers());
+
+        final var persistedVideo = videoGateway.findById(aVideo.getId()).get();
+        Assertions.assertEquals(expectedTitle, persistedVideo.getTitle());
+        Assertions.assertEquals(expectedCategories, persistedVideo.getCategories());
+        Assertions.assertEquals(aVideo.getGenres(), persistedVideo.getGenres());
+        Assertions.assertEquals(expectedCastMembers, persistedVideo.getCastMembers());
+        Assertions.assertEquals(aVideo.getVideo().get().id(), persistedVideo.getVideo().get().id());
+    }
+
+    @Test
+    public void givenUnchangedVideo_whenCallsUpdateVideo_shouldNotWriteAnything() {
+        // given
+        final var aVideo = videoGateway.create(Video.newVideo(
+                Fixture.title(),
+                Fixture.Videos.description(),
+                Year.of(Fixture.releaseYear()),
+                Fixture.duration(),
+                Fixture.Videos.rating(),
+                Fixture.bool(),
+                Fixture.bool(),
+                Set.of(anime.getId()),
+                Set.of(aventura.getId()),
+                Set.of(vinDiesel.getId())
+        ).updateVideoMedia(Fixture.Videos.audioVideo(VideoMediaType.VIDEO)));
+
+        final var statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        // when
+        videoGateway.update(videoGateway.findById(aVideo.getId()).get());
+
+        // then
+        Assertions.assertEquals(0, statistics.getEntityUpdateCount());
+        Assertions.assertEquals(0, statistics.getEntityInsertCount());
+        Assertions.assertEquals(0, statistics.getEntityDeleteCount());
+    }
+
+    @Test
+    public void givenVideoWithNewMedia_whenCallsUpdateVideo_shouldStoreTheEventInTheOutbox() {
+        // given
+        final var aVideo = videoGateway.create(Video.newVideo(
+                Fixture.title(),
+                Fixture.Videos.description(),
+                Year.of(Fixture.releaseYear()),
+                Fixture.duration(),
+                Fixture.Videos.rating(),
+                Fixture.bool(),
+                Fixture.bool(),
+                Set.of(),
+                Set.of(),
+                Set.of()
+        ));
+
+        final var expectedMedia = Fixture.Videos.audioVideo(VideoMediaType.VIDEO);
+
+        Assertions.assertEquals(0, outboxEventRepository.count());
+
+        // when
+        videoGateway.update(aVideo.updateVideoMedia(expectedMedia));
+
+        // then
+        final var actualEvents = outboxEventRepository.findAll();
+
+        Assertions.assertEquals(1, actualEvents.size());
+        Assertions.assertEquals("video.events", actualEvents.get(0).getExchange());
+        Assertions.assertEquals("video.created", actualEvents.get(0).getRoutingKey());
+
+        final var actualEvent = Json.readValue(actualEvents.get(0).getPayload(), VideoMediaCreated.class);
+        Assertions.assertEquals(aVideo.getId().getValue(), actualEvent.resourceId());
+        Assertions.assertEquals(expectedMedia.rawLocation(), actualEvent.filePath());
+    }
+
+    @Test
+    public void givenVideoMedia_whenCallsUpdateMediaStatus_shouldOnlyMoveItForward() {
+        // given
+        final var expectedMedia = Fixture.Videos.audioVideo(VideoMediaType.VIDEO);
+        final var expectedTrailer = Fixture.Videos.audioVideo(VideoMediaType.TRAILER);
+        final var expectedEncodedPath = "encoded_media/filename.mp4";
+
+        final var aVideo = videoGateway.create(Video.newVideo(
+                Fixture.title(),
+                Fixture.Videos.description(),
+                Year.of(Fixture.releaseYear()),
+                Fixture.duration(),
+                Fixture.Videos.rating(),
+                Fixture.bool(),
+                Fixture.bool(),
+                Set.of(),
+                Set.of(),
+                Set.of()
+        ).updateVideoMedia(expectedMedia).updateTrailerMedia(expectedTrailer));
+
+        // when
+        final var actualCompleted = videoGateway.updateMediaStatus(
+            aVideo.getId(),
+            expectedMedia.id(),
+            MediaStatus.COMPLETED,
+            expectedEncodedPath
+        );
+        final var actualProcessing = videoGateway.updateMediaStatus(
+            aVideo.getId(),
+            expectedMedia.id(),
+            MediaStatus.PROCESSING,
+            null
+        );
+
+        // then
+        Assertions.assertTrue(actualCompleted);
+        Assertions.assertFalse(actualProcessing);
+
+        final var actualVideo = videoGateway.findById(aVideo.getId()).get();
+        Assertions.assertEquals(MediaStatus.COMPLETED, actualVideo.getVideo().get().status());
+        Assertions.assertEquals(expectedEncodedPath, actualVideo.getVideo().get().encodedLocation());
+        Assertions.assertEquals(expectedTrailer.status(), actualVideo.getTrailer().get().status());
+        Assertions.assertEquals(expectedTrailer.encodedLocation(), actualVideo.getTrailer().get().encodedLocation());
+        Assertions.assertTrue(actualVideo.getUpdatedAt().isAfter(aVideo.getUpdatedAt()));
+    }
+
+    @Test
+    public void givenOutOfOrderResults_whenCallsUpdateAllMediaStatus_shouldOnlyMoveMediaForward() {
+        // given
+        final var expectedMedia = Fixture.Videos.audioVideo(VideoMediaType.VIDEO);
+        final var expectedTrailer = Fixture.Videos.audioVideo(VideoMediaType.TRAILER);
+        final var expectedEncodedPath = "encoded_media/filename.mp4";
+        final var deletedVideoId = VideoID.unique();
+
+        final var aVideo = videoGateway.create(Video.newVideo(
+                Fixture.title(),
+                Fixture.Videos.description(),
+                Year.of(Fixture.releaseYear()),
+                Fixture.duration(),
+                Fixture.Videos.rating(),
+                Fixture.bool(),
+                Fixture.bool(),
+                Set.of(),
+                Set.of(),
+                Set.of()
+        ).updateVideoMedia(expectedMedia).updateTrailerMedia(expectedTrailer));
+
+        // when
+        final var actualUpdated = videoGateway.updateAllMediaStatus(List.of(
+            new MediaStatusUpdate(aVideo.getId(), expectedMedia.id(), MediaStatus.COMPLETED, expectedEncodedPath),
+            new MediaStatusUpdate(aVideo.getId(), expectedMedia.id(), MediaStatus.PROCESSING, null),
+            new MediaStatusUpdate(aVideo.getId(), expectedTrailer.id(), MediaStatus.PROCESSING, null),
+            new MediaStatusUpdate(deletedVideoId, IdUtils.uuid(), MediaStatus.COMPLETED, expectedEncodedPath)
+        ));
+
+        // then
+        Assertions.assertEquals(Set.of(aVideo.getId()), actualUpdated);
+
+        final var actualVideo = videoGateway.findById(aVideo.getId()).get();
+        Assertions.assertEquals(MediaStatus.COMPLETED, actualVideo.getVideo().get().status());
+        Assertions.assertEquals(expectedEncodedPath, actualVideo.getVideo().get().encodedLocation());
+        Assertions.assertEquals(MediaStatus.PROCESSING, actualVideo.getTrailer().get().status());
+        Assertions.assertEquals(expectedTrailer.encodedLocation(), actualVideo.getTrailer().get().encodedLocation());
+        Assertions.assertTrue(actualVideo.getUpdatedAt().isAfter(aVideo.getUpdatedAt()));
+    }
+
+    @Test
+    public void givenMediaOfAnotherVideo_whenCallsUpdateMediaStatus_shouldDoNothing() {
+        // given
+        final var expectedMedia = Fixture.Videos.audioVideo(VideoMediaType.VIDEO);
+
+        final var aVideo = videoGateway.create(Video.newVideo(
+                Fixture.title(),
+                Fixture.Videos.description(),
+                Year.of(Fixture.releaseYear()),
+                Fixture.duration(),
+                Fixture.Videos.rating(),
+                Fixture.bool(),
+                Fixture.bool(),
+                Set.of(),
+                Set.of(),
+                Set.of()
+        ).updateVideoMedia(expectedMedia));
+
+        // when
+        final var actualResult = videoGateway.updateMediaStatus(
+            VideoID.unique(),
+            expectedMedia.id(),
+            MediaStatus.COMPLETED,
+            "encoded_media/filename.mp4"
+        );
+
+        // then
+        Assertions.assertFalse(actualResult);
+
+        final var actualVideo = videoGateway.findById(aVideo.getId()).get();
+        Assertions.assertEquals(expectedMedia.status(), actualVideo.getVideo().get().status());
+        Assertions.assertEquals(expectedMedia.encodedLocation(), actualVideo.getVideo().get().encodedLocation());
+    }
+
     @Test
     public void givenValidVideo_whenCallsDeleteVideoById_shouldDeletedIt() {
         // given
@@ -355,6 +661,58 @@ public class DefaultVideoGatewayTest {
         Assertions.assertEquals(0, videoRepository.count());
     }
 
+    @Test
+    public void givenVideosWithRelationsAndMedia_whenCallsDeleteAllById_shouldDeleteEverythingAndReturnTheAffectedRows() {
+        // given
+        final var aVideo = videoGateway.create(Video.newVideo(
+                Fixture.title(),
+                Fixture.Videos.description(),
+                Year.of(Fixture.releaseYear()),
+                Fixture.duration(),
+                Fixture.Videos.rating(),
+                Fixture.bool(),
+                Fixture.bool(),
+                Set.of(anime.getId()),
+                Set.of(aventura.getId()),
+                Set.of(vinDiesel.getId())
+        )
+            .updateVideoMedia(Fixture.Videos.audioVideo(VideoMediaType.VIDEO))
+            .updateBannerMedia(Fixture.Videos.imageMedia(VideoMediaType.BANNER)));
+
+        final var otherVideo = videoGateway.create(Video.newVideo(
+                Fixture.title(),
+                Fixture.Videos.description(),
+                Year.of(Fixture.releaseYear()),
+                Fixture.duration(),
+                Fixture.Videos.rating(),
+                Fixture.bool(),
+                Fixture.bool(),
+                Set.of(filmes.getId()),
+                Set.of(),
+                Set.of()
+        ));
+
+        Assertions.assertEquals(2, videoRepository.count());
+
+        // when
+        final var actualDeleted = videoGateway.deleteAllById(
+            Set.of(aVideo.getId(), otherVideo.getId(), VideoID.unique())
+        );
+
+        // then
+        Assertions.assertEquals(2, actualDeleted);
+        Assertions.assertEquals(0, videoRepository.count());
+
+        final var em = entityManagerFactory.createEntityManager();
+        try {
+            Assertions.assertEquals(0L, em.createQuery("select count(m) from AudioVideoMedia m").getSingleResult());
+            Assertions.assertEquals(0L, em.createQuery("select count(m) from ImageMedia m").getSingleResult());
+            Assertions.assertEquals(0L, em.createQuery("select count(vc) from VideoCategory vc").getSingleResult());
+        } finally {
+            em.close();
+        }
+    }
+
     @Test
     public void givenInvalidVideo_whenCallsDeleteVideoById_shouldDoNothing() {
         // given
@@ -490,7 +848,10 @@ public class DefaultVideoGatewayTest {
                 expectedDirection,
                 Set.of(),
                 Set.of(),
-                Set.of());
+                Set.of(),
+                null,
+                null,
+                null);
         final var actualResult = videoGateway.findAll(aQuery);
 
         Assertions.assertEquals(expectedTotal, actualResult.total());
@@ -519,7 +880,10 @@ public class DefaultVideoGatewayTest {
                 expectedDirection,
                 Set.of(),
                 Set.of(),
-                Set.of());
+                Set.of(),
+                null,
+                null,
+                null);
         final var actualResult = videoGateway.findAll(aQuery);
 
         Assertions.assertEquals(expectedTotal, actualResult.total());
@@ -548,7 +912,10 @@ public class DefaultVideoGatewayTest {
                 expectedDirection,
                 Set.of(),
                 Set.of(filmes.getId()),
-                Set.of());
+                Set.of(),
+                null,
+                null,
+                null);
         final var actualResult = videoGateway.findAll(aQuery);
 
         Assertions.assertEquals(expectedTotal, actualResult.total());
@@ -580,7 +947,10 @@ public class DefaultVideoGatewayTest {
                 expectedDirection,
                 Set.of(jasonMomoa.getId()),
                 Set.of(),
-                Set.of());
+                Set.of(),
+                null,
+                null,
+                null);
         final var actualResult = videoGateway.findAll(aQuery);
 
         Assertions.assertEquals(expectedTotal, actualResult.total());
@@ -611,7 +981,10 @@ public class DefaultVideoGatewayTest {
                 expectedDirection,
                 Set.of(),
                 Set.of(),
-                Set.of(ficcao.getId()));
+                Set.of(ficcao.getId()),
+                null,
+                null,
+                null);
         final var actualResult = videoGateway.findAll(aQuery);
 
         Assertions.assertEquals(expectedTotal, actualResult.total());
@@ -622,6 +995,122 @@ public class DefaultVideoGatewayTest {
         Assertions.assertEquals("The Lord of the Rings: The Two Towers", actualResult.items().get(0).title());
     }
 
+    @Test
+    public void givenVideosWithManyRelations_whenCallsFindAllFilteringByAllOfThem_shouldNotDuplicateRows() {
+        final var expectedTotal = 20;
+
+        for (int i = 0; i < expectedTotal; i++) {
+            videoGateway.create(
+                    Video.newVideo(
+                            "Video %02d".formatted(i),
+                            Fixture.Videos.description(),
+                            Year.of(Fixture.releaseYear()),
+                            Fixture.duration(),
+                            Fixture.Videos.rating(),
+                            Fixture.bool(),
+                            Fixture.bool(),
+                            Set.of(anime.getId(), filmes.getId()),
+                            Set.of(aventura.getId(), ficcao.getId()),
+                            Set.of(vinDiesel.getId(), jasonMomoa.getId(), stevenSpielberg.getId())
+                    )
+            );
+        }
+
+        final var expectedPage = 0;
+        final var expectedPerPage = 10;
+
+        final var aQuery = new VideoSearchQuery(
+                expectedPage,
+                expectedPerPage,
+                "",
+                "title",
+                "asc",
+                Set.of(vinDiesel.getId(), jasonMomoa.getId(), stevenSpielberg.getId()),
+                Set.of(anime.getId(), filmes.getId()),
+                Set.of(aventura.getId(), ficcao.getId()),
+                null,
+                null,
+                null);
+        final var actualResult = videoGateway.findAll(aQuery);
+
+        Assertions.assertEquals(expectedTotal, actualResult.total());
+        Assertions.assertEquals(expectedPerPage, actualResult.items().size());
+        Assertions.assertEquals("Video 00", actualResult.items().get(0).title());
+        Assertions.assertEquals("Video 09", actualResult.items().get(9).title());
+    }
+
+    @Test
+    public void givenVideos_whenCallsFindAllFollowingCursor_shouldWalkAllPages() {
+        mockVideos();
+
+        final var expectedPerPage = 3;
+
+        var aQuery = new VideoSearchQuery(0, expectedPerPage, "", "title", "asc", Set.of(), Set.of(), Set.of(), "", null, null);
+        var actualResult = videoGateway.findAll(aQuery);
+
+        Assertions.assertEquals(Pagination.UNKNOWN_TOTAL, actualResult.total());
+        Assertions.assertEquals(expectedPerPage, actualResult.items().size());
+        Assertions.assertEquals("Saint Seiya", actualResult.items().get(0).title());
+        Assertions.assertEquals("The Lord of the Rings: The Fellowship of the Ring", actualResult.items().get(1).title());
+        Assertions.assertEquals("The Lord of the Rings: The Return of the King", actualResult.items().get(2).title());
+        Assertions.assertNotNull(actualResult.nextCursor());
+
+        aQuery = new VideoSearchQuery(0, expectedPerPage, "", "title", "asc", Set.of(), Set.of(), Set.of(), actualResult.nextCursor(), null, null);
+        actualResult = videoGateway.findAll(aQuery);
+
+        Assertions.assertEquals(1, actualResult.items().size());
+        Assertions.assertEquals("The Lord of the Rings: The Two Towers", actualResult.items().get(0).title());
+        Assertions.assertNull(actualResult.nextCursor());
+    }
+
+    @Test
+    public void givenValidCategory_whenCallsFindAllFollowingCursor_shouldReturnFilteredPages() {
+        mockVideos();
+
+        var aQuery = new VideoSearchQuery(0, 1, "", "title", "desc", Set.of(), Set.of(filmes.getId()), Set.of(), "", null, null);
+        var actualResult = videoGateway.findAll(aQuery);
+
+        Assertions.assertEquals(1, actualResult.items().size());
+        Assertions.assertEquals("The Lord of the Rings: The Two Towers", actualResult.items().get(0).title());
+
+        aQuery = new VideoSearchQuery(0, 1, "", "title", "desc", Set.of(), Set.of(filmes.getId()), Set.of(), actualResult.nextCursor(), null, null);
+        actualResult = videoGateway.findAll(aQuery);
+
+        Assertions.assertEquals(1, actualResult.items().size());
+        Assertions.assertEquals("The Lord of the Rings: The Return of the King", actualResult.items().get(0).title());
+        Assertions.assertNull(actualResult.nextCursor());
+    }
+
+    @Test
+    public void givenVideos_whenCallsFindAllWithoutCount_shouldReturnPageWithUnknownTotal() {
+        mockVideos();
+
+        final var expectedPage = 1;
+        final var expectedPerPage = 2;
+
+        final var aQuery = new VideoSearchQuery(expectedPage, expectedPerPage, "", "title", "asc", Set.of(), Set.of(), Set.of(), null, CountMode.NONE, null);
+        final var actualResult = videoGateway.findAll(aQuery);
+
+        Assertions.assertEquals(Pagination.UNKNOWN_TOTAL, actualResult.total());
+        Assertions.assertEquals(expectedPage, actualResult.currentPage());
+        Assertions.assertEquals(expectedPerPage, actualResult.perPage());
+        Assertions.assertEquals(2, actualResult.items().size());
+        Assertions.assertEquals("The Lord of the Rings: The Return of the King", actualResult.items().get(0).title());
+        Assertions.assertEquals("The Lord of the Rings: The Two Towers", actualResult.items().get(1).title());
+    }
+
+    @Test
+    public void givenValidCategory_whenCallsFindAllFollowingCursorWithExactCount_shouldReturnFilteredTotal() {
+        mockVideos();
+
+        final var aQuery = new VideoSearchQuery(0, 1, "", "title", "asc", Set.of(), Set.of(filmes.getId()), Set.of(), "", CountMode.EXACT, null);
+        final var actualResult = videoGateway.findAll(aQuery);
+
+        Assertions.assertEquals(2, actualResult.total());
+        Assertions.assertEquals(1, actualResult.items().size());
+        Assertions.assertNotNull(actualResult.nextCursor());
+    }
+
     @Test
     public void givenAllParameters_whenCallsFindAll_shouldReturnFilteredList() {
         mockVideos();
@@ -641,7 +1130,10 @@ public class DefaultVideoGatewayTest {
                 expectedDirection,
                 Set.of(stevenSpielberg.getId()),
                 Set.of(filmes.getId()),
-                Set.of(ficcao.getId()));
+                Set.of(ficcao.getId()),
+                null,
+                null,
+                null);
         final var actualResult = videoGateway.findAll(aQuery);
 
         Assertions.assertEquals(expectedTotal, actualResult.total());
@@ -652,6 +1144,199 @@ public class DefaultVideoGatewayTest {
         Assertions.assertEquals("The Lord of the Rings: The Two Towers", actualResult.items().get(0).title());
     }
 
+    @Test
+    public void givenAnUpdatedVideo_whenCallsFindAll_shouldFilterByItsNewRelations() {
+        // given
+        final var aVideo = videoGateway.create(Video.newVideo(
+                "Saint Seiya",
+                Fixture.Videos.description(),
+                Year.of(Fixture.releaseYear()),
+                Fixture.duration(),
+                Fixture.Videos.rating(),
+                Fixture.bool(),
+                Fixture.bool(),
+                Set.of(anime.getId()),
+                Set.of(aventura.getId()),
+                Set.of(vinDiesel.getId())
+        ));
+        final var expectedTitle = "Saint Seiya: Hades";
+
+        // when
+        videoGateway.update(aVideo.update(
+                expectedTitle,
+                aVideo.getDescription(),
+                aVideo.getLaunchedAt(),
+                aVideo.getDuration(),
+                aVideo.getRating(),
+                aVideo.getOpened(),
+                aVideo.getPublished(),
+                Set.of(filmes.getId()),
+                Set.of(aventura.getId()),
+                Set.of(vinDiesel.getId(), jasonMomoa.getId())
+        ));
+
+        // then
+        final var byOldCategory = videoGateway.findAll(
+                new VideoSearchQuery(0, 10, "", "title", "asc", Set.of(), Set.of(anime.getId()), Set.of(), null, null, null));
+        Assertions.assertEquals(0, byOldCategory.total());
+
+        final var byNewRelations = videoGateway.findAll(
+                new VideoSearchQuery(0, 10, "", "title", "asc", Set.of(jasonMomoa.getId()), Set.of(filmes.getId()), Set.of(), null, null, null));
+        Assertions.assertEquals(1, byNewRelations.total());
+        Assertions.assertEquals(expectedTitle, byNewRelations.items().get(0).title());
+    }
+
+    @Test
+    public void givenADeletedVideo_whenCallsFindAll_shouldNotListIt() {
+        // given
+        mockVideos();
+        final var aQuery = new VideoSearchQuery(0, 10, "", "title", "asc", Set.of(), Set.of(filmes.getId()), Set.of(), null, null, null);
+        final var aVideoId = VideoID.from(videoGateway.findAll(aQuery).items().get(0).id());
+
+        // when
+        videoGateway.deleteById(aVideoId);
+
+        // then
+        final var actualResult = videoGateway.findAll(aQuery);
+        Assertions.assertEquals(1, actualResult.total());
+        Assertions.assertNotEquals(aVideoId.getValue(), actualResult.items().get(0).id());
+    }
+
+    @Test
+    public void givenADeletedCategory_whenCallsFindAllFilteringByIt_shouldNotMatchItsFormerVideos() {
+        // given
+        mockVideos();
+        final var aQuery = new VideoSearchQuery(0, 10, "", "title", "asc", Set.of(), Set.of(filmes.getId()), Set.of(), null, null, null);
+        Assertions.assertEquals(2, videoGateway.findAll(aQuery).total());
+
+        // when
+        categoryGateway.deleteById(filmes.getId());
+
+        // then
+        final var actualResult = videoGateway.findAll(aQuery);
+        Assertions.assertEquals(0, actualResult.total());
+        Assertions.assertTrue(actualResult.items().isEmpty());
+    }
+
+    @Test
+    public void givenPublishedRatingYearAndMediaStatus_whenCallsFindAll_shouldReturnFilteredList() {
+        // given
+        final var expectedMedia = Fixture.Videos.audioVideo(VideoMediaType.VIDEO);
+        final var expected = videoGateway.create(Video.newVideo(
+                "Saint Seiya",
+                Fixture.Videos.description(),
+                Year.of(2020),
+                Fixture.duration(),
+                Rating.AGE_12,
+                Fixture.bool(),
+                true,
+                Set.of(),
+                Set.of(),
+                Set.of()
+        ).updateVideoMedia(expectedMedia));
+        videoGateway.create(Video.newVideo(
+                "Unpublished",
+                Fixture.Videos.description(),
+                Year.of(2020),
+                Fixture.duration(),
+                Rating.AGE_12,
+                Fixture.bool(),
+                false,
+                Set.of(),
+                Set.of(),
+                Set.of()
+        ).updateVideoMedia(Fixture.Videos.audioVideo(VideoMediaType.VIDEO)));
+        videoGateway.create(Video.newVideo(
+                "Other rating",
+                Fixture.Videos.description(),
+                Year.of(2020),
+                Fixture.duration(),
+                Rating.AGE_18,
+                Fixture.bool(),
+                true,
+                Set.of(),
+                Set.of(),
+                Set.of()
+        ).updateVideoMedia(Fixture.Videos.audioVideo(VideoMediaType.VIDEO)));
+        videoGateway.create(Video.newVideo(
+                "Too old",
+                Fixture.Videos.description(),
+                Year.of(1999),
+                Fixture.duration(),
+                Rating.AGE_12,
+                Fixture.bool(),
+                true,
+                Set.of(),
+                Set.of(),
+                Set.of()
+        ).updateVideoMedia(Fixture.Videos.audioVideo(VideoMediaType.VIDEO)));
+
+        final var aQuery = new VideoSearchQuery(
+                0, 10, "", "title", "asc", Set.of(), Set.of(), Set.of(), null, null,
+                new VideoFilters(true, Set.of(Rating.AGE_10, Rating.AGE_12), Year.of(2000), Year.of(2022), MediaStatus.PENDING)
+        );
+
+        // when
+        final var actualResult = videoGateway.findAll(aQuery);
+
+        // then
+        Assertions.assertEquals(1, actualResult.total());
+        Assertions.assertEquals(expected.getId().getValue(), actualResult.items().get(0).id());
+
+        // when
+        videoGateway.updateMediaStatus(expected.getId(), expectedMedia.id(), MediaStatus.COMPLETED, "encoded/video.mp4");
+
+        // then
+        Assertions.assertEquals(0, videoGateway.findAll(aQuery).total());
+    }
+
+    @Test
+    public void givenPrePersistedVideos_whenCallsFindFacets_shouldCountEachRelationAndRating() {
+        // given
+        mockVideos();
+        final var aQuery = new VideoSearchQuery(0, 10, "", "title", "asc", Set.of(), Set.of(), Set.of(), null, null, null);
+
+        // when
+        final var actualFacets = videoGateway.findFacets(aQuery);
+
+        // then
+        Assertions.assertEquals(
+            Map.of(anime.getId().getValue(), 1L, filmes.getId().getValue(), 2L),
+            actualFacets.categories()
+        );
+        Assertions.assertEquals(
+            Map.of(aventura.getId().getValue(), 2L, ficcao.getId().getValue(), 1L),
+            actualFacets.genres()
+        );
+        Assertions.assertEquals(
+            Map.of(vinDiesel.getId().getValue(), 1L, jasonMomoa.getId().getValue(), 2L, stevenSpielberg.getId().getValue(), 1L),
+            actualFacets.castMembers()
+        );
+        Assertions.assertEquals(4L, actualFacets.ratings().values().stream().mapToLong(Long::longValue).sum());
+    }
+
+    @Test
+    public void givenACategoryFilter_whenCallsFindFacets_shouldOnlyCountTheMatchingVideos() {
+        // given
+        mockVideos();
+        final var aQuery = new VideoSearchQuery(0, 10, "", "title", "asc", Set.of(), Set.of(filmes.getId()), Set.of(), null, null, null);
+
+        // when
+        final var actualFacets = videoGateway.findFacets(aQuery);
+
+        // then
+        Assertions.assertEquals(Map.of(filmes.getId().getValue(), 2L), actualFacets.categories());
+        Assertions.assertEquals(
+            Map.of(aventura.getId().getValue(), 1L, ficcao.getId().getValue(), 1L),
+            actualFacets.genres()
+        );
+        Assertions.assertEquals(
+            Map.of(jasonMomoa.getId().getValue(), 1L, stevenSpielberg.getId().getValue(), 1L),
+            actualFacets.castMembers()
+        );
+        Assertions.assertEquals(2L, actualFacets.ratings().values().stream().mapToLong(Long::longValue).sum());
+    }
+
     @ParameterizedTest
     @CsvSource(value = {
             "title,asc,0,10,4,4,Saint Seiya",
@@ -679,7 +1364,10 @@ public class DefaultVideoGatewayTest {
                 expectedDirection,
                 Set.of(),
                 Set.of(),
-                Set.of());
+                Set.of(),
+                null,
+                null,
+                null);
         final var actualResult = videoGateway.findAll(aQuery);
 
         Assertions.assertEquals(expectedTotal, actualResult.total());
@@ -718,7 +1406,10 @@ public class DefaultVideoGatewayTest {
                 expectedDirection,
                 Set.of(),
                 Set.of(),
-                Set.of());
+                Set.of(),
+                null,
+                null,
+                null);
         final var actualResult = videoGateway.findAll(aQuery);
 
         Assertions.assertEquals(expectedTotal, actualResult.total());
@@ -754,7 +1445,10 @@ public class DefaultVideoGatewayTest {
                 expectedDirection,
                 Set.of(),
                 Set.of(),
-                Set.of());
+                Set.of(),
+                null,
+                null,
+                null);
         final var actualResult = videoGateway.findAll(aQuery);
 
         Assertions.assertEquals(expectedTotal, actualResult.total());
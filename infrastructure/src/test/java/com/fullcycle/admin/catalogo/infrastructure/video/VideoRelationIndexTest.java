@@ -0,0 +1,151 @@
+package com.fullcycle.admin.catalogo.infrastructure.video;
+
+import com.fullcycle.admin.catalogo.domain.Fixture;
+import com.fullcycle.admin.catalogo.domain.castmember.CastMemberID;
+import com.fullcycle.admin.catalogo.domain.category.CategoryID;
+import com.fullcycle.admin.catalogo.domain.genre.GenreID;
+import com.fullcycle.admin.catalogo.domain.video.Video;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.Year;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
+
+public class VideoRelationIndexTest {
+
+    @Test
+    public void givenLoadedRelations_whenCallsFindVideoIds_shouldOrEachRelationAndAndTheRelations() {
+        final var index = new VideoRelationIndex(true, 100);
+        index.load(Stream.of(
+            new Object[]{"category", "v1", "c1"},
+            new Object[]{"category", "v2", "c2"},
+            new Object[]{"category", "v3", "c1"},
+            new Object[]{"genre", "v1", "g1"},
+            new Object[]{"genre", "v2", "g1"},
+            new Object[]{"cast_member", "v3", "m1"}
+        ));
+
+        Assertions.assertEquals(Optional.of(Set.of("v1", "v2", "v3")), index.findVideoIds(Set.of("c1", "c2"), Set.of(), Set.of()));
+        Assertions.assertEquals(Optional.of(Set.of("v1", "v2")), index.findVideoIds(Set.of("c1", "c2"), Set.of("g1"), null));
+        Assertions.assertEquals(Optional.of(Set.of("v3")), index.findVideoIds(Set.of("c1"), null, Set.of("m1")));
+        Assertions.assertEquals(Optional.of(Set.of()), index.findVideoIds(Set.of("unknown"), null, null));
+    }
+
+    @Test
+    public void givenNoRelationFilter_whenCallsFindVideoIds_shouldNotAnswer() {
+        final var index = new VideoRelationIndex(true, 100);
+        index.load(Stream.of());
+
+        Assertions.assertEquals(Optional.empty(), index.findVideoIds(Set.of(), null, Set.of()));
+    }
+
+    @Test
+    public void givenMoreMatchesThanTheLimit_whenCallsFindVideoIds_shouldNotAnswer() {
+        final var index = new VideoRelationIndex(true, 1);
+        index.load(Stream.of(
+            new Object[]{"category", "v1", "c1"},
+            new Object[]{"category", "v2", "c1"}
+        ));
+
+        Assertions.assertEquals(Optional.empty(), index.findVideoIds(Set.of("c1"), null, null));
+    }
+
+    @Test
+    public void givenAnIndexNotLoadedOrDisabled_whenCallsFindVideoIds_shouldNotAnswer() {
+        final var loading = new VideoRelationIndex(true, 100);
+        final var disabled = new VideoRelationIndex(false, 100);
+        disabled.load(Stream.<Object[]>of(new Object[]{"category", "v1", "c1"}));
+
+        Assertions.assertFalse(loading.isReady());
+        Assertions.assertEquals(Optional.empty(), loading.findVideoIds(Set.of("c1"), null, null));
+        Assertions.assertFalse(disabled.isReady());
+        Assertions.assertEquals(Optional.empty(), disabled.findVideoIds(Set.of("c1"), null, null));
+    }
+
+    @Test
+    public void givenAnIndexedVideo_whenItsRelationsChange_shouldOnlyMatchTheNewOnes() {
+        final var index = new VideoRelationIndex(true, 100);
+        index.load(Stream.of());
+        final var aVideo = newVideo(Set.of(CategoryID.from("c1")), Set.of(GenreID.from("g1")));
+        index.index(List.of(aVideo));
+
+        index.index(List.of(aVideo.update(
+            aVideo.getTitle(),
+            aVideo.getDescription(),
+            aVideo.getLaunchedAt(),
+            aVideo.getDuration(),
+            aVideo.getRating(),
+            aVideo.getOpened(),
+            aVideo.getPublished(),
+            Set.of(CategoryID.from("c2")),
+            Set.of(),
+            Set.of(CastMemberID.from("m1"))
+        )));
+
+        final var expectedIds = Optional.of(Set.of(aVideo.getId().getValue()));
+        Assertions.assertEquals(Optional.of(Set.of()), index.findVideoIds(Set.of("c1"), null, null));
+        Assertions.assertEquals(Optional.of(Set.of()), index.findVideoIds(null, Set.of("g1"), null));
+        Assertions.assertEquals(expectedIds, index.findVideoIds(Set.of("c2"), null, Set.of("m1")));
+    }
+
+    @Test
+    public void givenLoadedVideosSharingARelation_whenOneIsRefreshed_shouldOnlyClearItsOwnRelations() {
+        final var index = new VideoRelationIndex(true, 100);
+        index.load(Stream.of(
+            new Object[]{"category", "v1", "c1"},
+            new Object[]{"genre", "v1", "g1"},
+            new Object[]{"category", "v2", "c1"}
+        ));
+
+        index.refresh(Set.of("v1"), List.<Object[]>of(new Object[]{"cast_member", "v1", "m1"}));
+
+        Assertions.assertEquals(Optional.of(Set.of("v2")), index.findVideoIds(Set.of("c1"), null, null));
+        Assertions.assertEquals(Optional.of(Set.of()), index.findVideoIds(null, Set.of("g1"), null));
+        Assertions.assertEquals(Optional.of(Set.of("v1")), index.findVideoIds(null, null, Set.of("m1")));
+    }
+
+    @Test
+    public void givenARemovedVideo_whenAnotherIsIndexed_shouldReuseItsOrdinal() {
+        final var index = new VideoRelationIndex(true, 100);
+        index.load(Stream.of());
+        final var removed = newVideo(Set.of(CategoryID.from("c1")), Set.of());
+        final var added = newVideo(Set.of(CategoryID.from("c2")), Set.of());
+        index.index(List.of(removed));
+
+        index.remove(List.of(removed.getId()));
+        index.index(List.of(added));
+
+        Assertions.assertEquals(Optional.of(Set.of()), index.findVideoIds(Set.of("c1"), null, null));
+        Assertions.assertEquals(Optional.of(Set.of(added.getId().getValue())), index.findVideoIds(Set.of("c2"), null, null));
+    }
+
+    @Test
+    public void givenAVideoWrittenWhileLoading_whenLoadReadsItsOldRelations_shouldKeepTheWrittenOnes() {
+        final var index = new VideoRelationIndex(true, 100);
+        final var aVideo = newVideo(Set.of(CategoryID.from("c2")), Set.of());
+        index.index(List.of(aVideo));
+
+        index.load(Stream.<Object[]>of(new Object[]{"category", aVideo.getId().getValue(), "c1"}));
+
+        Assertions.assertEquals(Optional.of(Set.of()), index.findVideoIds(Set.of("c1"), null, null));
+        Assertions.assertEquals(Optional.of(Set.of(aVideo.getId().getValue())), index.findVideoIds(Set.of("c2"), null, null));
+    }
+
+    private static Video newVideo(final Set<CategoryID> categories, final Set<GenreID> genres) {
+        return Video.newVideo(
+            Fixture.title(),
+            Fixture.Videos.description(),
+            Year.of(Fixture.releaseYear()),
+            Fixture.duration(),
+            Fixture.Videos.rating(),
+            Fixture.bool(),
+            Fixture.bool(),
+            categories,
+            genres,
+            Set.of()
+        );
+    }
+}